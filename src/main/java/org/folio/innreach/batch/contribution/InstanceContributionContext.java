@@ -0,0 +1,73 @@
+package org.folio.innreach.batch.contribution;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.google.common.base.Suppliers;
+
+import org.folio.innreach.domain.dto.folio.circulation.RequestDTO;
+import org.folio.innreach.domain.dto.folio.sourcerecord.SourceRecordDTO;
+import org.folio.innreach.dto.Holding;
+import org.folio.innreach.dto.LoanDTO;
+
+/**
+ * Holdings, open requests and open loans prefetched for the items of an instance being contributed,
+ * and the source record of the instance if it was prefetched with other instances.
+ * Each kind of data is loaded once, on first access. An empty lookup result means that the data
+ * was not prefetched and has to be loaded separately.
+ */
+public class InstanceContributionContext {
+
+  private static final InstanceContributionContext EMPTY =
+    new InstanceContributionContext(Collections::emptyMap, Collections::emptyMap, Collections::emptyMap);
+
+  private final Supplier<Map<UUID, Holding>> holdings;
+  private final Supplier<Map<UUID, List<RequestDTO>>> openRequests;
+  private final Supplier<Map<UUID, List<LoanDTO>>> openLoans;
+  private final Map<UUID, SourceRecordDTO> sourceRecords;
+
+  public InstanceContributionContext(Supplier<Map<UUID, Holding>> holdings,
+                                     Supplier<Map<UUID, List<RequestDTO>>> openRequests,
+                                     Supplier<Map<UUID, List<LoanDTO>>> openLoans) {
+    this(holdings, openRequests, openLoans, Collections.emptyMap());
+  }
+
+  public InstanceContributionContext(Supplier<Map<UUID, Holding>> holdings,
+                                     Supplier<Map<UUID, List<RequestDTO>>> openRequests,
+                                     Supplier<Map<UUID, List<LoanDTO>>> openLoans,
+                                     Map<UUID, SourceRecordDTO> sourceRecords) {
+    this.holdings = Suppliers.memoize(holdings::get);
+    this.openRequests = Suppliers.memoize(openRequests::get);
+    this.openLoans = Suppliers.memoize(openLoans::get);
+    this.sourceRecords = new ConcurrentHashMap<>(sourceRecords);
+  }
+
+  public static InstanceContributionContext empty() {
+    return EMPTY;
+  }
+
+  public Optional<Holding> findHolding(UUID holdingId) {
+    return Optional.ofNullable(holdings.get().get(holdingId));
+  }
+
+  public Optional<List<RequestDTO>> findOpenRequests(UUID itemId) {
+    return Optional.ofNullable(openRequests.get().get(itemId));
+  }
+
+  public Optional<List<LoanDTO>> findOpenLoans(UUID itemId) {
+    return Optional.ofNullable(openLoans.get().get(itemId));
+  }
+
+  /**
+   * Hands out the prefetched source record of the instance once, because the MARC transformation modifies it.
+   */
+  public Optional<SourceRecordDTO> takeSourceRecord(UUID instanceId) {
+    return Optional.ofNullable(sourceRecords.remove(instanceId));
+  }
+
+}
@@ -0,0 +1,26 @@
+package org.folio.innreach.batch.contribution;
+
+import java.util.Objects;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.core.NamedThreadLocal;
+
+@UtilityClass
+public class InstanceContributionContextManager {
+
+  private static final ThreadLocal<InstanceContributionContext> instanceContributionContextHolder =
+    new NamedThreadLocal<>("InstanceContributionContextHolder");
+
+  public static void beginInstanceContributionContext(InstanceContributionContext context) {
+    instanceContributionContextHolder.set(Objects.requireNonNullElse(context, InstanceContributionContext.empty()));
+  }
+
+  public static void endInstanceContributionContext() {
+    instanceContributionContextHolder.remove();
+  }
+
+  public static InstanceContributionContext getInstanceContributionContext() {
+    return Objects.requireNonNullElse(instanceContributionContextHolder.get(), InstanceContributionContext.empty());
+  }
+
+}
@@ -0,0 +1,36 @@
+package org.folio.innreach.batch.contribution;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import org.folio.innreach.domain.entity.OngoingContributionStatus;
+
+/**
+ * Ongoing contribution events processed together: either a single event, or the latest update events of items
+ * of one holdings record. Events replaced by a later event of the same record are not contributed.
+ */
+@Data
+@AllArgsConstructor
+public class OngoingContributionBatch {
+
+  private List<OngoingContributionStatus> events;
+  private List<OngoingContributionStatus> supersededEvents;
+
+  public static OngoingContributionBatch of(OngoingContributionStatus event) {
+    return new OngoingContributionBatch(List.of(event), List.of());
+  }
+
+  public String getTenant() {
+    return events.get(0).getTenant();
+  }
+
+  public List<UUID> getIds() {
+    return Stream.concat(events.stream(), supersededEvents.stream())
+      .map(OngoingContributionStatus::getId)
+      .toList();
+  }
+}
@@ -0,0 +1,38 @@
+package org.folio.innreach.batch.contribution;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.core.NamedThreadLocal;
+
+import org.folio.innreach.dto.Instance;
+
+/**
+ * Instances loaded in bulk for a claimed batch of ongoing contribution events. The map is shared by the threads
+ * processing the batch, an instance is handed out once so that a later event of the same instance loads a fresh copy.
+ */
+@UtilityClass
+public class PrefetchedInstancesManager {
+
+  private static final ThreadLocal<Map<UUID, Instance>> prefetchedInstancesHolder =
+    new NamedThreadLocal<>("PrefetchedInstancesHolder");
+
+  /**
+   * @param instances a concurrent map of instances by id, or an empty map if nothing was prefetched
+   */
+  public static void beginPrefetchedInstances(Map<UUID, Instance> instances) {
+    prefetchedInstancesHolder.set(instances);
+  }
+
+  public static void endPrefetchedInstances() {
+    prefetchedInstancesHolder.remove();
+  }
+
+  public static Optional<Instance> takePrefetchedInstance(UUID instanceId) {
+    var instances = prefetchedInstancesHolder.get();
+    return instances == null || instances.isEmpty() || instanceId == null ? Optional.empty() : Optional.ofNullable(instances.remove(instanceId));
+  }
+
+}
@@ -9,9 +9,8 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
-import org.folio.innreach.domain.service.ContributionService;
+import org.folio.innreach.batch.contribution.service.ContributionErrorSink;
 import org.folio.innreach.dto.ContributionErrorDTO;
-import org.springframework.stereotype.Service;
 
 @Log4j2
 @RequiredArgsConstructor
@@ -19,7 +18,7 @@ public class ContributionExceptionListener {
 
   protected static final UUID UNKNOWN_ID = UUID.fromString("00000000-0000-0000-0000-000000000000");
 
-  private final ContributionService contributionService;
+  private final ContributionErrorSink errorSink;
   private final String stepName;
 
   protected void logError(Exception e, UUID recordId, String stepStage) {
@@ -30,7 +29,7 @@ public class ContributionExceptionListener {
       error.setRecordId(recordId);
       error.setMessage(msg);
 
-      contributionService.logContributionError(getContributionJobContext().getContributionId(), error);
+      errorSink.submit(getContributionJobContext().getContributionId(), error);
     } catch (Exception ex) {
       log.warn("Can't persist record {} contribution error: {}", recordId, ex);
     }
@@ -51,7 +50,7 @@ public class ContributionExceptionListener {
       var error = new ContributionErrorDTO();
       error.setRecordId(recordId);
       error.setMessage(msg);
-      contributionService.logContributionError(contributionId, error);
+      errorSink.submit(contributionId, error);
     } catch (Exception ex) {
       log.warn("Can't persist record {} contribution error: {}", recordId, ex);
     }
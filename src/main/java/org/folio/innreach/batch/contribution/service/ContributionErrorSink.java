@@ -0,0 +1,188 @@
+package org.folio.innreach.batch.contribution.service;
+
+import static java.util.stream.Collectors.groupingBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.folio.innreach.config.props.ContributionErrorSinkProperties;
+import org.folio.innreach.dto.ContributionErrorDTO;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+
+/**
+ * Persists contribution errors asynchronously. Errors are buffered in a bounded queue and inserted with JDBC batches
+ * once the batch size is reached or the flush interval has passed, so the contribution threads don't wait for
+ * the database. An error identical to one submitted for the same record within the deduplication window is dropped.
+ * The buffer is flushed on shutdown.
+ */
+@Log4j2
+@Component
+public class ContributionErrorSink {
+
+  private static final String INSERT_ERROR_SQL =
+    "INSERT INTO %s.contribution_error (id, contribution_id, message, record_id) VALUES (?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final FolioExecutionContext folioContext;
+  private final FolioModuleMetadata moduleMetadata;
+  private final ContributionErrorSinkProperties properties;
+  private final BlockingQueue<PendingError> queue;
+  private final Cache<PendingError, Boolean> recentErrors;
+  private final Object flushLock = new Object();
+  private final Object batchSignal = new Object();
+  private volatile boolean running;
+  private Thread flusher;
+
+  public ContributionErrorSink(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               FolioExecutionContext folioContext, FolioModuleMetadata moduleMetadata,
+                               ContributionErrorSinkProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.folioContext = folioContext;
+    this.moduleMetadata = moduleMetadata;
+    this.properties = properties;
+    this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    this.recentErrors = CacheBuilder.newBuilder()
+      .expireAfterWrite(properties.getDeduplicationWindow())
+      .maximumSize(properties.getQueueCapacity())
+      .build();
+  }
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    flusher = new Thread(this::runFlusher, "contribution-error-sink");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    synchronized (batchSignal) {
+      batchSignal.notifyAll();
+    }
+    try {
+      if (flusher != null) {
+        flusher.join(properties.getFlushInterval().toMillis() * 2);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+    log.info("stop:: contribution error sink is flushed");
+  }
+
+  /**
+   * Buffers the error of the current tenant. If the buffer is full the submitting thread flushes it.
+   */
+  public void submit(UUID contributionId, ContributionErrorDTO error) {
+    var tenant = folioContext.getTenantId();
+    if (StringUtils.isBlank(tenant)) {
+      log.warn("submit:: Unable to persist contribution error without tenant: {}", error);
+      return;
+    }
+
+    var pendingError = new PendingError(tenant, contributionId, error.getRecordId(), error.getMessage());
+    if (recentErrors.asMap().putIfAbsent(pendingError, Boolean.TRUE) != null) {
+      log.debug("submit:: skipping duplicate contribution error {}", pendingError);
+      return;
+    }
+
+    if (!queue.offer(pendingError)) {
+      log.debug("submit:: contribution error buffer is full, flushing");
+      flush();
+      if (!queue.offer(pendingError)) {
+        persist(List.of(pendingError));
+      }
+    }
+    if (queue.size() >= properties.getBatchSize()) {
+      synchronized (batchSignal) {
+        batchSignal.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Persists all buffered errors.
+   */
+  public void flush() {
+    synchronized (flushLock) {
+      var batch = new ArrayList<PendingError>(properties.getBatchSize());
+      while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+        persist(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private void runFlusher() {
+    while (running) {
+      try {
+        synchronized (batchSignal) {
+          if (running && queue.size() < properties.getBatchSize()) {
+            batchSignal.wait(properties.getFlushInterval().toMillis());
+          }
+        }
+        flush();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        log.warn("runFlusher:: Unable to flush contribution errors", e);
+      }
+    }
+  }
+
+  private void persist(List<PendingError> errors) {
+    errors.stream()
+      .collect(groupingBy(PendingError::tenant))
+      .forEach(this::persist);
+  }
+
+  private void persist(String tenant, List<PendingError> errors) {
+    var sql = String.format(INSERT_ERROR_SQL, moduleMetadata.getDBSchemaName(tenant));
+    try {
+      transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, errors, errors.size(),
+        (statement, error) -> {
+          statement.setObject(1, UUID.randomUUID());
+          statement.setObject(2, error.contributionId());
+          statement.setString(3, error.message());
+          statement.setObject(4, error.recordId());
+        }));
+      log.debug("persist:: persisted {} contribution errors of tenant {}", errors.size(), tenant);
+    } catch (Exception e) {
+      log.warn("persist:: Unable to persist {} contribution errors of tenant {}, persisting one by one",
+        errors.size(), tenant, e);
+      errors.forEach(error -> persistOne(sql, error));
+    }
+  }
+
+  private void persistOne(String sql, PendingError error) {
+    try {
+      jdbcTemplate.update(sql, UUID.randomUUID(), error.contributionId(), error.message(), error.recordId());
+    } catch (Exception e) {
+      log.warn("persistOne:: Can't persist record {} contribution error: {}", error.recordId(), e.getMessage());
+    }
+  }
+
+  private record PendingError(String tenant, UUID contributionId, UUID recordId, String message) {
+  }
+
+}
@@ -3,6 +3,8 @@ package org.folio.innreach.batch.contribution.service;
 import static java.lang.Math.max;
 import static org.folio.innreach.batch.contribution.ContributionJobContextManager.*;
 import static org.folio.innreach.batch.contribution.ContributionJobContextManager.getContributionJobContext;
+import static org.folio.innreach.batch.contribution.InstanceContributionContextManager.beginInstanceContributionContext;
+import static org.folio.innreach.batch.contribution.InstanceContributionContextManager.endInstanceContributionContext;
 import static org.folio.innreach.domain.entity.ContributionStatus.DE_CONTRIBUTED;
 import static org.folio.innreach.domain.entity.ContributionStatus.FAILED;
 import static org.folio.innreach.domain.entity.ContributionStatus.PROCESSED;
@@ -77,6 +79,7 @@ public class ContributionJobRunner {
   private static Map<String,Integer> totalRecords = new HashMap<>();
   private static ConcurrentHashMap<String, Integer> recordsProcessed = new ConcurrentHashMap<>();
   private final OngoingContributionStatusService ongoingContributionStatusService;
+  private final InstanceContributionContextLoader contextLoader;
 
 
   public void startInitialContribution(UUID centralServerId, String tenantId, UUID contributionId, UUID iterationJobId, Integer numberOfRecords) {
@@ -181,6 +184,7 @@ public class ContributionJobRunner {
   }
 
   public void runOngoingInstanceContribution(UUID centralServerId, Instance instance, OngoingContributionStatus ongoingContributionStatus) {
+    beginInstanceContributionContext(contextLoader.load(instance));
     try {
       log.info("runOngoingInstanceContribution:: validating instance {} for contribution to central server {}", instance.getId(), centralServerId);
       boolean eligibleInstance = isEligibleForContribution(centralServerId, instance);
@@ -193,7 +197,7 @@ public class ContributionJobRunner {
       }
       if (eligibleInstance) {
         log.info("runOngoingInstanceContribution:: contributing instance id: {}", instance.getId());
-        recordContributionService.contributeInstance(centralServerId, instance);
+        recordContributionService.contributeInstanceIfChanged(centralServerId, instance);
         if (!contributedInstance) {
           log.info("runOngoingInstanceContribution:: contributing items of new instance id: {}", instance.getId());
           contributeOngoingItems(centralServerId, instance);
@@ -209,6 +213,8 @@ public class ContributionJobRunner {
       }
     } catch (SocketTimeoutException ex) {
       throw new SocketTimeOutExceptionWrapper(ex.getMessage());
+    } finally {
+      endInstanceContributionContext();
     }
   }
 
@@ -260,6 +266,7 @@ public class ContributionJobRunner {
   }
 
   public void runItemContribution(UUID centralServerId, Instance instance, Item item, OngoingContributionStatus ongoingContributionStatus) {
+    beginInstanceContributionContext(contextLoader.load(instance));
     try {
       log.info("runItemContribution:: validating item {} for contribution to central server {} with instance id: {}", item.getId(), centralServerId, instance.getId());
       boolean eligibleItem = isEligibleForContribution(centralServerId, item);
@@ -272,10 +279,10 @@ public class ContributionJobRunner {
       }
       if (isEligibleForContribution(centralServerId, instance)) {
         log.info("runItemContribution:: Re-contributing instance to update bib status, centralServer id: {}, instance id : {}, item id: {}", centralServerId, instance.getId(), item.getId());
-        recordContributionService.contributeInstance(centralServerId, instance);
+        recordContributionService.contributeInstanceIfChanged(centralServerId, instance);
         if (eligibleItem) {
           log.info("runItemContribution:: contributing centralServer id:{}, instance id : {}, item id: {}", centralServerId, instance.getId(), item.getId());
-          recordContributionService.contributeItems(centralServerId, instance.getHrid(), List.of(item));
+          recordContributionService.contributeItemsIfChanged(centralServerId, instance.getHrid(), List.of(item));
         } else if (contributedItem) {
           log.info("runItemContribution:: de-contributing centralServer id: {}, instance id : {}, item id: {}", centralServerId, instance.getId(), item.getId());
           recordContributionService.deContributeItem(centralServerId, item);
@@ -291,10 +298,75 @@ public class ContributionJobRunner {
       }
     } catch (SocketTimeoutException ex) {
       throw new SocketTimeOutExceptionWrapper(ex.getMessage());
+    } finally {
+      endInstanceContributionContext();
+    }
+  }
+
+  /**
+   * Contributes several items of one instance with a single items request, the instance is re-contributed once.
+   */
+  public void runItemsContribution(UUID centralServerId, Instance instance, Map<OngoingContributionStatus, Item> items) {
+    beginInstanceContributionContext(contextLoader.load(instance));
+    try {
+      log.info("runItemsContribution:: validating {} items for contribution to central server {} with instance id: {}", items.size(), centralServerId, instance.getId());
+      var eligibleItems = new ArrayList<Item>();
+      var contributedItems = new LinkedHashMap<OngoingContributionStatus, Item>();
+      var processedStatuses = new ArrayList<OngoingContributionStatus>();
+      items.forEach((ongoingContributionStatus, item) -> {
+        boolean eligibleItem = isEligibleForContribution(centralServerId, item);
+        boolean contributedItem = isContributed(centralServerId, instance, item);
+        log.info("runItemsContribution:: item id: {}, eligibleItem: {}, contributedItem: {}", item.getId(), eligibleItem, contributedItem);
+        if (!eligibleItem && !contributedItem) {
+          ongoingContributionStatusService.updateOngoingContribution(ongoingContributionStatus, SKIPPING_INELIGIBLE_MSG, FAILED);
+          return;
+        }
+        if (eligibleItem) {
+          eligibleItems.add(item);
+        } else {
+          contributedItems.put(ongoingContributionStatus, item);
+        }
+        processedStatuses.add(ongoingContributionStatus);
+      });
+      if (processedStatuses.isEmpty()) {
+        return;
+      }
+
+      if (isEligibleForContribution(centralServerId, instance)) {
+        log.info("runItemsContribution:: Re-contributing instance to update bib status, centralServer id: {}, instance id : {}", centralServerId, instance.getId());
+        recordContributionService.contributeInstanceIfChanged(centralServerId, instance);
+        if (!eligibleItems.isEmpty()) {
+          log.info("runItemsContribution:: contributing {} items, centralServer id:{}, instance id : {}", eligibleItems.size(), centralServerId, instance.getId());
+          recordContributionService.contributeItemsIfChanged(centralServerId, instance.getHrid(), eligibleItems);
+        }
+        for (var item : contributedItems.values()) {
+          log.info("runItemsContribution:: de-contributing centralServer id: {}, instance id : {}, item id: {}", centralServerId, instance.getId(), item.getId());
+          recordContributionService.deContributeItem(centralServerId, item);
+        }
+        processedStatuses.forEach(status -> ongoingContributionStatusService.updateOngoingContribution(status, PROCESSED));
+      } else if (!contributedItems.isEmpty()) {
+        log.info("runItemsContribution:: " + DE_CONTRIBUTE_INSTANCE_MSG + ", centralServer id: {}, instance id : {}", centralServerId, instance.getId());
+        recordContributionService.deContributeInstance(centralServerId, instance);
+        processedStatuses.forEach(status -> {
+          if (contributedItems.containsKey(status)) {
+            ongoingContributionStatusService.updateOngoingContribution(status, DE_CONTRIBUTED);
+          } else {
+            ongoingContributionStatusService.updateOngoingContribution(status, SKIPPING_INELIGIBLE_INSTANCE_ITEM_MSG, FAILED);
+          }
+        });
+      } else {
+        log.info("runItemsContribution:: " + SKIPPING_INELIGIBLE_INSTANCE_ITEM_MSG + " centralServer id: {}, instance id : {}", centralServerId, instance.getId());
+        processedStatuses.forEach(status -> ongoingContributionStatusService.updateOngoingContribution(status, SKIPPING_INELIGIBLE_INSTANCE_ITEM_MSG, FAILED));
+      }
+    } catch (SocketTimeoutException ex) {
+      throw new SocketTimeOutExceptionWrapper(ex.getMessage());
+    } finally {
+      endInstanceContributionContext();
     }
   }
 
   public void runItemMove(UUID centralServerId, Instance newInstance, Instance oldInstance, Item item, OngoingContributionStatus ongoingContributionStatus) {
+    beginInstanceContributionContext(contextLoader.load(newInstance, oldInstance));
     try {
       log.info("runItemMove:: Validating item {} for moving to a new instance id : {} from old instance id : {} on central server {}", item.getId(), newInstance.getId(), oldInstance.getId(), centralServerId);
 
@@ -315,7 +387,7 @@ public class ContributionJobRunner {
           log.info("runItemMove:: de-contributing item : {} from old instance id : {}", item.getId(), oldInstance.getId());
           recordContributionService.deContributeItem(centralServerId, item);
           log.info("runItemMove:: re-contributing old instance id:{} to update bib status, item id; {}", oldInstance.getId(), item.getId());
-          recordContributionService.contributeInstance(centralServerId, oldInstance);
+          recordContributionService.contributeInstanceIfChanged(centralServerId, oldInstance);
         } else {
           log.info("runItemMove:: e-contributing old instance id: {}, item id: {}", oldInstance.getId(), item.getId());
           recordContributionService.deContributeInstance(centralServerId, oldInstance);
@@ -325,16 +397,18 @@ public class ContributionJobRunner {
       // contribute item to a new instance
       if (isEligibleForContribution(centralServerId, newInstance)) {
         log.info("runItemMove:: re-contributing new instance id: {} to update bib status, item id: {}", newInstance.getId(), item.getId());
-        recordContributionService.contributeInstance(centralServerId, newInstance);
+        recordContributionService.contributeInstanceIfChanged(centralServerId, newInstance);
 
         if (eligibleItem) {
           log.info("runItemMove:: Contributing item to new instance id: {}, item id: {}", newInstance.getId(), item.getId());
-          recordContributionService.contributeItems(centralServerId, newInstance.getHrid(), List.of(item));
+          recordContributionService.contributeItemsIfChanged(centralServerId, newInstance.getHrid(), List.of(item));
         }
       }
       ongoingContributionStatusService.updateOngoingContribution(ongoingContributionStatus, PROCESSED);
     } catch (SocketTimeoutException ex) {
       throw new SocketTimeOutExceptionWrapper(ex.getMessage());
+    } finally {
+      endInstanceContributionContext();
     }
   }
 
@@ -376,7 +450,7 @@ public class ContributionJobRunner {
         recordContributionService.deContributeItem(centralServerId, deletedItem);
 
         log.info("runItemDeContribution:: re-contributing instance to update bib status centralServer id: {}, item id: {}, instance id: {}", centralServerId, deletedItem.getId(), instance.getId());
-        recordContributionService.contributeInstance(centralServerId, instance);
+        recordContributionService.contributeInstanceIfChanged(centralServerId, instance);
         ongoingContributionStatusService.updateOngoingContribution(ongoingContributionStatus, PROCESSED);
       } else {
         log.info("runItemDeContribution:: " + DE_CONTRIBUTE_INSTANCE_MSG + ", centralServer id: {}, item id: {}, instance id : {}", centralServerId, deletedItem.getId(), instance.getId());
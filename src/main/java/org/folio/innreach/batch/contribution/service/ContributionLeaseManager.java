@@ -0,0 +1,53 @@
+package org.folio.innreach.batch.contribution.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps track of contribution records claimed by this module instance. A claimed record carries a lease
+ * (owner and expiry time) that is renewed while the record is processed, records with an expired lease
+ * are claimed again by any instance.
+ */
+@Log4j2
+@Component
+public class ContributionLeaseManager {
+
+  @Getter
+  private final String owner;
+  @Getter
+  private final long leaseSeconds;
+  private final Map<String, Set<UUID>> claimedRecords = new ConcurrentHashMap<>();
+
+  public ContributionLeaseManager(@Value("${contribution.lease.owner:}") String owner,
+                                  @Value("${contribution.lease.duration-seconds}") long leaseSeconds) {
+    this.owner = StringUtils.isBlank(owner) ? UUID.randomUUID().toString() : owner + "-" + UUID.randomUUID();
+    this.leaseSeconds = leaseSeconds;
+    log.info("ContributionLeaseManager:: contribution records are claimed by {}", this.owner);
+  }
+
+  public void claimed(String tenant, Collection<UUID> recordIds) {
+    claimedRecords.computeIfAbsent(tenant, t -> ConcurrentHashMap.newKeySet()).addAll(recordIds);
+  }
+
+  public void released(String tenant, UUID recordId) {
+    var tenantRecords = claimedRecords.get(tenant);
+    if (tenantRecords != null) {
+      tenantRecords.remove(recordId);
+    }
+  }
+
+  public Set<UUID> getClaimedRecords(String tenant) {
+    var tenantRecords = claimedRecords.get(tenant);
+    return tenantRecords == null ? Set.of() : Set.copyOf(tenantRecords);
+  }
+
+}
@@ -0,0 +1,86 @@
+package org.folio.innreach.batch.contribution.service;
+
+import static org.folio.innreach.domain.entity.ContributionStatus.DE_CONTRIBUTED;
+import static org.folio.innreach.domain.entity.ContributionStatus.FAILED;
+import static org.folio.innreach.domain.entity.ContributionStatus.PROCESSED;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import org.folio.innreach.domain.entity.ContributionStatus;
+
+/**
+ * Collects statistics changes of initial contributions processed by this module instance. The changes are applied
+ * to the contribution counters in batches, so the cost of updating statistics doesn't depend on the job size.
+ */
+@Component
+public class ContributionStatisticsCollector {
+
+  private static final Set<ContributionStatus> COMPLETED_STATUSES = Set.of(PROCESSED, FAILED, DE_CONTRIBUTED);
+
+  private final Map<String, Map<UUID, StatisticsDelta>> deltas = new HashMap<>();
+
+  public static boolean isCompleted(ContributionStatus status) {
+    return COMPLETED_STATUSES.contains(status);
+  }
+
+  /**
+   * Counts a job execution record of the iteration job that reached a completed status.
+   */
+  public synchronized void recordCompleted(String tenant, UUID jobId, ContributionStatus status) {
+    if (!isCompleted(status)) {
+      return;
+    }
+    deltas.computeIfAbsent(tenant, t -> new HashMap<>())
+      .computeIfAbsent(jobId, id -> new StatisticsDelta())
+      .add(status);
+  }
+
+  /**
+   * Returns statistics changes of the tenant collected since the previous call, by iteration job id.
+   */
+  public synchronized Map<UUID, StatisticsDelta> drain(String tenant) {
+    var tenantDeltas = deltas.remove(tenant);
+    return tenantDeltas == null ? Map.of() : tenantDeltas;
+  }
+
+  /**
+   * Puts back statistics changes that were not applied.
+   */
+  public synchronized void restore(String tenant, UUID jobId, StatisticsDelta delta) {
+    deltas.computeIfAbsent(tenant, t -> new HashMap<>())
+      .computeIfAbsent(jobId, id -> new StatisticsDelta())
+      .add(delta);
+  }
+
+  @Getter
+  public static class StatisticsDelta {
+    private long processed;
+    private long contributed;
+    private long decontributed;
+    private long failed;
+
+    private void add(ContributionStatus status) {
+      processed++;
+      switch (status) {
+        case PROCESSED -> contributed++;
+        case DE_CONTRIBUTED -> decontributed++;
+        case FAILED -> failed++;
+        default -> throw new IllegalArgumentException("Unexpected contribution status: " + status);
+      }
+    }
+
+    private void add(StatisticsDelta delta) {
+      processed += delta.processed;
+      contributed += delta.contributed;
+      decontributed += delta.decontributed;
+      failed += delta.failed;
+    }
+  }
+
+}
@@ -10,6 +10,7 @@ import org.folio.innreach.dto.Item;
 import org.folio.innreach.config.props.ContributionJobProperties;
 import org.folio.innreach.domain.entity.Contribution;
 import org.folio.innreach.domain.entity.JobExecutionStatus;
+import org.folio.innreach.domain.dto.folio.sourcerecord.SourceRecordDTO;
 import org.folio.innreach.domain.service.ContributionValidationService;
 import org.folio.innreach.domain.service.InventoryViewService;
 import org.folio.innreach.domain.service.RecordContributionService;
@@ -27,11 +28,16 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.StreamSupport;
 
 import static java.lang.Math.max;
+import static org.folio.innreach.batch.contribution.InstanceContributionContextManager.beginInstanceContributionContext;
+import static org.folio.innreach.batch.contribution.InstanceContributionContextManager.endInstanceContributionContext;
+import static org.folio.innreach.batch.contribution.service.ContributionStatisticsCollector.isCompleted;
 import static org.folio.innreach.domain.entity.ContributionStatus.DE_CONTRIBUTED;
 import static org.folio.innreach.domain.entity.ContributionStatus.FAILED;
 import static org.folio.innreach.domain.entity.ContributionStatus.PROCESSED;
@@ -54,38 +60,86 @@ public class InitialContributionEventProcessor {
   private static final ConcurrentHashMap<UUID, Contribution> contributionRecord = new ConcurrentHashMap<>();
   private final ContributionRepository contributionRepository;
   private final TenantScopedExecutionService executionService;
+  private final InstanceContributionContextLoader contextLoader;
+  private final ContributionLeaseManager leaseManager;
+  private final ContributionStatisticsCollector statisticsCollector;
   @Value("${contribution.retry-attempts}")
   private int maxRetryAttempts;
 
+  /**
+   * Loads instances of the claimed jobs with a few batch requests. Instances that failed to load are missing
+   * in the result and are loaded one by one.
+   */
+  public Map<UUID, Instance> prefetchInstances(List<JobExecutionStatus> jobs) {
+    try {
+      return inventoryViewService.getInstancesByIds(jobs.stream().map(JobExecutionStatus::getInstanceId).toList());
+    } catch (Exception e) {
+      log.warn("prefetchInstances:: Unable to prefetch instances, falling back to single instance lookup", e);
+      return Map.of();
+    }
+  }
+
+  /**
+   * Loads source records of the instances of the claimed jobs that are not contributed yet with a few batch requests.
+   * Jobs of the item contribution phase don't transform MARC records.
+   */
+  public Map<UUID, SourceRecordDTO> prefetchSourceRecords(List<JobExecutionStatus> jobs) {
+    var instanceIds = jobs.stream()
+      .filter(job -> !job.isInstanceContributed())
+      .map(JobExecutionStatus::getInstanceId)
+      .toList();
+    if (instanceIds.isEmpty()) {
+      return Map.of();
+    }
+    return contextLoader.loadSourceRecords(instanceIds);
+  }
+
   @Async("initialSchedulerTaskExecutor")
   public void processInitialContributionEvents(JobExecutionStatus job) {
-    executionService.executeAsyncTenantScoped(job.getTenant(), () -> {
-      log.info("processInitialContributionEvents:: Processing Initial contribution events {}", job);
-      try {
-        var instanceId = job.getInstanceId();
-        var centralServerId = contributionRecord.get(job.getJobId()) != null ?
-          contributionRecord.get(job.getJobId()).getCentralServer().getId() : getCentralServerId(job.getJobId());
-        var instance = inventoryViewService.getInstance(instanceId);
-        if (centralServerId == null || instance == null) {
-          log.warn("processInitialContributionEvents:: Unable to process event with instance " +
-            "id {} centralServerId {} ", instanceId, centralServerId);
+    processInitialContributionEvents(job, null, null);
+  }
+
+  /**
+   * Processes the job with the instance and its source record prefetched by {@link #prefetchInstances(List)} and
+   * {@link #prefetchSourceRecords(List)}, the data that was not prefetched is loaded separately.
+   */
+  @Async("initialSchedulerTaskExecutor")
+  public void processInitialContributionEvents(JobExecutionStatus job, Instance prefetchedInstance, SourceRecordDTO sourceRecord) {
+    try {
+      executionService.executeAsyncTenantScoped(job.getTenant(), () -> {
+        log.info("processInitialContributionEvents:: Processing Initial contribution events {}", job);
+        try {
+          var instanceId = job.getInstanceId();
+          var centralServerId = contributionRecord.get(job.getJobId()) != null ?
+            contributionRecord.get(job.getJobId()).getCentralServer().getId() : getCentralServerId(job.getJobId());
+          var instance = prefetchedInstance != null ? prefetchedInstance : inventoryViewService.getInstance(instanceId);
+          if (centralServerId == null || instance == null) {
+            log.warn("processInitialContributionEvents:: Unable to process event with instance " +
+              "id {} centralServerId {} ", instanceId, centralServerId);
+            updateJobAndContributionStatus(job, FAILED, job.isInstanceContributed());
+            return;
+          }
+          checkRetryLimit(job);
+          beginInstanceContributionContext(contextLoader.load(instance, sourceRecord));
+          try {
+            startContribution(centralServerId, instance, job);
+          } finally {
+            endInstanceContributionContext();
+          }
+        } catch (ServiceSuspendedException | InnReachConnectionException |
+                 SocketTimeOutExceptionWrapper | InnReachGatewayException ex) {
+          log.warn("processInitialContributionEvents:: Retrying the contribution for {}th time with instanceId {} due to {}",
+            job.getRetryAttempts(), job.getInstanceId(), ex.getMessage());
+          updateJobAndContributionStatus(job, RETRY, job.isInstanceContributed());
+        } catch (Exception ex) {
+          log.warn("processInitialContributionEvents:: Exception while processing instanceId {}", job.getInstanceId());
+          logException(job, ex, contributionRecord.get(job.getJobId()).getId());
           updateJobAndContributionStatus(job, FAILED, job.isInstanceContributed());
-          return;
         }
-        checkRetryLimit(job);
-        startContribution(centralServerId, instance, job);
-      } catch (ServiceSuspendedException | InnReachConnectionException |
-               SocketTimeOutExceptionWrapper | InnReachGatewayException ex) {
-        log.warn("processInitialContributionEvents:: Retrying the contribution for {}th time with instanceId {} due to {}",
-          job.getRetryAttempts(), job.getInstanceId(), ex.getMessage());
-        updateJobAndContributionStatus(job, RETRY, job.isInstanceContributed());
-      } catch (Exception ex) {
-        log.warn("processInitialContributionEvents:: Exception while processing instanceId {}", job.getInstanceId());
-        logException(job, ex, contributionRecord.get(job.getJobId()).getId());
-        updateJobAndContributionStatus(job, FAILED, job.isInstanceContributed());
-      }
-    });
-
+      });
+    } finally {
+      leaseManager.released(job.getTenant(), job.getId());
+    }
   }
 
   private void checkRetryLimit(JobExecutionStatus job) {
@@ -143,10 +197,14 @@ public class InitialContributionEventProcessor {
   }
 
   private void updateJobAndContributionStatus(JobExecutionStatus job, ContributionStatus status, boolean isInstanceContributed) {
+    boolean completed = !isCompleted(job.getStatus()) && isCompleted(status);
     job.setStatus(status);
     job.setInstanceContributed(isInstanceContributed);
     job.setRetryAttempts(status.equals(RETRY) ? job.getRetryAttempts() + 1 : job.getRetryAttempts());
     jobExecutionStatusRepository.save(job);
+    if (completed) {
+      statisticsCollector.recordCompleted(job.getTenant(), job.getJobId(), status);
+    }
   }
 
   private boolean isEligibleForContribution(UUID centralServerId, Instance instance) {
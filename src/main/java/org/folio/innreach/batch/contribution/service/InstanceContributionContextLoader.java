@@ -0,0 +1,174 @@
+package org.folio.innreach.batch.contribution.service;
+
+import static org.folio.innreach.util.CqlHelper.matchAny;
+import static org.folio.innreach.util.ListUtils.toStream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import org.folio.innreach.batch.contribution.InstanceContributionContext;
+import org.folio.innreach.client.CirculationClient;
+import org.folio.innreach.client.HoldingsStorageClient;
+import org.folio.innreach.client.SourceRecordStorageClient;
+import org.folio.innreach.domain.dto.folio.ResultList;
+import org.folio.innreach.domain.dto.folio.circulation.RequestDTO;
+import org.folio.innreach.domain.dto.folio.sourcerecord.SourceRecordDTO;
+import org.folio.innreach.dto.Holding;
+import org.folio.innreach.dto.Instance;
+import org.folio.innreach.dto.Item;
+import org.folio.innreach.dto.LoanDTO;
+
+/**
+ * Creates {@link InstanceContributionContext} that loads holdings, open requests and open loans
+ * for all items of the given instances with a few batched CQL queries instead of per-item calls.
+ * Source records of a batch of instances are loaded with a few collection requests to SRS.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class InstanceContributionContextLoader {
+
+  private static final int ID_CHUNK_SIZE = 50;
+  private static final int FETCH_LIMIT = 1000;
+  private static final String OPEN_LOAN_STATUS = "Open";
+
+  private final HoldingsStorageClient holdingsStorageClient;
+  private final CirculationClient circulationClient;
+  private final SourceRecordStorageClient sourceRecordStorageClient;
+
+  public InstanceContributionContext load(Instance... instances) {
+    return load(Arrays.asList(instances));
+  }
+
+  public InstanceContributionContext load(Collection<Instance> instances) {
+    return createContext(instances, Collections.emptyMap());
+  }
+
+  /**
+   * Creates the context of an instance with its source record loaded by {@link #loadSourceRecords(Collection)}.
+   */
+  public InstanceContributionContext load(Instance instance, SourceRecordDTO sourceRecord) {
+    return createContext(List.of(instance), sourceRecord == null ? Collections.emptyMap() : Map.of(instance.getId(), sourceRecord));
+  }
+
+  /**
+   * Loads source records of the instances by chunks, keyed by instance id. Instances without a source record
+   * and instances of a failed request are missing in the result and are loaded one by one on transformation.
+   */
+  public Map<UUID, SourceRecordDTO> loadSourceRecords(Collection<UUID> instanceIds) {
+    var distinctIds = instanceIds.stream().filter(Objects::nonNull).distinct().toList();
+    Map<UUID, SourceRecordDTO> sourceRecords = new HashMap<>();
+    for (var chunk : Lists.partition(distinctIds, ID_CHUNK_SIZE)) {
+      try {
+        getResult(sourceRecordStorageClient.getRecordsByInstanceIds(chunk)).stream()
+          .filter(sourceRecord -> sourceRecord.getInstanceId() != null)
+          .forEach(sourceRecord -> sourceRecords.put(sourceRecord.getInstanceId(), sourceRecord));
+      } catch (Exception e) {
+        log.warn("Unable to prefetch source records of instances {}, falling back to single record lookup", chunk, e);
+      }
+    }
+    log.debug("loadSourceRecords:: loaded {} source records of {} instances", sourceRecords.size(), distinctIds.size());
+    return sourceRecords;
+  }
+
+  private InstanceContributionContext createContext(Collection<Instance> instances, Map<UUID, SourceRecordDTO> sourceRecords) {
+    var nonNullInstances = instances.stream().filter(Objects::nonNull).toList();
+    var items = nonNullInstances.stream()
+      .flatMap(instance -> toStream(instance.getItems()))
+      .filter(Objects::nonNull)
+      .toList();
+    var itemIds = items.stream()
+      .map(Item::getId)
+      .filter(Objects::nonNull)
+      .distinct()
+      .toList();
+
+    log.debug("load:: creating contribution context for {} items", itemIds.size());
+
+    return new InstanceContributionContext(
+      () -> loadHoldings(nonNullInstances, items),
+      () -> loadByItemIds(itemIds, RequestDTO::getItemId,
+        (query, offset) -> circulationClient.queryOpenRequestsByItemIds(query, FETCH_LIMIT, offset)),
+      () -> loadByItemIds(itemIds, LoanDTO::getItemId,
+        (query, offset) -> circulationClient.queryLoansByItemIdsAndStatus(query, OPEN_LOAN_STATUS, FETCH_LIMIT, offset)),
+      sourceRecords);
+  }
+
+  private Map<UUID, Holding> loadHoldings(List<Instance> instances, List<Item> items) {
+    Map<UUID, Holding> holdings = new HashMap<>();
+    instances.stream()
+      .flatMap(instance -> toStream(instance.getHoldingsRecords()))
+      .filter(holding -> holding != null && holding.getId() != null)
+      .forEach(holding -> holdings.put(holding.getId(), holding));
+
+    var missingHoldingIds = items.stream()
+      .map(Item::getHoldingsRecordId)
+      .filter(Objects::nonNull)
+      .filter(holdingId -> !holdings.containsKey(holdingId))
+      .distinct()
+      .toList();
+
+    try {
+      for (var chunk : Lists.partition(missingHoldingIds, ID_CHUNK_SIZE)) {
+        getResult(holdingsStorageClient.queryHoldingsByIds(matchAny(chunk), chunk.size()))
+          .forEach(holding -> holdings.put(holding.getId(), holding));
+      }
+    } catch (Exception e) {
+      log.warn("Unable to prefetch holdings {}, falling back to single record lookup", missingHoldingIds, e);
+    }
+    return holdings;
+  }
+
+  private <T> Map<UUID, List<T>> loadByItemIds(List<UUID> itemIds, Function<T, UUID> itemIdExtractor,
+                                               PageLoader<T> pageLoader) {
+    if (itemIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<UUID, List<T>> recordsByItemId = new HashMap<>();
+    itemIds.forEach(itemId -> recordsByItemId.put(itemId, new ArrayList<>()));
+
+    try {
+      for (var chunk : Lists.partition(itemIds, ID_CHUNK_SIZE)) {
+        var query = matchAny(chunk);
+        int offset = 0;
+        int totalRecords;
+        List<T> records;
+        do {
+          var page = pageLoader.load(query, offset);
+          records = getResult(page);
+          totalRecords = page == null ? 0 : page.getTotalRecords();
+          records.forEach(rec -> recordsByItemId.computeIfAbsent(itemIdExtractor.apply(rec), id -> new ArrayList<>()).add(rec));
+          offset += FETCH_LIMIT;
+        } while (!records.isEmpty() && offset < totalRecords);
+      }
+    } catch (Exception e) {
+      log.warn("Unable to prefetch circulation records for items {}, falling back to single item lookup", itemIds, e);
+      return Collections.emptyMap();
+    }
+    return recordsByItemId;
+  }
+
+  private static <T> List<T> getResult(ResultList<T> resultList) {
+    return resultList == null ? Collections.emptyList() : toStream(resultList.getResult()).toList();
+  }
+
+  @FunctionalInterface
+  private interface PageLoader<T> {
+    ResultList<T> load(String query, int offset);
+  }
+
+}
@@ -0,0 +1,114 @@
+package org.folio.innreach.batch.contribution.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import org.folio.innreach.batch.contribution.OngoingContributionBatch;
+import org.folio.innreach.domain.entity.OngoingContributionStatus;
+import org.folio.innreach.dto.Instance;
+import org.folio.innreach.dto.Item;
+import org.folio.innreach.util.JsonHelper;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsFirst;
+import static org.folio.innreach.domain.entity.OngoingContributionStatus.EventName.INSTANCE;
+import static org.folio.innreach.domain.entity.OngoingContributionStatus.EventName.ITEM;
+import static org.folio.innreach.domain.event.DomainEventType.CREATED;
+import static org.folio.innreach.domain.event.DomainEventType.UPDATED;
+
+/**
+ * Merges claimed ongoing contribution events of the same records. Only the latest creation or update event of
+ * an instance or an item is contributed, and the item events of one holdings record are contributed together, so
+ * a bulk edit of the items of an instance results in a single bib and items contribution.
+ * Deletions and item moves are processed one by one.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class OngoingContributionCoalescer {
+
+  private final JsonHelper jsonHelper;
+
+  public List<OngoingContributionBatch> coalesce(List<OngoingContributionStatus> events) {
+    var latestEvents = new LinkedHashMap<String, OngoingContributionStatus>();
+    var supersededEvents = new LinkedHashMap<String, List<OngoingContributionStatus>>();
+    var singleEvents = new ArrayList<OngoingContributionStatus>();
+
+    events.stream()
+      .sorted(comparing(OngoingContributionStatus::getCreatedDate, nullsFirst(naturalOrder())))
+      .forEach(event -> {
+        var recordKey = findRecordKey(event);
+        if (recordKey == null) {
+          singleEvents.add(event);
+          return;
+        }
+        var previousEvent = latestEvents.remove(recordKey);
+        if (previousEvent != null) {
+          supersededEvents.computeIfAbsent(recordKey, key -> new ArrayList<>()).add(previousEvent);
+        }
+        latestEvents.put(recordKey, event);
+      });
+
+    var groups = new LinkedHashMap<String, OngoingContributionBatch>();
+    latestEvents.forEach((recordKey, event) -> {
+      var batch = groups.computeIfAbsent(getGroupKey(recordKey, event),
+        key -> new OngoingContributionBatch(new ArrayList<>(), new ArrayList<>()));
+      batch.getEvents().add(event);
+      batch.getSupersededEvents().addAll(supersededEvents.getOrDefault(recordKey, List.of()));
+    });
+
+    var batches = new ArrayList<OngoingContributionBatch>(singleEvents.size() + groups.size());
+    singleEvents.forEach(event -> batches.add(OngoingContributionBatch.of(event)));
+    batches.addAll(groups.values());
+
+    if (batches.size() < events.size()) {
+      log.info("coalesce:: {} ongoing contribution events are coalesced into {} batches", events.size(), batches.size());
+    }
+    return batches;
+  }
+
+  private String findRecordKey(OngoingContributionStatus event) {
+    try {
+      return getRecordKey(event);
+    } catch (Exception e) {
+      // the event fails on its own when processed
+      log.warn("findRecordKey:: Unable to read ongoing contribution event {} {}", event.getId(), e.getMessage());
+      return null;
+    }
+  }
+
+  private String getRecordKey(OngoingContributionStatus event) {
+    var eventType = event.getDomainEventType();
+    if (eventType != CREATED && eventType != UPDATED) {
+      return null;
+    }
+    if (event.getDomainEventName() == INSTANCE) {
+      var instance = jsonHelper.fromJson(event.getNewEntity(), Instance.class);
+      return instance == null || instance.getId() == null ? null
+        : String.join(":", "instance", String.valueOf(event.getCentralServerId()), instance.getId().toString());
+    }
+    if (event.getDomainEventName() == ITEM) {
+      var newItem = jsonHelper.fromJson(event.getNewEntity(), Item.class);
+      var oldItem = jsonHelper.fromJson(event.getOldEntity(), Item.class);
+      if (newItem == null || newItem.getId() == null || newItem.getHoldingsRecordId() == null || oldItem != null && !Objects.equals(oldItem.getHoldingsRecordId(), newItem.getHoldingsRecordId())) {
+        return null;
+      }
+      return String.join(":", "item", String.valueOf(event.getCentralServerId()),
+        newItem.getHoldingsRecordId().toString(), newItem.getId().toString());
+    }
+    return null;
+  }
+
+  private static String getGroupKey(String recordKey, OngoingContributionStatus event) {
+    // items of one holdings record share the instance and are contributed together
+    return event.getDomainEventName() == ITEM ? recordKey.substring(0, recordKey.lastIndexOf(':')) : recordKey;
+  }
+}
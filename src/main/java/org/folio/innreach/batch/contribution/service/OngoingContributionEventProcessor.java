@@ -1,10 +1,25 @@
 package org.folio.innreach.batch.contribution.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.innreach.batch.contribution.OngoingContributionBatch;
+import org.folio.innreach.client.HoldingsStorageClient;
 import org.folio.innreach.domain.entity.OngoingContributionStatus;
 import org.folio.innreach.domain.service.ContributionActionService;
 import org.folio.innreach.domain.service.InnReachTransactionActionService;
+import org.folio.innreach.domain.service.InventoryViewService;
 import org.folio.innreach.domain.service.impl.TenantScopedExecutionService;
 import org.folio.innreach.dto.Holding;
 import org.folio.innreach.dto.Instance;
@@ -19,27 +34,131 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import static org.folio.innreach.batch.contribution.PrefetchedInstancesManager.beginPrefetchedInstances;
+import static org.folio.innreach.batch.contribution.PrefetchedInstancesManager.endPrefetchedInstances;
 import static org.folio.innreach.domain.entity.ContributionStatus.FAILED;
+import static org.folio.innreach.domain.entity.ContributionStatus.PROCESSED;
 import static org.folio.innreach.domain.entity.ContributionStatus.RETRY;
+import static org.folio.innreach.domain.entity.OngoingContributionStatus.EventName.ITEM;
+import static org.folio.innreach.domain.event.DomainEventType.DELETED;
+import static org.folio.innreach.domain.event.DomainEventType.UPDATED;
+import static org.folio.innreach.util.CqlHelper.matchAny;
 import static org.folio.innreach.util.InnReachConstants.RETRY_LIMIT_MESSAGE;
+import static org.folio.innreach.util.InnReachConstants.SUPERSEDED_EVENT_MSG;
 import static org.folio.innreach.util.InnReachConstants.UNKNOWN_EVENT_NAME_MESSAGE;
 import static org.folio.innreach.util.InnReachConstants.UNKNOWN_TYPE_MESSAGE;
+import static org.folio.innreach.util.ListUtils.toStream;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class OngoingContributionEventProcessor {
 
+  private static final int ID_CHUNK_SIZE = 50;
+
   private final ContributionActionService contributionActionService;
   private final InnReachTransactionActionService transactionActionService;
   private final JsonHelper jsonHelper;
   private final OngoingContributionStatusService ongoingContributionStatusService;
   private final TenantScopedExecutionService executionService;
+  private final ContributionLeaseManager leaseManager;
+  private final InventoryViewService inventoryViewService;
+  private final HoldingsStorageClient holdingsStorageClient;
   @Value("${contribution.retry-attempts}")
   private int maxRetryAttempts;
 
   @Async("ongoingSchedulerTaskExecutor")
   public void processOngoingContribution(OngoingContributionStatus ongoingContributionStatus) {
+    processEvent(ongoingContributionStatus);
+  }
+
+  /**
+   * Loads instances affected by the claimed batches with a few batch requests. Instances of item events are resolved
+   * through their holdings. The result is shared by the batches and every instance is handed out once,
+   * instances that were not prefetched are loaded one by one.
+   */
+  public Map<UUID, Instance> prefetchInstances(List<OngoingContributionBatch> batches) {
+    var instanceIds = new HashSet<UUID>();
+    var holdingIds = new HashSet<UUID>();
+    try {
+      batches.stream()
+        .flatMap(batch -> batch.getEvents().stream())
+        .forEach(event -> collectIds(event, instanceIds, holdingIds));
+      instanceIds.addAll(findInstanceIds(holdingIds));
+      if (instanceIds.isEmpty()) {
+        return Map.of();
+      }
+      return new ConcurrentHashMap<>(inventoryViewService.getInstancesByIds(instanceIds));
+    } catch (Exception e) {
+      log.warn("prefetchInstances:: Unable to prefetch instances, falling back to single instance lookup", e);
+      return Map.of();
+    }
+  }
+
+  @Async("ongoingSchedulerTaskExecutor")
+  public void processOngoingContributionBatch(OngoingContributionBatch batch) {
+    processOngoingContributionBatch(batch, Map.of());
+  }
+
+  @Async("ongoingSchedulerTaskExecutor")
+  public void processOngoingContributionBatch(OngoingContributionBatch batch, Map<UUID, Instance> prefetchedInstances) {
+    beginPrefetchedInstances(prefetchedInstances);
+    try {
+      processBatch(batch);
+    } finally {
+      endPrefetchedInstances();
+    }
+  }
+
+  private void processBatch(OngoingContributionBatch batch) {
+    batch.getSupersededEvents().forEach(this::processSupersededEvent);
+    var events = new ArrayList<OngoingContributionStatus>();
+    for (var event : batch.getEvents()) {
+      if (isRetryLimitExceeded(event)) {
+        failRetryLimitExceededEvent(event);
+      } else {
+        events.add(event);
+      }
+    }
+    if (events.isEmpty()) {
+      return;
+    }
+    if (events.size() == 1) {
+      processEvent(events.get(0));
+      return;
+    }
+
+    var eventIds = events.stream().map(OngoingContributionStatus::getId).toList();
+    try {
+      log.info("processOngoingContributionBatch:: Processing {} ongoing contribution item events, tenant {}",
+        events.size(), batch.getTenant());
+      executionService.executeAsyncTenantScoped(batch.getTenant(), () -> processItems(events));
+    } catch (ServiceSuspendedException | InnReachConnectionException |
+             SocketTimeOutExceptionWrapper | InnReachGatewayException ex) {
+      log.warn("processOngoingContributionBatch:: {} occurred while processing ongoing contribution events {}", ex.getClass().getSimpleName(), eventIds);
+      events.forEach(event -> ongoingContributionStatusService.updateOngoingContribution(event, RETRY));
+    } catch (Exception ex) {
+      log.error("processOngoingContributionBatch:: Exception occurred while processing ongoing contribution events {}", eventIds, ex);
+      events.forEach(event -> ongoingContributionStatusService.updateOngoingContribution(event, ex.getMessage(), FAILED));
+    } finally {
+      events.forEach(event -> leaseManager.released(event.getTenant(), event.getId()));
+    }
+  }
+
+  /**
+   * An event out of retries is failed on its own, so it does not fail the other events of its batch.
+   */
+  private void failRetryLimitExceededEvent(OngoingContributionStatus ongoingContributionStatus) {
+    try {
+      ongoingContributionStatusService.updateOngoingContribution(ongoingContributionStatus, RETRY_LIMIT_MESSAGE, FAILED);
+    } catch (Exception ex) {
+      log.error("failRetryLimitExceededEvent:: Exception occurred while failing job {}", ongoingContributionStatus, ex);
+    } finally {
+      leaseManager.released(ongoingContributionStatus.getTenant(), ongoingContributionStatus.getId());
+    }
+  }
+
+  private void processEvent(OngoingContributionStatus ongoingContributionStatus) {
     try {
       log.info("processOngoingContribution:: Processing ongoing contribution event with id {} , tenant {}",
         ongoingContributionStatus.getId(), ongoingContributionStatus.getTenant());
@@ -61,6 +180,41 @@ public class OngoingContributionEventProcessor {
     } catch (Exception ex) {
       log.error("processOngoingContribution:: Exception occurred while processing job {}", ongoingContributionStatus, ex);
       ongoingContributionStatusService.updateOngoingContribution(ongoingContributionStatus, ex.getMessage(), FAILED);
+    } finally {
+      leaseManager.released(ongoingContributionStatus.getTenant(), ongoingContributionStatus.getId());
+    }
+  }
+
+  private void processItems(List<OngoingContributionStatus> events) {
+    var items = new LinkedHashMap<OngoingContributionStatus, Item>();
+    for (var event : events) {
+      Item newEntity = jsonHelper.fromJson(event.getNewEntity(), Item.class);
+      if (event.getDomainEventType() == UPDATED) {
+        transactionActionService.handleItemUpdate(newEntity, jsonHelper.fromJson(event.getOldEntity(), Item.class));
+      }
+      items.put(event, newEntity);
+    }
+    contributionActionService.handleItemsUpdate(items);
+  }
+
+  /**
+   * Only the latest state of a record is contributed, the earlier events are completed without contribution.
+   * Barcode changes of the earlier item updates still reach the active transactions.
+   */
+  private void processSupersededEvent(OngoingContributionStatus ongoingContributionStatus) {
+    try {
+      executionService.executeAsyncTenantScoped(ongoingContributionStatus.getTenant(), () -> {
+        if (ongoingContributionStatus.getDomainEventName() == ITEM && ongoingContributionStatus.getDomainEventType() == UPDATED) {
+          transactionActionService.handleItemUpdate(jsonHelper.fromJson(ongoingContributionStatus.getNewEntity(), Item.class),
+            jsonHelper.fromJson(ongoingContributionStatus.getOldEntity(), Item.class));
+        }
+        ongoingContributionStatusService.updateOngoingContribution(ongoingContributionStatus, SUPERSEDED_EVENT_MSG, PROCESSED);
+      });
+    } catch (Exception ex) {
+      log.error("processSupersededEvent:: Exception occurred while processing job {}", ongoingContributionStatus, ex);
+      ongoingContributionStatusService.updateOngoingContribution(ongoingContributionStatus, ex.getMessage(), FAILED);
+    } finally {
+      leaseManager.released(ongoingContributionStatus.getTenant(), ongoingContributionStatus.getId());
     }
   }
 
@@ -101,12 +255,45 @@ public class OngoingContributionEventProcessor {
     }
   }
 
+  private void collectIds(OngoingContributionStatus event, Set<UUID> instanceIds, Set<UUID> holdingIds) {
+    var entity = event.getDomainEventType() == DELETED ? event.getOldEntity() : event.getNewEntity();
+    if (entity == null) {
+      return;
+    }
+    switch (event.getDomainEventName()) {
+      case INSTANCE -> {
+        if (event.getDomainEventType() != DELETED) {
+          instanceIds.add(jsonHelper.fromJson(entity, Instance.class).getId());
+        }
+      }
+      case HOLDINGS -> instanceIds.add(jsonHelper.fromJson(entity, Holding.class).getInstanceId());
+      case ITEM -> holdingIds.add(jsonHelper.fromJson(entity, Item.class).getHoldingsRecordId());
+      default -> log.debug("collectIds:: unknown event name {}", event.getDomainEventName());
+    }
+  }
+
+  private Set<UUID> findInstanceIds(Collection<UUID> holdingIds) {
+    var instanceIds = new HashSet<UUID>();
+    for (var chunk : Lists.partition(holdingIds.stream().filter(Objects::nonNull).toList(), ID_CHUNK_SIZE)) {
+      toStream(holdingsStorageClient.queryHoldingsByIds(matchAny(chunk), chunk.size()).getResult())
+        .forEach(holding -> instanceIds.add(holding.getInstanceId()));
+    }
+    return instanceIds;
+  }
+
   private void checkRetryLimit(OngoingContributionStatus job) {
+    if (isRetryLimitExceeded(job)) {
+      throw new RetryException(RETRY_LIMIT_MESSAGE);
+    }
+  }
+
+  private boolean isRetryLimitExceeded(OngoingContributionStatus job) {
     if (maxRetryAttempts != 0 && job.getRetryAttempts() > maxRetryAttempts) {
-      log.warn("checkRetryLimit:: ongoing job id {} retry attempts {} exceeds  max retry attempts {}",
+      log.warn("isRetryLimitExceeded:: ongoing job id {} retry attempts {} exceeds  max retry attempts {}",
         job.getId(), job.getRetryAttempts(), maxRetryAttempts);
-      throw new RetryException(RETRY_LIMIT_MESSAGE);
+      return true;
     }
+    return false;
   }
 
 }
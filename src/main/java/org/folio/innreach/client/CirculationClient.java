@@ -35,6 +35,11 @@ public interface CirculationClient {
   ResultList<RequestDTO> queryRequestsByItemIdAndStatus(@PathVariable("itemId") UUID itemId,@RequestParam("limit") int limit);
 
 
+  @GetMapping("/requests?query=itemId==({itemIds}) and " +
+          "status==(\"Open - Awaiting pickup\" or \"Open - Not yet filled\" or \"Open - In transit\" or \"Open - Awaiting delivery\")")
+  ResultList<RequestDTO> queryOpenRequestsByItemIds(@PathVariable("itemIds") String itemIds,
+                                                    @RequestParam("limit") int limit, @RequestParam("offset") int offset);
+
   @GetMapping("/requests?query=id=({requestIds}) and status==\"Open - Not yet filled\"")
   ResultList<RequestDTO> queryNotFilledRequestsByIds(@PathVariable("requestIds") String requestIds, @RequestParam("limit") int limit);
 
@@ -65,6 +70,10 @@ public interface CirculationClient {
   @GetMapping("/loans?query=(itemId=={itemId}) and status=({status})")
   ResultList<LoanDTO> queryLoansByItemIdAndStatus(@PathVariable("itemId") UUID itemId, @PathVariable("status") String status);
 
+  @GetMapping("/loans?query=itemId==({itemIds}) and status=({status})")
+  ResultList<LoanDTO> queryLoansByItemIdsAndStatus(@PathVariable("itemIds") String itemIds, @PathVariable("status") String status,
+                                                   @RequestParam("limit") int limit, @RequestParam("offset") int offset);
+
   @GetMapping("/loans/{loanId}")
   Optional<LoanDTO> findLoan(@PathVariable("loanId") UUID loanId);
 
@@ -10,8 +10,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import org.folio.innreach.client.config.InventoryFeignClientConfig;
+import org.folio.innreach.domain.dto.folio.ResultList;
 import org.folio.innreach.dto.Holding;
 
 @FeignClient(name = "holdings-storage", configuration = InventoryFeignClientConfig.class, dismiss404 = true)
@@ -20,6 +22,9 @@ public interface HoldingsStorageClient {
   @GetMapping("/holdings/{holdingId}")
   Optional<Holding> findHolding(@PathVariable("holdingId") UUID holdingId);
 
+  @GetMapping("/holdings?query=id==({holdingIds})")
+  ResultList<Holding> queryHoldingsByIds(@PathVariable("holdingIds") String holdingIds, @RequestParam("limit") int limit);
+
   @DeleteMapping("/holdings/{holdingsRecordId}")
   void deleteHolding(@PathVariable("holdingsRecordId") UUID holdingId);
 
@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import org.folio.innreach.client.config.FolioFeignClientConfig;
 import org.folio.innreach.domain.dto.folio.ResultList;
@@ -24,6 +25,9 @@ public interface InventoryViewClient {
   @GetMapping(path = "/instances?query=(id={instanceId})&limit=1", consumes = "binary/octet-stream")
   ResultList<InstanceView> getInstanceById(@PathVariable("instanceId") UUID instanceId);
 
+  @GetMapping(path = "/instances?query=id==({instanceIds})", consumes = "binary/octet-stream")
+  ResultList<InstanceView> queryInstancesByIds(@PathVariable("instanceIds") String instanceIds, @RequestParam("limit") int limit);
+
   @GetMapping(path = "/instances?query=(instance.hrid={hrid})&limit=1", consumes = "binary/octet-stream")
   ResultList<InstanceView> getInstanceByHrid(@PathVariable("hrid") String instanceHrid);
 
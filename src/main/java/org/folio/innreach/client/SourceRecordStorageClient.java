@@ -1,12 +1,16 @@
 package org.folio.innreach.client;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import org.folio.innreach.client.config.FolioFeignClientConfig;
+import org.folio.innreach.domain.dto.folio.ResultList;
 import org.folio.innreach.domain.dto.folio.sourcerecord.SourceRecordDTO;
 
 /**
@@ -18,4 +22,10 @@ public interface SourceRecordStorageClient {
 
   @GetMapping("/records/{instanceId}/formatted?idType=INSTANCE")
   SourceRecordDTO getRecordByInstanceId(@PathVariable("instanceId") UUID instanceId);
+
+  /**
+   * Returns actual MARC bib source records of the given instances, instances without a source record are omitted.
+   */
+  @PostMapping("/source-records?idType=INSTANCE&recordType=MARC_BIB&deleted=false")
+  ResultList<SourceRecordDTO> getRecordsByInstanceIds(@RequestBody List<UUID> instanceIds);
 }
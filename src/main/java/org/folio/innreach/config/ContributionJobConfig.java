@@ -8,8 +8,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.support.RetryTemplate;
 
 import org.folio.innreach.batch.contribution.listener.ContributionExceptionListener;
+import org.folio.innreach.batch.contribution.service.ContributionErrorSink;
 import org.folio.innreach.config.props.ContributionJobProperties;
-import org.folio.innreach.domain.service.ContributionService;
 
 @Configuration
 @Log4j2
@@ -28,13 +28,13 @@ public class ContributionJobConfig {
   }
 
   @Bean("instanceExceptionListener")
-  public ContributionExceptionListener instanceListener(ContributionService contributionService) {
-    return new ContributionExceptionListener(contributionService, "instanceContribution");
+  public ContributionExceptionListener instanceListener(ContributionErrorSink errorSink) {
+    return new ContributionExceptionListener(errorSink, "instanceContribution");
   }
 
   @Bean("itemExceptionListener")
-  public ContributionExceptionListener itemListener(ContributionService contributionService) {
-    return new ContributionExceptionListener(contributionService, "itemContribution");
+  public ContributionExceptionListener itemListener(ContributionErrorSink errorSink) {
+    return new ContributionExceptionListener(errorSink, "itemContribution");
   }
 
 
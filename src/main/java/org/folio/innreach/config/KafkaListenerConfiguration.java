@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.folio.innreach.batch.contribution.service.ContributionJobRunner;
 import org.folio.innreach.domain.dto.folio.inventorystorage.InstanceIterationEvent;
@@ -43,12 +44,14 @@ public class KafkaListenerConfiguration {
   public static final String KAFKA_CONTAINER_FACTORY = "kafkaDomainEventContainerFactory";
   public static final String KAFKA_CONSUMER_FACTORY = "kafkaDomainEventConsumerFactory";
   public static final String BATCH_EVENT_PROCESSOR_RETRY_TEMPLATE = "batchEventRetryTemplate";
+  private static final String CONTRIBUTION_LISTENER = "contribution";
 
   private final ObjectMapper mapper;
   private final KafkaProperties kafkaProperties;
   private final DomainEventTypeResolver typeResolver;
   private final ContributionJobRunner contributionJobRunner;
   private final TenantScopedExecutionService executionService;
+  private final FolioKafkaProperties folioKafkaProperties;
 
   private final RetryConfig retryConfig;
 
@@ -84,6 +87,11 @@ public class KafkaListenerConfiguration {
   @Bean("kafkaInitialContributionConsumer")
   public ConsumerFactory<String, InstanceIterationEvent> kafkaInitialContributionEventConsumerFactory() {
     var consumerProperties = kafkaProperties.buildConsumerProperties(null);
+    var listenerProperties = folioKafkaProperties.getListener().get(CONTRIBUTION_LISTENER);
+    if (listenerProperties != null && listenerProperties.getMaxPollRecords() != null) {
+      // iteration events are stored with bulk inserts, so they are polled in larger batches than domain events
+      consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, listenerProperties.getMaxPollRecords());
+    }
 
     JsonDeserializer<InstanceIterationEvent> deserializer = new JsonDeserializer<>(InstanceIterationEvent.class);
     deserializer.setUseTypeHeaders(false);
@@ -1,5 +1,7 @@
 package org.folio.innreach.config;
 
+import org.folio.innreach.config.props.CirculationNotificationProperties;
+import org.folio.innreach.config.props.ContributionSchedulerProperties;
 import org.folio.innreach.domain.exception.async.SpringAsyncExceptionHandler;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.beans.factory.annotation.Value;
@@ -48,7 +50,7 @@ public class SpringAsyncConfig implements AsyncConfigurer {
   }
 
   @Bean("initialSchedulerTaskExecutor")
-  public Executor initialSchedulerTaskExecutor() {
+  public ThreadPoolTaskExecutor initialSchedulerTaskExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setCorePoolSize(schedulerTaskPoolSize);
     executor.setMaxPoolSize(schedulerTaskPoolSize + 10);
@@ -59,7 +61,7 @@ public class SpringAsyncConfig implements AsyncConfigurer {
   }
 
   @Bean("ongoingSchedulerTaskExecutor")
-  public Executor ongoingSchedulerTaskExecutor() {
+  public ThreadPoolTaskExecutor ongoingSchedulerTaskExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setCorePoolSize(schedulerTaskPoolSize);
     executor.setMaxPoolSize(schedulerTaskPoolSize + 10);
@@ -69,4 +71,24 @@ public class SpringAsyncConfig implements AsyncConfigurer {
     return executor;
   }
 
+  @Bean("circulationNotificationExecutor")
+  public ThreadPoolTaskExecutor circulationNotificationExecutor(CirculationNotificationProperties notificationProperties) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(notificationProperties.getDispatchPoolSize());
+    executor.setMaxPoolSize(notificationProperties.getDispatchPoolSize());
+    executor.setThreadNamePrefix("circulationNotificationExecutor-");
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean("contributionPollExecutor")
+  public ThreadPoolTaskExecutor contributionPollExecutor(ContributionSchedulerProperties schedulerProperties) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(schedulerProperties.getPollPoolSize());
+    executor.setMaxPoolSize(schedulerProperties.getPollPoolSize());
+    executor.setThreadNamePrefix("contributionPollExecutor-");
+    executor.initialize();
+    return executor;
+  }
+
 }
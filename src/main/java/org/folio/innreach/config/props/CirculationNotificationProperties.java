@@ -0,0 +1,44 @@
+package org.folio.innreach.config.props;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("inn-reach.circulation-notification")
+public class CirculationNotificationProperties {
+
+  /**
+   * Max number of notifications claimed for sending at once.
+   */
+  private int batchSize = 50;
+
+  /**
+   * Number of failed attempts after which a notification is moved to the dead letter state.
+   */
+  private int maxAttempts = 10;
+
+  /**
+   * Delay before the first retry of a failed notification, doubled with every following attempt.
+   */
+  private Duration initialBackoff = Duration.ofSeconds(10);
+
+  /**
+   * Max delay between retries of a failed notification.
+   */
+  private Duration maxBackoff = Duration.ofHours(1);
+
+  /**
+   * Number of threads sending notifications right after the transactions that created them are committed.
+   */
+  private int dispatchPoolSize = 2;
+
+  /**
+   * Time a claimed notification is hidden from other dispatchers while it is being sent.
+   */
+  private Duration leaseDuration = Duration.ofMinutes(5);
+
+}
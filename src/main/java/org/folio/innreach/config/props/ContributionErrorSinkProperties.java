@@ -0,0 +1,34 @@
+package org.folio.innreach.config.props;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("contribution.error-sink")
+public class ContributionErrorSinkProperties {
+
+  /**
+   * Max number of contribution errors waiting to be persisted, a full buffer is flushed by the submitting thread.
+   */
+  private int queueCapacity = 10_000;
+
+  /**
+   * Number of contribution errors persisted with a single batch insert.
+   */
+  private int batchSize = 500;
+
+  /**
+   * Max time a contribution error waits in the buffer.
+   */
+  private Duration flushInterval = Duration.ofSeconds(1);
+
+  /**
+   * Time window in which an identical error of the same record is persisted once.
+   */
+  private Duration deduplicationWindow = Duration.ofMinutes(1);
+
+}
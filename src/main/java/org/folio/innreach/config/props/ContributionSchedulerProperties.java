@@ -0,0 +1,36 @@
+package org.folio.innreach.config.props;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("contribution.scheduler")
+public class ContributionSchedulerProperties {
+
+  /**
+   * Delay between scheduler runs, a tenant that has contribution records is polled again after this delay.
+   */
+  private Duration minDelay = Duration.ofSeconds(1);
+
+  /**
+   * Max delay between polls of a tenant without contribution records.
+   */
+  private Duration maxDelay = Duration.ofSeconds(10);
+
+  /**
+   * Number of tenants polled for contribution records concurrently.
+   */
+  private int pollPoolSize = 5;
+
+  /**
+   * Number of records a tenant may claim per scheduler round, the tenants not listed use contribution.fetch-limit.
+   */
+  private Map<String, Integer> tenantQuotas = new HashMap<>();
+
+}
@@ -18,5 +18,6 @@ public class FolioKafkaProperties {
     private String concurrency;
     private String groupId;
     private Class<?> dataType;
+    private Integer maxPollRecords;
   }
 }
@@ -0,0 +1,17 @@
+package org.folio.innreach.config.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("inn-reach.transaction-export")
+public class TransactionExportProperties {
+
+  /**
+   * Number of transactions fetched from the database cursor per round trip while exporting.
+   */
+  private int fetchSize = 500;
+
+}
@@ -0,0 +1,34 @@
+package org.folio.innreach.config.props;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("inn-reach.virtual-record-deletion")
+public class VirtualRecordDeletionProperties {
+
+  /**
+   * Max number of deletions claimed for processing at once.
+   */
+  private int batchSize = 100;
+
+  /**
+   * Number of failed attempts after which a deletion is no longer retried.
+   */
+  private int maxAttempts = 5;
+
+  /**
+   * Delay before a failed deletion is retried.
+   */
+  private Duration retryDelay = Duration.ofMinutes(10);
+
+  /**
+   * Time a claimed deletion is hidden from other workers while it is being processed.
+   */
+  private Duration leaseDuration = Duration.ofMinutes(5);
+
+}
@@ -55,4 +55,11 @@ public class ContributionController implements ContributionsApi {
     service.startInitialContribution(centralServerId);
     return ResponseEntity.status(HttpStatus.CREATED).build();
   }
+
+  @Override
+  @PostMapping("/resume")
+  public ResponseEntity<Void> resumeInitialContribution(@PathVariable UUID centralServerId) {
+    service.resumeInitialContribution(centralServerId);
+    return ResponseEntity.noContent().build();
+  }
 }
@@ -0,0 +1,40 @@
+package org.folio.innreach.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import org.folio.innreach.domain.service.InnReachTransactionExportService;
+import org.folio.innreach.domain.service.InnReachTransactionExportService.ExportFormat;
+import org.folio.innreach.dto.InnReachTransactionFilterParametersDTO;
+
+@RequiredArgsConstructor
+@RestController
+public class InnReachTransactionExportController {
+
+  private static final String EXPORT_FILE_NAME = "inn-reach-transactions.";
+
+  private final InnReachTransactionExportService exportService;
+
+  @GetMapping("/inn-reach/transactions/export")
+  public void exportTransactions(@RequestParam(defaultValue = "csv") String format,
+                                 InnReachTransactionFilterParametersDTO parameters,
+                                 HttpServletResponse response) throws IOException {
+    var exportFormat = ExportFormat.fromValue(format);
+    response.setContentType(exportFormat.getContentType());
+    response.setCharacterEncoding("UTF-8");
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+      .filename(EXPORT_FILE_NAME + exportFormat.getValue())
+      .build()
+      .toString());
+
+    exportService.exportTransactions(parameters, exportFormat, response.getOutputStream());
+  }
+}
@@ -0,0 +1,9 @@
+package org.folio.innreach.converter.marc;
+
+/**
+ * Base64 encoded ISO 2709 record together with the hash of its content, both produced from the same in-memory record.
+ * The hash does not depend on the time of the latest transaction (005), so records with the same bibliographic
+ * content have the same hash.
+ */
+public record EncodedMARCRecord(String base64rawContent, String contentHash) {
+}
@@ -0,0 +1,84 @@
+package org.folio.innreach.converter.marc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.marc4j.MarcStreamWriter;
+import org.marc4j.marc.Record;
+
+/**
+ * Writes a MARC record in ISO 2709 format straight into a Base64 encoding stream.
+ * <p>
+ * The encoded characters are collected in a per-thread buffer that is reused between records, so the only
+ * allocation per record besides the MARC writer internals is the resulting string.
+ */
+public final class MARCRecordBase64Encoder {
+
+  /**
+   * Buffers that grew above this size while encoding an exceptionally large record are not kept for reuse.
+   */
+  private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+  private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+  private static final ThreadLocal<AsciiBuffer> BUFFERS = ThreadLocal.withInitial(AsciiBuffer::new);
+
+  private MARCRecordBase64Encoder() {
+  }
+
+  public static String encode(Record marcRecord) throws IOException {
+    var buffer = BUFFERS.get();
+    try {
+      try (var base64Stream = Base64.getEncoder().wrap(buffer)) {
+        new MarcStreamWriter(base64Stream, StandardCharsets.UTF_8.name()).write(marcRecord);
+      }
+      return buffer.toString();
+    } finally {
+      if (buffer.capacity() > MAX_POOLED_BUFFER_SIZE) {
+        BUFFERS.remove();
+      } else {
+        buffer.reset();
+      }
+    }
+  }
+
+  /**
+   * Output stream of Base64 characters, which are all ASCII, so every byte is stored as a char without decoding.
+   */
+  private static final class AsciiBuffer extends OutputStream {
+
+    private final StringBuilder chars = new StringBuilder(INITIAL_BUFFER_SIZE);
+
+    @Override
+    public void write(int b) {
+      chars.append((char) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+      chars.ensureCapacity(chars.length() + length);
+      for (int i = offset; i < offset + length; i++) {
+        chars.append((char) bytes[i]);
+      }
+    }
+
+    @Override
+    public void close() {
+      // the buffer is reused, closing the encoding stream only flushes the final Base64 block
+    }
+
+    int capacity() {
+      return chars.capacity();
+    }
+
+    void reset() {
+      chars.setLength(0);
+    }
+
+    @Override
+    public String toString() {
+      return chars.toString();
+    }
+  }
+}
@@ -1,18 +1,20 @@
 package org.folio.innreach.converter.marc;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.SPACE;
+import static org.apache.commons.lang3.StringUtils.defaultString;
 
 import static org.folio.innreach.converter.marc.Constants.BLANK_REPLACEMENT;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.regex.Pattern;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import lombok.extern.log4j.Log4j2;
-import org.codehaus.plexus.util.Base64;
-import org.marc4j.MarcStreamWriter;
+import org.marc4j.marc.ControlField;
+import org.marc4j.marc.DataField;
 import org.marc4j.marc.Leader;
 import org.marc4j.marc.MarcFactory;
 import org.marc4j.marc.Record;
@@ -28,15 +30,14 @@ import org.folio.innreach.dto.TransformedMARCRecordDTO;
 @Component
 public class TransformedMARCRecordConverter {
 
-  private static final int ADDRESS_LENGTH = 12;
-  private static final int TAG_LENGTH = 4;
-  private static final int TERMINATOR_LENGTH = 1;
-  private static final int LEADER_LENGTH = 24;
-
   private static final Pattern CONTROL_FIELD_PATTERN = Pattern.compile("^(00)[1-9]$");
 
   private static final MarcFactory MARC_FACTORY = MarcFactory.newInstance();
 
+  private static final String MARC_FIELD_CODE_005 = "005";
+  private static final char HASH_FIELD_SEPARATOR = '\u001e';
+  private static final char HASH_SUBFIELD_SEPARATOR = '\u001f';
+
   public TransformedMARCRecordDTO toTransformedRecord(SourceRecordDTO sourceRecord) {
     var marcRecord = toMARCRecord(sourceRecord);
     var base64RawContent = toBase64RawContent(marcRecord);
@@ -47,7 +48,19 @@ public class TransformedMARCRecordConverter {
       .base64rawContent(base64RawContent);
   }
 
-  private Record toMARCRecord(SourceRecordDTO sourceRecord) {
+  /**
+   * Returns the Base64 encoded ISO 2709 record and its content hash, without the formatted content that is not used
+   * by contribution.
+   */
+  public EncodedMARCRecord toEncodedRecord(SourceRecordDTO sourceRecord) {
+    var marcRecord = toMARCRecord(sourceRecord);
+    // hashed before writing, the writer overwrites the record length and the base address of data in the leader
+    var contentHash = hashContent(marcRecord);
+
+    return new EncodedMARCRecord(toBase64RawContent(marcRecord), contentHash);
+  }
+
+  Record toMARCRecord(SourceRecordDTO sourceRecord) {
     var parsedRecord = sourceRecord.getParsedRecord();
 
     var newRecord = MARC_FACTORY.newRecord();
@@ -58,8 +71,8 @@ public class TransformedMARCRecordConverter {
       .map(this::toVariableField)
       .forEach(newRecord::addVariableField);
 
+    // the record length and the base address of data are set by the MARC writer, content is formatted after writing
     Leader leader = MARC_FACTORY.newLeader(restoreBlanks(leaderString));
-    leader.setRecordLength(calculateRecordLength(newRecord));
     newRecord.setLeader(leader);
 
     return newRecord;
@@ -82,30 +95,50 @@ public class TransformedMARCRecordConverter {
     return CONTROL_FIELD_PATTERN.matcher(recordField.getCode()).matches();
   }
 
-  private int calculateRecordLength(Record newRecord) {
-    int addressesLength = newRecord.getVariableFields().size() * ADDRESS_LENGTH;
-    int controlFieldsLength = newRecord.getControlFields()
-      .stream()
-      .mapToInt(controlField -> controlField.getData().length() + TERMINATOR_LENGTH)
-      .sum();
-    int dataFieldsLength = newRecord.getDataFields()
-      .stream()
-      .mapToInt(dataField -> dataField.toString().length() - TAG_LENGTH + TERMINATOR_LENGTH)
-      .sum();
-    return LEADER_LENGTH + addressesLength + controlFieldsLength + dataFieldsLength + TERMINATOR_LENGTH;
-  }
-
   private String restoreBlanks(String sourceString) {
     return sourceString.replace(BLANK_REPLACEMENT, SPACE);
   }
 
-  private String toBase64RawContent(Record marcRecord) {
-    MarcStreamWriter marcStreamWriter = null;
+  String hashContent(Record marcRecord) {
+    var hasher = Hashing.sha256().newHasher();
+
+    // the record length (00-04) and the base address of data (12-16) are derived from the content
+    var leader = marcRecord.getLeader().marshal();
+    hasher.putString(leader.substring(5, 12), UTF_8).putString(leader.substring(17), UTF_8).putChar(HASH_FIELD_SEPARATOR);
 
-    try (var baos = new ByteArrayOutputStream()) {
-      marcStreamWriter = new MarcStreamWriter(baos, StandardCharsets.UTF_8.toString());
-      marcStreamWriter.write(marcRecord);
-      return new String(Base64.encodeBase64(baos.toByteArray()));
+    for (var controlField : marcRecord.getControlFields()) {
+      if (!MARC_FIELD_CODE_005.equals(controlField.getTag())) {
+        putControlField(hasher, controlField);
+      }
+    }
+    for (var dataField : marcRecord.getDataFields()) {
+      putDataField(hasher, dataField);
+    }
+
+    return hasher.hash().toString();
+  }
+
+  private void putControlField(Hasher hasher, ControlField controlField) {
+    hasher.putString(controlField.getTag(), UTF_8)
+      .putString(defaultString(controlField.getData()), UTF_8)
+      .putChar(HASH_FIELD_SEPARATOR);
+  }
+
+  private void putDataField(Hasher hasher, DataField dataField) {
+    hasher.putString(dataField.getTag(), UTF_8)
+      .putChar(dataField.getIndicator1())
+      .putChar(dataField.getIndicator2());
+    for (var subfield : dataField.getSubfields()) {
+      hasher.putChar(HASH_SUBFIELD_SEPARATOR)
+        .putChar(subfield.getCode())
+        .putString(defaultString(subfield.getData()), UTF_8);
+    }
+    hasher.putChar(HASH_FIELD_SEPARATOR);
+  }
+
+  private String toBase64RawContent(Record marcRecord) {
+    try {
+      return MARCRecordBase64Encoder.encode(marcRecord);
     } catch (IOException e) {
       log.error("Can't transform MARC record content to Base64 encoded raw content", e);
     }
@@ -0,0 +1,9 @@
+package org.folio.innreach.domain.dto;
+
+import org.folio.innreach.dto.BibInfo;
+
+/**
+ * Bib sent to the central server together with the hash of its content, computed once while the bib is built.
+ */
+public record ContributionBib(BibInfo bibInfo, String contentHash) {
+}
@@ -0,0 +1,32 @@
+package org.folio.innreach.domain.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable snapshot of the central server mappings used to build contributed items.
+ */
+@Value
+@Builder
+public class ContributionMappings {
+  long version;
+  Map<UUID, Integer> materialToCentralTypes;
+  Map<UUID, String> libIdToLocKeys;
+  Map<UUID, String> locIdToLocKeys;
+  Map<UUID, String> libIdToAgencyCodes;
+
+  public String getAgencyCode(UUID libraryId) {
+    return libIdToAgencyCodes.get(libraryId);
+  }
+
+  public String getLocationKey(UUID locId, UUID libId) {
+    return locIdToLocKeys.getOrDefault(locId, libIdToLocKeys.get(libId));
+  }
+
+  public Integer getCentralType(UUID materialTypeId) {
+    return materialToCentralTypes.get(materialTypeId);
+  }
+}
@@ -19,9 +19,12 @@ public class SourceRecordDTODeserializer extends StdDeserializer<SourceRecordDTO
 
   /* Source record */
   public static final String ID_JSON_NODE_NAME = "id";
+  public static final String RECORD_ID_JSON_NODE_NAME = "recordId";
   public static final String RECORD_TYPE_JSON_NODE_NAME = "recordType";
   public static final String STATE_JSON_NODE_NAME = "state";
   public static final String DELETED_JSON_NODE_NAME = "deleted";
+  public static final String EXTERNAL_IDS_HOLDER_JSON_NODE_NAME = "externalIdsHolder";
+  public static final String INSTANCE_ID_JSON_NODE_NAME = "instanceId";
 
   /* Parsed records */
   public static final String PARSED_RECORD_JSON_NODE_NAME = "parsedRecord";
@@ -45,15 +48,26 @@ public class SourceRecordDTODeserializer extends StdDeserializer<SourceRecordDTO
       throws IOException {
     JsonNode node = jsonParser.getCodec().readTree(jsonParser);
 
+    // a record of the source records collection has "recordId" instead of "id" and no state
+    var idNode = node.has(ID_JSON_NODE_NAME) ? node.get(ID_JSON_NODE_NAME) : node.get(RECORD_ID_JSON_NODE_NAME);
+
     return SourceRecordDTO.builder()
-      .id(UUID.fromString(node.get(ID_JSON_NODE_NAME).asText()))
+      .id(UUID.fromString(idNode.asText()))
       .recordType(node.get(RECORD_TYPE_JSON_NODE_NAME).asText())
-      .state(node.get(STATE_JSON_NODE_NAME).asText())
+      .state(node.has(STATE_JSON_NODE_NAME) ? node.get(STATE_JSON_NODE_NAME).asText() : null)
       .deleted(node.get(DELETED_JSON_NODE_NAME).asBoolean())
       .parsedRecord(deserializeParsedRecord(node.get(PARSED_RECORD_JSON_NODE_NAME)))
+      .instanceId(deserializeInstanceId(node.get(EXTERNAL_IDS_HOLDER_JSON_NODE_NAME)))
       .build();
   }
 
+  private UUID deserializeInstanceId(JsonNode externalIdsHolderJsonNode) {
+    if (externalIdsHolderJsonNode == null || !externalIdsHolderJsonNode.hasNonNull(INSTANCE_ID_JSON_NODE_NAME)) {
+      return null;
+    }
+    return UUID.fromString(externalIdsHolderJsonNode.get(INSTANCE_ID_JSON_NODE_NAME).asText());
+  }
+
   private ParsedRecordDTO deserializeParsedRecord(JsonNode parsedRecordJsonNode) {
     var contentJsonNode = parsedRecordJsonNode.get(CONTENT_JSON_NODE_NAME);
 
@@ -22,4 +22,5 @@ public class SourceRecordDTO {
   private String state;
   private boolean deleted;
   private ParsedRecordDTO parsedRecord;
+  private UUID instanceId;
 }
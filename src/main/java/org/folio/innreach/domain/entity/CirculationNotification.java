@@ -0,0 +1,60 @@
+package org.folio.innreach.domain.entity;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnTransformer;
+
+import org.folio.innreach.domain.entity.base.Auditable;
+import org.folio.innreach.domain.entity.base.QueuedTask;
+
+/**
+ * D2IR circulation notification of a transaction state change waiting to be sent to the central server.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "circulation_notification_outbox")
+@EqualsAndHashCode(of = "id", callSuper = false)
+@ToString
+public class CirculationNotification extends Auditable implements QueuedTask {
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  private UUID id;
+  /**
+   * Order in which the notifications were created, notifications of a transaction are sent in this order
+   */
+  @Column(insertable = false, updatable = false)
+  private Long sequenceNumber;
+  private UUID transactionId;
+  private String centralServerCode;
+  private String requestPath;
+  @ColumnTransformer(write = "?::jsonb")
+  @Column(columnDefinition = "jsonb")
+  private String payload;
+  @Enumerated(EnumType.STRING)
+  private Status status;
+  private int attempts;
+  @Column(insertable = false, updatable = false)
+  private OffsetDateTime nextAttemptAt;
+  private String lastError;
+
+  public enum Status {
+    PENDING,
+    DEAD
+  }
+}
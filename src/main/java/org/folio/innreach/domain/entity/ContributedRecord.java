@@ -0,0 +1,56 @@
+package org.folio.innreach.domain.entity;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import org.folio.innreach.domain.entity.base.Auditable;
+
+/**
+ * Record of a bib or an item contributed to a central server.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "contributed_record")
+@EqualsAndHashCode(of = "id", callSuper = false)
+@ToString
+public class ContributedRecord extends Auditable {
+  @Id
+  private UUID id;
+  private UUID centralServerId;
+  @Enumerated(EnumType.STRING)
+  private RecordType recordType;
+  /**
+   * Id of FOLIO instance or item
+   */
+  private UUID recordId;
+  /**
+   * Id of the bib or the item on the central server (instance or item HRID)
+   */
+  private String d2irRecordId;
+  /**
+   * Id of the bib on the central server, the same as {@link #d2irRecordId} for bibs
+   */
+  private String bibId;
+  private boolean contributed;
+  private String contentHash;
+  private OffsetDateTime contributedDate;
+  private OffsetDateTime verifiedDate;
+
+  public enum RecordType {
+    BIB,
+    ITEM
+  }
+}
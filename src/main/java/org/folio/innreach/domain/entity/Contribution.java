@@ -77,6 +77,8 @@ public class Contribution extends Auditable implements Identifiable<UUID> {
 
   private Long recordsDecontributed;
 
+  private Long recordsFailed = 0L;
+
   private boolean ongoing;
 
   @OneToMany(mappedBy = "contribution", fetch = FetchType.LAZY)
@@ -0,0 +1,46 @@
+package org.folio.innreach.domain.entity;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last transaction of a page in keyset pagination: its last modification date and id.
+ */
+public record InnReachTransactionCursor(OffsetDateTime modifiedDate, UUID id) {
+
+  public static final String FIRST_PAGE = "*";
+
+  private static final String SEPARATOR = "|";
+
+  public static InnReachTransactionCursor of(InnReachTransaction transaction) {
+    var modifiedDate = transaction.getUpdatedDate() != null ? transaction.getUpdatedDate() : transaction.getCreatedDate();
+    return new InnReachTransactionCursor(modifiedDate, transaction.getId());
+  }
+
+  /**
+   * Returns the position encoded in the cursor, or {@code null} for the first page.
+   */
+  public static InnReachTransactionCursor decode(String cursor) {
+    if (FIRST_PAGE.equals(cursor)) {
+      return null;
+    }
+    try {
+      var value = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+      var separatorIndex = value.lastIndexOf(SEPARATOR);
+      return new InnReachTransactionCursor(OffsetDateTime.parse(value.substring(0, separatorIndex)),
+        UUID.fromString(value.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid transactions cursor: " + cursor, e);
+    }
+  }
+
+  public String encode() {
+    var value = modifiedDate + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+  }
+
+}
@@ -32,6 +32,13 @@ public class InnReachTransactionFilterParameters {
   private DateOperation dueDateOperation;
   private SortBy sortBy;
   private SortOrder sortOrder;
+  private String cursor;
+  private boolean countTotal = true;
+  private boolean includeHold = true;
+
+  public boolean isKeysetPaging() {
+    return cursor != null;
+  }
 
   @AllArgsConstructor
   public enum SortBy {
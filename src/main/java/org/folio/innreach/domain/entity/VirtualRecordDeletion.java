@@ -0,0 +1,40 @@
+package org.folio.innreach.domain.entity;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import org.folio.innreach.domain.entity.base.Auditable;
+import org.folio.innreach.domain.entity.base.QueuedTask;
+
+/**
+ * Virtual item, holding, instance and loan of a finished transaction waiting to be removed from FOLIO.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "virtual_record_deletion")
+@EqualsAndHashCode(of = "id", callSuper = false)
+@ToString
+public class VirtualRecordDeletion extends Auditable implements QueuedTask {
+  @Id
+  private UUID id;
+  private UUID folioItemId;
+  private UUID folioHoldingId;
+  private UUID folioInstanceId;
+  private UUID folioLoanId;
+  @Column(insertable = false, updatable = false)
+  private OffsetDateTime dueAt;
+  private int attempts;
+  private String lastError;
+}
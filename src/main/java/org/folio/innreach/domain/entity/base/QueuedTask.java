@@ -0,0 +1,17 @@
+package org.folio.innreach.domain.entity.base;
+
+import java.util.UUID;
+
+/**
+ * Task stored in a database queue and processed with retries.
+ */
+public interface QueuedTask {
+
+  UUID getId();
+
+  /**
+   * Returns the number of failed attempts to process the task.
+   */
+  int getAttempts();
+
+}
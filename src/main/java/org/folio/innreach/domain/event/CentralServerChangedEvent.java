@@ -0,0 +1,20 @@
+package org.folio.innreach.domain.event;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CentralServerChangedEvent {
+
+  /**
+   * Central server that was updated or deleted
+   */
+  private UUID centralServerId;
+
+  public static CentralServerChangedEvent of(UUID centralServerId) {
+    return new CentralServerChangedEvent(centralServerId);
+  }
+}
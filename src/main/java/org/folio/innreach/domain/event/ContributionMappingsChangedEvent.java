@@ -0,0 +1,24 @@
+package org.folio.innreach.domain.event;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ContributionMappingsChangedEvent {
+
+  /**
+   * Central server whose mappings were changed, {@code null} if mappings of all central servers are affected
+   */
+  private UUID centralServerId;
+
+  public static ContributionMappingsChangedEvent of(UUID centralServerId) {
+    return new ContributionMappingsChangedEvent(centralServerId);
+  }
+
+  public static ContributionMappingsChangedEvent ofAllCentralServers() {
+    return new ContributionMappingsChangedEvent(null);
+  }
+}
@@ -5,14 +5,17 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.folio.innreach.domain.dto.folio.inventorystorage.InstanceIterationEvent;
 import org.folio.innreach.domain.service.KafkaEventProcessorService;
-import org.folio.innreach.mapper.JobExecutionStatusMapper;
-import org.folio.innreach.repository.JobExecutionStatusRepository;
+import org.folio.innreach.repository.JobExecutionStatusBulkRepository;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.UUID;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
 
 @Component
 @Log4j2
@@ -20,8 +23,7 @@ import java.util.UUID;
 public class KafkaInitialContributionEventListener {
 
   private KafkaEventProcessorService kafkaEventProcessorService;
-  private JobExecutionStatusRepository jobExecutionStatusRepository;
-  private JobExecutionStatusMapper jobExecutionStatusMapper;
+  private JobExecutionStatusBulkRepository jobExecutionStatusBulkRepository;
   public static final String ITERATION_JOB_ID_HEADER = "iteration-job-id";
 
   @KafkaListener(
@@ -32,13 +34,25 @@ public class KafkaInitialContributionEventListener {
     concurrency = "${kafka.listener.contribution.concurrency}")
   public void processInitialContributionEvents(List<ConsumerRecord<String, InstanceIterationEvent>> consumerRecords) {
     log.debug("processInitialContributionEvents:: Received records of size {} ", consumerRecords.size());
-    consumerRecords.forEach(consumerRecord -> {
-      log.info("processInitialContributionEvents :: consumerRecord {} ", consumerRecord);
-      var instanceIterationEvent = getInstanceIterationEventFromKafkaRecord(consumerRecord);
-      kafkaEventProcessorService.process(instanceIterationEvent, event ->
-          jobExecutionStatusRepository.save(jobExecutionStatusMapper.toEntity(event))
-        , instanceIterationEvent.getTenant());
-    });
+    consumerRecords.stream()
+      .filter(this::isValid)
+      .map(this::getInstanceIterationEventFromKafkaRecord)
+      .collect(groupingBy(InstanceIterationEvent::getTenant, LinkedHashMap::new, toList()))
+      // a failed insert is redelivered by the container error handler, already saved instances are skipped on conflict
+      .forEach((tenant, events) -> kafkaEventProcessorService.processOrThrow(events, this::saveJobExecutionStatuses, tenant));
+  }
+
+  private void saveJobExecutionStatuses(List<InstanceIterationEvent> events) {
+    int inserted = jobExecutionStatusBulkRepository.saveAll(events);
+    log.info("saveJobExecutionStatuses:: saved {} of {} received instances", inserted, events.size());
+  }
+
+  private boolean isValid(ConsumerRecord<String, InstanceIterationEvent> consumerRecord) {
+    if (consumerRecord.value() == null || consumerRecord.value().getTenant() == null) {
+      log.warn("processInitialContributionEvents:: Skipping record without value or tenant, key: {}", consumerRecord.key());
+      return false;
+    }
+    return true;
   }
 
   private InstanceIterationEvent getInstanceIterationEventFromKafkaRecord(
@@ -0,0 +1,12 @@
+package org.folio.innreach.domain.service;
+
+import java.util.UUID;
+
+public interface CentralServerValidityService {
+
+  /**
+   * Checks that item type and location mappings of the central server are valid for contribution.
+   */
+  boolean isValid(UUID centralServerId);
+
+}
@@ -0,0 +1,63 @@
+package org.folio.innreach.domain.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.folio.innreach.dto.Instance;
+import org.folio.innreach.dto.Item;
+
+/**
+ * Keeps track of bibs and items contributed to central servers, so that contribution decisions
+ * can be made without looking the records up on the central server.
+ */
+public interface ContributedRecordService {
+
+  /**
+   * Returns an empty optional if the state of the bib is unknown or has to be reconciled with the central server.
+   */
+  Optional<Boolean> findBibContributed(UUID centralServerId, Instance instance);
+
+  /**
+   * Returns an empty optional if the state of the item is unknown or has to be reconciled with the central server.
+   */
+  Optional<Boolean> findItemContributed(UUID centralServerId, Instance instance, Item item);
+
+  /**
+   * Checks if the bib with the given content hash has already been contributed and verified.
+   */
+  boolean isBibUnchanged(UUID centralServerId, Instance instance, String contentHash);
+
+  /**
+   * Returns ids of the items that have already been contributed to the bib with the given content hashes.
+   *
+   * @param contentHashes content hashes of the items by item ids
+   */
+  Set<UUID> findUnchangedItems(UUID centralServerId, String bibId, Map<UUID, String> contentHashes);
+
+  void saveBibContributed(UUID centralServerId, Instance instance, String contentHash);
+
+  /**
+   * Saves the items contributed to the bib.
+   *
+   * @param contentHashes content hashes of the contributed items by item ids
+   */
+  void saveItemsContributed(UUID centralServerId, String bibId, List<Item> items, Map<UUID, String> contentHashes);
+
+  void saveBibDeContributed(UUID centralServerId, Instance instance);
+
+  void saveItemDeContributed(UUID centralServerId, Item item);
+
+  /**
+   * Saves the bib found on the central server by a look up.
+   */
+  void saveBibFound(UUID centralServerId, Instance instance);
+
+  /**
+   * Saves the item found on the central server by a look up.
+   */
+  void saveItemFound(UUID centralServerId, Instance instance, Item item);
+
+}
@@ -1,5 +1,7 @@
 package org.folio.innreach.domain.service;
 
+import java.util.Map;
+
 import org.folio.innreach.domain.dto.folio.circulation.RequestDTO;
 import org.folio.innreach.domain.entity.OngoingContributionStatus;
 import org.folio.innreach.dto.Holding;
@@ -19,6 +21,11 @@ public interface ContributionActionService {
 
   void handleItemUpdate(Item newItem, Item oldItem, OngoingContributionStatus ongoingContributionStatus);
 
+  /**
+   * Contributes creations and updates of items of one holdings record together.
+   */
+  void handleItemsUpdate(Map<OngoingContributionStatus, Item> items);
+
   void handleItemDelete(Item deletedItem, OngoingContributionStatus ongoingContributionStatus);
 
   void handleLoanCreation(StorageLoanDTO loan);
@@ -0,0 +1,11 @@
+package org.folio.innreach.domain.service;
+
+import java.util.UUID;
+
+import org.folio.innreach.domain.dto.ContributionMappings;
+
+public interface ContributionMappingsService {
+
+  ContributionMappings getMappings(UUID centralServerId);
+
+}
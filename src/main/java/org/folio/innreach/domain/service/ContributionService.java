@@ -16,6 +16,12 @@ public interface ContributionService {
 
   void startInitialContribution(UUID centralServerId);
 
+  /**
+   * Continues the last cancelled initial contribution of the central server from the records already received,
+   * completed records are not contributed again.
+   */
+  void resumeInitialContribution(UUID centralServerId);
+
   ContributionDTO createOngoingContribution(UUID centralServerId);
 
   ContributionDTO completeContribution(UUID contributionId);
@@ -21,4 +21,16 @@ public interface ContributionValidationService {
   MappingValidationStatusDTO getItemTypeMappingStatus(UUID centralServerId);
 
   MappingValidationStatusDTO getLocationMappingStatus(UUID centralServerId);
+
+  /**
+   * Validates item type mappings like {@link #getItemTypeMappingStatus}, but throws the exception if the mappings
+   * can't be validated instead of reporting them as invalid.
+   */
+  MappingValidationStatusDTO validateItemTypeMappings(UUID centralServerId);
+
+  /**
+   * Validates location mappings like {@link #getLocationMappingStatus}, but throws the exception if the mappings
+   * can't be validated instead of reporting them as invalid.
+   */
+  MappingValidationStatusDTO validateLocationMappings(UUID centralServerId);
 }
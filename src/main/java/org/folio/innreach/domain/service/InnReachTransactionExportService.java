@@ -0,0 +1,37 @@
+package org.folio.innreach.domain.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import org.folio.innreach.dto.InnReachTransactionFilterParametersDTO;
+
+public interface InnReachTransactionExportService {
+
+  /**
+   * Writes all transactions matching the filter parameters to the output stream in the given format.
+   * Transactions are streamed from the database, so the memory used does not depend on the number of them.
+   */
+  void exportTransactions(InnReachTransactionFilterParametersDTO parameters, ExportFormat format,
+                          OutputStream outputStream) throws IOException;
+
+  @Getter
+  @RequiredArgsConstructor
+  enum ExportFormat {
+    CSV("csv", "text/csv"),
+    NDJSON("ndjson", "application/x-ndjson");
+
+    private final String value;
+    private final String contentType;
+
+    public static ExportFormat fromValue(String value) {
+      return Arrays.stream(values())
+        .filter(format -> format.value.equalsIgnoreCase(value))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unsupported transaction export format: " + value));
+    }
+  }
+}
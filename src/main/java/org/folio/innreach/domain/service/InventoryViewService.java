@@ -1,5 +1,7 @@
 package org.folio.innreach.domain.service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 import org.folio.innreach.dto.Instance;
@@ -8,6 +10,11 @@ public interface InventoryViewService {
 
   Instance getInstance(UUID instanceId);
 
+  /**
+   * Loads instances with holdings and items by chunks of ids, instances that are not found are missing in the result.
+   */
+  Map<UUID, Instance> getInstancesByIds(Collection<UUID> instanceIds);
+
   Instance getInstanceByHrid(String instanceHrid);
 
 }
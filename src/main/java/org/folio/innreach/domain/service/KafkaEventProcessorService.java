@@ -8,5 +8,11 @@ import java.util.function.Consumer;
 
 public interface KafkaEventProcessorService {
   <T> void process(T event, Consumer<T> eventProcessor, String tenant);
+
+  /**
+   * Processes the event like {@link #process(Object, Consumer, String)} but rethrows the processing failure,
+   * so that the listener container error handler redelivers the records.
+   */
+  <T> void processOrThrow(T event, Consumer<T> eventProcessor, String tenant);
   <T> void process(List<DomainEvent<T>> event, BiConsumer<List<DomainEvent<T>>, String> eventProcessor);
 }
@@ -2,6 +2,7 @@ package org.folio.innreach.domain.service;
 
 import java.util.UUID;
 
+import org.folio.innreach.converter.marc.EncodedMARCRecord;
 import org.folio.innreach.dto.Instance;
 import org.folio.innreach.dto.TransformedMARCRecordDTO;
 
@@ -11,4 +12,10 @@ public interface MARCRecordTransformationService {
 
   TransformedMARCRecordDTO transformRecord(UUID centralServerId, Instance inventoryInstance);
 
+  /**
+   * Transforms the record like {@link #transformRecord(UUID, Instance)} but returns only the Base64 encoded raw content
+   * and its content hash.
+   */
+  EncodedMARCRecord transformRecordToEncoded(UUID centralServerId, Instance inventoryInstance);
+
 }
@@ -15,10 +15,24 @@ public interface RecordContributionService {
 
   void contributeInstance(UUID centralServerId, Instance instance) throws SocketTimeoutException;
 
+  /**
+   * Contributes the bib unless it has already been contributed with the same content.
+   *
+   * @return true if the bib has been contributed
+   */
+  boolean contributeInstanceIfChanged(UUID centralServerId, Instance instance) throws SocketTimeoutException;
+
   void deContributeInstance(UUID centralServerId, Instance instance) throws SocketTimeoutException;
 
   int contributeItems(UUID centralServerId, String bibId, List<Item> items) throws SocketTimeoutException;
 
+  /**
+   * Contributes the items that have not already been contributed to the bib with the same content.
+   *
+   * @return number of contributed items
+   */
+  int contributeItemsIfChanged(UUID centralServerId, String bibId, List<Item> items) throws SocketTimeoutException;
+
   void moveItem(UUID centralServerId, String newBibId, Item item) throws SocketTimeoutException;
 
   void deContributeItem(UUID centralServerId, Item item);
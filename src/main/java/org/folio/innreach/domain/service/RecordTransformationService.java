@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 
+import org.folio.innreach.domain.dto.ContributionBib;
 import org.folio.innreach.dto.BibInfo;
 import org.folio.innreach.dto.Instance;
 import org.folio.innreach.dto.Item;
@@ -13,5 +14,17 @@ public interface RecordTransformationService {
 
   BibInfo getBibInfo(UUID centralServerId, Instance instance);
 
+  /**
+   * Returns the bib like {@link #getBibInfo(UUID, Instance)} together with a stable hash of the bib content sent to
+   * the central server.
+   */
+  ContributionBib getContributionBib(UUID centralServerId, Instance instance);
+
   List<BibItem> getBibItems(UUID centralServerId, List<Item> items, BiConsumer<Item, Exception> errorHandler);
+
+  /**
+   * Returns a stable hash of the item content sent to the central server.
+   */
+  String getContentHash(BibItem bibItem);
+
 }
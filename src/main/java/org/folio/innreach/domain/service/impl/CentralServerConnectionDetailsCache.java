@@ -0,0 +1,75 @@
+package org.folio.innreach.domain.service.impl;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import org.folio.innreach.domain.dto.CentralServerConnectionDetailsDTO;
+import org.folio.innreach.domain.event.CentralServerChangedEvent;
+import org.folio.spring.FolioExecutionContext;
+
+/**
+ * Keeps connection details of central servers per tenant, so D2IR calls don't read the central server
+ * and its credentials from the database each time. The details of a central server are dropped when it is
+ * updated or deleted, or the TTL is expired.
+ */
+@Log4j2
+@Component
+public class CentralServerConnectionDetailsCache {
+
+  private static final String ID_KEY_PREFIX = "id: ";
+  private static final String CODE_KEY_PREFIX = "code: ";
+
+  private final FolioExecutionContext folioContext;
+  private final Cache<String, CentralServerConnectionDetailsDTO> connectionDetailsCache;
+
+  public CentralServerConnectionDetailsCache(FolioExecutionContext folioContext,
+                                             @Value("${inn-reach.connection-details-cache.ttl}") int connectionDetailsCacheTtl) {
+    this.folioContext = folioContext;
+    this.connectionDetailsCache = CacheBuilder.newBuilder()
+      .expireAfterWrite(connectionDetailsCacheTtl, TimeUnit.SECONDS)
+      .build();
+  }
+
+  public CentralServerConnectionDetailsDTO getById(UUID centralServerId,
+                                                   Supplier<CentralServerConnectionDetailsDTO> loader) {
+    return get(cacheKey(ID_KEY_PREFIX + centralServerId), loader);
+  }
+
+  public CentralServerConnectionDetailsDTO getByCentralCode(String centralCode,
+                                                            Supplier<CentralServerConnectionDetailsDTO> loader) {
+    return get(cacheKey(CODE_KEY_PREFIX + centralCode), loader);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleCentralServerChanged(CentralServerChangedEvent event) {
+    var centralServerId = event.getCentralServerId();
+    log.debug("handleCentralServerChanged:: parameters centralServerId: {}", centralServerId);
+
+    // the entry cached by central code is found by its value, as the code itself may have been changed
+    var tenantPrefix = cacheKey("");
+    connectionDetailsCache.asMap().entrySet().removeIf(entry -> entry.getKey().startsWith(tenantPrefix)
+      && centralServerId.equals(entry.getValue().getId()));
+  }
+
+  private CentralServerConnectionDetailsDTO get(String key, Supplier<CentralServerConnectionDetailsDTO> loader) {
+    var connectionDetails = connectionDetailsCache.getIfPresent(key);
+    if (connectionDetails == null) {
+      connectionDetails = loader.get();
+      connectionDetailsCache.put(key, connectionDetails);
+    }
+    return connectionDetails;
+  }
+
+  private String cacheKey(String key) {
+    return folioContext.getTenantId() + ": " + key;
+  }
+
+}
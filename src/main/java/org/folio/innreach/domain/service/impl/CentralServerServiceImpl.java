@@ -7,6 +7,7 @@ import java.util.UUID;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,8 @@ import org.folio.innreach.domain.entity.CentralServer;
 import org.folio.innreach.domain.entity.CentralServerCredentials;
 import org.folio.innreach.domain.entity.LocalAgency;
 import org.folio.innreach.domain.entity.LocalServerCredentials;
+import org.folio.innreach.domain.event.CentralServerChangedEvent;
+import org.folio.innreach.domain.event.ContributionMappingsChangedEvent;
 import org.folio.innreach.domain.exception.EntityNotFoundException;
 import org.folio.innreach.domain.service.CentralServerService;
 import org.folio.innreach.dto.CentralServerDTO;
@@ -38,6 +41,8 @@ public class CentralServerServiceImpl implements CentralServerService {
   private final InnReachAuthExternalService innReachAuthExternalService;
   private final PasswordEncoder passwordEncoder;
   private final LocalAgencyRepository localAgencyRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final CentralServerConnectionDetailsCache connectionDetailsCache;
 
   @Override
   @Transactional
@@ -156,6 +161,9 @@ public class CentralServerServiceImpl implements CentralServerService {
     Assert.isTrue(localAgencyRepository.findLibraryIdsAssignedToMultipleAgencies(centralServer.getId()).isEmpty(),
       "FOLIO library may only be associated with one agency per central server");
 
+    eventPublisher.publishEvent(ContributionMappingsChangedEvent.of(centralServerId));
+    eventPublisher.publishEvent(CentralServerChangedEvent.of(centralServerId));
+
     log.info("updateCentralServer:: result: {}", centralServerMapper.mapToCentralServerDTO(centralServer));
     return centralServerMapper.mapToCentralServerDTO(centralServer);
   }
@@ -233,20 +241,21 @@ public class CentralServerServiceImpl implements CentralServerService {
       .orElseThrow(() -> new EntityNotFoundException("Central server with ID: " + centralServerId + " not found"));
 
     centralServerRepository.delete(centralServer);
+    eventPublisher.publishEvent(CentralServerChangedEvent.of(centralServerId));
     log.info("deleteCentralServer:: Central server deleted");
   }
 
   @Override
   public CentralServerConnectionDetailsDTO getCentralServerConnectionDetails(UUID centralServerId) {
     log.debug("getCentralServerConnectionDetails:: parameters centralServerId: {}", centralServerId);
-    return centralServerRepository.fetchConnectionDetails(centralServerId)
-      .orElseThrow(() -> new EntityNotFoundException("Central server with ID: " + centralServerId + " not found"));
+    return connectionDetailsCache.getById(centralServerId, () -> centralServerRepository.fetchConnectionDetails(centralServerId)
+      .orElseThrow(() -> new EntityNotFoundException("Central server with ID: " + centralServerId + " not found")));
   }
 
   @Override
   public CentralServerConnectionDetailsDTO getConnectionDetailsByCode(String centralCode) {
     log.debug("getConnectionDetailsByCode:: parameters centralCode: {}", centralCode);
-    return centralServerRepository.fetchConnectionDetailsByCentralCode(centralCode)
-      .orElseThrow(() -> new EntityNotFoundException("Central server with code: " + centralCode + " not found"));
+    return connectionDetailsCache.getByCentralCode(centralCode, () -> centralServerRepository.fetchConnectionDetailsByCentralCode(centralCode)
+      .orElseThrow(() -> new EntityNotFoundException("Central server with code: " + centralCode + " not found")));
   }
 }
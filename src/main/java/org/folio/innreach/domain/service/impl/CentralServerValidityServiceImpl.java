@@ -0,0 +1,94 @@
+package org.folio.innreach.domain.service.impl;
+
+import static org.folio.innreach.dto.MappingValidationStatusDTO.VALID;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import org.folio.innreach.domain.event.ContributionMappingsChangedEvent;
+import org.folio.innreach.domain.service.CentralServerValidityService;
+import org.folio.innreach.domain.service.ContributionValidationService;
+import org.folio.spring.FolioExecutionContext;
+
+/**
+ * Caches the mapping validity of central servers, as checking it takes a request to the central server
+ * and to inventory. A cached value is dropped when the mappings are changed or the TTL is expired, a check that
+ * failed with an error is not cached.
+ */
+@Log4j2
+@Service
+public class CentralServerValidityServiceImpl implements CentralServerValidityService {
+
+  private static final String CACHE_METRIC_NAME = "innreach.central-server-validity.cache";
+
+  private final ContributionValidationService validationService;
+  private final FolioExecutionContext folioContext;
+  private final Cache<String, Boolean> validityCache;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
+
+  public CentralServerValidityServiceImpl(ContributionValidationService validationService,
+                                          FolioExecutionContext folioContext, MeterRegistry meterRegistry,
+                                          @Value("${contribution.validity-cache.ttl}") int validityCacheTtl) {
+    this.validationService = validationService;
+    this.folioContext = folioContext;
+    this.validityCache = CacheBuilder.newBuilder()
+      .expireAfterWrite(validityCacheTtl, TimeUnit.SECONDS)
+      .build();
+    this.cacheHits = meterRegistry.counter(CACHE_METRIC_NAME, "result", "hit");
+    this.cacheMisses = meterRegistry.counter(CACHE_METRIC_NAME, "result", "miss");
+  }
+
+  @Override
+  public boolean isValid(UUID centralServerId) {
+    log.debug("isValid:: parameters centralServerId: {}", centralServerId);
+    var key = cacheKey(centralServerId);
+
+    var valid = validityCache.getIfPresent(key);
+    if (valid != null) {
+      cacheHits.increment();
+      return valid;
+    }
+
+    cacheMisses.increment();
+    try {
+      valid = validationService.validateItemTypeMappings(centralServerId) == VALID
+        && validationService.validateLocationMappings(centralServerId) == VALID;
+    } catch (Exception e) {
+      // a failed check is not cached, so that a transient failure doesn't stop contribution for the whole TTL
+      log.warn("isValid:: Unable to validate mappings of central server {}", centralServerId, e);
+      return false;
+    }
+    validityCache.put(key, valid);
+
+    log.info("isValid:: central server {} mappings are {}", centralServerId, valid ? "valid" : "not valid");
+    return valid;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleMappingsChanged(ContributionMappingsChangedEvent event) {
+    var centralServerId = event.getCentralServerId();
+    log.debug("handleMappingsChanged:: parameters centralServerId: {}", centralServerId);
+
+    if (centralServerId == null) {
+      var tenantPrefix = cacheKey("");
+      validityCache.asMap().keySet().removeIf(key -> key.startsWith(tenantPrefix));
+    } else {
+      validityCache.invalidate(cacheKey(centralServerId));
+    }
+  }
+
+  private String cacheKey(Object centralServerId) {
+    return folioContext.getTenantId() + ": " + centralServerId;
+  }
+
+}
@@ -0,0 +1,140 @@
+package org.folio.innreach.domain.service.impl;
+
+import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import org.folio.innreach.config.props.CirculationNotificationProperties;
+import org.folio.innreach.domain.entity.CirculationNotification;
+import org.folio.innreach.external.exception.InnReachException;
+import org.folio.innreach.external.service.InnReachExternalService;
+import org.folio.innreach.repository.CirculationNotificationRepository;
+import org.folio.innreach.util.JsonHelper;
+import org.folio.spring.FolioExecutionContext;
+
+/**
+ * Sends D2IR circulation notifications stored in the outbox to the central servers. Notifications of a transaction
+ * are sent one by one in the order they were created, a failed notification is retried with an exponential backoff
+ * and is moved to the dead letter state after the max number of attempts or as soon as the central server rejects it.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class CirculationNotificationDispatcher {
+
+  private final CirculationNotificationRepository repository;
+  private final InnReachExternalService innReachExternalService;
+  private final QueuedTaskProcessor taskProcessor;
+  private final JsonHelper jsonHelper;
+  private final CirculationNotificationProperties properties;
+  private final FolioExecutionContext folioContext;
+  @Qualifier("circulationNotificationExecutor")
+  private final TaskExecutor notificationExecutor;
+
+  /**
+   * Number of wake-ups per tenant not yet handled by a sweep, a tenant with wake-ups has a sweep running or queued.
+   */
+  private final Map<String, AtomicInteger> tenantWakeUps = new ConcurrentHashMap<>();
+
+  @Scheduled(fixedDelayString = "${inn-reach.circulation-notification.dispatch-interval}",
+    initialDelayString = "${inn-reach.circulation-notification.initial-delay}")
+  public void dispatchAll() {
+    taskProcessor.runForAllTenants("dispatch circulation notifications", this::dispatchPending);
+  }
+
+  /**
+   * Sends the due notifications of the current tenant on the notification executor without waiting for the next
+   * scheduled run. Wake-ups of a tenant are coalesced: at most one sweep of the tenant is running or queued at a time,
+   * and a wake-up received while it is running makes it sweep once more.
+   */
+  public void dispatchPendingAsync() {
+    var tenant = folioContext.getTenantId();
+    var wakeUps = tenantWakeUps.computeIfAbsent(tenant, t -> new AtomicInteger());
+    if (wakeUps.getAndIncrement() > 0) {
+      log.debug("dispatchPendingAsync:: Dispatch of tenant {} is already running", tenant);
+      return;
+    }
+
+    try {
+      // pooled threads don't inherit the context, the sweep is run with the context of the wake-up
+      notificationExecutor.execute(getRunnableWithCurrentFolioContext(() -> sweep(tenant, wakeUps)));
+    } catch (RejectedExecutionException e) {
+      wakeUps.set(0);
+      log.warn("dispatchPendingAsync:: Dispatch of tenant {} is rejected, the notifications are sent by the next "
+        + "scheduled run", tenant, e);
+    }
+  }
+
+  private void sweep(String tenant, AtomicInteger wakeUps) {
+    int handledWakeUps;
+    do {
+      handledWakeUps = wakeUps.get();
+      try {
+        dispatchPending();
+      } catch (Exception e) {
+        log.warn("sweep:: Unable to dispatch circulation notifications of tenant {}", tenant, e);
+      }
+    } while (wakeUps.addAndGet(-handledWakeUps) > 0);
+  }
+
+  /**
+   * Sends the due notifications of the current tenant until none is left.
+   */
+  public void dispatchPending() {
+    taskProcessor.processDue(
+      () -> repository.claimDueNotifications(properties.getBatchSize(), properties.getLeaseDuration().toSeconds()),
+      this::send, this::handleFailure);
+  }
+
+  private void send(CirculationNotification notification) {
+    log.debug("send:: parameters notification: {}", notification);
+    var centralCode = notification.getCentralServerCode();
+    var requestPath = notification.getRequestPath();
+    if (notification.getPayload() == null) {
+      innReachExternalService.postInnReachApi(centralCode, requestPath);
+    } else {
+      innReachExternalService.postInnReachApi(centralCode, requestPath,
+        jsonHelper.fromJson(notification.getPayload(), Map.class));
+    }
+    repository.deleteById(notification.getId());
+    log.info("send:: D2IR notification {} of transaction {} is sent", requestPath, notification.getTransactionId());
+  }
+
+  private void handleFailure(CirculationNotification notification, int attempts, String error, Exception e) {
+    if (e instanceof InnReachException innReachException && innReachException.isRejected()) {
+      log.error("handleFailure:: D2IR notification {} of transaction {} is rejected by the central server with status {}, "
+        + "moved to dead letters", notification.getRequestPath(), notification.getTransactionId(),
+        innReachException.getStatus(), e);
+      repository.deadLetter(notification.getId(), attempts, error);
+      return;
+    }
+    if (attempts >= properties.getMaxAttempts()) {
+      log.error("handleFailure:: D2IR notification {} of transaction {} is moved to dead letters after {} attempts",
+        notification.getRequestPath(), notification.getTransactionId(), attempts, e);
+      repository.deadLetter(notification.getId(), attempts, error);
+      return;
+    }
+
+    var backoff = getBackoff(attempts);
+    log.warn("handleFailure:: D2IR notification {} of transaction {} failed, retrying in {}: {}",
+      notification.getRequestPath(), notification.getTransactionId(), backoff, error);
+    repository.scheduleRetry(notification.getId(), attempts, error, backoff.toSeconds());
+  }
+
+  Duration getBackoff(int attempts) {
+    var backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 30));
+    return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+  }
+
+}
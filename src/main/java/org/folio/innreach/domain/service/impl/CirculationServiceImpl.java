@@ -34,7 +34,6 @@ import static org.folio.innreach.util.InnReachTransactionUtils.verifyState;
 import static org.folio.innreach.util.InnReachTransactionUtils.verifyStateNot;
 import static org.folio.innreach.util.JsonHelper.getCheckoutTimeDurationInMilliseconds;
 
-import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.innreach.domain.dto.folio.circulation.RenewByIdDTO;
@@ -80,13 +79,9 @@ import org.folio.innreach.mapper.InnReachTransactionHoldMapper;
 import org.folio.innreach.mapper.InnReachTransactionPickupLocationMapper;
 import org.folio.innreach.repository.InnReachTransactionRepository;
 import org.folio.innreach.repository.LocalAgencyRepository;
-import org.folio.spring.FolioExecutionContext;
-import org.folio.spring.FolioModuleMetadata;
-import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.innreach.repository.VirtualRecordDeletionRepository;
 import org.springframework.beans.BeanUtils;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -94,11 +89,8 @@ import org.springframework.util.Assert;
 
 import jakarta.persistence.EntityExistsException;
 
-import java.time.Instant;
-import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -124,9 +116,6 @@ public class CirculationServiceImpl implements CirculationService {
   private static final String D2IR_ITEM_RECALL_OPERATION = "recall";
   public static final String CHECKOUT = "CHECKOUT";
 
-  @Qualifier("modAsyncExecutor")
-  private final ThreadPoolTaskScheduler taskExecutor;
-  private final FolioExecutionContext folioExecutionContext;
   private final InnReachTransactionRepository transactionRepository;
   private final InnReachRecallUserService recallUserService;
   private final InnReachTransactionHoldMapper transactionHoldMapper;
@@ -145,6 +134,7 @@ public class CirculationServiceImpl implements CirculationService {
   private final ApplicationEventPublisher eventPublisher;
   private final VirtualRecordService virtualRecordService;
   private final ConfigurationService configurationService;
+  private final VirtualRecordDeletionRepository virtualRecordDeletionRepository;
 
   @Override
   public InnReachResponseDTO createInnReachTransactionItemHold(String trackingId, String centralCode, TransactionHoldDTO dto) {
@@ -465,7 +455,7 @@ public class CirculationServiceImpl implements CirculationService {
     var folioInstanceId = transaction.getHold().getFolioInstanceId();
     var folioLoanId = transaction.getHold().getFolioLoanId();
 
-    executeDeleteVirtualRecordsWithDelay(folioItemId, folioHoldingId, folioInstanceId, folioLoanId);
+    scheduleVirtualRecordsDeletion(folioItemId, folioHoldingId, folioInstanceId, folioLoanId);
 
     removeItemTransactionInfo(transaction.getHold().getFolioItemId())
       .ifPresent(this::removeHoldingsTransactionInfo);
@@ -475,22 +465,15 @@ public class CirculationServiceImpl implements CirculationService {
     return success();
   }
 
-  public void executeDeleteVirtualRecordsWithDelay(UUID folioItemId, UUID folioHoldingId,
-                                                    UUID folioInstanceId, UUID folioLoanId) {
+  private void scheduleVirtualRecordsDeletion(UUID folioItemId, UUID folioHoldingId,
+                                              UUID folioInstanceId, UUID folioLoanId) {
+    var configDataList = configurationService.fetchConfigurationsDetailsByModule(CHECKOUT);
+    var checkOutTimeDuration = getCheckoutTimeDurationInMilliseconds(configDataList.getResult());
 
-    var configDataList=
-            configurationService.fetchConfigurationsDetailsByModule(CHECKOUT);
-
-    Long checkOutTimeDuration = getCheckoutTimeDurationInMilliseconds(configDataList.getResult());
-
-    log.info("Checkout Time Duration is : {}", checkOutTimeDuration);
-
-    log.info("deleteVirtualRecords execution started at : {}", new Date());
-    var task = new FolioAsyncExecutorWrapper(folioExecutionContext,
-            () -> virtualRecordService.deleteVirtualRecords(folioItemId, folioHoldingId,
-                    folioInstanceId, folioLoanId));
-
-    taskExecutor.schedule(task, Instant.now().plusMillis(checkOutTimeDuration));
+    log.info("scheduleVirtualRecordsDeletion:: virtual records of item {} are deleted in {} ms",
+      folioItemId, checkOutTimeDuration);
+    virtualRecordDeletionRepository.schedule(UUID.randomUUID(), folioItemId, folioHoldingId, folioInstanceId,
+      folioLoanId, checkOutTimeDuration);
   }
 
   @Override
@@ -666,47 +649,4 @@ public class CirculationServiceImpl implements CirculationService {
     return localAgencyRepository.fetchOneByCode(code)
       .orElseThrow(() -> new EntityNotFoundException("Local agency with code: " + code + " not found."));
   }
-
-  /*
-   * this must be removed when the same functionality is implemented in the folio-spring-base library
-   */
-  @Data
-  private static class LocalFolioExecutionContext implements FolioExecutionContext {
-    private final String tenantId;
-    private final String okapiUrl;
-    private final String token;
-    private final UUID userId;
-    private final String requestId;
-    private final Map<String, Collection<String>> allHeaders;
-    private final Map<String, Collection<String>> okapiHeaders;
-    private final FolioModuleMetadata folioModuleMetadata;
-
-    private LocalFolioExecutionContext(FolioExecutionContext sourceContext) {
-      tenantId = sourceContext.getTenantId();
-      okapiUrl = sourceContext.getOkapiUrl();
-      this.token = sourceContext.getToken();
-      this.userId = sourceContext.getUserId();
-      requestId = sourceContext.getRequestId();
-      allHeaders = sourceContext.getAllHeaders();
-      okapiHeaders = sourceContext.getOkapiHeaders();
-      folioModuleMetadata = sourceContext.getFolioModuleMetadata();
-    }
-  }
-
-  private static class FolioAsyncExecutorWrapper implements Runnable {
-    private final FolioExecutionContext localFolioExecutionContext;
-    private final Runnable task;
-
-    private FolioAsyncExecutorWrapper(FolioExecutionContext executionContext, Runnable task) {
-      this.localFolioExecutionContext = new LocalFolioExecutionContext(executionContext);
-      this.task = task;
-    }
-
-    @Override
-    public void run() {
-      try (var contextSetter = new FolioExecutionContextSetter(localFolioExecutionContext)) {
-        task.run();
-      }
-    }
-  }
 }
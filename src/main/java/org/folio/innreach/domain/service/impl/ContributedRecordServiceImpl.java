@@ -0,0 +1,157 @@
+package org.folio.innreach.domain.service.impl;
+
+import static java.util.stream.Collectors.toSet;
+
+import static org.folio.innreach.domain.entity.ContributedRecord.RecordType.BIB;
+import static org.folio.innreach.domain.entity.ContributedRecord.RecordType.ITEM;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.folio.innreach.domain.entity.ContributedRecord;
+import org.folio.innreach.domain.entity.ContributedRecord.RecordType;
+import org.folio.innreach.domain.service.ContributedRecordService;
+import org.folio.innreach.dto.Instance;
+import org.folio.innreach.dto.Item;
+import org.folio.innreach.repository.ContributedRecordRepository;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ContributedRecordServiceImpl implements ContributedRecordService {
+
+  private final ContributedRecordRepository repository;
+
+  @Value("${contribution.ledger.reconciliation-interval-hours}")
+  private long reconciliationIntervalHours;
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<Boolean> findBibContributed(UUID centralServerId, Instance instance) {
+    log.debug("findBibContributed:: parameters centralServerId: {}, instance id: {}", centralServerId, instance.getId());
+    return findVerified(centralServerId, BIB, instance.getId())
+      .map(ContributedRecord::isContributed);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<Boolean> findItemContributed(UUID centralServerId, Instance instance, Item item) {
+    log.debug("findItemContributed:: parameters centralServerId: {}, instance id: {}, item id: {}",
+      centralServerId, instance.getId(), item.getId());
+    return findVerified(centralServerId, ITEM, item.getId())
+      .map(rec -> rec.isContributed() && Objects.equals(rec.getBibId(), instance.getHrid()));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public boolean isBibUnchanged(UUID centralServerId, Instance instance, String contentHash) {
+    log.debug("isBibUnchanged:: parameters centralServerId: {}, instance id: {}", centralServerId, instance.getId());
+    return contentHash != null && findVerified(centralServerId, BIB, instance.getId())
+      .filter(ContributedRecord::isContributed)
+      .filter(rec -> Objects.equals(rec.getBibId(), instance.getHrid()))
+      .filter(rec -> contentHash.equals(rec.getContentHash()))
+      .isPresent();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Set<UUID> findUnchangedItems(UUID centralServerId, String bibId, Map<UUID, String> contentHashes) {
+    log.debug("findUnchangedItems:: parameters centralServerId: {}, bibId: {}, items: {}", centralServerId, bibId, contentHashes.size());
+    var verifiedAfter = getVerifiedAfter();
+    return repository.findByCentralServerIdAndRecordTypeAndRecordIdIn(centralServerId, ITEM, contentHashes.keySet())
+      .stream()
+      .filter(rec -> isVerified(rec, verifiedAfter))
+      .filter(ContributedRecord::isContributed)
+      .filter(rec -> Objects.equals(rec.getBibId(), bibId))
+      .filter(rec -> rec.getContentHash() != null && rec.getContentHash().equals(contentHashes.get(rec.getRecordId())))
+      .map(ContributedRecord::getRecordId)
+      .collect(toSet());
+  }
+
+  @Override
+  @Transactional
+  public void saveBibContributed(UUID centralServerId, Instance instance, String contentHash) {
+    log.debug("saveBibContributed:: parameters centralServerId: {}, instance id: {}", centralServerId, instance.getId());
+    var bibId = instance.getHrid();
+    upsert(centralServerId, BIB, instance.getId(), bibId, bibId, true, contentHash);
+  }
+
+  @Override
+  @Transactional
+  public void saveItemsContributed(UUID centralServerId, String bibId, List<Item> items, Map<UUID, String> contentHashes) {
+    log.debug("saveItemsContributed:: parameters centralServerId: {}, bibId: {}, items: {}", centralServerId, bibId, contentHashes.size());
+    items.stream()
+      .filter(item -> contentHashes.containsKey(item.getId()))
+      .forEach(item -> upsert(centralServerId, ITEM, item.getId(), item.getHrid(), bibId, true, contentHashes.get(item.getId())));
+  }
+
+  @Override
+  @Transactional
+  public void saveBibDeContributed(UUID centralServerId, Instance instance) {
+    log.debug("saveBibDeContributed:: parameters centralServerId: {}, instance id: {}", centralServerId, instance.getId());
+    var bibId = instance.getHrid();
+    // the central server removes items together with their bib
+    repository.markBibDeContributed(centralServerId, bibId);
+    upsert(centralServerId, BIB, instance.getId(), bibId, bibId, false, null);
+  }
+
+  @Override
+  @Transactional
+  public void saveItemDeContributed(UUID centralServerId, Item item) {
+    log.debug("saveItemDeContributed:: parameters centralServerId: {}, item id: {}", centralServerId, item.getId());
+    upsert(centralServerId, ITEM, item.getId(), item.getHrid(), null, false, null);
+  }
+
+  @Override
+  @Transactional
+  public void saveBibFound(UUID centralServerId, Instance instance) {
+    log.debug("saveBibFound:: parameters centralServerId: {}, instance id: {}", centralServerId, instance.getId());
+    var bibId = instance.getHrid();
+    upsert(centralServerId, BIB, instance.getId(), bibId, bibId, true, null);
+  }
+
+  @Override
+  @Transactional
+  public void saveItemFound(UUID centralServerId, Instance instance, Item item) {
+    log.debug("saveItemFound:: parameters centralServerId: {}, instance id: {}, item id: {}",
+      centralServerId, instance.getId(), item.getId());
+    upsert(centralServerId, ITEM, item.getId(), item.getHrid(), instance.getHrid(), true, null);
+  }
+
+  private Optional<ContributedRecord> findVerified(UUID centralServerId, RecordType recordType, UUID recordId) {
+    var verifiedAfter = getVerifiedAfter();
+    return repository.findByCentralServerIdAndRecordTypeAndRecordId(centralServerId, recordType, recordId)
+      .filter(rec -> isVerified(rec, verifiedAfter));
+  }
+
+  private OffsetDateTime getVerifiedAfter() {
+    return OffsetDateTime.now().minus(Duration.ofHours(reconciliationIntervalHours));
+  }
+
+  private static boolean isVerified(ContributedRecord rec, OffsetDateTime verifiedAfter) {
+    return rec.getVerifiedDate() != null && rec.getVerifiedDate().isAfter(verifiedAfter);
+  }
+
+  private void upsert(UUID centralServerId, RecordType recordType, UUID recordId, String d2irRecordId, String bibId,
+                      boolean contributed, String contentHash) {
+    if (recordId == null || d2irRecordId == null) {
+      log.warn("upsert:: unable to save {} record {} with D2IR id {}", recordType, recordId, d2irRecordId);
+      return;
+    }
+    repository.upsert(UUID.randomUUID(), centralServerId, recordType.name(), recordId, d2irRecordId, bibId,
+      contributed, contentHash);
+  }
+
+}
@@ -1,13 +1,14 @@
 package org.folio.innreach.domain.service.impl;
 
+import static org.folio.innreach.batch.contribution.PrefetchedInstancesManager.takePrefetchedInstance;
 import static org.folio.innreach.domain.entity.ContributionStatus.FAILED;
 import static org.folio.innreach.domain.entity.ContributionStatus.PROCESSED;
 import static org.folio.innreach.domain.service.impl.MARCRecordTransformationServiceImpl.isMARCRecord;
-import static org.folio.innreach.dto.MappingValidationStatusDTO.VALID;
 import static org.folio.innreach.util.InnReachConstants.INVALID_CENTRAL_SERVER_ID;
 import static org.folio.innreach.util.InnReachConstants.MARC_ERROR_MSG;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Consumer;
 
@@ -28,8 +29,8 @@ import org.folio.innreach.batch.contribution.service.ContributionJobRunner;
 import org.folio.innreach.client.InstanceStorageClient;
 import org.folio.innreach.client.ItemStorageClient;
 import org.folio.innreach.domain.dto.folio.circulation.RequestDTO;
+import org.folio.innreach.domain.service.CentralServerValidityService;
 import org.folio.innreach.domain.service.ContributionActionService;
-import org.folio.innreach.domain.service.ContributionValidationService;
 import org.folio.innreach.domain.service.HoldingsService;
 import org.folio.innreach.domain.service.InventoryViewService;
 import org.folio.innreach.dto.Holding;
@@ -50,7 +51,7 @@ public class ContributionActionServiceImpl implements ContributionActionService
   private final InventoryViewService inventoryViewService;
   private final InstanceStorageClient instanceStorageClient;
   private final HoldingsService holdingsService;
-  private final ContributionValidationService validationService;
+  private final CentralServerValidityService validityService;
   private final OngoingContributionStatusService ongoingContributionStatusService;
   private final JsonHelper jsonHelper;
 
@@ -129,6 +130,24 @@ public class ContributionActionServiceImpl implements ContributionActionService
     }
   }
 
+  @Override
+  public void handleItemsUpdate(Map<OngoingContributionStatus, Item> items) {
+    var firstItem = items.values().iterator().next();
+    log.info("Handling update of {} items of holding {}", items.size(), firstItem.getHoldingsRecordId());
+
+    var instance = fetchInstanceWithItems(firstItem);
+    if (!isMARCRecord(instance)) {
+      items.keySet().forEach(status -> ongoingContributionStatusService.updateOngoingContribution(status, MARC_ERROR_MSG, FAILED));
+      return;
+    }
+    var centralServerId = items.keySet().iterator().next().getCentralServerId();
+    if (checkCentralServerValid(centralServerId)) {
+      contributionJobRunner.runItemsContribution(centralServerId, instance, items);
+    } else {
+      items.keySet().forEach(status -> ongoingContributionStatusService.updateOngoingContribution(status, INVALID_CENTRAL_SERVER_ID, FAILED));
+    }
+  }
+
   @Override
   public void handleItemDelete(Item deletedItem, OngoingContributionStatus ongoingContributionStatus) {
     log.info("Handling item delete {}", deletedItem.getId());
@@ -249,8 +268,7 @@ public class ContributionActionServiceImpl implements ContributionActionService
   private void handlePerCentralServer(UUID recordId, Consumer<UUID> centralServerHandler) {
     for (var csId : getCentralServerIds()) {
       try {
-        if (validationService.getItemTypeMappingStatus(csId) == VALID &&
-          validationService.getLocationMappingStatus(csId) == VALID) {
+        if (validityService.isValid(csId)) {
           centralServerHandler.accept(csId);
         } else {
           log.warn("Central server {} contribution configuration is not valid", csId);
@@ -267,9 +285,7 @@ public class ContributionActionServiceImpl implements ContributionActionService
   }
 
   private boolean checkCentralServerValid(UUID centralServerId) {
-    return centralServerId != null
-      && validationService.getItemTypeMappingStatus(centralServerId) == VALID
-      && validationService.getLocationMappingStatus(centralServerId) == VALID;
+    return centralServerId != null && validityService.isValid(centralServerId);
   }
 
   private Instance fetchOldInstance(Item newItem, Item oldItem, Instance newInstance) {
@@ -293,7 +309,8 @@ public class ContributionActionServiceImpl implements ContributionActionService
   }
 
   private Instance fetchInstanceWithItems(UUID instanceId) {
-    return inventoryViewService.getInstance(instanceId);
+    return takePrefetchedInstance(instanceId)
+      .orElseGet(() -> inventoryViewService.getInstance(instanceId));
   }
 
   private Holding fetchHolding(UUID holdingId) {
@@ -0,0 +1,152 @@
+package org.folio.innreach.domain.service.impl;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.toMap;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import org.folio.innreach.domain.dto.ContributionMappings;
+import org.folio.innreach.domain.event.ContributionMappingsChangedEvent;
+import org.folio.innreach.domain.service.CentralServerService;
+import org.folio.innreach.domain.service.ContributionMappingsService;
+import org.folio.innreach.domain.service.InnReachLocationService;
+import org.folio.innreach.domain.service.LibraryMappingService;
+import org.folio.innreach.domain.service.LocationMappingService;
+import org.folio.innreach.domain.service.MaterialTypeMappingService;
+import org.folio.innreach.dto.InnReachLocationDTO;
+import org.folio.innreach.dto.MaterialTypeMappingDTO;
+import org.folio.innreach.repository.CentralServerRepository;
+import org.folio.spring.FolioExecutionContext;
+
+/**
+ * Keeps a snapshot of contribution mappings per tenant and central server.
+ * <p>
+ * A snapshot is tagged with the mappings version stored in the central server record. Mapping changes publish
+ * {@link ContributionMappingsChangedEvent} and the version is incremented within the same transaction,
+ * so every module instance rebuilds its snapshot on the next contribution after the change is committed.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ContributionMappingsServiceImpl implements ContributionMappingsService {
+
+  private static final int FETCH_LIMIT = 2000;
+  private static final int MAX_SNAPSHOTS = 200;
+
+  private final MaterialTypeMappingService typeMappingService;
+  private final LibraryMappingService libraryMappingService;
+  private final InnReachLocationService irLocationService;
+  private final CentralServerService centralServerService;
+  private final LocationMappingService locationMappingService;
+  private final CentralServerRepository centralServerRepository;
+  private final FolioExecutionContext folioContext;
+
+  private final Cache<String, ContributionMappings> snapshots = CacheBuilder.newBuilder()
+    .maximumSize(MAX_SNAPSHOTS)
+    .build();
+
+  @Override
+  public ContributionMappings getMappings(UUID centralServerId) {
+    log.debug("getMappings:: parameters centralServerId: {}", centralServerId);
+    var key = folioContext.getTenantId() + ": " + centralServerId;
+    // the version has to be read before the mappings, so that a snapshot is never tagged with a newer version
+    var version = centralServerRepository.findMappingsVersion(centralServerId).orElse(0L);
+
+    var snapshot = snapshots.getIfPresent(key);
+    if (snapshot != null && snapshot.getVersion() == version) {
+      return snapshot;
+    }
+
+    log.info("getMappings:: building contribution mappings of version {} for central server {}", version, centralServerId);
+    snapshot = loadMappings(centralServerId, version);
+    snapshots.put(key, snapshot);
+    return snapshot;
+  }
+
+  @EventListener
+  public void handleMappingsChanged(ContributionMappingsChangedEvent event) {
+    var centralServerId = event.getCentralServerId();
+    log.info("handleMappingsChanged:: contribution mappings changed for central server {}",
+      centralServerId == null ? "<all>" : centralServerId);
+
+    if (centralServerId == null) {
+      centralServerRepository.incrementAllMappingsVersions();
+    } else {
+      centralServerRepository.incrementMappingsVersion(centralServerId);
+    }
+  }
+
+  private ContributionMappings loadMappings(UUID centralServerId, long version) {
+    Map<UUID, String> irLocIdToLocKeys = irLocationService.getAllInnReachLocations(0, FETCH_LIMIT)
+      .getLocations()
+      .stream()
+      .collect(toMap(InnReachLocationDTO::getId, InnReachLocationDTO::getCode));
+
+    Map<UUID, String> libIdToLocKeyMappings = getLibraryMappings(centralServerId, irLocIdToLocKeys);
+
+    return ContributionMappings.builder()
+      .version(version)
+      .materialToCentralTypes(unmodifiableMap(getTypeMappings(centralServerId)))
+      .libIdToLocKeys(unmodifiableMap(libIdToLocKeyMappings))
+      .locIdToLocKeys(unmodifiableMap(getLocationMappings(centralServerId, irLocIdToLocKeys, libIdToLocKeyMappings.keySet())))
+      .libIdToAgencyCodes(unmodifiableMap(getAgencyMappings(centralServerId)))
+      .build();
+  }
+
+  private Map<UUID, Integer> getTypeMappings(UUID centralServerId) {
+    return typeMappingService.getAllMappings(centralServerId, 0, FETCH_LIMIT)
+      .getMaterialTypeMappings()
+      .stream()
+      .collect(toMap(MaterialTypeMappingDTO::getMaterialTypeId, MaterialTypeMappingDTO::getCentralItemType));
+  }
+
+  private Map<UUID, String> getLibraryMappings(UUID centralServerId, Map<UUID, String> irLocations) {
+    var libraryMappings =
+      libraryMappingService.getAllMappings(centralServerId, 0, FETCH_LIMIT).getLibraryMappings();
+
+    Map<UUID, String> mappings = new HashMap<>();
+    for (var mapping : libraryMappings) {
+      var code = irLocations.get(mapping.getInnReachLocationId());
+      mappings.put(mapping.getLibraryId(), code);
+    }
+
+    return mappings;
+  }
+
+  private Map<UUID, String> getLocationMappings(UUID centralServerId, Map<UUID, String> irLocations, Collection<UUID> libraryIds) {
+    Map<UUID, String> mappings = new HashMap<>();
+
+    for (var libId : libraryIds) {
+      var locationMappings =
+        locationMappingService.getMappingsByLibraryId(centralServerId, libId, 0, FETCH_LIMIT).getLocationMappings();
+
+      locationMappings.forEach(loc -> mappings.put(loc.getLocationId(), irLocations.get(loc.getInnReachLocationId())));
+    }
+
+    return mappings;
+  }
+
+  private Map<UUID, String> getAgencyMappings(UUID centralServerId) {
+    var centralServer = centralServerService.getCentralServer(centralServerId);
+
+    var localAgencies = centralServer.getLocalAgencies();
+    Map<UUID, String> mappings = new HashMap<>();
+
+    for (var localAgency : localAgencies) {
+      localAgency.getFolioLibraryIds().forEach(libId -> mappings.put(libId, localAgency.getCode()));
+    }
+
+    return mappings;
+  }
+
+}
@@ -22,9 +22,11 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
 import org.folio.innreach.batch.contribution.service.ContributionJobRunner;
+import org.folio.innreach.batch.contribution.service.ContributionStatisticsCollector;
 import org.folio.innreach.client.InstanceStorageClient;
 import org.folio.innreach.domain.dto.folio.inventorystorage.InstanceIterationRequest;
 import org.folio.innreach.domain.dto.folio.inventorystorage.JobResponse;
@@ -37,6 +39,7 @@ import org.folio.innreach.dto.ContributionsDTO;
 import org.folio.innreach.mapper.ContributionMapper;
 import org.folio.innreach.repository.ContributionErrorRepository;
 import org.folio.innreach.repository.ContributionRepository;
+import org.folio.innreach.repository.JobExecutionStatusRepository;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.data.OffsetRequest;
 
@@ -55,6 +58,9 @@ public class ContributionServiceImpl implements ContributionService {
   private final BeanFactory beanFactory;
   private final FolioEnvironment folioEnv;
   private final ContributionJobProperties jobProperties;
+  private final ContributionStatisticsCollector statisticsCollector;
+  private final JobExecutionStatusRepository jobExecutionStatusRepository;
+  private final TransactionTemplate transactionTemplate;
   private ContributionJobRunner jobRunner;
   @Qualifier("contributionRetryTemplate")
   private final RetryTemplate retryTemplate;
@@ -109,15 +115,66 @@ public class ContributionServiceImpl implements ContributionService {
     Long contributed = defaultIfNull(contribution.getRecordsContributed(), entity.getRecordsContributed());
     Long updated = defaultIfNull(contribution.getRecordsUpdated(), entity.getRecordsUpdated());
     Long decontributed = defaultIfNull(contribution.getRecordsDecontributed(), entity.getRecordsDecontributed());
+    Long failed = defaultIfNull(contribution.getRecordsFailed(), entity.getRecordsFailed());
 
     entity.setRecordsTotal(total);
     entity.setRecordsProcessed(processed);
     entity.setRecordsContributed(contributed);
     entity.setRecordsUpdated(updated);
     entity.setRecordsDecontributed(decontributed);
+    entity.setRecordsFailed(failed);
     log.info("updateContributionStats:: Contribution stats updated");
   }
 
+  @Override
+  public void resumeInitialContribution(UUID centralServerId) {
+    log.info("Resuming initial contribution for central server: {}", centralServerId);
+
+    if (repository.fetchCurrentByCentralServerId(centralServerId).isPresent()) {
+      log.warn("Initial contribution is already in progress");
+      throw new IllegalArgumentException("Initial contribution is already in progress");
+    }
+
+    var contribution = repository.findFirstByCentralServerIdAndOngoingFalseOrderByCreatedDateDesc(centralServerId)
+      .filter(c -> c.getStatus() == CANCELLED && c.getJobId() != null)
+      .orElseThrow(() -> new IllegalArgumentException("There is no cancelled initial contribution to resume"));
+
+    log.info("Validating contribution settings");
+    validateContribution(centralServerId);
+
+    var jobId = contribution.getJobId();
+    var iterationJob = instanceStorageClient.getJobById(jobId);
+    if (iterationJob == null || iterationJob.getStatus() != JobResponse.JobStatus.COMPLETED) {
+      log.info("Instance iteration {} was interrupted, triggering a new one", jobId);
+      var newIterationJob = triggerInstanceIteration();
+      var updatedJobResponse = retryTemplate.execute(r -> getJobResponse(newIterationJob.getId()));
+      var numberOfRecords = updatedJobResponse != null ?
+        updatedJobResponse.getNumberOfRecordsPublished() : newIterationJob.getNumberOfRecordsPublished();
+
+      contribution.setJobId(newIterationJob.getId());
+      contribution.setRecordsTotal(numberOfRecords.longValue());
+    }
+
+    contribution.setStatus(Contribution.Status.IN_PROGRESS);
+    contribution.setCompleteDate(null);
+
+    // the records are moved together with the contribution update, otherwise a failed update leaves them
+    // in an iteration that no contribution refers to. The new iteration has already published the instances
+    // again, their new records are dropped so that the moved ones keep the progress made before the interruption
+    transactionTemplate.executeWithoutResult(status -> {
+      if (!jobId.equals(contribution.getJobId())) {
+        int duplicates = jobExecutionStatusRepository.deleteDuplicatesOfJob(jobId, contribution.getJobId());
+        log.info("Deleted {} records of instance iteration {} duplicating records of {}", duplicates,
+          contribution.getJobId(), jobId);
+        int movedRecords = jobExecutionStatusRepository.moveToJob(jobId, contribution.getJobId());
+        log.info("Moved {} records of instance iteration {} to {}", movedRecords, jobId, contribution.getJobId());
+      }
+      repository.save(contribution);
+    });
+
+    log.info("Initial contribution {} resumed", contribution.getId());
+  }
+
   @Override
   public void startInitialContribution(UUID centralServerId) {
     log.info("Starting initial contribution for central server: {}", centralServerId);
@@ -154,9 +211,22 @@ public class ContributionServiceImpl implements ContributionService {
   @Override
   @Transactional
   public void updateStatisticsAndContributionStatus() {
-    repository.updateStatisticsByCentralServerId().ifPresent(contribution ->
-      log.info("updateStatisticsAndContributionStatus:: recordsTotal - {}, recordsProcessed - {}, recordsContributed - {}",
-        contribution.getRecordsTotal(), contribution.getRecordsProcessed(), contribution.getRecordsContributed()));
+    var tenant = folioContext.getTenantId();
+    var deltas = statisticsCollector.drain(tenant);
+    try {
+      deltas.forEach((jobId, delta) -> {
+        log.debug("updateStatisticsAndContributionStatus:: jobId - {}, recordsProcessed - +{}", jobId, delta.getProcessed());
+        repository.incrementStatistics(jobId, delta.getProcessed(), delta.getContributed(), delta.getDecontributed(),
+          delta.getFailed());
+      });
+    } catch (RuntimeException e) {
+      deltas.forEach((jobId, delta) -> statisticsCollector.restore(tenant, jobId, delta));
+      throw e;
+    }
+    repository.completeAndReconcileStatistics().forEach(contribution ->
+      log.info("updateStatisticsAndContributionStatus:: Contribution {} completed, recordsTotal - {}, recordsProcessed - {}, " +
+          "recordsContributed - {}", contribution.getId(), contribution.getRecordsTotal(), contribution.getRecordsProcessed(),
+        contribution.getRecordsContributed()));
   }
 
   private JobResponse getJobResponse(UUID id) {
@@ -291,6 +361,7 @@ public class ContributionServiceImpl implements ContributionService {
     contribution.setRecordsContributed(0L);
     contribution.setRecordsUpdated(0L);
     contribution.setRecordsDecontributed(0L);
+    contribution.setRecordsFailed(0L);
     contribution.setCentralServer(centralServerRef(centralServerId));
     log.info("createEmptyContribution:: result: {}", contribution);
     return contribution;
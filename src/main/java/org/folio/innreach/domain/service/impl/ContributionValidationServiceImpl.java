@@ -29,13 +29,14 @@ import org.springframework.util.Assert;
 
 import java.util.List;
 import java.util.Objects;
-
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import static java.util.Collections.emptySet;
 
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
+import static org.folio.innreach.batch.contribution.InstanceContributionContextManager.getInstanceContributionContext;
 import static org.folio.innreach.domain.service.impl.MARCRecordTransformationServiceImpl.isMARCRecord;
 import static org.folio.innreach.dto.ItemStatus.NameEnum.AVAILABLE;
 import static org.folio.innreach.dto.ItemStatus.NameEnum.CHECKED_OUT;
@@ -202,12 +203,7 @@ public class ContributionValidationServiceImpl implements ContributionValidation
   public MappingValidationStatusDTO getItemTypeMappingStatus(UUID centralServerId) {
     log.debug("getItemTypeMappingStatus:: parameters centralServerId: {}", centralServerId);
     try {
-      List<UUID> typeIds = getMaterialTypeIds();
-
-      long mappedTypesCounter = typeMappingService.countByTypeIds(centralServerId, typeIds);
-
-      log.info("getItemTypeMappingStatus:: result: {}", mappedTypesCounter == typeIds.size() ? VALID : INVALID);
-      return mappedTypesCounter == typeIds.size() ? VALID : INVALID;
+      return validateItemTypeMappings(centralServerId);
     } catch (Exception e) {
       log.warn("Can't validate material type mappings", e);
       return INVALID;
@@ -218,28 +214,48 @@ public class ContributionValidationServiceImpl implements ContributionValidation
   public MappingValidationStatusDTO getLocationMappingStatus(UUID centralServerId) {
     log.debug("getLocationMappingStatus:: parameters centralServerId: {}", centralServerId);
     try {
-      List<LibraryMappingDTO> libraryMappings = getLibraryMappings(centralServerId);
-
-      var libraryMappingStatus = validateLibraryMappings(centralServerId, libraryMappings);
-      if (libraryMappingStatus != VALID) {
-        log.info("getLocationMappingStatus:: result when status not valid: {}", libraryMappingStatus);
-        return libraryMappingStatus;
-      }
-
-      return validateInnReachLocations(centralServerId, libraryMappings);
+      return validateLocationMappings(centralServerId);
     } catch (Exception e) {
       log.warn("Can't validate location mappings", e);
       return INVALID;
     }
   }
 
+  @Override
+  public MappingValidationStatusDTO validateItemTypeMappings(UUID centralServerId) {
+    List<UUID> typeIds = getMaterialTypeIds();
+
+    long mappedTypesCounter = typeMappingService.countByTypeIds(centralServerId, typeIds);
+
+    log.info("validateItemTypeMappings:: result: {}", mappedTypesCounter == typeIds.size() ? VALID : INVALID);
+    return mappedTypesCounter == typeIds.size() ? VALID : INVALID;
+  }
+
+  @Override
+  public MappingValidationStatusDTO validateLocationMappings(UUID centralServerId) {
+    List<LibraryMappingDTO> libraryMappings = getLibraryMappings(centralServerId);
+
+    var libraryMappingStatus = validateLibraryMappings(centralServerId, libraryMappings);
+    if (libraryMappingStatus != VALID) {
+      log.info("validateLocationMappings:: result when status not valid: {}", libraryMappingStatus);
+      return libraryMappingStatus;
+    }
+
+    return validateInnReachLocations(centralServerId, libraryMappings);
+  }
+
   private Set<UUID> fetchHoldingStatisticalCodes(Item item) {
     log.debug("fetchHoldingStatisticalCodes:: parameters item: {}", item);
-    return holdingsService.find(item.getHoldingsRecordId())
+    return findHolding(item.getHoldingsRecordId())
       .map(Holding::getStatisticalCodeIds)
       .orElse(emptySet());
   }
 
+  private Optional<Holding> findHolding(UUID holdingId) {
+    return getInstanceContributionContext().findHolding(holdingId)
+      .or(() -> holdingsService.find(holdingId));
+  }
+
   private boolean isItemNonLendable(Item inventoryItem,
                                     ItemContributionOptionsConfigurationDTO itemContributionConfig) {
     log.debug("isItemNonLendable:: parameters inventoryItem: {}, itemContributionConfig: {}", inventoryItem, itemContributionConfig);
@@ -286,6 +302,11 @@ public class ContributionValidationServiceImpl implements ContributionValidation
 
     log.debug("isItemRequested:: parameters inventoryItem: {}", inventoryItem);
 
+    var prefetchedRequests = getInstanceContributionContext().findOpenRequests(inventoryItem.getId());
+    if (prefetchedRequests.isPresent()) {
+      return !prefetchedRequests.get().isEmpty();
+    }
+
     var itemRequests = circulationClient.queryRequestsByItemIdAndStatus(inventoryItem.getId(),1);
     return itemRequests.getTotalRecords() != 0;
   }
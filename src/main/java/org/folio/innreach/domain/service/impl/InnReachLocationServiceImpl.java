@@ -8,10 +8,12 @@ import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.folio.innreach.domain.entity.InnReachLocation;
+import org.folio.innreach.domain.event.ContributionMappingsChangedEvent;
 import org.folio.innreach.domain.exception.EntityNotFoundException;
 import org.folio.innreach.domain.service.InnReachLocationService;
 import org.folio.innreach.dto.InnReachLocationDTO;
@@ -27,6 +29,7 @@ public class InnReachLocationServiceImpl implements InnReachLocationService {
 
 	private final InnReachLocationRepository innReachLocationRepository;
 	private final InnReachLocationMapper innReachLocationMapper;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	@Transactional
@@ -92,6 +95,7 @@ public class InnReachLocationServiceImpl implements InnReachLocationService {
     InnReachLocation innReachLocation = findInnReachLocationById(innReachLocationId);
     innReachLocation.setCode(innReachLocationDTO.getCode());
 		innReachLocation.setDescription(innReachLocationDTO.getDescription());
+    eventPublisher.publishEvent(ContributionMappingsChangedEvent.ofAllCentralServers());
 
     log.info("updateInnReachLocation:: result: {}", innReachLocationMapper.mapToInnReachLocationDTO(innReachLocation));
 		return innReachLocationMapper.mapToInnReachLocationDTO(innReachLocation);
@@ -103,6 +107,7 @@ public class InnReachLocationServiceImpl implements InnReachLocationService {
     log.debug("deleteInnReachLocation:: parameters innReachLocationId: {}", innReachLocationId);
     InnReachLocation innReachLocation = findInnReachLocationById(innReachLocationId);
     innReachLocationRepository.delete(innReachLocation);
+    eventPublisher.publishEvent(ContributionMappingsChangedEvent.ofAllCentralServers());
     log.info("deleteInnReachLocation:: InnReach location deleted");
 	}
 
@@ -8,10 +8,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import org.folio.innreach.domain.entity.CirculationNotification;
 import org.folio.innreach.domain.entity.InnReachTransaction;
-import org.folio.innreach.external.exception.InnReachException;
-import org.folio.innreach.external.service.InnReachExternalService;
+import org.folio.innreach.repository.CirculationNotificationRepository;
+import org.folio.innreach.util.JsonHelper;
 
 @Log4j2
 @RequiredArgsConstructor
@@ -32,7 +35,9 @@ public class InnReachTransactionActionNotifier {
   private static final String D2IR_RECALL = "recall";
   private static final String D2IR_LOCAL_CHECKOUT = "localcheckout";
 
-  private final InnReachExternalService innReachExternalService;
+  private final CirculationNotificationRepository notificationRepository;
+  private final CirculationNotificationDispatcher dispatcher;
+  private final JsonHelper jsonHelper;
 
   public void reportCheckOut(InnReachTransaction transaction, String localBibId, String itemBarcode) {
     log.debug("reportCheckOut:: parameters transaction: {}, localBibId: {}, itemBarcode: {}", transaction, localBibId, itemBarcode);
@@ -122,20 +127,32 @@ public class InnReachTransactionActionNotifier {
     log.info("reportClaimsReturned:: Report claims returned");
   }
 
+  /**
+   * Stores the notification in the outbox within the current transaction, it is sent to the central server
+   * after the transaction is committed.
+   */
   private void callD2irCircOperation(String operation, InnReachTransaction transaction, Map<Object, Object> payload) {
     log.debug("callD2irCircOperation:: parameters operation: {}, transaction: {}, payload: {}", operation, transaction, payload);
     var centralCode = transaction.getCentralServerCode();
     var trackingId = transaction.getTrackingId();
-    var requestPath = resolveD2irCircPath(operation, trackingId, centralCode);
-    try {
-      if (payload == null) {
-        innReachExternalService.postInnReachApi(centralCode, requestPath);
-      } else {
-        innReachExternalService.postInnReachApi(centralCode, requestPath, payload);
-      }
-    } catch (InnReachException e) {
-      //TODO: the suppression of error is temporal, see https://issues.folio.org/browse/MODINREACH-192 for more details.
-      log.warn("Unexpected D2IR response: {}", e.getMessage(), e);
+
+    var notification = new CirculationNotification();
+    notification.setTransactionId(transaction.getId());
+    notification.setCentralServerCode(centralCode);
+    notification.setRequestPath(resolveD2irCircPath(operation, trackingId, centralCode));
+    notification.setPayload(jsonHelper.toJson(payload));
+    notification.setStatus(CirculationNotification.Status.PENDING);
+    notificationRepository.save(notification);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          dispatcher.dispatchPendingAsync();
+        }
+      });
+    } else {
+      dispatcher.dispatchPendingAsync();
     }
   }
 
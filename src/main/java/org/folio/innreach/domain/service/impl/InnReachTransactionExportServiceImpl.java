@@ -0,0 +1,127 @@
+package org.folio.innreach.domain.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.folio.innreach.config.props.TransactionExportProperties;
+import org.folio.innreach.domain.entity.InnReachTransaction;
+import org.folio.innreach.domain.entity.TransactionHold;
+import org.folio.innreach.domain.service.InnReachTransactionExportService;
+import org.folio.innreach.dto.InnReachTransactionFilterParametersDTO;
+import org.folio.innreach.mapper.InnReachTransactionFilterParametersMapper;
+import org.folio.innreach.mapper.InnReachTransactionMapper;
+import org.folio.innreach.repository.InnReachTransactionRepository;
+import org.folio.innreach.specification.InnReachTransactionSpecification;
+
+@Log4j2
+@RequiredArgsConstructor
+@Service
+public class InnReachTransactionExportServiceImpl implements InnReachTransactionExportService {
+
+  private static final List<CsvColumn> CSV_COLUMNS = List.of(
+    new CsvColumn("id", InnReachTransaction::getId),
+    new CsvColumn("trackingId", InnReachTransaction::getTrackingId),
+    new CsvColumn("centralServerCode", InnReachTransaction::getCentralServerCode),
+    new CsvColumn("type", InnReachTransaction::getType),
+    new CsvColumn("state", InnReachTransaction::getState),
+    new CsvColumn("createdDate", InnReachTransaction::getCreatedDate),
+    new CsvColumn("updatedDate", InnReachTransaction::getUpdatedDate),
+    holdColumn("patronId", TransactionHold::getPatronId),
+    holdColumn("patronName", TransactionHold::getPatronName),
+    holdColumn("patronAgencyCode", TransactionHold::getPatronAgencyCode),
+    holdColumn("itemId", TransactionHold::getItemId),
+    holdColumn("itemAgencyCode", TransactionHold::getItemAgencyCode),
+    holdColumn("title", TransactionHold::getTitle),
+    holdColumn("author", TransactionHold::getAuthor),
+    holdColumn("folioPatronBarcode", TransactionHold::getFolioPatronBarcode),
+    holdColumn("folioItemBarcode", TransactionHold::getFolioItemBarcode),
+    holdColumn("dueDateTime", TransactionHold::getDueDateTime)
+  );
+
+  private final InnReachTransactionRepository repository;
+  private final InnReachTransactionMapper transactionMapper;
+  private final InnReachTransactionFilterParametersMapper parametersMapper;
+  private final InnReachTransactionSpecification specification;
+  private final TransactionExportProperties exportProperties;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportTransactions(InnReachTransactionFilterParametersDTO parametersDTO, ExportFormat format,
+                                 OutputStream outputStream) throws IOException {
+    log.debug("exportTransactions:: parameters format: {}, parametersDTO: {}", format, parametersDTO);
+    var parameters = parametersMapper.toEntity(parametersDTO);
+    parameters.setCursor(null);
+    parameters.setIncludeHold(true);
+    var filter = specification.filterByParameters(parameters);
+
+    var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    var exported = 0;
+    try (var transactions = repository.streamAll(filter, exportProperties.getFetchSize())) {
+      if (format == ExportFormat.CSV) {
+        writeCsvHeader(writer);
+      }
+      var iterator = transactions.iterator();
+      while (iterator.hasNext()) {
+        var transaction = iterator.next();
+        if (format == ExportFormat.CSV) {
+          writeCsvRow(writer, transaction);
+        } else {
+          writer.write(objectMapper.writeValueAsString(transactionMapper.toDTO(transaction)));
+        }
+        writer.newLine();
+        exported++;
+      }
+    }
+    writer.flush();
+    log.info("exportTransactions:: exported {} transactions as {}", exported, format);
+  }
+
+  private static void writeCsvHeader(Writer writer) throws IOException {
+    writeCsvLine(writer, CSV_COLUMNS.stream().map(CsvColumn::name).toList());
+  }
+
+  private static void writeCsvRow(Writer writer, InnReachTransaction transaction) throws IOException {
+    writeCsvLine(writer, CSV_COLUMNS.stream()
+      .map(column -> column.value().apply(transaction))
+      .map(value -> Objects.toString(value, StringUtils.EMPTY))
+      .toList());
+  }
+
+  private static void writeCsvLine(Writer writer, List<String> values) throws IOException {
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writer.write(escapeCsv(values.get(i)));
+    }
+  }
+
+  private static String escapeCsv(String value) {
+    if (StringUtils.containsAny(value, ',', '"', '\n', '\r')) {
+      return '"' + value.replace("\"", "\"\"") + '"';
+    }
+    return value;
+  }
+
+  private static CsvColumn holdColumn(String name, Function<TransactionHold, Object> holdValue) {
+    return new CsvColumn(name, transaction -> transaction.getHold() == null ? null : holdValue.apply(transaction.getHold()));
+  }
+
+  private record CsvColumn(String name, Function<InnReachTransaction, Object> value) {
+  }
+}
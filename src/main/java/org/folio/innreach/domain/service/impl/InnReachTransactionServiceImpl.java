@@ -1,5 +1,7 @@
 package org.folio.innreach.domain.service.impl;
 
+import static org.folio.innreach.util.ListUtils.mapItems;
+
 import java.util.List;
 import java.util.UUID;
 
@@ -7,9 +9,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import org.folio.innreach.domain.entity.InnReachTransaction;
+import org.folio.innreach.domain.entity.InnReachTransactionCursor;
+import org.folio.innreach.domain.entity.InnReachTransactionFilterParameters;
 import org.folio.innreach.domain.entity.TransactionHold;
 import org.folio.innreach.domain.exception.EntityNotFoundException;
 import org.folio.innreach.domain.service.InnReachTransactionService;
@@ -63,10 +69,46 @@ public class InnReachTransactionServiceImpl implements InnReachTransactionServic
                                                     InnReachTransactionFilterParametersDTO parametersDTO) {
     log.debug("getAllTransactions:: parameters offset: {}, limit: {}, parametersDTO: {}", offset, limit, parametersDTO);
     var parameters = parametersMapper.toEntity(parametersDTO);
-    var pageRequest = new OffsetRequest(offset, limit, Sort.unsorted());
-    var transactions = repository.findAll(specification.filterByParameters(parameters), pageRequest);
-    log.info("getAllTransactions:: result: {}", transactionMapper.toDTOCollection(transactions));
-    return transactionMapper.toDTOCollection(transactions);
+    var filter = specification.filterByParameters(parameters);
+
+    if (!parameters.isKeysetPaging() && parameters.isCountTotal() && parameters.isIncludeHold()) {
+      var transactions = repository.findAll(filter, new OffsetRequest(offset, limit, Sort.unsorted()));
+      var result = transactionMapper.toDTOCollection(transactions);
+      log.info("getAllTransactions:: result: {} of {} transactions", result.getTransactions().size(), result.getTotalRecords());
+      return result;
+    }
+
+    var result = parameters.isKeysetPaging()
+      ? getKeysetPage(filter, limit, parameters)
+      : new InnReachTransactionsDTO().transactions(toDTOs(repository.findAll(filter, offset, limit), parameters));
+    if (parameters.isCountTotal()) {
+      result.setTotalRecords((int) repository.count(filter));
+    }
+    log.info("getAllTransactions:: result: {} of {} transactions", result.getTransactions().size(), result.getTotalRecords());
+    return result;
+  }
+
+  private InnReachTransactionsDTO getKeysetPage(Specification<InnReachTransaction> filter, int limit,
+                                                InnReachTransactionFilterParameters parameters) {
+    var cursor = InnReachTransactionCursor.decode(parameters.getCursor());
+    var keysetFilter = filter.and(specification.keysetAfter(cursor, parameters.getSortOrder()));
+    var transactions = repository.findAll(keysetFilter, 0, limit + 1);
+
+    var result = new InnReachTransactionsDTO();
+    if (transactions.size() > limit) {
+      transactions = transactions.subList(0, limit);
+      if (limit > 0) {
+        result.setNextCursor(InnReachTransactionCursor.of(transactions.get(limit - 1)).encode());
+      }
+    }
+    return result.transactions(toDTOs(transactions, parameters));
+  }
+
+  private List<InnReachTransactionDTO> toDTOs(List<InnReachTransaction> transactions,
+                                              InnReachTransactionFilterParameters parameters) {
+    return parameters.isIncludeHold()
+      ? transactionMapper.toDTOs(transactions)
+      : mapItems(transactions, transactionMapper::toDTOWithoutHold);
   }
 
   @Override
@@ -1,9 +1,16 @@
 package org.folio.innreach.domain.service.impl;
 
+import static org.folio.innreach.util.CqlHelper.matchAny;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
 
+import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
@@ -19,6 +26,8 @@ import org.folio.innreach.dto.Instance;
 @Service
 public class InventoryViewServiceImpl implements InventoryViewService {
 
+  private static final int ID_CHUNK_SIZE = 50;
+
   private final InventoryViewClient inventoryViewClient;
 
   @Override
@@ -28,6 +37,21 @@ public class InventoryViewServiceImpl implements InventoryViewService {
       .orElseThrow(() -> new IllegalArgumentException("Unable to load inventory-view by instance id: " + instanceId));
   }
 
+  @Override
+  public Map<UUID, Instance> getInstancesByIds(Collection<UUID> instanceIds) {
+    var distinctIds = instanceIds.stream().filter(Objects::nonNull).distinct().toList();
+    log.info("getInstancesByIds:: loading {} instances", distinctIds.size());
+    Map<UUID, Instance> instances = new HashMap<>();
+    for (var chunk : Lists.partition(distinctIds, ID_CHUNK_SIZE)) {
+      inventoryViewClient.queryInstancesByIds(matchAny(chunk), chunk.size())
+        .getResult()
+        .stream()
+        .map(InstanceView::toInstance)
+        .forEach(instance -> instances.put(instance.getId(), instance));
+    }
+    return instances;
+  }
+
   @Override
   public Instance getInstanceByHrid(String instanceHrid) {
     log.debug("getInstanceByHrid:: parameters instanceHrid: {}", instanceHrid);
@@ -33,6 +33,13 @@ public class KafkaEventProcessorServiceImpl implements KafkaEventProcessorServic
     }
   }
 
+  @Override
+  public <T> void processOrThrow(T event, Consumer<T> eventProcessor, String tenant) {
+    log.debug("processOrThrow:: tenant {}", tenant);
+    executionService.runTenantScoped(tenant,
+      () -> eventProcessor.accept(event));
+  }
+
   @Override
   public <T> void process(List<DomainEvent<T>> events, BiConsumer<List<DomainEvent<T>>, String> eventProcessor) {
     try {
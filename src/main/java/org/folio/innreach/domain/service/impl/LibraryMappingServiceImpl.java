@@ -11,6 +11,7 @@ import java.util.function.Consumer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import org.folio.innreach.domain.entity.CentralServer;
 import org.folio.innreach.domain.entity.LibraryMapping;
+import org.folio.innreach.domain.event.ContributionMappingsChangedEvent;
 import org.folio.innreach.domain.service.InnReachLocationContributionService;
 import org.folio.innreach.domain.service.LibraryMappingService;
 import org.folio.innreach.dto.LibraryMappingsDTO;
@@ -34,6 +36,7 @@ public class LibraryMappingServiceImpl implements LibraryMappingService {
   private final LibraryMappingRepository repository;
   private final LibraryMappingMapper mapper;
   private final InnReachLocationContributionService locationContributionService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional(readOnly = true)
@@ -57,6 +60,7 @@ public class LibraryMappingServiceImpl implements LibraryMappingService {
     incoming.forEach(setCentralServerRef(csRef).andThen(initId()));
 
     var saved = mergeAndSave(incoming, stored, repository, this::copyData);
+    eventPublisher.publishEvent(ContributionMappingsChangedEvent.of(centralServerId));
 
     locationContributionService.contributeInnReachLocations(centralServerId);
 
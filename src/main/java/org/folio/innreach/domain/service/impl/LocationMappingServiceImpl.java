@@ -12,6 +12,7 @@ import java.util.function.Consumer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import org.folio.innreach.domain.entity.CentralServer;
 import org.folio.innreach.domain.entity.LocationMapping;
+import org.folio.innreach.domain.event.ContributionMappingsChangedEvent;
 import org.folio.innreach.domain.service.InnReachLocationContributionService;
 import org.folio.innreach.domain.service.LocationMappingService;
 import org.folio.innreach.dto.LocationMappingDTO;
@@ -36,6 +38,7 @@ public class LocationMappingServiceImpl implements LocationMappingService {
   private final LocationMappingRepository repository;
   private final LocationMappingMapper mapper;
   private final InnReachLocationContributionService locationContributionService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional(readOnly = true)
@@ -77,6 +80,7 @@ public class LocationMappingServiceImpl implements LocationMappingService {
       .andThen(initId()));
 
     var saved = mergeAndSave(incoming, stored, repository, this::copyData);
+    eventPublisher.publishEvent(ContributionMappingsChangedEvent.of(centralServerId));
 
     locationContributionService.contributeInnReachLocations(centralServerId);
 
@@ -1,6 +1,7 @@
 package org.folio.innreach.domain.service.impl;
 
 import static java.lang.Boolean.TRUE;
+import static org.folio.innreach.batch.contribution.InstanceContributionContextManager.getInstanceContributionContext;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 
 import org.folio.innreach.client.InstanceStorageClient;
 import org.folio.innreach.client.SourceRecordStorageClient;
+import org.folio.innreach.converter.marc.EncodedMARCRecord;
 import org.folio.innreach.converter.marc.TransformedMARCRecordConverter;
 import org.folio.innreach.domain.dto.folio.inventory.IdentifierWithConfigDTO;
 import org.folio.innreach.domain.dto.folio.sourcerecord.ParsedRecordDTO;
@@ -56,6 +58,16 @@ public class MARCRecordTransformationServiceImpl implements MARCRecordTransforma
   @Override
   public TransformedMARCRecordDTO transformRecord(UUID centralServerId, Instance inventoryInstance) {
     log.debug("transformRecord:: parameters centralServerId: {}, inventoryInstance: {}", centralServerId, inventoryInstance);
+    return transformedMarcRecordConverter.toTransformedRecord(transformSourceRecord(centralServerId, inventoryInstance));
+  }
+
+  @Override
+  public EncodedMARCRecord transformRecordToEncoded(UUID centralServerId, Instance inventoryInstance) {
+    log.debug("transformRecordToEncoded:: parameters centralServerId: {}, inventoryInstance id: {}", centralServerId, inventoryInstance.getId());
+    return transformedMarcRecordConverter.toEncodedRecord(transformSourceRecord(centralServerId, inventoryInstance));
+  }
+
+  private SourceRecordDTO transformSourceRecord(UUID centralServerId, Instance inventoryInstance) {
     if (!isMARCRecord(inventoryInstance)) {
       throw new MarcRecordTransformationException(
         String.format("Source [%s] of inventory instance with id [%s] is not MARC", inventoryInstance.getSource(), inventoryInstance.getId())
@@ -86,7 +98,7 @@ public class MARCRecordTransformationServiceImpl implements MARCRecordTransforma
 
     parsedRecord.getFields().removeAll(fieldsToDelete);
 
-    return transformedMarcRecordConverter.toTransformedRecord(sourceRecord);
+    return sourceRecord;
   }
 
   public static boolean isMARCRecord(Instance inventoryInstance) {
@@ -94,7 +106,8 @@ public class MARCRecordTransformationServiceImpl implements MARCRecordTransforma
   }
 
   private SourceRecordDTO getSourceRecord(UUID instanceId) {
-    return sourceRecordStorageClient.getRecordByInstanceId(instanceId);
+    return getInstanceContributionContext().takeSourceRecord(instanceId)
+      .orElseGet(() -> sourceRecordStorageClient.getRecordByInstanceId(instanceId));
   }
 
   private MARCTransformationOptionsSettingsDTO getMARCTransformationSettings(UUID centralServerId) {
@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import org.folio.innreach.domain.entity.CentralServer;
 import org.folio.innreach.domain.entity.MaterialTypeMapping;
+import org.folio.innreach.domain.event.ContributionMappingsChangedEvent;
 import org.folio.innreach.domain.exception.EntityNotFoundException;
 import org.folio.innreach.domain.service.MaterialTypeMappingService;
 import org.folio.innreach.dto.MaterialTypeMappingDTO;
@@ -33,6 +35,7 @@ public class MaterialTypeMappingServiceImpl implements MaterialTypeMappingServic
 
   private final MaterialTypeMappingRepository repository;
   private final MaterialTypeMappingMapper mapper;
+  private final ApplicationEventPublisher eventPublisher;
 
 
   @Override
@@ -64,6 +67,7 @@ public class MaterialTypeMappingServiceImpl implements MaterialTypeMappingServic
     entity.setCentralServer(centralServerRef(centralServerId));
 
     var saved = repository.save(entity);
+    eventPublisher.publishEvent(ContributionMappingsChangedEvent.of(centralServerId));
 
     log.info("createMapping:: result: {}", mapper.toDTO(saved));
     return mapper.toDTO(saved);
@@ -77,6 +81,7 @@ public class MaterialTypeMappingServiceImpl implements MaterialTypeMappingServic
 
     mapping.setMaterialTypeId(dto.getMaterialTypeId());
     mapping.setCentralItemType(dto.getCentralItemType());
+    eventPublisher.publishEvent(ContributionMappingsChangedEvent.of(centralServerId));
 
     log.info("updateMapping:: result: {}", mapper.toDTO(mapping));
     return mapper.toDTO(mapping);
@@ -93,6 +98,7 @@ public class MaterialTypeMappingServiceImpl implements MaterialTypeMappingServic
     incoming.forEach(setCentralServerRef(csRef).andThen(initId()));
 
     var saved = mergeAndSave(incoming, stored, repository, this::copyData);
+    eventPublisher.publishEvent(ContributionMappingsChangedEvent.of(centralServerId));
 
     log.info("updateAllMappings:: result: {}", mapper.toDTOCollection(saved));
     return mapper.toDTOCollection(saved);
@@ -102,6 +108,7 @@ public class MaterialTypeMappingServiceImpl implements MaterialTypeMappingServic
   public void deleteMapping(UUID centralServerId, UUID id) {
     MaterialTypeMapping mapping = findMapping(centralServerId, id);
     repository.delete(mapping);
+    eventPublisher.publishEvent(ContributionMappingsChangedEvent.of(centralServerId));
   }
 
   @Override
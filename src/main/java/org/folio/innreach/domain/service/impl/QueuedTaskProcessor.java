@@ -0,0 +1,80 @@
+package org.folio.innreach.domain.service.impl;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import org.folio.innreach.domain.entity.TenantInfo;
+import org.folio.innreach.domain.entity.base.QueuedTask;
+import org.folio.innreach.repository.TenantInfoRepository;
+
+/**
+ * Processes the tasks queued in the database of every tenant. The due tasks are claimed in batches, a task that
+ * fails is handed over to the failure handler which decides whether the task is retried.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class QueuedTaskProcessor {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final TenantScopedExecutionService executionService;
+  private final TenantInfoRepository tenantRepository;
+
+  /**
+   * Runs the job in the scope of every tenant, a job failed for one tenant does not stop the others.
+   */
+  public void runForAllTenants(String jobName, Runnable job) {
+    tenantRepository.findAll().stream()
+      .map(TenantInfo::getTenantId)
+      .distinct()
+      .forEach(tenant -> {
+        try {
+          executionService.runTenantScoped(tenant, job);
+        } catch (Exception e) {
+          log.warn("runForAllTenants:: Unable to {} of tenant {}", jobName, tenant, e);
+        }
+      });
+  }
+
+  /**
+   * Claims and processes the due tasks of the current tenant until none is left.
+   */
+  public <T extends QueuedTask> void processDue(Supplier<List<T>> claimer, Consumer<T> processor,
+                                                FailureHandler<T> failureHandler) {
+    List<T> tasks;
+    do {
+      tasks = claimer.get();
+      tasks.forEach(task -> process(task, processor, failureHandler));
+    } while (!tasks.isEmpty());
+  }
+
+  private <T extends QueuedTask> void process(T task, Consumer<T> processor, FailureHandler<T> failureHandler) {
+    try {
+      processor.accept(task);
+    } catch (Exception e) {
+      failureHandler.handle(task, task.getAttempts() + 1, StringUtils.abbreviate(e.getMessage(), MAX_ERROR_LENGTH), e);
+    }
+  }
+
+  @FunctionalInterface
+  public interface FailureHandler<T> {
+
+    /**
+     * Handles the failed attempt of a task.
+     *
+     * @param task     failed task
+     * @param attempts number of failed attempts including this one
+     * @param error    abbreviated error message to store with the task
+     * @param cause    failure cause
+     */
+    void handle(T task, int attempts, String error, Exception cause);
+  }
+
+}
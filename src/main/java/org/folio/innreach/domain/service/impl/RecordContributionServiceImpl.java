@@ -1,7 +1,13 @@
 package org.folio.innreach.domain.service.impl;
 
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
 import java.net.SocketTimeoutException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import lombok.RequiredArgsConstructor;
@@ -14,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import org.folio.innreach.batch.contribution.listener.ContributionExceptionListener;
+import org.folio.innreach.domain.service.ContributedRecordService;
 import org.folio.innreach.domain.service.RecordContributionService;
 import org.folio.innreach.domain.service.RecordTransformationService;
 import org.folio.innreach.dto.BibInfo;
@@ -35,6 +42,7 @@ public class RecordContributionServiceImpl implements RecordContributionService
   private final RetryTemplate retryTemplate;
   private final InnReachContributionService irContributionService;
   private final RecordTransformationService recordTransformationService;
+  private final ContributedRecordService contributedRecordService;
 
   @Qualifier("itemExceptionListener")
   private final ContributionExceptionListener exceptionListener;
@@ -45,47 +53,82 @@ public class RecordContributionServiceImpl implements RecordContributionService
 
     log.info("contributeInstance: contributing bib {}", bibId);
 
-    var bib = recordTransformationService.getBibInfo(centralServerId, instance);
+    var bib = recordTransformationService.getContributionBib(centralServerId, instance);
 
     log.info("contributeInstance: got bib info for bib: {}", bibId);
 
-    contributeAndVerifyBib(centralServerId, bibId, bib);
+    contributeBibWithRetry(centralServerId, instance, bib.bibInfo(), bib.contentHash());
 
     log.info("contributeInstance: finished bib {}", bibId);
   }
 
+  @Override
+  public boolean contributeInstanceIfChanged(UUID centralServerId, Instance instance) throws SocketTimeoutException {
+    var bibId = instance.getHrid();
+
+    log.info("contributeInstanceIfChanged: contributing bib {}", bibId);
+
+    var bib = recordTransformationService.getContributionBib(centralServerId, instance);
+    var contentHash = bib.contentHash();
+
+    if (contributedRecordService.isBibUnchanged(centralServerId, instance, contentHash)) {
+      log.info("contributeInstanceIfChanged: skipping unchanged bib {}", bibId);
+      return false;
+    }
+
+    contributeBibWithRetry(centralServerId, instance, bib.bibInfo(), contentHash);
+
+    log.info("contributeInstanceIfChanged: finished bib {}", bibId);
+    return true;
+  }
+
   @Override
   public void contributeInstanceWithoutRetry(UUID centralServerId, Instance instance) {
     var bibId = instance.getHrid();
     log.info("contributeInstanceWithoutRetry: contributing bib {}", bibId);
-    var bib = recordTransformationService.getBibInfo(centralServerId, instance);
-    contributeBib(centralServerId, bibId, bib);
+    var bib = recordTransformationService.getContributionBib(centralServerId, instance);
+    contributeBib(centralServerId, bibId, bib.bibInfo());
+    contributedRecordService.saveBibContributed(centralServerId, instance, bib.contentHash());
   }
 
   @Override
   public void deContributeInstance(UUID centralServerId, Instance instance) throws SocketTimeoutException{
     var bibId = instance.getHrid();
     log.info("De-contributing bib {}", bibId);
-    irContributionService.deContributeBib(centralServerId, bibId);
-  }
-
-  private void contributeAndVerifyBib(UUID centralServerId, String bibId, BibInfo bib) {
-    log.info("contributeAndVerifyBib: bib id {}", bibId);
-    retryTemplate.execute(r -> contributeBib(centralServerId, bibId, bib));
-    retryTemplate.execute(r -> verifyBibContribution(centralServerId, bibId));
-    log.info("contributeAndVerifyBib: finished contribution of bib {}", bibId);
+    var response = irContributionService.deContributeBib(centralServerId, bibId);
+    if (response != null && response.isOk()) {
+      contributedRecordService.saveBibDeContributed(centralServerId, instance);
+    }
   }
 
   @Override
   public boolean isContributed(UUID centralServerId, Instance instance) {
-    return irContributionService.lookUpBib(centralServerId, instance.getHrid()).isOk();
+    return contributedRecordService.findBibContributed(centralServerId, instance)
+      .orElseGet(() -> lookUpBib(centralServerId, instance));
   }
 
   @Override
   public boolean isContributed(UUID centralServerId, Instance instance, Item item) {
-    var bibId = instance.getHrid();
-    var itemId = item.getHrid();
-    return irContributionService.lookUpBibItem(centralServerId, bibId, itemId).isOk();
+    return contributedRecordService.findItemContributed(centralServerId, instance, item)
+      .orElseGet(() -> lookUpBibItem(centralServerId, instance, item));
+  }
+
+  private boolean lookUpBib(UUID centralServerId, Instance instance) {
+    log.info("lookUpBib:: reconciling contribution state of bib {} with central server {}", instance.getHrid(), centralServerId);
+    var contributed = irContributionService.lookUpBib(centralServerId, instance.getHrid()).isOk();
+    if (contributed) {
+      contributedRecordService.saveBibFound(centralServerId, instance);
+    }
+    return contributed;
+  }
+
+  private boolean lookUpBibItem(UUID centralServerId, Instance instance, Item item) {
+    log.info("lookUpBibItem:: reconciling contribution state of item {} with central server {}", item.getHrid(), centralServerId);
+    var contributed = irContributionService.lookUpBibItem(centralServerId, instance.getHrid(), item.getHrid()).isOk();
+    if (contributed) {
+      contributedRecordService.saveItemFound(centralServerId, instance, item);
+    }
+    return contributed;
   }
 
   @Override
@@ -98,33 +141,93 @@ public class RecordContributionServiceImpl implements RecordContributionService
   public void deContributeItem(UUID centralServerId, Item item) {
     var itemId = item.getHrid();
     log.info("De-contributing item {}", itemId);
-    irContributionService.deContributeBibItem(centralServerId, itemId);
+    var response = irContributionService.deContributeBibItem(centralServerId, itemId);
+    if (response != null && response.isOk()) {
+      contributedRecordService.saveItemDeContributed(centralServerId, item);
+    }
   }
 
   @Override
   public int contributeItems(UUID centralServerId, String bibId, List<Item> items) throws SocketTimeoutException {
-    var bibItems = recordTransformationService.getBibItems(centralServerId, items, this::logItemTransformationError);
+    var bibItems = getBibItems(centralServerId, items);
 
-    int itemsCount = bibItems.size();
+    contributeBibItemsWithRetry(centralServerId, bibId, items, bibItems, getContentHashes(items, bibItems));
 
-    Assert.isTrue(itemsCount != 0, "Failed to convert items for contribution");
+    log.info("Finished contributing items of bib {}", bibId);
 
-    log.info("Loaded {} items", itemsCount);
+    return bibItems.size();
+  }
 
-    retryTemplate.execute(r -> contributeBibItems(bibId, centralServerId, bibItems));
+  @Override
+  public int contributeItemsIfChanged(UUID centralServerId, String bibId, List<Item> items) throws SocketTimeoutException {
+    var bibItems = getBibItems(centralServerId, items);
+    var contentHashes = getContentHashes(items, bibItems);
+
+    var unchangedItemIds = contributedRecordService.findUnchangedItems(centralServerId, bibId, contentHashes);
+    var unchangedItemHrids = items.stream()
+      .filter(item -> unchangedItemIds.contains(item.getId()))
+      .map(Item::getHrid)
+      .collect(toSet());
+    var changedBibItems = bibItems.stream()
+      .filter(bibItem -> !unchangedItemHrids.contains(bibItem.getItemId()))
+      .toList();
+
+    if (changedBibItems.isEmpty()) {
+      log.info("Skipping unchanged items of bib {}", bibId);
+      return 0;
+    }
 
-    log.info("Finished contributing items of bib {}", bibId);
+    contentHashes.keySet().removeAll(unchangedItemIds);
+    contributeBibItemsWithRetry(centralServerId, bibId, items, changedBibItems, contentHashes);
+
+    log.info("Finished contributing {} changed items of bib {}", changedBibItems.size(), bibId);
 
-    return itemsCount;
+    return changedBibItems.size();
   }
 
   @Override
   public void contributeItemsWithoutRetry(UUID centralServerId, String bibId, List<Item> items) {
+    var bibItems = getBibItems(centralServerId, items);
+    contributeBibItems(bibId, centralServerId, bibItems);
+    contributedRecordService.saveItemsContributed(centralServerId, bibId, items, getContentHashes(items, bibItems));
+  }
+
+  private void contributeBibWithRetry(UUID centralServerId, Instance instance, BibInfo bib, String contentHash) {
+    retryTemplate.execute(r -> contributeBib(centralServerId, instance.getHrid(), bib));
+    contributedRecordService.saveBibContributed(centralServerId, instance, contentHash);
+  }
+
+  private void contributeBibItemsWithRetry(UUID centralServerId, String bibId, List<Item> items, List<BibItem> bibItems,
+                                           Map<UUID, String> contentHashes) {
+    retryTemplate.execute(r -> contributeBibItems(bibId, centralServerId, bibItems));
+    contributedRecordService.saveItemsContributed(centralServerId, bibId, items, contentHashes);
+  }
+
+  private List<BibItem> getBibItems(UUID centralServerId, List<Item> items) {
     var bibItems = recordTransformationService.getBibItems(centralServerId, items, this::logItemTransformationError);
+
     int itemsCount = bibItems.size();
+
     Assert.isTrue(itemsCount != 0, "Failed to convert items for contribution");
+
     log.info("Loaded {} items", itemsCount);
-    contributeBibItems(bibId, centralServerId, bibItems);
+
+    return bibItems;
+  }
+
+  private Map<UUID, String> getContentHashes(List<Item> items, List<BibItem> bibItems) {
+    var itemsByHrid = items.stream()
+      .filter(item -> item.getHrid() != null && item.getId() != null)
+      .collect(toMap(Item::getHrid, identity(), (a, b) -> a));
+
+    var contentHashes = new HashMap<UUID, String>();
+    for (var bibItem : bibItems) {
+      var item = itemsByHrid.get(bibItem.getItemId());
+      if (item != null) {
+        contentHashes.put(item.getId(), recordTransformationService.getContentHash(bibItem));
+      }
+    }
+    return contentHashes;
   }
 
   private void logItemTransformationError(Item item, Exception e) {
@@ -140,14 +243,6 @@ public class RecordContributionServiceImpl implements RecordContributionService
     return response;
   }
 
-  private InnReachResponse verifyBibContribution(UUID centralServerId, String bibId) {
-    log.info("verifyBibContribution with bibId: {}",bibId);
-    var response = irContributionService.lookUpBib(centralServerId, bibId);
-    checkServiceSuspension(response);
-    Assert.isTrue(response.isOk(), "Unexpected verification response: " + response);
-    return response;
-  }
-
   private InnReachResponse contributeBibItems(String bibId, UUID centralServerId, List<BibItem> bibItems) {
     var response = irContributionService.contributeBibItems(centralServerId, bibId, BibItemsInfo.of(bibItems));
     checkServiceSuspension(response);
@@ -1,13 +1,11 @@
 package org.folio.innreach.domain.service.impl;
 
-import static java.util.stream.Collectors.toMap;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
+import static org.folio.innreach.batch.contribution.InstanceContributionContextManager.getInstanceContributionContext;
 import static org.folio.innreach.domain.dto.folio.ContributionItemCirculationStatus.ON_LOAN;
-import static org.folio.innreach.util.ListUtils.getFirstItem;
-import static org.folio.innreach.util.ListUtils.getLastItem;
+import static org.folio.innreach.util.ListUtils.toStream;
 
-import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -16,9 +14,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 
-import lombok.Builder;
+import com.google.common.hash.Hashing;
 import lombok.RequiredArgsConstructor;
-import lombok.ToString;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.CharUtils;
@@ -28,24 +25,20 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import org.folio.innreach.client.CirculationClient;
+import org.folio.innreach.domain.dto.ContributionBib;
+import org.folio.innreach.domain.dto.ContributionMappings;
 import org.folio.innreach.domain.dto.folio.ContributionItemCirculationStatus;
-import org.folio.innreach.domain.service.CentralServerService;
+import org.folio.innreach.domain.service.ContributionMappingsService;
 import org.folio.innreach.domain.service.ContributionValidationService;
 import org.folio.innreach.domain.service.HoldingsService;
-import org.folio.innreach.domain.service.InnReachLocationService;
-import org.folio.innreach.domain.service.LibraryMappingService;
-import org.folio.innreach.domain.service.LocationMappingService;
 import org.folio.innreach.domain.service.MARCRecordTransformationService;
-import org.folio.innreach.domain.service.MaterialTypeMappingService;
 import org.folio.innreach.domain.service.RecordTransformationService;
 import org.folio.innreach.dto.BibInfo;
 import org.folio.innreach.dto.Holding;
-import org.folio.innreach.dto.InnReachLocationDTO;
 import org.folio.innreach.dto.Instance;
 import org.folio.innreach.dto.Item;
 import org.folio.innreach.dto.ItemEffectiveCallNumberComponents;
 import org.folio.innreach.dto.LoanDTO;
-import org.folio.innreach.dto.MaterialTypeMappingDTO;
 import org.folio.innreach.external.dto.BibItem;
 import org.folio.innreach.util.DateHelper;
 
@@ -55,54 +48,76 @@ import org.folio.innreach.util.DateHelper;
 public class RecordTransformationServiceImpl implements RecordTransformationService {
 
   private static final String MARC_BIB_FORMAT = "ISO2709";
-  private static final int FETCH_LIMIT = 2000;
   private static final String NON_DIGIT_REGEX = "\\D+";
+  private static final char HASH_FIELD_SEPARATOR = '\u001f';
 
   private final MARCRecordTransformationService marcService;
   private final ContributionValidationService validationService;
 
   private final HoldingsService holdingsService;
-  private final MaterialTypeMappingService typeMappingService;
-  private final LibraryMappingService libraryMappingService;
-  private final InnReachLocationService irLocationService;
-  private final CentralServerService centralServerService;
-  private final LocationMappingService locationMappingService;
+  private final ContributionMappingsService mappingsService;
   private final FolioLocationService folioLocationService;
 
   private final CirculationClient circulationClient;
 
   @Override
   public BibInfo getBibInfo(UUID centralServerId, Instance instance) {
-    log.debug("getBibInfo:: parameters centralServerId: {}, instance: {}", centralServerId, instance);
+    return getContributionBib(centralServerId, instance).bibInfo();
+  }
+
+  @Override
+  public ContributionBib getContributionBib(UUID centralServerId, Instance instance) {
+    log.debug("getContributionBib:: parameters centralServerId: {}, instance: {}", centralServerId, instance);
     var bibId = instance.getHrid();
 
     var suppressionStatus = validationService.getSuppressionStatus(centralServerId, instance.getStatisticalCodeIds());
-    var marc = marcService.transformRecord(centralServerId, instance);
+    var marcRecord = marcService.transformRecordToEncoded(centralServerId, instance);
 
     var bibInfo = new BibInfo();
     bibInfo.setBibId(bibId);
 
     bibInfo.setSuppress(CharUtils.toString(suppressionStatus));
     bibInfo.setMarc21BibFormat(MARC_BIB_FORMAT);
-    bibInfo.setMarc21BibData(marc.getBase64rawContent());
+    bibInfo.setMarc21BibData(marcRecord.base64rawContent());
     bibInfo.setItemCount(countContributionItems(centralServerId, instance.getItems()));
-    log.info("getBibInfo:: result: {}", bibInfo);
-    return bibInfo;
+    log.info("getContributionBib:: result: {}", bibInfo);
+
+    var contentHash = hash(bibInfo.getBibId(), bibInfo.getMarc21BibFormat(), marcRecord.contentHash(),
+      bibInfo.getTitleHoldCount(), bibInfo.getItemCount(), bibInfo.getSuppress());
+    return new ContributionBib(bibInfo, contentHash);
   }
 
   @Override
   public List<BibItem> getBibItems(UUID centralServerId, List<Item> items, BiConsumer<Item, Exception> errorHandler) {
     log.debug("getBibItems:: parameters centralServerId: {}, item: {}, errorHandler: {}", centralServerId, items, errorHandler);
-    var mappings = getContributionMappings(centralServerId);
+    var mappings = mappingsService.getMappings(centralServerId);
     log.info("Resolved contribution mappings: {}", mappings);
+    var locIdToLibIds = folioLocationService.getLocationLibraryMappings();
 
     return items.stream()
-      .map(item -> convertItem(centralServerId, item, mappings, errorHandler))
+      .map(item -> convertItem(centralServerId, item, mappings, locIdToLibIds, errorHandler))
       .filter(Objects::nonNull)
       .toList();
   }
 
-  private BibItem convertItem(UUID centralServerId, Item item, ContributionMappings mappings, BiConsumer<Item, Exception> errorHandler) {
+  @Override
+  public String getContentHash(BibItem bibItem) {
+    return hash(bibItem.getItemId(), bibItem.getAgencyCode(), bibItem.getCentralItemType(), bibItem.getLocationKey(),
+      bibItem.getItemCircStatus(), bibItem.getCopyNumber(), bibItem.getVolumeDesignation(), bibItem.getCallNumber(),
+      bibItem.getMarc856URI(), bibItem.getMarc856PublicNote(), bibItem.getSuppress(), bibItem.getHoldCount(),
+      bibItem.getDueDateTime());
+  }
+
+  private static String hash(Object... fields) {
+    var hasher = Hashing.sha256().newHasher();
+    for (var field : fields) {
+      hasher.putString(Objects.toString(field, ""), UTF_8).putChar(HASH_FIELD_SEPARATOR);
+    }
+    return hasher.hash().toString();
+  }
+
+  private BibItem convertItem(UUID centralServerId, Item item, ContributionMappings mappings, Map<UUID, UUID> locIdToLibIds,
+                              BiConsumer<Item, Exception> errorHandler) {
     log.info("Loading item {} info", item.getHrid());
     try {
       var suppressionStatus = getSuppressionStatus(centralServerId, item);
@@ -123,7 +138,7 @@ public class RecordTransformationServiceImpl implements RecordTransformationServ
         .orElse(null);
 
       var folLocId = item.getEffectiveLocationId();
-      var folLibId = mappings.getLibraryId(folLocId);
+      var folLibId = locIdToLibIds.get(folLocId);
 
       var itemId = item.getId();
       var holdCount = countRequests(itemId);
@@ -157,7 +172,11 @@ public class RecordTransformationServiceImpl implements RecordTransformationServ
   private Integer getDueDateTime(UUID itemId, ContributionItemCirculationStatus circulationStatus) {
     try {
       if (circulationStatus == ON_LOAN) {
-        return getLastItem(circulationClient.queryLoansByItemIdAndStatus(itemId, "Open"))
+        var openLoans = getInstanceContributionContext().findOpenLoans(itemId)
+          .orElseGet(() -> circulationClient.queryLoansByItemIdAndStatus(itemId, "Open").getResult());
+
+        return toStream(openLoans)
+          .reduce((first, last) -> last)
           .map(LoanDTO::getDueDate)
           .map(DateHelper::toEpochSec)
           .orElse(null);
@@ -170,6 +189,11 @@ public class RecordTransformationServiceImpl implements RecordTransformationServ
 
   private Long countRequests(UUID itemId) {
     try {
+      var prefetchedRequests = getInstanceContributionContext().findOpenRequests(itemId);
+      if (prefetchedRequests.isPresent()) {
+        return (long) prefetchedRequests.get().size();
+      }
+
       return circulationClient.queryRequestsByItemId(itemId).getResult()
         .stream()
         .filter(request -> request.getStatus().getName().startsWith("Open"))
@@ -206,7 +230,9 @@ public class RecordTransformationServiceImpl implements RecordTransformationServ
   }
 
   private Set<UUID> fetchHoldingStatisticalCodes(Item item) {
-    return holdingsService.find(item.getHoldingsRecordId())
+    var holdingId = item.getHoldingsRecordId();
+    return getInstanceContributionContext().findHolding(holdingId)
+      .or(() -> holdingsService.find(holdingId))
       .map(Holding::getStatisticalCodeIds)
       .orElse(null);
   }
@@ -215,97 +241,4 @@ public class RecordTransformationServiceImpl implements RecordTransformationServ
     return validationService.getItemCirculationStatus(centralServerId, item);
   }
 
-  private ContributionMappings getContributionMappings(UUID centralServerId) {
-    Map<UUID, String> irLocIdToLocKeys = irLocationService.getAllInnReachLocations(0, FETCH_LIMIT)
-      .getLocations()
-      .stream()
-      .collect(toMap(InnReachLocationDTO::getId, InnReachLocationDTO::getCode));
-
-    Map<UUID, Integer> materialToCentralTypeMappings = getTypeMappings(centralServerId);
-    Map<UUID, String> libIdToLocKeyMappings = getLibraryMappings(centralServerId, irLocIdToLocKeys);
-    Map<UUID, String> locIdToLocKeyMappings = getLocationMappings(centralServerId, irLocIdToLocKeys, libIdToLocKeyMappings.keySet());
-    Map<UUID, String> libIdToAgencyCodeMappings = getAgencyMappings(centralServerId);
-    Map<UUID, UUID> locIdToLibIdMappings = folioLocationService.getLocationLibraryMappings();
-
-    return ContributionMappings.builder()
-      .materialToCentralTypes(materialToCentralTypeMappings)
-      .libIdToLocKeys(libIdToLocKeyMappings)
-      .locIdToLocKeys(locIdToLocKeyMappings)
-      .locIdToLibIds(locIdToLibIdMappings)
-      .libIdToAgencyCodes(libIdToAgencyCodeMappings)
-      .build();
-  }
-
-  private Map<UUID, Integer> getTypeMappings(UUID centralServerId) {
-    return typeMappingService.getAllMappings(centralServerId, 0, FETCH_LIMIT)
-      .getMaterialTypeMappings()
-      .stream()
-      .collect(toMap(MaterialTypeMappingDTO::getMaterialTypeId, MaterialTypeMappingDTO::getCentralItemType));
-  }
-
-  private Map<UUID, String> getLibraryMappings(UUID centralServerId, Map<UUID, String> irLocations) {
-    var libraryMappings =
-      libraryMappingService.getAllMappings(centralServerId, 0, FETCH_LIMIT).getLibraryMappings();
-
-    Map<UUID, String> mappings = new HashMap<>();
-    for (var mapping : libraryMappings) {
-      var code = irLocations.get(mapping.getInnReachLocationId());
-      mappings.put(mapping.getLibraryId(), code);
-    }
-
-    return mappings;
-  }
-
-  private Map<UUID, String> getLocationMappings(UUID centralServerId, Map<UUID, String> irLocations, Collection<UUID> libraryIds) {
-    Map<UUID, String> mappings = new HashMap<>();
-
-    for (var libId : libraryIds) {
-      var locationMappings =
-        locationMappingService.getMappingsByLibraryId(centralServerId, libId, 0, FETCH_LIMIT).getLocationMappings();
-
-      locationMappings.forEach(loc -> mappings.put(loc.getLocationId(), irLocations.get(loc.getInnReachLocationId())));
-    }
-
-    return mappings;
-  }
-
-  private Map<UUID, String> getAgencyMappings(UUID centralServerId) {
-    var centralServer = centralServerService.getCentralServer(centralServerId);
-
-    var localAgencies = centralServer.getLocalAgencies();
-    Map<UUID, String> mappings = new HashMap<>();
-
-    for (var localAgency : localAgencies) {
-      localAgency.getFolioLibraryIds().forEach(libId -> mappings.put(libId, localAgency.getCode()));
-    }
-
-    return mappings;
-  }
-
-  @Builder
-  @ToString
-  private static class ContributionMappings {
-    private Map<UUID, Integer> materialToCentralTypes;
-    private Map<UUID, String> libIdToLocKeys;
-    private Map<UUID, String> locIdToLocKeys;
-    private Map<UUID, String> libIdToAgencyCodes;
-    private Map<UUID, UUID> locIdToLibIds;
-
-    public UUID getLibraryId(UUID locationId) {
-      return locIdToLibIds.get(locationId);
-    }
-
-    public String getAgencyCode(UUID libraryId) {
-      return libIdToAgencyCodes.get(libraryId);
-    }
-
-    public String getLocationKey(UUID locId, UUID libId) {
-      return locIdToLocKeys.getOrDefault(locId, libIdToLocKeys.get(libId));
-    }
-
-    public Integer getCentralType(UUID materialTypeId) {
-      return materialToCentralTypes.get(materialTypeId);
-    }
-  }
-
 }
@@ -0,0 +1,61 @@
+package org.folio.innreach.domain.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import org.folio.innreach.config.props.VirtualRecordDeletionProperties;
+import org.folio.innreach.domain.entity.VirtualRecordDeletion;
+import org.folio.innreach.domain.service.VirtualRecordService;
+import org.folio.innreach.repository.VirtualRecordDeletionRepository;
+
+/**
+ * Removes queued virtual records of finished transactions once they are due. A failed deletion is retried after
+ * the retry delay until the max number of attempts is reached, then it is kept in the queue for investigation.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class VirtualRecordDeletionWorker {
+
+  private final VirtualRecordDeletionRepository repository;
+  private final VirtualRecordService virtualRecordService;
+  private final QueuedTaskProcessor taskProcessor;
+  private final VirtualRecordDeletionProperties properties;
+
+  @Scheduled(fixedDelayString = "${inn-reach.virtual-record-deletion.process-interval}",
+    initialDelayString = "${inn-reach.virtual-record-deletion.initial-delay}")
+  public void processAll() {
+    taskProcessor.runForAllTenants("delete virtual records", this::processDue);
+  }
+
+  /**
+   * Deletes the due virtual records of the current tenant until none is left.
+   */
+  public void processDue() {
+    taskProcessor.processDue(
+      () -> repository.claimDueDeletions(properties.getBatchSize(), properties.getMaxAttempts(),
+        properties.getLeaseDuration().toSeconds()),
+      this::delete, this::handleFailure);
+  }
+
+  private void delete(VirtualRecordDeletion deletion) {
+    log.debug("delete:: parameters deletion: {}", deletion);
+    virtualRecordService.deleteVirtualRecords(deletion.getFolioItemId(), deletion.getFolioHoldingId(),
+      deletion.getFolioInstanceId(), deletion.getFolioLoanId());
+    repository.deleteById(deletion.getId());
+  }
+
+  private void handleFailure(VirtualRecordDeletion deletion, int attempts, String error, Exception e) {
+    if (attempts >= properties.getMaxAttempts()) {
+      log.error("handleFailure:: Virtual records of item {} are not deleted after {} attempts",
+        deletion.getFolioItemId(), attempts, e);
+    } else {
+      log.warn("handleFailure:: Unable to delete virtual records of item {}, retrying in {}: {}",
+        deletion.getFolioItemId(), properties.getRetryDelay(), error);
+    }
+    repository.scheduleRetry(deletion.getId(), attempts, error, properties.getRetryDelay().toSeconds());
+  }
+
+}
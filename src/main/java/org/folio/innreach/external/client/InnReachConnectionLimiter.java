@@ -0,0 +1,116 @@
+package org.folio.innreach.external.client;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import org.folio.innreach.external.exception.InnReachConnectionException;
+
+/**
+ * Limits the number of concurrent requests to a central server, as D2IR rejects requests that exceed
+ * the number of connections allowed from a local server. Waiting requests get permits in the order of arrival,
+ * circulation requests are served before contribution requests.
+ */
+@Log4j2
+@Component
+public class InnReachConnectionLimiter {
+
+  public enum Priority {
+    CIRCULATION, CONTRIBUTION
+  }
+
+  private final int permits;
+  private final long acquireTimeoutMs;
+  private final Map<UUID, PermitPool> permitPools = new ConcurrentHashMap<>();
+
+  public InnReachConnectionLimiter(@Value("${inn-reach.connection-limit.permits}") int permits,
+                                   @Value("${inn-reach.connection-limit.acquire-timeout-ms}") long acquireTimeoutMs) {
+    this.permits = Math.max(permits, 1);
+    this.acquireTimeoutMs = acquireTimeoutMs;
+  }
+
+  public <T> T execute(UUID centralServerId, Priority priority, Supplier<T> request) {
+    var permitPool = permitPools.computeIfAbsent(centralServerId, id -> new PermitPool(permits));
+
+    permitPool.acquire(centralServerId, priority);
+    try {
+      return request.get();
+    } finally {
+      permitPool.release();
+    }
+  }
+
+  private class PermitPool {
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition circulationQueue = lock.newCondition();
+    private final Condition contributionQueue = lock.newCondition();
+
+    private int availablePermits;
+    private int waitingCirculationRequests;
+
+    PermitPool(int permits) {
+      this.availablePermits = permits;
+    }
+
+    void acquire(UUID centralServerId, Priority priority) {
+      var circulation = priority == Priority.CIRCULATION;
+      var waitNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+
+      lock.lock();
+      if (circulation) {
+        waitingCirculationRequests++;
+      }
+      try {
+        while (availablePermits == 0 || (!circulation && waitingCirculationRequests > 0)) {
+          if (waitNanos <= 0) {
+            log.warn("acquire:: no connection to central server {} available in {} ms", centralServerId, acquireTimeoutMs);
+            throw new InnReachConnectionException("No connection to central server " + centralServerId + " available");
+          }
+          waitNanos = (circulation ? circulationQueue : contributionQueue).awaitNanos(waitNanos);
+        }
+        availablePermits--;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InnReachConnectionException("Interrupted while waiting for connection to central server " + centralServerId);
+      } finally {
+        if (circulation) {
+          waitingCirculationRequests--;
+        }
+        // pass a permit that is still available to the next waiting request
+        signalWaiting();
+        lock.unlock();
+      }
+    }
+
+    void release() {
+      lock.lock();
+      try {
+        availablePermits++;
+        signalWaiting();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void signalWaiting() {
+      if (availablePermits == 0) {
+        return;
+      }
+      if (waitingCirculationRequests > 0) {
+        circulationQueue.signal();
+      } else {
+        contributionQueue.signal();
+      }
+    }
+  }
+
+}
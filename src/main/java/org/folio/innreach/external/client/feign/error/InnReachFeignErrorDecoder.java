@@ -26,6 +26,6 @@ public class InnReachFeignErrorDecoder implements ErrorDecoder {
       return new InnReachGatewayException("INN_Reach call failed with status: " + errorStatus(methodKey, response).getMessage());
     }
     var e = errorStatus(methodKey, response);
-    return new InnReachException("INN-Reach call failed: " + e.getMessage());
+    return new InnReachException("INN-Reach call failed: " + e.getMessage(), HttpStatus.resolve(response.status()));
   }
 }
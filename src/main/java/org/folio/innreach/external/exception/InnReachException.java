@@ -1,8 +1,34 @@
 package org.folio.innreach.external.exception;
 
+import static org.springframework.http.HttpStatus.REQUEST_TIMEOUT;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+import org.springframework.http.HttpStatus;
+
 public class InnReachException extends RuntimeException {
 
+  private final HttpStatus status;
+
   public InnReachException(String message) {
+    this(message, null);
+  }
+
+  public InnReachException(String message, HttpStatus status) {
     super(message);
+    this.status = status;
+  }
+
+  /**
+   * Returns the HTTP status the central server responded with, or null if the failure is not caused by a response.
+   */
+  public HttpStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * Checks whether the central server rejected the call with a client error that repeating the call does not resolve.
+   */
+  public boolean isRejected() {
+    return status != null && status.is4xxClientError() && status != REQUEST_TIMEOUT && status != TOO_MANY_REQUESTS;
   }
 }
@@ -6,4 +6,10 @@ import org.folio.innreach.external.dto.AccessTokenDTO;
 public interface InnReachAuthExternalService {
 
   AccessTokenDTO getAccessToken(CentralServerConnectionDetailsDTO connectionDetailsDTO);
+
+  /**
+   * Drops the cached access token if it is the one rejected by the central server,
+   * so the next {@link #getAccessToken} call requests a new one.
+   */
+  void invalidateAccessToken(CentralServerConnectionDetailsDTO connectionDetailsDTO, AccessTokenDTO rejectedAccessToken);
 }
@@ -1,11 +1,21 @@
 package org.folio.innreach.external.service.impl;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.google.common.cache.Cache;
-import lombok.RequiredArgsConstructor;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import org.folio.innreach.domain.dto.CentralServerConnectionDetailsDTO;
@@ -14,34 +24,144 @@ import org.folio.innreach.external.dto.AccessTokenDTO;
 import org.folio.innreach.external.service.InnReachAuthExternalService;
 import org.folio.innreach.external.util.AuthUtils;
 
-@RequiredArgsConstructor
+/**
+ * Caches D2IR access tokens per central server and key. A missing or expired token is requested by a single
+ * thread while the others wait for it; a token close to its expiry is refreshed by the first thread that notices it,
+ * the others keep using the current token until the new one is received.
+ */
 @Log4j2
 @Service
 public class InnReachAuthExternalServiceImpl implements InnReachAuthExternalService {
 
+  private static final String TOKEN_REQUEST_METRIC_NAME = "innreach.access-token.request";
+  private static final String TOKEN_WAIT_METRIC_NAME = "innreach.access-token.wait";
+
   private final InnReachAuthClient innReachAuthClient;
-  private final Cache<String, AccessTokenDTO> accessTokenCache;
+  private final Cache<String, CachedAccessToken> accessTokenCache;
+  private final Duration maxTokenLifetime;
+  private final Duration refreshAhead;
+  private final Counter tokenLoads;
+  private final Counter tokenRefreshes;
+  private final Counter tokenRefreshFailures;
+  private final Counter tokenInvalidations;
+  private final Timer tokenWait;
+
+  public InnReachAuthExternalServiceImpl(InnReachAuthClient innReachAuthClient, MeterRegistry meterRegistry,
+                                         @Value("${inn-reach.jwt-access-token.cache.ttl}") int accessTokenCacheTtl,
+                                         @Value("${inn-reach.jwt-access-token.cache.max-size}") int accessTokenCacheMaxSize,
+                                         @Value("${inn-reach.jwt-access-token.cache.refresh-ahead}") int refreshAhead) {
+    this.innReachAuthClient = innReachAuthClient;
+    this.accessTokenCache = CacheBuilder.newBuilder()
+      .maximumSize(accessTokenCacheMaxSize)
+      .expireAfterWrite(accessTokenCacheTtl, TimeUnit.SECONDS)
+      .build();
+    this.maxTokenLifetime = Duration.ofSeconds(accessTokenCacheTtl);
+    this.refreshAhead = Duration.ofSeconds(refreshAhead);
+    this.tokenLoads = meterRegistry.counter(TOKEN_REQUEST_METRIC_NAME, "type", "load");
+    this.tokenRefreshes = meterRegistry.counter(TOKEN_REQUEST_METRIC_NAME, "type", "refresh");
+    this.tokenRefreshFailures = meterRegistry.counter(TOKEN_REQUEST_METRIC_NAME, "type", "refresh-failure");
+    this.tokenInvalidations = meterRegistry.counter(TOKEN_REQUEST_METRIC_NAME, "type", "invalidation");
+    this.tokenWait = meterRegistry.timer(TOKEN_WAIT_METRIC_NAME);
+  }
 
   @Override
   public AccessTokenDTO getAccessToken(CentralServerConnectionDetailsDTO connectionDetailsDTO) {
     log.debug("getAccessToken:: parameters connectionDetailsDTO: {}", connectionDetailsDTO);
-    var cachedAccessToken = accessTokenCache.getIfPresent(connectionDetailsDTO.getConnectionUrl());
+    var key = cacheKey(connectionDetailsDTO);
+    var now = Instant.now();
+
+    var cachedAccessToken = accessTokenCache.getIfPresent(key);
+    if (cachedAccessToken != null && !cachedAccessToken.isExpired(now)) {
+      if (cachedAccessToken.isRefreshDue(now) && cachedAccessToken.startRefresh()) {
+        return refreshAccessToken(connectionDetailsDTO, key, cachedAccessToken);
+      }
+      return cachedAccessToken.getAccessToken();
+    }
 
     if (cachedAccessToken != null) {
-      return cachedAccessToken;
+      accessTokenCache.asMap().remove(key, cachedAccessToken);
     }
+    return loadAccessToken(connectionDetailsDTO, key);
+  }
+
+  @Override
+  public void invalidateAccessToken(CentralServerConnectionDetailsDTO connectionDetailsDTO, AccessTokenDTO rejectedAccessToken) {
+    log.debug("invalidateAccessToken:: parameters connectionDetailsDTO: {}", connectionDetailsDTO);
+    var key = cacheKey(connectionDetailsDTO);
 
+    var cachedAccessToken = accessTokenCache.getIfPresent(key);
+    // a token rejected by several concurrent requests is dropped only once
+    if (cachedAccessToken != null && cachedAccessToken.getAccessToken() == rejectedAccessToken
+      && accessTokenCache.asMap().remove(key, cachedAccessToken)) {
+      tokenInvalidations.increment();
+      log.info("invalidateAccessToken:: access token for central server {} is invalidated",
+        connectionDetailsDTO.getConnectionUrl());
+    }
+  }
+
+  private AccessTokenDTO loadAccessToken(CentralServerConnectionDetailsDTO connectionDetailsDTO, String key) {
+    var waitStart = System.nanoTime();
+    try {
+      return accessTokenCache.get(key, () -> {
+        tokenLoads.increment();
+        return requestAccessToken(connectionDetailsDTO);
+      }).getAccessToken();
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Can't get InnReach access token: " + e.getMessage(), e.getCause());
+    } finally {
+      tokenWait.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private AccessTokenDTO refreshAccessToken(CentralServerConnectionDetailsDTO connectionDetailsDTO, String key,
+                                            CachedAccessToken cachedAccessToken) {
+    try {
+      tokenRefreshes.increment();
+      var refreshedAccessToken = requestAccessToken(connectionDetailsDTO);
+      accessTokenCache.asMap().replace(key, cachedAccessToken, refreshedAccessToken);
+      return refreshedAccessToken.getAccessToken();
+    } catch (Exception e) {
+      // the current token is still valid, the next request will try to refresh it again
+      tokenRefreshFailures.increment();
+      cachedAccessToken.cancelRefresh();
+      log.warn("refreshAccessToken:: unable to refresh access token for central server {}",
+        connectionDetailsDTO.getConnectionUrl(), e);
+      return cachedAccessToken.getAccessToken();
+    }
+  }
+
+  private CachedAccessToken requestAccessToken(CentralServerConnectionDetailsDTO connectionDetailsDTO) {
     var responseEntity = innReachAuthClient.getAccessToken(
       URI.create(connectionDetailsDTO.getConnectionUrl()),
       buildBasicAuthorizationHeader(connectionDetailsDTO)
     );
 
     var accessTokenDTO = responseEntity.getBody();
+    if (accessTokenDTO == null) {
+      throw new IllegalStateException("Can't get InnReach access token. Empty response from central server");
+    }
 
-    accessTokenCache.put(connectionDetailsDTO.getConnectionUrl(), accessTokenDTO);
+    var issuedAt = Instant.now();
+    var lifetime = getTokenLifetime(accessTokenDTO);
+    var expiresAt = issuedAt.plus(lifetime);
+    var refreshAt = expiresAt.minus(refreshAhead.compareTo(lifetime.dividedBy(2)) < 0 ? refreshAhead : lifetime.dividedBy(2));
 
-    log.info("getAccessToken:: result: {}", accessTokenDTO);
-    return accessTokenDTO;
+    log.info("getAccessToken:: result: {}, expires at: {}", accessTokenDTO, expiresAt);
+    return new CachedAccessToken(accessTokenDTO, refreshAt, expiresAt);
+  }
+
+  private Duration getTokenLifetime(AccessTokenDTO accessTokenDTO) {
+    var expiresIn = Duration.ofSeconds(accessTokenDTO.getExpiresIn());
+    return expiresIn.isNegative() || expiresIn.isZero() || expiresIn.compareTo(maxTokenLifetime) > 0
+      ? maxTokenLifetime
+      : expiresIn;
+  }
+
+  private static String cacheKey(CentralServerConnectionDetailsDTO connectionDetailsDTO) {
+    return connectionDetailsDTO.getConnectionUrl() + ":" + connectionDetailsDTO.getKey();
   }
 
   private String buildBasicAuthorizationHeader(CentralServerConnectionDetailsDTO connectionDetailsDTO) {
@@ -49,4 +169,38 @@ public class InnReachAuthExternalServiceImpl implements InnReachAuthExternalServ
     var base64EncodedKeySecret = Base64.getEncoder().encodeToString(keySecret.getBytes());
     return AuthUtils.buildBasicAuthHeader(base64EncodedKeySecret);
   }
+
+  private static class CachedAccessToken {
+
+    private final AccessTokenDTO accessToken;
+    private final Instant refreshAt;
+    private final Instant expiresAt;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    CachedAccessToken(AccessTokenDTO accessToken, Instant refreshAt, Instant expiresAt) {
+      this.accessToken = accessToken;
+      this.refreshAt = refreshAt;
+      this.expiresAt = expiresAt;
+    }
+
+    AccessTokenDTO getAccessToken() {
+      return accessToken;
+    }
+
+    boolean isExpired(Instant now) {
+      return !now.isBefore(expiresAt);
+    }
+
+    boolean isRefreshDue(Instant now) {
+      return !now.isBefore(refreshAt);
+    }
+
+    boolean startRefresh() {
+      return refreshing.compareAndSet(false, true);
+    }
+
+    void cancelRefresh() {
+      refreshing.set(false);
+    }
+  }
 }
@@ -0,0 +1,38 @@
+package org.folio.innreach.external.service.impl;
+
+import static org.folio.innreach.external.util.AuthUtils.buildBearerAuthHeader;
+
+import java.util.function.Function;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+
+import org.folio.innreach.domain.dto.CentralServerConnectionDetailsDTO;
+import org.folio.innreach.external.service.InnReachAuthExternalService;
+
+/**
+ * Executes D2IR requests with the bearer authorization header of the cached access token. A token rejected
+ * by the central server is invalidated and the request is retried once with a new one.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class InnReachAuthorizedRequestExecutor {
+
+  private final InnReachAuthExternalService innReachAuthExternalService;
+
+  public <T> T execute(CentralServerConnectionDetailsDTO connectionDetails, Function<String, T> request) {
+    var accessTokenDTO = innReachAuthExternalService.getAccessToken(connectionDetails);
+    try {
+      return request.apply(buildBearerAuthHeader(accessTokenDTO.getAccessToken()));
+    } catch (BadCredentialsException e) {
+      log.info("execute:: access token is rejected by central server, retrying with a new one");
+      innReachAuthExternalService.invalidateAccessToken(connectionDetails, accessTokenDTO);
+      var newAccessTokenDTO = innReachAuthExternalService.getAccessToken(connectionDetails);
+      return request.apply(buildBearerAuthHeader(newAccessTokenDTO.getAccessToken()));
+    }
+  }
+
+}
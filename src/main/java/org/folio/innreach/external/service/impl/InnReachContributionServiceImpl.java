@@ -3,7 +3,7 @@ package org.folio.innreach.external.service.impl;
 import static java.util.Collections.emptyList;
 
 import static org.folio.innreach.domain.service.impl.RecordContributionServiceImpl.*;
-import static org.folio.innreach.external.util.AuthUtils.buildBearerAuthHeader;
+import static org.folio.innreach.external.client.InnReachConnectionLimiter.Priority.CONTRIBUTION;
 
 import java.net.URI;
 import java.util.UUID;
@@ -17,10 +17,10 @@ import org.springframework.stereotype.Service;
 import org.folio.innreach.domain.dto.CentralServerConnectionDetailsDTO;
 import org.folio.innreach.domain.service.CentralServerService;
 import org.folio.innreach.dto.BibInfo;
+import org.folio.innreach.external.client.InnReachConnectionLimiter;
 import org.folio.innreach.external.client.feign.InnReachContributionClient;
 import org.folio.innreach.external.dto.BibItemsInfo;
 import org.folio.innreach.external.dto.InnReachResponse;
-import org.folio.innreach.external.service.InnReachAuthExternalService;
 import org.folio.innreach.external.service.InnReachContributionService;
 
 @RequiredArgsConstructor
@@ -29,22 +29,23 @@ import org.folio.innreach.external.service.InnReachContributionService;
 public class InnReachContributionServiceImpl implements InnReachContributionService {
 
   private final InnReachContributionClient contributionClient;
-  private final InnReachAuthExternalService innReachAuthExternalService;
+  private final InnReachAuthorizedRequestExecutor requestExecutor;
   private final CentralServerService centralServerService;
+  private final InnReachConnectionLimiter connectionLimiter;
 
   @Override
   public InnReachResponse contributeBib(UUID centralServerId, String bibId, BibInfo bib) {
     log.debug("contributeBib:: parameters centralServerId: {}, bibId: {}, bib: {}", centralServerId, bibId, bib);
     var connectionDetails = getConnectionDetails(centralServerId);
 
-    var accessTokenDTO = innReachAuthExternalService.getAccessToken(connectionDetails);
     var connectionUrl = URI.create(connectionDetails.getConnectionUrl());
-    var authorizationHeader = buildBearerAuthHeader(accessTokenDTO.getAccessToken());
     var localCode = connectionDetails.getLocalCode();
     var centralCode = connectionDetails.getCentralCode();
 
-    return contributionClient.contributeBib(connectionUrl, authorizationHeader, localCode,
-      centralCode, bibId, bib);
+    return requestExecutor.execute(connectionDetails, authorizationHeader ->
+      connectionLimiter.execute(centralServerId, CONTRIBUTION, () ->
+        contributionClient.contributeBib(connectionUrl, authorizationHeader, localCode,
+          centralCode, bibId, bib)));
   }
 
   @Override
@@ -53,14 +54,14 @@ public class InnReachContributionServiceImpl implements InnReachContributionServ
       log.debug("deContributeBib:: parameters centralServerId: {}, bibId: {}", centralServerId, bibId);
       var connectionDetails = getConnectionDetails(centralServerId);
 
-      var accessTokenDTO = innReachAuthExternalService.getAccessToken(connectionDetails);
       var connectionUrl = URI.create(connectionDetails.getConnectionUrl());
-      var authorizationHeader = buildBearerAuthHeader(accessTokenDTO.getAccessToken());
       var localCode = connectionDetails.getLocalCode();
       var centralCode = connectionDetails.getCentralCode();
 
-      var response = contributionClient.deContributeBib(connectionUrl, authorizationHeader, localCode,
-        centralCode, bibId);
+      var response = requestExecutor.execute(connectionDetails, authorizationHeader ->
+        connectionLimiter.execute(centralServerId, CONTRIBUTION, () ->
+          contributionClient.deContributeBib(connectionUrl, authorizationHeader, localCode,
+            centralCode, bibId)));
       verifyException(response);
       return  response;
     } catch (ServiceSuspendedException ex) {
@@ -74,14 +75,14 @@ public class InnReachContributionServiceImpl implements InnReachContributionServ
       log.debug("deContributeBibItem:: parameters centralServerId: {}, itemId: {}", centralServerId, itemId);
       var connectionDetails = getConnectionDetails(centralServerId);
 
-      var accessTokenDTO = innReachAuthExternalService.getAccessToken(connectionDetails);
       var connectionUrl = URI.create(connectionDetails.getConnectionUrl());
-      var authorizationHeader = buildBearerAuthHeader(accessTokenDTO.getAccessToken());
       var localCode = connectionDetails.getLocalCode();
       var centralCode = connectionDetails.getCentralCode();
 
-      var response = contributionClient.deContributeBibItem(connectionUrl, authorizationHeader, localCode,
-        centralCode, itemId);
+      var response = requestExecutor.execute(connectionDetails, authorizationHeader ->
+        connectionLimiter.execute(centralServerId, CONTRIBUTION, () ->
+          contributionClient.deContributeBibItem(connectionUrl, authorizationHeader, localCode,
+            centralCode, itemId)));
       verifyException(response);
       return response;
     } catch (ServiceSuspendedException ex) {
@@ -116,14 +117,14 @@ public class InnReachContributionServiceImpl implements InnReachContributionServ
     log.debug("contributeBibItems:: parameters centralServerId: {}, bibId: {}, bibItems: {}", centralServerId, bibId, bibItems);
     var connectionDetails = getConnectionDetails(centralServerId);
 
-    var accessTokenDTO = innReachAuthExternalService.getAccessToken(connectionDetails);
     var connectionUrl = URI.create(connectionDetails.getConnectionUrl());
-    var authorizationHeader = buildBearerAuthHeader(accessTokenDTO.getAccessToken());
     var localCode = connectionDetails.getLocalCode();
     var centralCode = connectionDetails.getCentralCode();
 
-    return contributionClient.contributeBibItems(connectionUrl, authorizationHeader, localCode,
-      centralCode, bibId, bibItems);
+    return requestExecutor.execute(connectionDetails, authorizationHeader ->
+      connectionLimiter.execute(centralServerId, CONTRIBUTION, () ->
+        contributionClient.contributeBibItems(connectionUrl, authorizationHeader, localCode,
+          centralCode, bibId, bibItems)));
   }
 
   @Override
@@ -131,15 +132,15 @@ public class InnReachContributionServiceImpl implements InnReachContributionServ
     log.debug("lookUpBib:: parameters centralServerId: {}, bibId: {}", centralServerId, bibId);
     var connectionDetails = getConnectionDetails(centralServerId);
 
-    var accessTokenDTO = innReachAuthExternalService.getAccessToken(connectionDetails);
     var connectionUrl = URI.create(connectionDetails.getConnectionUrl());
-    var authorizationHeader = buildBearerAuthHeader(accessTokenDTO.getAccessToken());
     var localCode = connectionDetails.getLocalCode();
     var centralCode = connectionDetails.getCentralCode();
 
     try {
-      return contributionClient.lookUpBib(connectionUrl, authorizationHeader, localCode,
-        centralCode, localCode, bibId);
+      return requestExecutor.execute(connectionDetails, authorizationHeader ->
+        connectionLimiter.execute(centralServerId, CONTRIBUTION, () ->
+          contributionClient.lookUpBib(connectionUrl, authorizationHeader, localCode,
+            centralCode, localCode, bibId)));
     } catch (Exception e) {
       return InnReachResponse.errorResponse(e.getMessage(), emptyList());
     }
@@ -150,15 +151,15 @@ public class InnReachContributionServiceImpl implements InnReachContributionServ
     log.debug("lookUpBibItem:: parameters centralServerId: {}, bibId: {}, itemId: {}", centralServerId, bibId, itemId);
     var connectionDetails = getConnectionDetails(centralServerId);
 
-    var accessTokenDTO = innReachAuthExternalService.getAccessToken(connectionDetails);
     var connectionUrl = URI.create(connectionDetails.getConnectionUrl());
-    var authorizationHeader = buildBearerAuthHeader(accessTokenDTO.getAccessToken());
     var localCode = connectionDetails.getLocalCode();
     var centralCode = connectionDetails.getCentralCode();
 
     try {
-      return contributionClient.lookUpBibItem(connectionUrl, authorizationHeader, localCode,
-        centralCode, localCode, bibId, itemId);
+      return requestExecutor.execute(connectionDetails, authorizationHeader ->
+        connectionLimiter.execute(centralServerId, CONTRIBUTION, () ->
+          contributionClient.lookUpBibItem(connectionUrl, authorizationHeader, localCode,
+            centralCode, localCode, bibId, itemId)));
     } catch (Exception e) {
       return InnReachResponse.errorResponse(e.getMessage(), emptyList());
     }
@@ -1,6 +1,6 @@
 package org.folio.innreach.external.service.impl;
 
-import static org.folio.innreach.external.util.AuthUtils.buildBearerAuthHeader;
+import static org.folio.innreach.external.client.InnReachConnectionLimiter.Priority.CIRCULATION;
 
 import java.net.URI;
 import java.util.UUID;
@@ -10,8 +10,8 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 
 import org.folio.innreach.domain.service.CentralServerService;
+import org.folio.innreach.external.client.InnReachConnectionLimiter;
 import org.folio.innreach.external.client.feign.InnReachClient;
-import org.folio.innreach.external.service.InnReachAuthExternalService;
 import org.folio.innreach.external.service.InnReachExternalService;
 
 @RequiredArgsConstructor
@@ -20,50 +20,48 @@ import org.folio.innreach.external.service.InnReachExternalService;
 public class InnReachExternalServiceImpl implements InnReachExternalService {
 
   private final CentralServerService centralServerService;
-  private final InnReachAuthExternalService innReachAuthExternalService;
+  private final InnReachAuthorizedRequestExecutor requestExecutor;
   private final InnReachClient innReachClient;
+  private final InnReachConnectionLimiter connectionLimiter;
 
   @Override
   public String callInnReachApi(UUID centralServerId, String innReachRequestUri) {
     var connectionDetailsDTO = centralServerService.getCentralServerConnectionDetails(centralServerId);
 
-    var accessTokenDTO = innReachAuthExternalService.getAccessToken(connectionDetailsDTO);
-
-    return innReachClient.callInnReachApi(
-      buildInnReachRequestUrl(connectionDetailsDTO.getConnectionUrl(), innReachRequestUri),
-      buildBearerAuthHeader(accessTokenDTO.getAccessToken()),
-      connectionDetailsDTO.getLocalCode(),
-      connectionDetailsDTO.getCentralCode()
-    );
+    return requestExecutor.execute(connectionDetailsDTO, authorizationHeader ->
+      connectionLimiter.execute(centralServerId, CIRCULATION, () -> innReachClient.callInnReachApi(
+        buildInnReachRequestUrl(connectionDetailsDTO.getConnectionUrl(), innReachRequestUri),
+        authorizationHeader,
+        connectionDetailsDTO.getLocalCode(),
+        connectionDetailsDTO.getCentralCode()
+      )));
   }
 
   @Override
   public String postInnReachApi(String centralCode, String innReachRequestUri, Object payload) {
     var connectionDetails = centralServerService.getConnectionDetailsByCode(centralCode);
 
-    var accessTokenDTO = innReachAuthExternalService.getAccessToken(connectionDetails);
-
-    return innReachClient.postInnReachApi(
-      buildInnReachRequestUrl(connectionDetails.getConnectionUrl(), innReachRequestUri),
-      buildBearerAuthHeader(accessTokenDTO.getAccessToken()),
-      connectionDetails.getLocalCode(),
-      connectionDetails.getCentralCode(),
-      payload
-    );
+    return requestExecutor.execute(connectionDetails, authorizationHeader ->
+      connectionLimiter.execute(connectionDetails.getId(), CIRCULATION, () -> innReachClient.postInnReachApi(
+        buildInnReachRequestUrl(connectionDetails.getConnectionUrl(), innReachRequestUri),
+        authorizationHeader,
+        connectionDetails.getLocalCode(),
+        connectionDetails.getCentralCode(),
+        payload
+      )));
   }
 
   @Override
   public String postInnReachApi(String centralCode, String innReachRequestUri) {
     var connectionDetails = centralServerService.getConnectionDetailsByCode(centralCode);
 
-    var accessTokenDTO = innReachAuthExternalService.getAccessToken(connectionDetails);
-
-    return innReachClient.postInnReachApi(
-      buildInnReachRequestUrl(connectionDetails.getConnectionUrl(), innReachRequestUri),
-      buildBearerAuthHeader(accessTokenDTO.getAccessToken()),
-      connectionDetails.getLocalCode(),
-      connectionDetails.getCentralCode()
-    );
+    return requestExecutor.execute(connectionDetails, authorizationHeader ->
+      connectionLimiter.execute(connectionDetails.getId(), CIRCULATION, () -> innReachClient.postInnReachApi(
+        buildInnReachRequestUrl(connectionDetails.getConnectionUrl(), innReachRequestUri),
+        authorizationHeader,
+        connectionDetails.getLocalCode(),
+        connectionDetails.getCentralCode()
+      )));
   }
 
   private URI buildInnReachRequestUrl(String centralServerUrl, String innReachRequestUri) {
@@ -7,8 +7,11 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import org.folio.innreach.domain.dto.CentralServerConnectionDetailsDTO;
 import org.folio.innreach.domain.entity.CentralServer;
@@ -39,4 +42,17 @@ public interface CentralServerRepository extends JpaRepository<CentralServer, UU
 
   @Query(name = CentralServer.FETCH_RECALL_USER_BY_ID_QUERY_NAME)
   Optional<CentralServer> fetchOneWithRecallUser(UUID id);
+
+  @Query(value = "select mappings_version from central_server where id = :id", nativeQuery = true)
+  Optional<Long> findMappingsVersion(@Param("id") UUID id);
+
+  @Modifying
+  @Transactional
+  @Query(value = "update central_server set mappings_version = mappings_version + 1 where id = :id", nativeQuery = true)
+  void incrementMappingsVersion(@Param("id") UUID id);
+
+  @Modifying
+  @Transactional
+  @Query(value = "update central_server set mappings_version = mappings_version + 1", nativeQuery = true)
+  void incrementAllMappingsVersions();
 }
@@ -0,0 +1,47 @@
+package org.folio.innreach.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.folio.innreach.domain.entity.CirculationNotification;
+
+public interface CirculationNotificationRepository extends JpaRepository<CirculationNotification, UUID> {
+
+  /**
+   * Returns up to {@code limit} due pending notifications that are the oldest pending notification of their
+   * transaction, and postpones their next attempt by {@code leaseSeconds} so that they are not sent concurrently.
+   * Notifications locked by a concurrent claim are skipped instead of waited for.
+   */
+  @Query(value = """
+    update circulation_notification_outbox
+    set next_attempt_at = current_timestamp + (interval '1 second') * :leaseSeconds
+    where id in (select n.id from circulation_notification_outbox n
+    where n.status = 'PENDING' and n.next_attempt_at <= current_timestamp
+    and not exists (select 1 from circulation_notification_outbox p where p.transaction_id = n.transaction_id
+    and p.status = 'PENDING' and p.sequence_number < n.sequence_number)
+    order by n.sequence_number
+    limit :limit for update skip locked) returning *
+    """, nativeQuery = true)
+  List<CirculationNotification> claimDueNotifications(@Param("limit") int limit, @Param("leaseSeconds") long leaseSeconds);
+
+  @Modifying
+  @Transactional
+  @Query(value = "update circulation_notification_outbox set attempts = :attempts, last_error = :error, " +
+    "next_attempt_at = current_timestamp + (interval '1 second') * :delaySeconds, updated_date = current_timestamp " +
+    "where id = :id", nativeQuery = true)
+  int scheduleRetry(@Param("id") UUID id, @Param("attempts") int attempts, @Param("error") String error,
+                    @Param("delaySeconds") long delaySeconds);
+
+  @Modifying
+  @Transactional
+  @Query(value = "update circulation_notification_outbox set status = 'DEAD', attempts = :attempts, " +
+    "last_error = :error, updated_date = current_timestamp where id = :id", nativeQuery = true)
+  int deadLetter(@Param("id") UUID id, @Param("attempts") int attempts, @Param("error") String error);
+
+}
@@ -0,0 +1,49 @@
+package org.folio.innreach.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.folio.innreach.domain.entity.ContributedRecord;
+import org.folio.innreach.domain.entity.ContributedRecord.RecordType;
+
+@Repository
+public interface ContributedRecordRepository extends JpaRepository<ContributedRecord, UUID> {
+
+  Optional<ContributedRecord> findByCentralServerIdAndRecordTypeAndRecordId(UUID centralServerId, RecordType recordType,
+                                                                             UUID recordId);
+
+  List<ContributedRecord> findByCentralServerIdAndRecordTypeAndRecordIdIn(UUID centralServerId, RecordType recordType,
+                                                                          Collection<UUID> recordIds);
+
+  @Modifying
+  @Transactional
+  @Query(value = "insert into contributed_record (id, central_server_id, record_type, record_id, d2ir_record_id, bib_id, " +
+    "contributed, content_hash, contributed_date, verified_date) " +
+    "values (:id, :centralServerId, :recordType, :recordId, :d2irRecordId, :bibId, :contributed, :contentHash, " +
+    "case when :contributed then current_timestamp end, current_timestamp) " +
+    "on conflict (central_server_id, record_type, record_id) do update set d2ir_record_id = excluded.d2ir_record_id, " +
+    "bib_id = coalesce(excluded.bib_id, contributed_record.bib_id), contributed = excluded.contributed, " +
+    "content_hash = case when excluded.contributed then coalesce(excluded.content_hash, contributed_record.content_hash) end, " +
+    "contributed_date = case when excluded.contributed then coalesce(excluded.contributed_date, contributed_record.contributed_date) end, " +
+    "verified_date = excluded.verified_date, updated_date = current_timestamp", nativeQuery = true)
+  void upsert(@Param("id") UUID id, @Param("centralServerId") UUID centralServerId, @Param("recordType") String recordType,
+              @Param("recordId") UUID recordId, @Param("d2irRecordId") String d2irRecordId, @Param("bibId") String bibId,
+              @Param("contributed") boolean contributed, @Param("contentHash") String contentHash);
+
+  @Modifying
+  @Transactional
+  @Query(value = "update contributed_record set contributed = false, content_hash = null, contributed_date = null, " +
+    "verified_date = current_timestamp, updated_date = current_timestamp " +
+    "where central_server_id = :centralServerId and bib_id = :bibId", nativeQuery = true)
+  void markBibDeContributed(@Param("centralServerId") UUID centralServerId, @Param("bibId") String bibId);
+
+}
@@ -9,7 +9,9 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.folio.innreach.domain.entity.Contribution;
@@ -24,15 +26,31 @@ public interface ContributionRepository extends JpaRepository<Contribution, UUID
   Page<Contribution> fetchHistoryByCentralServerId(UUID id, Pageable pageable);
 
   List<Contribution> findAllByStatus(Contribution.Status status);
+
+  Optional<Contribution> findFirstByCentralServerIdAndOngoingFalseOrderByCreatedDateDesc(UUID centralServerId);
   Contribution findByJobId(UUID jobId);
 
+  @Modifying
+  @Query(value = "update contribution set records_processed = records_processed + :processed, " +
+    "records_contributed = records_contributed + :contributed, " +
+    "records_decontributed = records_decontributed + :decontributed, " +
+    "records_failed = records_failed + :failed, updated_date = current_timestamp " +
+    "where job_id = :jobId and status = 0 and ongoing = false", nativeQuery = true)
+  int incrementStatistics(@Param("jobId") UUID jobId, @Param("processed") long processed,
+                          @Param("contributed") long contributed, @Param("decontributed") long decontributed,
+                          @Param("failed") long failed);
+
+  /**
+   * Completes the running initial contributions without records left to process and recalculates their statistics.
+   */
   @Query(value = "update contribution c set records_processed = (select count(*) from job_execution_status j " +
     "where j.job_id = c.job_id and status in ('PROCESSED','FAILED', 'DE_CONTRIBUTED')), " +
     "records_contributed = (select count(*) from job_execution_status j where j.job_id = c.job_id and status in ('PROCESSED'))," +
     "records_decontributed = (select count(*) from job_execution_status j where j.job_id = c.job_id and status in ('DE_CONTRIBUTED'))," +
-    "status = case when (select count(*) from job_execution_status j where j.status in ('READY','RETRY','IN_PROGRESS') " +
-    "and j.job_id = c.job_id ) = 0 then 1 else status end,updated_date = current_timestamp where c.status = 0 " +
-    "and ongoing = false returning *", nativeQuery = true)
-  Optional<Contribution> updateStatisticsByCentralServerId();
+    "records_failed = (select count(*) from job_execution_status j where j.job_id = c.job_id and status in ('FAILED'))," +
+    "status = 1, updated_date = current_timestamp where c.status = 0 and ongoing = false " +
+    "and not exists (select 1 from job_execution_status j where j.job_id = c.job_id " +
+    "and j.status in ('READY','RETRY','IN_PROGRESS')) returning *", nativeQuery = true)
+  List<Contribution> completeAndReconcileStatistics();
 
 }
@@ -17,7 +17,7 @@ import org.folio.innreach.domain.entity.InnReachTransaction;
 
 
 public interface InnReachTransactionRepository extends JpaRepository<InnReachTransaction, UUID>,
-  JpaSpecificationExecutor<InnReachTransaction> {
+  JpaSpecificationExecutor<InnReachTransaction>, InnReachTransactionSearchRepository {
 
   @Query(name = InnReachTransaction.FETCH_ONE_BY_TRACKING_ID_QUERY_NAME)
   Optional<InnReachTransaction> fetchOneByTrackingId(String trackingId);
@@ -0,0 +1,24 @@
+package org.folio.innreach.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import org.folio.innreach.domain.entity.InnReachTransaction;
+
+public interface InnReachTransactionSearchRepository {
+
+  /**
+   * Returns a page of transactions matching the specification without counting the total number of them.
+   */
+  List<InnReachTransaction> findAll(Specification<InnReachTransaction> specification, int offset, int limit);
+
+  /**
+   * Streams transactions matching the specification from a database cursor, fetching {@code fetchSize} rows
+   * per round trip. Streamed transactions are detached and read-only; the stream must be consumed and closed
+   * within a transaction.
+   */
+  Stream<InnReachTransaction> streamAll(Specification<InnReachTransaction> specification, int fetchSize);
+
+}
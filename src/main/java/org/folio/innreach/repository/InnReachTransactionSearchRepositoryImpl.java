@@ -0,0 +1,52 @@
+package org.folio.innreach.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import org.folio.innreach.domain.entity.InnReachTransaction;
+
+public class InnReachTransactionSearchRepositoryImpl implements InnReachTransactionSearchRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public List<InnReachTransaction> findAll(Specification<InnReachTransaction> specification, int offset, int limit) {
+    return createQuery(specification)
+      .setFirstResult(offset)
+      .setMaxResults(limit)
+      .getResultList();
+  }
+
+  @Override
+  public Stream<InnReachTransaction> streamAll(Specification<InnReachTransaction> specification, int fetchSize) {
+    return createQuery(specification)
+      .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+      .setHint(HibernateHints.HINT_READ_ONLY, true)
+      .getResultStream()
+      .map(this::detach);
+  }
+
+  private TypedQuery<InnReachTransaction> createQuery(Specification<InnReachTransaction> specification) {
+    var cb = entityManager.getCriteriaBuilder();
+    var query = cb.createQuery(InnReachTransaction.class);
+    var transaction = query.from(InnReachTransaction.class);
+    var predicate = specification.toPredicate(transaction, query, cb);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    return entityManager.createQuery(query.select(transaction));
+  }
+
+  private InnReachTransaction detach(InnReachTransaction transaction) {
+    entityManager.detach(transaction);
+    return transaction;
+  }
+
+}
@@ -0,0 +1,70 @@
+package org.folio.innreach.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import org.folio.innreach.domain.dto.folio.inventorystorage.InstanceIterationEvent;
+
+/**
+ * Stores instance iteration events as ready job execution records with multi-row inserts, one statement
+ * per chunk of events. An instance that already has a record for the iteration job is skipped,
+ * so redelivered events and resumed iterations don't create duplicates.
+ */
+@Log4j2
+@Repository
+@RequiredArgsConstructor
+public class JobExecutionStatusBulkRepository {
+
+  private static final int INSERT_CHUNK_SIZE = 1000;
+  private static final String INSERT_SQL = "INSERT INTO job_execution_status (id, instance_id, job_id, type, tenant, status) " +
+    "SELECT e.id, e.instance_id, e.job_id, e.type, e.tenant, 'READY' " +
+    "FROM unnest(?::uuid[], ?::uuid[], ?::uuid[], ?::varchar[], ?::varchar[]) AS e(id, instance_id, job_id, type, tenant) " +
+    "ON CONFLICT (job_id, instance_id) DO NOTHING";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Inserts the events of the current tenant and returns the number of inserted records.
+   */
+  public int saveAll(List<InstanceIterationEvent> events) {
+    int inserted = 0;
+    for (var chunk : Lists.partition(events, INSERT_CHUNK_SIZE)) {
+      inserted += insert(chunk);
+    }
+    log.debug("saveAll:: inserted {} of {} iteration events", inserted, events.size());
+    return inserted;
+  }
+
+  private int insert(List<InstanceIterationEvent> events) {
+    var ids = new UUID[events.size()];
+    var instanceIds = new UUID[events.size()];
+    var jobIds = new UUID[events.size()];
+    var types = new String[events.size()];
+    var tenants = new String[events.size()];
+    for (int i = 0; i < events.size(); i++) {
+      var event = events.get(i);
+      ids[i] = UUID.randomUUID();
+      instanceIds[i] = event.getInstanceId();
+      jobIds[i] = event.getJobId();
+      types[i] = event.getType();
+      tenants[i] = event.getTenant();
+    }
+
+    return jdbcTemplate.update(connection -> {
+      var statement = connection.prepareStatement(INSERT_SQL);
+      statement.setArray(1, connection.createArrayOf("uuid", ids));
+      statement.setArray(2, connection.createArrayOf("uuid", instanceIds));
+      statement.setArray(3, connection.createArrayOf("uuid", jobIds));
+      statement.setArray(4, connection.createArrayOf("varchar", types));
+      statement.setArray(5, connection.createArrayOf("varchar", tenants));
+      return statement;
+    });
+  }
+
+}
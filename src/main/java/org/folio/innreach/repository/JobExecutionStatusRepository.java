@@ -8,28 +8,68 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface JobExecutionStatusRepository extends JpaRepository<JobExecutionStatus, UUID> {
 
+  /**
+   * Marks up to {@code limit} ready records of running contributions, or in progress records with an expired lease,
+   * as in progress with a lease of {@code leaseOwner} and returns them.
+   * Records locked by a concurrent claim are skipped instead of waited for.
+   */
   @Query(value = "update job_execution_status s " +
-    "set status = 'IN_PROGRESS' where s.id in (select t.id from job_execution_status t " +
+    "set status = 'IN_PROGRESS', lease_owner = :leaseOwner, " +
+    "lease_expires_at = current_timestamp + (interval '1 second') * :leaseSeconds " +
+    "where s.id in (select t.id from job_execution_status t " +
     "inner join contribution c on c.job_id = t.job_id where c.status = 0 and " +
-    "((t.instance_contributed = true and t.updated_date < current_timestamp - (interval '1 hour') * :itemPause) " +
-    "or t.instance_contributed = false) and " +
-    "t.status in ('READY', 'RETRY') limit :limit) returning * ", nativeQuery = true)
-  List<JobExecutionStatus> updateAndFetchJobExecutionRecordsByStatus(@Param("limit") int limit, @Param("itemPause") double itemPause);
+    "((((t.instance_contributed = true and t.updated_date < current_timestamp - (interval '1 hour') * :itemPause) " +
+    "or t.instance_contributed = false) and t.status in ('READY', 'RETRY')) " +
+    "or (t.status = 'IN_PROGRESS' and t.lease_expires_at < current_timestamp)) " +
+    "order by t.created_date limit :limit " +
+    "for update of t skip locked) returning * ", nativeQuery = true)
+  List<JobExecutionStatus> updateAndFetchJobExecutionRecordsByStatus(@Param("limit") int limit, @Param("itemPause") double itemPause,
+                                                                     @Param("leaseOwner") String leaseOwner,
+                                                                     @Param("leaseSeconds") long leaseSeconds);
 
-  @Query(value = "select count(*) from job_execution_status j inner join contribution c on " +
-    "c.job_id = j.job_id where c.status = 0 and j.status='IN_PROGRESS'", nativeQuery = true)
-  long getInProgressRecordsCount();
 
   @Modifying
   @Transactional
-  @Query(value = "update job_execution_status  set status = 'READY' where id in (select j.id " +
-    "from job_execution_status j inner join contribution c on j.job_id = c.job_id " +
-    "where c.status=0 and j.status = 'IN_PROGRESS')", nativeQuery = true)
-  void updateInProgressRecordsToReady();
+  @Query(value = "update job_execution_status set lease_expires_at = current_timestamp + (interval '1 second') * :leaseSeconds " +
+    "where id in (:ids) and status = 'IN_PROGRESS' and lease_owner = :leaseOwner", nativeQuery = true)
+  int renewLeases(@Param("ids") Collection<UUID> ids, @Param("leaseOwner") String leaseOwner,
+                  @Param("leaseSeconds") long leaseSeconds);
+
+  /**
+   * Returns records claimed by {@code leaseOwner} that could not be submitted for processing to the ready state.
+   * Records claimed by another owner in the meantime are left untouched.
+   */
+  @Modifying
+  @Transactional
+  @Query(value = "update job_execution_status set status = 'READY', lease_owner = null, lease_expires_at = null " +
+    "where id in (:ids) and status = 'IN_PROGRESS' and lease_owner = :leaseOwner", nativeQuery = true)
+  int releaseLeases(@Param("ids") Collection<UUID> ids, @Param("leaseOwner") String leaseOwner);
+
+  boolean existsByJobIdAndInstanceId(UUID jobId, UUID instanceId);
+
+  /**
+   * Deletes records of {@code newJobId} for instances that also have a record of {@code jobId}, so that the records
+   * of {@code jobId} keep their status when they are moved to {@code newJobId}.
+   */
+  @Modifying
+  @Transactional
+  @Query(value = "delete from job_execution_status n where n.job_id = :newJobId and exists " +
+    "(select 1 from job_execution_status o where o.job_id = :jobId and o.instance_id = n.instance_id)", nativeQuery = true)
+  int deleteDuplicatesOfJob(@Param("jobId") UUID jobId, @Param("newJobId") UUID newJobId);
+
+  /**
+   * Moves records received from an interrupted instance iteration to the iteration that replaces it. Records the new
+   * iteration has already received for the same instances must be deleted first, see {@link #deleteDuplicatesOfJob}.
+   */
+  @Modifying
+  @Transactional
+  @Query(value = "update job_execution_status set job_id = :newJobId where job_id = :jobId", nativeQuery = true)
+  int moveToJob(@Param("jobId") UUID jobId, @Param("newJobId") UUID newJobId);
 }
@@ -7,23 +7,52 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface OngoingContributionStatusRepository extends JpaRepository<OngoingContributionStatus, UUID> {
-  @Modifying
-  @Transactional
-  @Query(value = "update ongoing_contribution_status set status = 'READY' where status = 'IN_PROGRESS'", nativeQuery = true)
-  void updateInProgressToReady();
 
+  /**
+   * Marks up to {@code limit} oldest ready records, or in progress records with an expired lease,
+   * as in progress with a lease of {@code leaseOwner} and returns them. Ready records younger than
+   * {@code coalescingWindow} seconds are left for later events of the same record to be merged with.
+   * Records locked by a concurrent claim are skipped instead of waited for.
+   */
   @Query(value = """
     update ongoing_contribution_status
-    set status = 'IN_PROGRESS' where id in (select o.id from ongoing_contribution_status o
-    where o.status in ('READY', 'RETRY') Order by o.created_date
-    limit :limit) returning *
+    set status = 'IN_PROGRESS', lease_owner = :leaseOwner,
+    lease_expires_at = current_timestamp + (interval '1 second') * :leaseSeconds
+    where id in (select o.id from ongoing_contribution_status o
+    where (o.status in ('READY', 'RETRY') and o.created_date < current_timestamp - (interval '1 second') * :coalescingWindow)
+    or (o.status = 'IN_PROGRESS' and o.lease_expires_at < current_timestamp)
+    Order by o.created_date
+    limit :limit for update skip locked) returning *
+    """, nativeQuery = true)
+  List<OngoingContributionStatus> updateAndFetchOngoingContributionRecordsByStatus(@Param("limit") int limit,
+                                                                                   @Param("coalescingWindow") long coalescingWindow,
+                                                                                   @Param("leaseOwner") String leaseOwner,
+                                                                                   @Param("leaseSeconds") long leaseSeconds);
+
+
+  @Modifying
+  @Transactional
+  @Query(value = """
+    update ongoing_contribution_status set lease_expires_at = current_timestamp + (interval '1 second') * :leaseSeconds
+    where id in (:ids) and status = 'IN_PROGRESS' and lease_owner = :leaseOwner
     """, nativeQuery = true)
-  List<OngoingContributionStatus> updateAndFetchOngoingContributionRecordsByStatus(@Param("limit") int limit);
+  int renewLeases(@Param("ids") Collection<UUID> ids, @Param("leaseOwner") String leaseOwner,
+                  @Param("leaseSeconds") long leaseSeconds);
 
-  @Query(value = "select count(*) from ongoing_contribution_status o where o.status='IN_PROGRESS'", nativeQuery = true)
-  long getInProgressRecordsCount();
+  /**
+   * Returns records claimed by {@code leaseOwner} that could not be submitted for processing to the ready state.
+   * Records claimed by another owner in the meantime are left untouched.
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+    update ongoing_contribution_status set status = 'READY', lease_owner = null, lease_expires_at = null
+    where id in (:ids) and status = 'IN_PROGRESS' and lease_owner = :leaseOwner
+    """, nativeQuery = true)
+  int releaseLeases(@Param("ids") Collection<UUID> ids, @Param("leaseOwner") String leaseOwner);
 }
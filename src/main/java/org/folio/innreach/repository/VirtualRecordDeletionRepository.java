@@ -0,0 +1,53 @@
+package org.folio.innreach.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.folio.innreach.domain.entity.VirtualRecordDeletion;
+
+public interface VirtualRecordDeletionRepository extends JpaRepository<VirtualRecordDeletion, UUID> {
+
+  /**
+   * Queues removal of the virtual records, due after {@code delayMillis} from now.
+   */
+  @Modifying
+  @Transactional
+  @Query(value = "insert into virtual_record_deletion " +
+    "(id, folio_item_id, folio_holding_id, folio_instance_id, folio_loan_id, due_at) " +
+    "values (:id, :itemId, :holdingId, :instanceId, :loanId, " +
+    "current_timestamp + (interval '1 millisecond') * :delayMillis)", nativeQuery = true)
+  int schedule(@Param("id") UUID id, @Param("itemId") UUID itemId, @Param("holdingId") UUID holdingId,
+               @Param("instanceId") UUID instanceId, @Param("loanId") UUID loanId,
+               @Param("delayMillis") long delayMillis);
+
+  /**
+   * Returns up to {@code limit} due deletions that have less than {@code maxAttempts} failed attempts, and postpones
+   * them by {@code leaseSeconds} so that they are not processed concurrently. Deletions locked by a concurrent claim
+   * are skipped instead of waited for.
+   */
+  @Query(value = """
+    update virtual_record_deletion
+    set due_at = current_timestamp + (interval '1 second') * :leaseSeconds
+    where id in (select id from virtual_record_deletion
+    where due_at <= current_timestamp and attempts < :maxAttempts
+    order by due_at
+    limit :limit for update skip locked) returning *
+    """, nativeQuery = true)
+  List<VirtualRecordDeletion> claimDueDeletions(@Param("limit") int limit, @Param("maxAttempts") int maxAttempts,
+                                                @Param("leaseSeconds") long leaseSeconds);
+
+  @Modifying
+  @Transactional
+  @Query(value = "update virtual_record_deletion set attempts = :attempts, last_error = :error, " +
+    "due_at = current_timestamp + (interval '1 second') * :delaySeconds, updated_date = current_timestamp " +
+    "where id = :id", nativeQuery = true)
+  int scheduleRetry(@Param("id") UUID id, @Param("attempts") int attempts, @Param("error") String error,
+                    @Param("delaySeconds") long delaySeconds);
+
+}
@@ -1,22 +1,36 @@
 package org.folio.innreach.scheduler;
 
 import com.google.common.cache.Cache;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.innreach.batch.contribution.OngoingContributionBatch;
+import org.folio.innreach.batch.contribution.service.ContributionLeaseManager;
 import org.folio.innreach.batch.contribution.service.InitialContributionEventProcessor;
+import org.folio.innreach.batch.contribution.service.OngoingContributionCoalescer;
 import org.folio.innreach.batch.contribution.service.OngoingContributionEventProcessor;
+import org.folio.innreach.config.props.ContributionSchedulerProperties;
+import org.folio.innreach.domain.entity.JobExecutionStatus;
+import org.folio.innreach.domain.entity.OngoingContributionStatus;
 import org.folio.innreach.domain.entity.TenantInfo;
 import org.folio.innreach.domain.service.ContributionService;
 import org.folio.innreach.domain.service.impl.TenantScopedExecutionService;
 import org.folio.innreach.repository.JobExecutionStatusRepository;
 import org.folio.innreach.repository.OngoingContributionStatusRepository;
 import org.folio.innreach.repository.TenantInfoRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
-import javax.annotation.PostConstruct;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
 
 
 @Service
@@ -30,76 +44,159 @@ public class ContributionJobScheduler {
   private final ContributionService contributionService;
   private final OngoingContributionStatusRepository ongoingContributionStatusRepository;
   private final OngoingContributionEventProcessor ongoingContributionEventProcessor;
+  private final ContributionLeaseManager leaseManager;
+  private final OngoingContributionCoalescer ongoingContributionCoalescer;
+  private final ContributionSchedulerProperties schedulerProperties;
+  @Qualifier("contributionPollExecutor")
+  private final ThreadPoolTaskExecutor pollExecutor;
+  @Qualifier("initialSchedulerTaskExecutor")
+  private final ThreadPoolTaskExecutor initialSchedulerTaskExecutor;
+  @Qualifier("ongoingSchedulerTaskExecutor")
+  private final ThreadPoolTaskExecutor ongoingSchedulerTaskExecutor;
   @Value(value = "${contribution.fetch-limit}")
   private int recordLimit;
   @Value(value = "${contribution.item-pause}")
   private double itemPause;
+  @Value(value = "${contribution.coalescing-window}")
+  private long coalescingWindow;
   private final Cache<String, List<String>> tenantDetailsCache;
+  private TenantFairShareDispatcher initialContributionDispatcher;
+  private TenantFairShareDispatcher ongoingContributionDispatcher;
 
   @PostConstruct
-  public void postConstruct() {
-    try {
-      this.loadTenants()
-        .forEach(tenantId ->
-          tenantScopedExecutionService.runTenantScoped(tenantId, () -> {
-            jobExecutionStatusRepository.updateInProgressRecordsToReady();
-            ongoingContributionStatusRepository.updateInProgressToReady();
-          }));
-      log.info("postConstruct:: Status of the records updated to Ready successfully");
-    } catch (Exception ex) {
-      log.warn("postConstruct:: Error while updating the record status from In progress to ready {}", ex.getMessage());
-    }
+  public void initDispatchers() {
+    initialContributionDispatcher = new TenantFairShareDispatcher("initialContribution", pollExecutor,
+      freeCapacity(initialSchedulerTaskExecutor), this::getTenantQuota,
+      schedulerProperties.getMinDelay(), schedulerProperties.getMaxDelay());
+    ongoingContributionDispatcher = new TenantFairShareDispatcher("ongoingContribution", pollExecutor,
+      freeCapacity(ongoingSchedulerTaskExecutor), this::getTenantQuota,
+      schedulerProperties.getMinDelay(), schedulerProperties.getMaxDelay());
   }
 
-  @Scheduled(fixedDelayString = "${contribution.scheduler.fixed-delay}",
+  @Scheduled(fixedDelayString = "${contribution.scheduler.min-delay}",
     initialDelayString = "${contribution.scheduler.initial-delay}")
   public void processInitialContributionEvents() {
     List<String> tenants = loadTenants();
-    log.info("processInitialContributionEvents :: tenantsList {}", tenants);
-    tenants.forEach(tenant ->
-      tenantScopedExecutionService.runTenantScoped(tenant,
-        () -> {
-          try {
-            long inProgressCount = jobExecutionStatusRepository.getInProgressRecordsCount();
-            if(recordLimit > inProgressCount) {
-              log.info("processInitialContributionEvents:: Fetching new set of records");
-              jobExecutionStatusRepository.updateAndFetchJobExecutionRecordsByStatus(recordLimit, itemPause)
-                .forEach(eventProcessor::processInitialContributionEvents);
-            } else {
-              log.info("processInitialContributionEvents:: unable to fetch new records, " +
-                "as inProgress count {} is greater than fetchLimit {}", inProgressCount, recordLimit);
-            }
-            contributionService.updateStatisticsAndContributionStatus();
-          } catch (Exception ex) {
-            log.warn("Exception caught while processing Initial contribution for tenant {} {} ", tenant, ex.getMessage());
-          }
-        }
-      ));
+    log.debug("processInitialContributionEvents :: tenantsList {}", tenants);
+    initialContributionDispatcher.dispatch(tenants, this::pollInitialContributionEvents);
   }
 
-  @Scheduled(fixedDelayString = "${contribution.scheduler.fixed-delay}",
+  @Scheduled(fixedDelayString = "${contribution.scheduler.min-delay}",
     initialDelayString = "${contribution.scheduler.initial-delay}")
   public void processOngoingContributionEvents() {
     List<String> tenants = loadTenants();
-    log.info("processOngoingContributionEvents :: tenantsList {}", tenants);
-    tenants.forEach(tenant ->
-      tenantScopedExecutionService.runTenantScoped(tenant,
-        () -> {
-          try {
-            long inProgressCount = ongoingContributionStatusRepository.getInProgressRecordsCount();
-            if(recordLimit > inProgressCount) {
-              log.info("processOngoingContributionEvents:: Fetching new set of records");
-              ongoingContributionStatusRepository.updateAndFetchOngoingContributionRecordsByStatus(recordLimit)
-                .forEach(ongoingContributionEventProcessor::processOngoingContribution);
-            } else {
-              log.info("processOngoingContributionEvents:: unable to fetch new records, " +
-                "as inProgress count {} is greater than fetchLimit {}", inProgressCount, recordLimit);
-            }
-          } catch (Exception ex) {
-            log.warn("processOngoingContributionEvents:: Exception caught while processing ongoing contribution for tenant {} {} ", tenant, ex.getMessage());
+    log.debug("processOngoingContributionEvents :: tenantsList {}", tenants);
+    ongoingContributionDispatcher.dispatch(tenants, this::pollOngoingContributionEvents);
+  }
+
+  @Scheduled(fixedDelayString = "${contribution.lease.renew-interval}",
+    initialDelayString = "${contribution.scheduler.initial-delay}")
+  public void renewLeases() {
+    loadTenants().forEach(tenant -> {
+      var claimedRecords = leaseManager.getClaimedRecords(tenant);
+      if (claimedRecords.isEmpty()) {
+        return;
+      }
+      tenantScopedExecutionService.runTenantScoped(tenant, () -> {
+        try {
+          int renewed = jobExecutionStatusRepository.renewLeases(claimedRecords, leaseManager.getOwner(), leaseManager.getLeaseSeconds())
+            + ongoingContributionStatusRepository.renewLeases(claimedRecords, leaseManager.getOwner(), leaseManager.getLeaseSeconds());
+          log.info("renewLeases:: renewed leases of {} records for tenant {}", renewed, tenant);
+        } catch (Exception ex) {
+          log.warn("renewLeases:: Exception caught while renewing leases for tenant {} {}", tenant, ex.getMessage());
+        }
+      });
+    });
+  }
+
+  private int pollInitialContributionEvents(String tenant, int limit) {
+    var claimed = new AtomicInteger();
+    tenantScopedExecutionService.runTenantScoped(tenant,
+      () -> {
+        try {
+          log.info("processInitialContributionEvents:: Fetching new set of {} records for tenant {}", limit, tenant);
+          var jobs = jobExecutionStatusRepository.updateAndFetchJobExecutionRecordsByStatus(limit, itemPause,
+            leaseManager.getOwner(), leaseManager.getLeaseSeconds());
+          leaseManager.claimed(tenant, jobs.stream().map(JobExecutionStatus::getId).toList());
+          var instances = eventProcessor.prefetchInstances(jobs);
+          var sourceRecords = eventProcessor.prefetchSourceRecords(jobs);
+          var rejectedIds = dispatch(tenant, jobs, job -> List.of(job.getId()),
+            job -> eventProcessor.processInitialContributionEvents(job, instances.get(job.getInstanceId()),
+              sourceRecords.get(job.getInstanceId())));
+          if (!rejectedIds.isEmpty()) {
+            jobExecutionStatusRepository.releaseLeases(rejectedIds, leaseManager.getOwner());
+          }
+          claimed.set(jobs.size() - rejectedIds.size());
+          contributionService.updateStatisticsAndContributionStatus();
+        } catch (Exception ex) {
+          log.warn("Exception caught while processing Initial contribution for tenant {} {} ", tenant, ex.getMessage());
+        }
+      });
+    return claimed.get();
+  }
+
+  private int pollOngoingContributionEvents(String tenant, int limit) {
+    var claimed = new AtomicInteger();
+    tenantScopedExecutionService.runTenantScoped(tenant,
+      () -> {
+        try {
+          log.info("processOngoingContributionEvents:: Fetching new set of {} records for tenant {}", limit, tenant);
+          var events = ongoingContributionStatusRepository.updateAndFetchOngoingContributionRecordsByStatus(limit,
+            coalescingWindow, leaseManager.getOwner(), leaseManager.getLeaseSeconds());
+          leaseManager.claimed(tenant, events.stream().map(OngoingContributionStatus::getId).toList());
+          var batches = ongoingContributionCoalescer.coalesce(events);
+          var instances = ongoingContributionEventProcessor.prefetchInstances(batches);
+          var rejectedIds = dispatch(tenant, batches, OngoingContributionBatch::getIds,
+            batch -> ongoingContributionEventProcessor.processOngoingContributionBatch(batch, instances));
+          if (!rejectedIds.isEmpty()) {
+            ongoingContributionStatusRepository.releaseLeases(rejectedIds, leaseManager.getOwner());
           }
+          claimed.set(events.size() - rejectedIds.size());
+        } catch (Exception ex) {
+          log.warn("processOngoingContributionEvents:: Exception caught while processing ongoing contribution for tenant {} {} ", tenant, ex.getMessage());
         }
-      ));
+      });
+    return claimed.get();
+  }
+
+  private int getTenantQuota(String tenant) {
+    return schedulerProperties.getTenantQuotas().getOrDefault(tenant, recordLimit);
+  }
+
+  private static IntSupplier freeCapacity(ThreadPoolTaskExecutor executor) {
+    return () -> {
+      var threadPoolExecutor = executor.getThreadPoolExecutor();
+      return threadPoolExecutor.getMaximumPoolSize() - threadPoolExecutor.getActiveCount()
+        + threadPoolExecutor.getQueue().remainingCapacity();
+    };
+  }
+
+  /**
+   * Submits the claimed records (or batches of records) to the contribution executor and returns ids of the records that were not accepted.
+   * The executor capacity is checked before claiming, so a rejection means the executor was filled concurrently
+   * and the remaining records are not submitted.
+   */
+  private <T> List<UUID> dispatch(String tenant, List<T> records, Function<T, List<UUID>> idExtractor, Consumer<T> processing) {
+    var rejectedIds = new ArrayList<UUID>();
+    boolean rejected = false;
+    for (var record : records) {
+      var recordIds = idExtractor.apply(record);
+      if (!rejected) {
+        try {
+          processing.accept(record);
+          continue;
+        } catch (Exception ex) {
+          log.warn("dispatch:: Unable to start processing of records {} for tenant {} {}", recordIds, tenant, ex.getMessage());
+          rejected = true;
+        }
+      }
+      rejectedIds.addAll(recordIds);
+      recordIds.forEach(recordId -> leaseManager.released(tenant, recordId));
+    }
+    if (!rejectedIds.isEmpty()) {
+      log.info("dispatch:: Returning {} rejected records of tenant {} to READY", rejectedIds.size(), tenant);
+    }
+    return rejectedIds;
   }
 
   private List<String> loadTenants() {
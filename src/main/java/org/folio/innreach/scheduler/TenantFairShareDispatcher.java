@@ -0,0 +1,183 @@
+package org.folio.innreach.scheduler;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Shares the free capacity of a contribution executor between tenants using deficit round robin.
+ * <p>
+ * Every scheduler run hands out at most the free capacity of the executor. Each tenant visit adds the tenant quota to
+ * its deficit and lets the tenant claim up to the deficit. A visit cut short by the capacity is continued on the next
+ * run, so tenants with bigger quotas get a proportionally bigger share but never block the others. A tenant that
+ * claims less than it is allowed has no backlog and its deficit is dropped.
+ * <p>
+ * Tenant polls run concurrently on the poll executor. A tenant whose previous poll is still running is skipped, a poll
+ * rejected by the executor gives its allowance back and the tenant is visited first on the next run.
+ * A tenant that claimed records is polled again on the next run, a tenant without records is polled with an
+ * exponentially growing delay between {@code minDelay} and {@code maxDelay}.
+ */
+@Log4j2
+public class TenantFairShareDispatcher {
+
+  private final String name;
+  private final Executor pollExecutor;
+  private final IntSupplier freeCapacity;
+  private final ToIntFunction<String> tenantQuota;
+  private final long minDelayMillis;
+  private final long maxDelayMillis;
+  private final LongSupplier clock;
+
+  private final Map<String, Integer> deficits = new HashMap<>();
+  private final Set<String> pollingTenants = new HashSet<>();
+  private final Map<String, Long> idleDelays = new HashMap<>();
+  private final Map<String, Long> nextPollTimes = new HashMap<>();
+  private int reservedCapacity;
+  private String nextTenant;
+  private boolean visitInProgress;
+  private boolean visitFinished;
+
+  public TenantFairShareDispatcher(String name, Executor pollExecutor, IntSupplier freeCapacity,
+                                   ToIntFunction<String> tenantQuota, Duration minDelay, Duration maxDelay) {
+    this(name, pollExecutor, freeCapacity, tenantQuota, minDelay, maxDelay, System::currentTimeMillis);
+  }
+
+  TenantFairShareDispatcher(String name, Executor pollExecutor, IntSupplier freeCapacity,
+                            ToIntFunction<String> tenantQuota, Duration minDelay, Duration maxDelay, LongSupplier clock) {
+    this.name = name;
+    this.pollExecutor = pollExecutor;
+    this.freeCapacity = freeCapacity;
+    this.tenantQuota = tenantQuota;
+    this.minDelayMillis = minDelay.toMillis();
+    this.maxDelayMillis = Math.max(maxDelay.toMillis(), minDelayMillis);
+    this.clock = clock;
+  }
+
+  public synchronized void dispatch(List<String> tenants, TenantPoll poll) {
+    deficits.keySet().retainAll(tenants);
+    idleDelays.keySet().retainAll(tenants);
+    nextPollTimes.keySet().retainAll(tenants);
+    if (tenants.isEmpty()) {
+      return;
+    }
+
+    int budget = freeCapacity.getAsInt() - reservedCapacity;
+    if (budget <= 0) {
+      log.info("dispatch:: {} executor has no free capacity, skipping polling", name);
+      return;
+    }
+
+    int start = 0;
+    boolean resumeVisit = false;
+    if (nextTenant != null && tenants.contains(nextTenant)) {
+      start = (tenants.indexOf(nextTenant) + (visitFinished ? 1 : 0)) % tenants.size();
+      resumeVisit = visitInProgress && !visitFinished;
+    }
+    nextTenant = tenants.get(start);
+    visitInProgress = false;
+    visitFinished = false;
+
+    long now = clock.getAsLong();
+    for (int i = 0; i < tenants.size(); i++) {
+      var tenant = tenants.get((start + i) % tenants.size());
+      if (budget == 0) {
+        nextTenant = tenant;
+        break;
+      }
+      if (pollingTenants.contains(tenant)) {
+        log.debug("dispatch:: {} poll of tenant {} is still running", name, tenant);
+        continue;
+      }
+      if (now < nextPollTimes.getOrDefault(tenant, 0L)) {
+        continue;
+      }
+
+      int deficit = deficits.getOrDefault(tenant, 0) + (i == 0 && resumeVisit ? 0 : tenantQuota.applyAsInt(tenant));
+      int allowance = Math.min(deficit, budget);
+      deficits.put(tenant, deficit - allowance);
+      budget -= allowance;
+
+      boolean visitCut = allowance < deficit;
+      if (visitCut) {
+        nextTenant = tenant;
+        visitInProgress = true;
+      }
+      if (!startPoll(tenant, allowance, poll)) {
+        // the tenant keeps its allowance and the visit is continued on the next run
+        deficits.merge(tenant, allowance, Integer::sum);
+        nextTenant = tenant;
+        visitInProgress = true;
+        break;
+      }
+      if (visitCut) {
+        break;
+      }
+    }
+  }
+
+  private boolean startPoll(String tenant, int allowance, TenantPoll poll) {
+    log.debug("startPoll:: {} poll of tenant {} with limit {}", name, tenant, allowance);
+    reservedCapacity += allowance;
+    pollingTenants.add(tenant);
+    try {
+      CompletableFuture.supplyAsync(() -> poll.poll(tenant, allowance), pollExecutor)
+        .whenComplete((claimed, ex) -> pollCompleted(tenant, allowance, claimed, ex));
+      return true;
+    } catch (RejectedExecutionException e) {
+      log.warn("startPoll:: {} poll of tenant {} is rejected by the poll executor", name, tenant, e);
+      reservedCapacity -= allowance;
+      pollingTenants.remove(tenant);
+      return false;
+    }
+  }
+
+  private synchronized void pollCompleted(String tenant, int allowance, Integer claimed, Throwable ex) {
+    reservedCapacity -= allowance;
+    pollingTenants.remove(tenant);
+
+    if (ex != null || claimed == 0) {
+      if (ex != null) {
+        log.warn("pollCompleted:: {} poll of tenant {} failed", name, tenant, ex);
+      }
+      backOff(tenant);
+    } else {
+      idleDelays.remove(tenant);
+      nextPollTimes.remove(tenant);
+    }
+
+    if (ex == null && claimed < allowance) {
+      deficits.remove(tenant);
+      if (visitInProgress && tenant.equals(nextTenant)) {
+        // the tenant has no more records, the next run starts with the following tenant
+        visitFinished = true;
+      }
+    }
+  }
+
+  private void backOff(String tenant) {
+    long delay = idleDelays.containsKey(tenant) ? Math.min(idleDelays.get(tenant) * 2, maxDelayMillis) : minDelayMillis;
+    idleDelays.put(tenant, delay);
+    nextPollTimes.put(tenant, clock.getAsLong() + delay);
+    log.debug("backOff:: {} next poll of tenant {} in {} ms", name, tenant, delay);
+  }
+
+  @FunctionalInterface
+  public interface TenantPoll {
+
+    /**
+     * Claims at most {@code limit} records of the tenant and returns the number of claimed records.
+     */
+    int poll(String tenant, int limit);
+  }
+}
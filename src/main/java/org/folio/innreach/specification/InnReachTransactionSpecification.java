@@ -10,20 +10,24 @@ import static org.folio.innreach.util.ListUtils.mapItems;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Expression;
-import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import org.folio.innreach.domain.entity.InnReachTransaction;
+import org.folio.innreach.domain.entity.InnReachTransactionCursor;
 import org.folio.innreach.domain.entity.InnReachTransactionFilterParameters;
 import org.folio.innreach.domain.entity.InnReachTransactionFilterParameters.SortBy;
 import org.folio.innreach.domain.entity.InnReachTransactionFilterParameters.SortOrder;
+import org.folio.innreach.domain.entity.TransactionHold;
 
 @Component
 public class InnReachTransactionSpecification {
@@ -34,16 +38,37 @@ public class InnReachTransactionSpecification {
   private static final String STATE = "state";
 
   public Specification<InnReachTransaction> filterByParameters(InnReachTransactionFilterParameters parameters) {
-    return fetchHoldAndPickupLocation()
+    var specification = fetchHoldAndPickupLocation(parameters.isIncludeHold())
       .and(fieldsLookup(parameters))
-      .and(keywordLookup(parameters.getQuery()))
-      .and(sortBy(parameters.getSortBy(), parameters.getSortOrder()));
+      .and(keywordLookup(parameters.getQuery()));
+    return parameters.isKeysetPaging()
+      ? specification.and(orderByModifiedDate(parameters.getSortOrder()))
+      : specification.and(sortBy(parameters.getSortBy(), parameters.getSortOrder()));
+  }
+
+  /**
+   * Returns transactions following the cursor position in the (last modification date, id) order.
+   */
+  public Specification<InnReachTransaction> keysetAfter(InnReachTransactionCursor cursor, SortOrder sortOrder) {
+    return (transaction, cq, cb) -> {
+      if (cursor == null) {
+        return cb.conjunction();
+      }
+      var modifiedDate = modifiedDate(transaction, cb);
+      var id = transaction.<UUID>get("id");
+      if (sortOrder == DESC) {
+        return cb.and(cb.lessThanOrEqualTo(modifiedDate, cursor.modifiedDate()),
+          cb.or(cb.lessThan(modifiedDate, cursor.modifiedDate()), cb.lessThan(id, cursor.id())));
+      }
+      return cb.and(cb.greaterThanOrEqualTo(modifiedDate, cursor.modifiedDate()),
+        cb.or(cb.greaterThan(modifiedDate, cursor.modifiedDate()), cb.greaterThan(id, cursor.id())));
+    };
   }
 
   static Specification<InnReachTransaction> fieldsLookup(InnReachTransactionFilterParameters parameters) {
     return (transaction, cq, cb) -> {
       var isRequestTooLongReport = parameters.isRequestedTooLong();
-      var hold = transaction.join("hold");
+      var hold = holdPath(transaction);
 
       var typeIs = isOfType(cb, transaction, parameters);
       var stateIs = isOfState(cb, transaction, parameters);
@@ -89,31 +114,41 @@ public class InnReachTransactionSpecification {
       return cb.or(holdStateAndCreateDate, transferStateAndUpdatedDate);
   }
 
+  /*
+   * hold conditions are checked in a subquery over transaction_hold only, so that each of them is served
+   * by an index (trigram indexes for the name, author and title lookups)
+   */
   static Specification<InnReachTransaction> keywordLookup(String keyword) {
     return (transaction, cq, cb) -> {
       if (StringUtils.isBlank(keyword)) {
         return cb.conjunction();
       }
-      var lowerCaseKeyword = keyword.toLowerCase();
-
-      var hold = transaction.join("hold");
-
-      var itemIdMatch = cb.equal(hold.get("itemId"), keyword);
-      var patronIdMatch = cb.equal(hold.get("patronId"), keyword);
-      var trackingIdMatch = cb.equal(transaction.get("trackingId"), keyword);
-      var patronBarcodeMatch = cb.equal(hold.get("folioPatronBarcode"), keyword);
-      var itemBarcodeMatch = cb.equal(hold.get("folioItemBarcode"), keyword);
-      var patronNameLike = cb.like(cb.lower(hold.get("patronName")), "%" + lowerCaseKeyword + "%");
-      var itemAuthorLike = cb.like(cb.lower(hold.get("author")), "%" + lowerCaseKeyword + "%");
-      var itemTitleLike = cb.like(cb.lower(hold.get("title")), "%" + lowerCaseKeyword + "%");
-
-      return cb.or(itemIdMatch, patronIdMatch, trackingIdMatch, patronBarcodeMatch, itemBarcodeMatch, patronNameLike, itemAuthorLike, itemTitleLike);
+      var lowerCaseKeyword = "%" + keyword.toLowerCase() + "%";
+
+      var trackingIdHold = cq.subquery(UUID.class);
+      var trackingIdTransaction = trackingIdHold.from(InnReachTransaction.class);
+      trackingIdHold.select(trackingIdTransaction.get("hold").<UUID>get("id"))
+        .where(cb.equal(trackingIdTransaction.get("trackingId"), keyword));
+
+      var matchingHolds = cq.subquery(UUID.class);
+      var hold = matchingHolds.from(TransactionHold.class);
+      matchingHolds.select(hold.<UUID>get("id")).where(cb.or(
+        cb.equal(hold.get("id"), trackingIdHold),
+        cb.equal(hold.get("itemId"), keyword),
+        cb.equal(hold.get("patronId"), keyword),
+        cb.equal(hold.get("folioPatronBarcode"), keyword),
+        cb.equal(hold.get("folioItemBarcode"), keyword),
+        cb.like(cb.lower(hold.get("patronName")), lowerCaseKeyword),
+        cb.like(cb.lower(hold.get("author")), lowerCaseKeyword),
+        cb.like(cb.lower(hold.get("title")), lowerCaseKeyword)));
+
+      return transaction.get("hold").get("id").in(matchingHolds);
     };
   }
 
-  static Specification<InnReachTransaction> fetchHoldAndPickupLocation() {
+  static Specification<InnReachTransaction> fetchHoldAndPickupLocation(boolean includeHold) {
     return (transaction, cq, cb) -> {
-      if (Long.class != cq.getResultType()) {
+      if (includeHold && Long.class != cq.getResultType()) {
         var hold = transaction.fetch("hold");
         hold.fetch("pickupLocation");
       }
@@ -139,19 +174,19 @@ public class InnReachTransactionSpecification {
     return isEmpty(centralCodes) ? cb.conjunction() : transaction.get("centralServerCode").in(centralCodes);
   }
 
-  static Predicate patronAgencyIn(CriteriaBuilder cb, Join<Object, Object> hold,
+  static Predicate patronAgencyIn(CriteriaBuilder cb, Path<Object> hold,
       InnReachTransactionFilterParameters parameters) {
     var patronAgencies = parameters.getPatronAgencyCodes();
     return isEmpty(patronAgencies) ? cb.conjunction() : hold.get("patronAgencyCode").in(patronAgencies);
   }
 
-  static Predicate itemAgencyIn(CriteriaBuilder cb, Join<Object, Object> hold,
+  static Predicate itemAgencyIn(CriteriaBuilder cb, Path<Object> hold,
       InnReachTransactionFilterParameters parameters) {
     var itemAgencies = parameters.getItemAgencyCodes();
     return isEmpty(itemAgencies) ? cb.conjunction() : hold.get("itemAgencyCode").in(itemAgencies);
   }
 
-  static Predicate patronTypeIn(CriteriaBuilder cb, Join<Object, Object>  transactionHold, InnReachTransactionFilterParameters parameters) {
+  static Predicate patronTypeIn(CriteriaBuilder cb, Path<Object> transactionHold, InnReachTransactionFilterParameters parameters) {
     var patronTypes = parameters.getPatronTypes();
     if (isEmpty(patronTypes)) {
       return cb.conjunction();
@@ -160,7 +195,7 @@ public class InnReachTransactionSpecification {
     return transactionHold.get("centralPatronType").in(patronTypes);
   }
 
-  static Predicate patronNameIn(CriteriaBuilder cb, Join<Object, Object>  transactionHold, InnReachTransactionFilterParameters parameters) {
+  static Predicate patronNameIn(CriteriaBuilder cb, Path<Object> transactionHold, InnReachTransactionFilterParameters parameters) {
     var patronNames = parameters.getPatronNames();
 
     return isEmpty(patronNames) ? cb.conjunction() : transactionHold.get("patronName").in(patronNames);
@@ -168,7 +203,7 @@ public class InnReachTransactionSpecification {
 
   static Predicate itemBarcodeIn(CriteriaBuilder cb,
                                  Root<InnReachTransaction> transaction,
-                                 Join<Object, Object> hold,
+                                 Path<Object> hold,
                                  InnReachTransactionFilterParameters parameters) {
     var itemBarcodes = parameters.getItemBarcodes();
     if (isEmpty(itemBarcodes)) {
@@ -188,12 +223,40 @@ public class InnReachTransactionSpecification {
     return cb.or(shippedItemBarcodePredicate, folioItemBarcodePredicate);
   }
 
-  static Predicate centralItemTypeIn(CriteriaBuilder cb, Join<Object, Object> hold,
+  static Predicate centralItemTypeIn(CriteriaBuilder cb, Path<Object> hold,
       InnReachTransactionFilterParameters parameters) {
     var centralItemTypes = parameters.getCentralItemTypes();
     return isEmpty(centralItemTypes) ? cb.conjunction() : hold.get("centralItemType").in(centralItemTypes);
   }
 
+  /*
+   * reuses the fetch join of the hold if there is one, otherwise the hold is joined only if the query refers to it
+   */
+  @SuppressWarnings("unchecked")
+  static Path<Object> holdPath(Root<InnReachTransaction> transaction) {
+    return transaction.getFetches().stream()
+      .filter(fetch -> "hold".equals(fetch.getAttribute().getName()))
+      .map(fetch -> (Path<Object>) fetch)
+      .findFirst()
+      .orElseGet(() -> transaction.get("hold"));
+  }
+
+  static Expression<OffsetDateTime> modifiedDate(Root<InnReachTransaction> transaction, CriteriaBuilder cb) {
+    return cb.coalesce(transaction.<OffsetDateTime>get(UPDATED_DATE_FIELD),
+      transaction.<OffsetDateTime>get(CREATED_DATE_FIELD));
+  }
+
+  static Specification<InnReachTransaction> orderByModifiedDate(SortOrder sortOrder) {
+    return (transaction, cq, cb) -> {
+      var modifiedDate = modifiedDate(transaction, cb);
+      var id = transaction.get("id");
+      cq.orderBy(sortOrder == DESC
+        ? List.of(cb.desc(modifiedDate), cb.desc(id))
+        : List.of(cb.asc(modifiedDate), cb.asc(id)));
+      return cb.conjunction();
+    };
+  }
+
   static Specification<InnReachTransaction> sortBy(SortBy sortBy, SortOrder sortOrder) {
     return (transaction, cq, cb) -> {
       if (sortBy != null) {
@@ -207,7 +270,7 @@ public class InnReachTransactionSpecification {
   private static Expression<InnReachTransaction> getField(Root<InnReachTransaction> root, SortBy sort) {
     return switch (sort) {
       case TRANSACTION_TYPE, TRANSACTION_STATUS, DATE_CREATED, DATE_MODIFIED -> root.get(sort.getValue());
-      default -> root.get("hold").get(sort.getValue());
+      default -> holdPath(root).get(sort.getValue());
     };
   }
 
@@ -7,6 +7,7 @@ public class InnReachConstants {
   public static final String DE_CONTRIBUTE_INSTANCE_MSG = "De-contributing ineligible instance";
   public static final String SKIPPING_INELIGIBLE_MSG = "skipping ineligible and non-contributed item";
   public static final String MARC_ERROR_MSG = "Not a MARC Instance";
+  public static final String SUPERSEDED_EVENT_MSG = "superseded by a later event of the same record";
   public static final String INVALID_CENTRAL_SERVER_ID = "Invalid central server id";
   public static final String UNKNOWN_TYPE_MESSAGE = "Received event of unknown type";
   public static final String UNKNOWN_EVENT_NAME_MESSAGE = "Received event of unknown event name";
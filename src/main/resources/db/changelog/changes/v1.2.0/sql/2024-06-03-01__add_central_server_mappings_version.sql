@@ -0,0 +1 @@
+ALTER TABLE central_server ADD COLUMN IF NOT EXISTS mappings_version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,25 @@
+CREATE TABLE IF NOT EXISTS contributed_record
+(
+    id uuid NOT NULL,
+    central_server_id uuid NOT NULL,
+    record_type character varying NOT NULL,
+    record_id uuid NOT NULL,
+    d2ir_record_id character varying NOT NULL,
+    bib_id character varying,
+    contributed boolean NOT NULL,
+    content_hash character varying,
+    contributed_date timestamp without time zone,
+    verified_date timestamp without time zone NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_date timestamp without time zone NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_date timestamp without time zone,
+    created_by_userid uuid NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000'::uuid,
+    created_by_username character varying(255) NOT NULL DEFAULT 'SYSTEM'::character varying,
+    updated_by_userid uuid,
+    updated_by_username character varying(255),
+    CONSTRAINT pk_contributed_record PRIMARY KEY (id),
+    CONSTRAINT unq_contributed_record_server_type_record UNIQUE (central_server_id, record_type, record_id),
+    CONSTRAINT fk_contributed_record_central_server FOREIGN KEY (central_server_id)
+        REFERENCES central_server (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_contributed_record_server_bib ON contributed_record (central_server_id, bib_id);
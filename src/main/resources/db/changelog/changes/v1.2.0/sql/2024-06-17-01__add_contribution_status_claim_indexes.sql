@@ -0,0 +1,15 @@
+CREATE INDEX IF NOT EXISTS idx_job_execution_status_claimable
+    ON job_execution_status (job_id, created_date)
+    WHERE status IN ('READY', 'RETRY');
+
+CREATE INDEX IF NOT EXISTS idx_job_execution_status_in_progress
+    ON job_execution_status (job_id)
+    WHERE status = 'IN_PROGRESS';
+
+CREATE INDEX IF NOT EXISTS idx_ongoing_contribution_status_claimable
+    ON ongoing_contribution_status (created_date)
+    WHERE status IN ('READY', 'RETRY');
+
+CREATE INDEX IF NOT EXISTS idx_ongoing_contribution_status_in_progress
+    ON ongoing_contribution_status (created_date)
+    WHERE status = 'IN_PROGRESS';
@@ -0,0 +1,22 @@
+ALTER TABLE job_execution_status
+    ADD COLUMN IF NOT EXISTS lease_owner character varying,
+    ADD COLUMN IF NOT EXISTS lease_expires_at timestamp without time zone;
+
+ALTER TABLE ongoing_contribution_status
+    ADD COLUMN IF NOT EXISTS lease_owner character varying,
+    ADD COLUMN IF NOT EXISTS lease_expires_at timestamp without time zone;
+
+-- records left in progress before leases were introduced are claimed again right away
+UPDATE job_execution_status SET lease_expires_at = CURRENT_TIMESTAMP WHERE status = 'IN_PROGRESS';
+UPDATE ongoing_contribution_status SET lease_expires_at = CURRENT_TIMESTAMP WHERE status = 'IN_PROGRESS';
+
+DROP INDEX IF EXISTS idx_job_execution_status_in_progress;
+DROP INDEX IF EXISTS idx_ongoing_contribution_status_in_progress;
+
+CREATE INDEX IF NOT EXISTS idx_job_execution_status_lease
+    ON job_execution_status (lease_expires_at)
+    WHERE status = 'IN_PROGRESS';
+
+CREATE INDEX IF NOT EXISTS idx_ongoing_contribution_status_lease
+    ON ongoing_contribution_status (lease_expires_at)
+    WHERE status = 'IN_PROGRESS';
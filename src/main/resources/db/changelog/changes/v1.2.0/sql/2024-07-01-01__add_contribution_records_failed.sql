@@ -0,0 +1,7 @@
+ALTER TABLE contribution
+    ADD COLUMN IF NOT EXISTS records_failed BIGINT NOT NULL DEFAULT 0;
+
+-- statistics of running contributions are incremented from now on, start from the current state
+UPDATE contribution c
+SET records_failed = (SELECT count(*) FROM job_execution_status j WHERE j.job_id = c.job_id AND j.status = 'FAILED')
+WHERE c.status = 0 AND c.ongoing = FALSE;
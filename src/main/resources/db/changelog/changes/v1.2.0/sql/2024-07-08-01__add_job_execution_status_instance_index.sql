@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_job_execution_status_job_instance
+    ON job_execution_status (job_id, instance_id);
@@ -0,0 +1,10 @@
+DELETE FROM job_execution_status a
+    USING job_execution_status b
+    WHERE a.job_id = b.job_id
+      AND a.instance_id = b.instance_id
+      AND (a.created_date, a.id) > (b.created_date, b.id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_job_execution_status_job_instance
+    ON job_execution_status (job_id, instance_id);
+
+DROP INDEX IF EXISTS idx_job_execution_status_job_instance;
@@ -0,0 +1,28 @@
+CREATE TABLE IF NOT EXISTS circulation_notification_outbox
+(
+    id uuid NOT NULL,
+    sequence_number bigserial NOT NULL,
+    transaction_id uuid NOT NULL,
+    central_server_code character varying NOT NULL,
+    request_path character varying NOT NULL,
+    payload jsonb,
+    status character varying NOT NULL,
+    attempts integer NOT NULL DEFAULT 0,
+    next_attempt_at timestamp without time zone NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error character varying,
+    created_date timestamp without time zone NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_date timestamp without time zone,
+    created_by_userid uuid NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000'::uuid,
+    created_by_username character varying(255) NOT NULL DEFAULT 'SYSTEM'::character varying,
+    updated_by_userid uuid,
+    updated_by_username character varying(255),
+    CONSTRAINT pk_circulation_notification_outbox PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_circulation_notification_outbox_pending
+    ON circulation_notification_outbox (transaction_id, sequence_number)
+    WHERE status = 'PENDING';
+
+CREATE INDEX IF NOT EXISTS idx_circulation_notification_outbox_due
+    ON circulation_notification_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,21 @@
+CREATE TABLE IF NOT EXISTS virtual_record_deletion
+(
+    id uuid NOT NULL,
+    folio_item_id uuid,
+    folio_holding_id uuid,
+    folio_instance_id uuid,
+    folio_loan_id uuid,
+    due_at timestamp without time zone NOT NULL,
+    attempts integer NOT NULL DEFAULT 0,
+    last_error character varying,
+    created_date timestamp without time zone NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_date timestamp without time zone,
+    created_by_userid uuid NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000'::uuid,
+    created_by_username character varying(255) NOT NULL DEFAULT 'SYSTEM'::character varying,
+    updated_by_userid uuid,
+    updated_by_username character varying(255),
+    CONSTRAINT pk_virtual_record_deletion PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_virtual_record_deletion_due_at
+    ON virtual_record_deletion (due_at);
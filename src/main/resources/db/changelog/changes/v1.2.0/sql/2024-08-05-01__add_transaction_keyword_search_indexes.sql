@@ -0,0 +1,20 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+CREATE INDEX IF NOT EXISTS idx_transaction_hold_patron_name_trgm
+    ON transaction_hold USING gin (lower(patron_name) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_hold_author_trgm
+    ON transaction_hold USING gin (lower(author) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_hold_title_trgm
+    ON transaction_hold USING gin (lower(title) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_hold_item_id ON transaction_hold (item_id);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_hold_patron_id ON transaction_hold (patron_id);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_hold_folio_patron_barcode ON transaction_hold (folio_patron_barcode);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_hold_folio_item_barcode ON transaction_hold (folio_item_barcode);
+
+CREATE INDEX IF NOT EXISTS idx_inn_reach_transaction_hold_id ON inn_reach_transaction (transaction_hold_id);
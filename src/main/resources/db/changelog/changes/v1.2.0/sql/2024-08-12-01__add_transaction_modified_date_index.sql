@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_inn_reach_transaction_modified_date
+    ON inn_reach_transaction ((coalesce(updated_date, created_date)), id);
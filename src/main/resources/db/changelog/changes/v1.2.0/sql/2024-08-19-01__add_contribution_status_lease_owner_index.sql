@@ -0,0 +1,7 @@
+CREATE INDEX IF NOT EXISTS idx_job_execution_status_lease_owner
+    ON job_execution_status (lease_owner, lease_expires_at)
+    WHERE lease_owner IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_ongoing_contribution_status_lease_owner
+    ON ongoing_contribution_status (lease_owner, lease_expires_at)
+    WHERE lease_owner IS NOT NULL;
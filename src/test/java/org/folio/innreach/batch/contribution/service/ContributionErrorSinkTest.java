@@ -0,0 +1,135 @@
+package org.folio.innreach.batch.contribution.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import org.folio.innreach.config.props.ContributionErrorSinkProperties;
+import org.folio.innreach.dto.ContributionErrorDTO;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+
+class ContributionErrorSinkTest {
+
+  private static final String TENANT = "test_tenant";
+  private static final String INSERT_SQL = "INSERT INTO test_tenant_mod_inn_reach.contribution_error " +
+    "(id, contribution_id, message, record_id) VALUES (?, ?, ?, ?)";
+  private static final UUID CONTRIBUTION_ID = UUID.randomUUID();
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final FolioExecutionContext folioContext = mock(FolioExecutionContext.class);
+  private final FolioModuleMetadata moduleMetadata = mock(FolioModuleMetadata.class);
+  private final ContributionErrorSinkProperties properties = new ContributionErrorSinkProperties();
+
+  @BeforeEach
+  void setUp() {
+    when(folioContext.getTenantId()).thenReturn(TENANT);
+    when(moduleMetadata.getDBSchemaName(TENANT)).thenReturn("test_tenant_mod_inn_reach");
+  }
+
+  @Test
+  void persistIdenticalRecordErrorOnce() {
+    var sink = createSink();
+    var recordId = UUID.randomUUID();
+
+    sink.submit(CONTRIBUTION_ID, createError(recordId, "Step: [instanceContribution] error on stage : timeout"));
+    sink.submit(CONTRIBUTION_ID, createError(recordId, "Step: [instanceContribution] error on stage : timeout"));
+    sink.submit(CONTRIBUTION_ID, createError(recordId, "Step: [itemContribution] error on stage : timeout"));
+    sink.flush();
+
+    assertEquals(2, captureBatchSizes(1)[0]);
+  }
+
+  @Test
+  void persistErrorsInBatches() {
+    properties.setBatchSize(2);
+    var sink = createSink();
+
+    for (int i = 0; i < 5; i++) {
+      sink.submit(CONTRIBUTION_ID, createError(UUID.randomUUID(), "error"));
+    }
+    sink.flush();
+
+    var batchSizes = captureBatchSizes(3);
+    assertEquals(2, batchSizes[0]);
+    assertEquals(2, batchSizes[1]);
+    assertEquals(1, batchSizes[2]);
+  }
+
+  @Test
+  void flushBufferOnCallerThread_when_bufferIsFull() {
+    properties.setQueueCapacity(2);
+    var sink = createSink();
+
+    for (int i = 0; i < 3; i++) {
+      sink.submit(CONTRIBUTION_ID, createError(UUID.randomUUID(), "error"));
+    }
+
+    assertEquals(2, captureBatchSizes(1)[0]);
+  }
+
+  @Test
+  void persistOneByOne_when_batchInsertFails() {
+    var sink = createSink();
+    when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any())).thenThrow(new IllegalStateException());
+
+    sink.submit(CONTRIBUTION_ID, createError(UUID.randomUUID(), "error"));
+    sink.submit(CONTRIBUTION_ID, createError(UUID.randomUUID(), "error"));
+    sink.flush();
+
+    verify(jdbcTemplate, times(2)).update(eq(INSERT_SQL), any(), eq(CONTRIBUTION_ID), eq("error"), any());
+  }
+
+  @Test
+  void flushBufferOnShutdown() {
+    properties.setFlushInterval(Duration.ofMinutes(1));
+    var sink = createSink();
+    sink.start();
+
+    sink.submit(CONTRIBUTION_ID, createError(UUID.randomUUID(), "error"));
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+
+    sink.stop();
+
+    assertEquals(1, captureBatchSizes(1)[0]);
+  }
+
+  private ContributionErrorSink createSink() {
+    return new ContributionErrorSink(jdbcTemplate, mock(PlatformTransactionManager.class), folioContext,
+      moduleMetadata, properties);
+  }
+
+  @SuppressWarnings("unchecked")
+  private int[] captureBatchSizes(int batches) {
+    ArgumentCaptor<Collection<?>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(jdbcTemplate, times(batches)).batchUpdate(eq(INSERT_SQL), captor.capture(), anyInt(),
+      any(ParameterizedPreparedStatementSetter.class));
+    return captor.getAllValues().stream().mapToInt(Collection::size).toArray();
+  }
+
+  private static ContributionErrorDTO createError(UUID recordId, String message) {
+    var error = new ContributionErrorDTO();
+    error.setRecordId(recordId);
+    error.setMessage(message);
+    return error;
+  }
+
+}
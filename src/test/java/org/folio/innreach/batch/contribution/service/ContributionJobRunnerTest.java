@@ -23,6 +23,8 @@ import static org.folio.innreach.fixture.TestUtil.createNoRetryTemplate;
 
 import java.lang.reflect.Field;
 import java.net.SocketTimeoutException;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -119,6 +121,8 @@ class ContributionJobRunnerTest {
   private ConcurrentHashMap<String, Integer> recordsProcessed = new ConcurrentHashMap<>();
   @Mock
   private OngoingContributionStatusServiceImpl ongoingContributionStatusService;
+  @Mock
+  private InstanceContributionContextLoader contextLoader;
 
   @BeforeEach
   void setContext() {
@@ -266,7 +270,7 @@ class ContributionJobRunnerTest {
 
     jobRunner.runOngoingInstanceContribution(CENTRAL_SERVER_ID, instance, ongoingJob);
 
-    verify(recordContributor).contributeInstance(any(), any());
+    verify(recordContributor).contributeInstanceIfChanged(any(), any());
     verify(recordContributor).contributeItemsWithoutRetry(any(), any(), anyList());
     verify(ongoingContributionStatusService).updateOngoingContribution(ongoingJob, ContributionStatus.PROCESSED);
   }
@@ -539,8 +543,8 @@ class ContributionJobRunnerTest {
 
     jobRunner.runItemContribution(CENTRAL_SERVER_ID, instance, item, ongoingContributionStatus);
 
-    verify(recordContributor).contributeItems(any(), any(), anyList());
-    verify(recordContributor).contributeInstance(any(), any());
+    verify(recordContributor).contributeItemsIfChanged(any(), any(), anyList());
+    verify(recordContributor).contributeInstanceIfChanged(any(), any());
     verify(ongoingContributionStatusService).updateOngoingContribution(ongoingContributionStatus, ContributionStatus.PROCESSED);
   }
 
@@ -558,10 +562,33 @@ class ContributionJobRunnerTest {
     jobRunner.runItemContribution(CENTRAL_SERVER_ID, instance, item, ongoingContributionStatus);
 
     verify(recordContributor).deContributeItem(any(), any());
-    verify(recordContributor).contributeInstance(any(), any());
+    verify(recordContributor).contributeInstanceIfChanged(any(), any());
     verify(ongoingContributionStatusService).updateOngoingContribution(ongoingContributionStatus, ContributionStatus.PROCESSED);
   }
 
+  @Test
+  void runItemsContribution_shouldContributeItemsWithSingleRequest() throws SocketTimeoutException {
+    var instance = new Instance().source(MARC_RECORD_SOURCE);
+    var items = new LinkedHashMap<OngoingContributionStatus, Item>();
+    for (int i = 0; i < 3; i++) {
+      var item = createItem();
+      instance.addItemsItem(item);
+      var ongoingContributionStatus = new OngoingContributionStatus();
+      ongoingContributionStatus.setId(UUID.randomUUID());
+      items.put(ongoingContributionStatus, item);
+    }
+
+    when(validationService.isEligibleForContribution(any(), any(Instance.class))).thenReturn(true);
+    when(validationService.isEligibleForContribution(any(), any(Item.class))).thenReturn(true);
+
+    jobRunner.runItemsContribution(CENTRAL_SERVER_ID, instance, items);
+
+    verify(recordContributor).contributeInstanceIfChanged(any(), any());
+    verify(recordContributor).contributeItemsIfChanged(CENTRAL_SERVER_ID, instance.getHrid(), List.copyOf(items.values()));
+    items.keySet().forEach(status ->
+      verify(ongoingContributionStatusService).updateOngoingContribution(status, ContributionStatus.PROCESSED));
+  }
+
   @Test
   void testItemExceptionForOngoingJob() {
     var item = createItem();
@@ -605,7 +632,7 @@ class ContributionJobRunnerTest {
 
     jobRunner.runItemContribution(CENTRAL_SERVER_ID, instance, item, ongoingJob);
 
-    verify(recordContributor, never()).contributeItems(any(), any(), anyList());
+    verify(recordContributor, never()).contributeItemsIfChanged(any(), any(), anyList());
     verify(ongoingContributionStatusService).updateOngoingContribution(ongoingJob, SKIPPING_INELIGIBLE_MSG, ContributionStatus.FAILED);
   }
 
@@ -619,7 +646,7 @@ class ContributionJobRunnerTest {
     when(validationService.isEligibleForContribution(any(), eq(instance))).thenReturn(true);
     when(recordContributor.isContributed(any(), eq(instance), eq(item))).thenReturn(true);
 
-    doThrow(SocketTimeoutException.class).when(recordContributor).contributeInstance(any(), any());
+    doThrow(SocketTimeoutException.class).when(recordContributor).contributeInstanceIfChanged(any(), any());
 
     assertThatThrownBy(() -> jobRunner.runItemContribution(CENTRAL_SERVER_ID, instance, item, ongoingJob))
       .isInstanceOf(SocketTimeOutExceptionWrapper.class);
@@ -639,9 +666,9 @@ class ContributionJobRunnerTest {
     jobRunner.runItemMove(CENTRAL_SERVER_ID, oldInstance, newInstance, item, ongoingJob);
 
     verify(recordContributor).deContributeItem(any(), any());
-    verify(recordContributor).contributeInstance(any(), eq(oldInstance));
-    verify(recordContributor).contributeInstance(any(), eq(newInstance));
-    verify(recordContributor).contributeItems(any(), any(), anyList());
+    verify(recordContributor).contributeInstanceIfChanged(any(), eq(oldInstance));
+    verify(recordContributor).contributeInstanceIfChanged(any(), eq(newInstance));
+    verify(recordContributor).contributeItemsIfChanged(any(), any(), anyList());
     verify(ongoingContributionStatusService).updateOngoingContribution(ongoingJob, ContributionStatus.PROCESSED);
   }
 
@@ -660,9 +687,9 @@ class ContributionJobRunnerTest {
     jobRunner.runItemMove(CENTRAL_SERVER_ID, oldInstance, newInstance, item, ongoingJob);
 
     verify(recordContributor, never()).deContributeItem(any(), any());
-    verify(recordContributor, never()).contributeInstance(any(), eq(oldInstance));
-    verify(recordContributor, never()).contributeInstance(any(), eq(newInstance));
-    verify(recordContributor, never()).contributeItems(any(), any(), anyList());
+    verify(recordContributor, never()).contributeInstanceIfChanged(any(), eq(oldInstance));
+    verify(recordContributor, never()).contributeInstanceIfChanged(any(), eq(newInstance));
+    verify(recordContributor, never()).contributeItemsIfChanged(any(), any(), anyList());
     verify(recordContributor, never()).deContributeInstance(any(), eq(oldInstance));
     verify(ongoingContributionStatusService).updateOngoingContribution(ongoingJob, ContributionStatus.PROCESSED);
   }
@@ -697,9 +724,9 @@ class ContributionJobRunnerTest {
     jobRunner.runItemMove(CENTRAL_SERVER_ID, oldInstance, newInstance, item, ongoingJob);
 
     verify(recordContributor, never()).deContributeItem(any(), any());
-    verify(recordContributor, never()).contributeInstance(any(), eq(oldInstance));
-    verify(recordContributor, never()).contributeInstance(any(), eq(newInstance));
-    verify(recordContributor, never()).contributeItems(any(), any(), anyList());
+    verify(recordContributor, never()).contributeInstanceIfChanged(any(), eq(oldInstance));
+    verify(recordContributor, never()).contributeInstanceIfChanged(any(), eq(newInstance));
+    verify(recordContributor, never()).contributeItemsIfChanged(any(), any(), anyList());
     verify(ongoingContributionStatusService).updateOngoingContribution(ongoingJob, SKIPPING_INELIGIBLE_MSG, ContributionStatus.FAILED);
   }
 
@@ -716,7 +743,7 @@ class ContributionJobRunnerTest {
     jobRunner.runItemDeContribution(CENTRAL_SERVER_ID, instance, item, ongoingJob);
 
     verify(recordContributor).deContributeItem(any(), any());
-    verify(recordContributor).contributeInstance(any(), any());
+    verify(recordContributor).contributeInstanceIfChanged(any(), any());
     verify(ongoingContributionStatusService).updateOngoingContribution(ongoingJob, ContributionStatus.PROCESSED);
   }
 
@@ -732,7 +759,7 @@ class ContributionJobRunnerTest {
     jobRunner.runItemDeContribution(CENTRAL_SERVER_ID, instance, item, ongoingJob);
 
     verify(recordContributor, never()).deContributeItem(any(), any());
-    verify(recordContributor, never()).contributeInstance(any(), any());
+    verify(recordContributor, never()).contributeInstanceIfChanged(any(), any());
     verify(ongoingContributionStatusService).updateOngoingContribution(ongoingJob, SKIPPING_INELIGIBLE_MSG, ContributionStatus.FAILED);
   }
 
@@ -0,0 +1,40 @@
+package org.folio.innreach.batch.contribution.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class ContributionLeaseManagerTest {
+
+  private static final String TENANT = "test_tenant";
+
+  @Test
+  void shouldUseUniqueOwnerPerInstance() {
+    var first = new ContributionLeaseManager("host-1", 300);
+    var second = new ContributionLeaseManager("host-1", 300);
+
+    assertTrue(first.getOwner().startsWith("host-1-"));
+    assertNotEquals(first.getOwner(), second.getOwner());
+    assertEquals(300, first.getLeaseSeconds());
+  }
+
+  @Test
+  void shouldTrackClaimedRecordsPerTenant() {
+    var leaseManager = new ContributionLeaseManager("", 300);
+    var recordId = UUID.randomUUID();
+    var otherRecordId = UUID.randomUUID();
+
+    leaseManager.claimed(TENANT, List.of(recordId, otherRecordId));
+    leaseManager.released(TENANT, recordId);
+    leaseManager.released("other_tenant", otherRecordId);
+
+    assertEquals(Set.of(otherRecordId), leaseManager.getClaimedRecords(TENANT));
+    assertTrue(leaseManager.getClaimedRecords("other_tenant").isEmpty());
+  }
+}
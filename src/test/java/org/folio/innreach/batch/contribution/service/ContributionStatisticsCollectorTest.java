@@ -0,0 +1,55 @@
+package org.folio.innreach.batch.contribution.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.folio.innreach.domain.entity.ContributionStatus.DE_CONTRIBUTED;
+import static org.folio.innreach.domain.entity.ContributionStatus.FAILED;
+import static org.folio.innreach.domain.entity.ContributionStatus.PROCESSED;
+import static org.folio.innreach.domain.entity.ContributionStatus.READY;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class ContributionStatisticsCollectorTest {
+
+  private static final String TENANT = "test_tenant";
+  private static final UUID JOB_ID = UUID.randomUUID();
+
+  private final ContributionStatisticsCollector collector = new ContributionStatisticsCollector();
+
+  @Test
+  void collectCompletedRecordsUntilDrained() {
+    collector.recordCompleted(TENANT, JOB_ID, PROCESSED);
+    collector.recordCompleted(TENANT, JOB_ID, PROCESSED);
+    collector.recordCompleted(TENANT, JOB_ID, DE_CONTRIBUTED);
+    collector.recordCompleted(TENANT, JOB_ID, FAILED);
+    collector.recordCompleted(TENANT, JOB_ID, READY);
+    collector.recordCompleted("other_tenant", JOB_ID, PROCESSED);
+
+    var delta = collector.drain(TENANT).get(JOB_ID);
+
+    assertEquals(4, delta.getProcessed());
+    assertEquals(2, delta.getContributed());
+    assertEquals(1, delta.getDecontributed());
+    assertEquals(1, delta.getFailed());
+    assertTrue(collector.drain(TENANT).isEmpty());
+    assertEquals(1, collector.drain("other_tenant").get(JOB_ID).getProcessed());
+  }
+
+  @Test
+  void keepRestoredDeltaForNextDrain() {
+    collector.recordCompleted(TENANT, JOB_ID, PROCESSED);
+    var delta = collector.drain(TENANT).get(JOB_ID);
+    collector.recordCompleted(TENANT, JOB_ID, FAILED);
+
+    collector.restore(TENANT, JOB_ID, delta);
+
+    var restored = collector.drain(TENANT).get(JOB_ID);
+    assertEquals(2, restored.getProcessed());
+    assertEquals(1, restored.getContributed());
+    assertEquals(1, restored.getFailed());
+  }
+
+}
@@ -1,10 +1,13 @@
 package org.folio.innreach.batch.contribution.service;
 
 import org.folio.innreach.batch.contribution.listener.ContributionExceptionListener;
+import org.folio.innreach.client.InstanceStorageClient;
 import org.folio.innreach.controller.base.BaseControllerTest;
+import org.folio.innreach.domain.dto.folio.inventorystorage.JobResponse;
 import org.folio.innreach.domain.entity.Contribution;
 import org.folio.innreach.domain.entity.ContributionStatus;
 import org.folio.innreach.domain.entity.JobExecutionStatus;
+import org.folio.innreach.domain.service.ContributionService;
 import org.folio.innreach.domain.service.ContributionValidationService;
 import org.folio.innreach.domain.service.InventoryViewService;
 import org.folio.innreach.domain.service.RecordContributionService;
@@ -16,10 +19,12 @@ import org.folio.innreach.repository.ContributionErrorRepository;
 import org.folio.innreach.repository.ContributionRepository;
 import org.folio.innreach.repository.JobExecutionStatusRepository;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlMergeMode;
 
@@ -30,12 +35,18 @@ import java.util.Set;
 import java.util.UUID;
 
 import static org.awaitility.Awaitility.await;
+import static org.folio.innreach.fixture.JobResponseFixture.createJobResponse;
+import static org.folio.innreach.fixture.JobResponseFixture.updateJobResponse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,6 +56,7 @@ import static org.springframework.test.context.jdbc.SqlMergeMode.MergeMode.MERGE
 
 import org.folio.innreach.dto.Instance;
 import org.folio.innreach.dto.Item;
+import org.folio.innreach.dto.MappingValidationStatusDTO;
 
 @Sql(
   scripts = {
@@ -61,7 +73,7 @@ class InitialContributionEventProcessorTest extends BaseControllerTest {
   private static final Duration ASYNC_AWAIT_TIMEOUT = Duration.ofSeconds(15);
   @Autowired
   InitialContributionEventProcessor eventProcessor;
-  @Autowired
+  @SpyBean
   ContributionRepository contributionRepository;
   @SpyBean
   JobExecutionStatusRepository jobExecutionStatusRepository;
@@ -82,6 +94,12 @@ class InitialContributionEventProcessorTest extends BaseControllerTest {
 
   @Autowired
   ContributionErrorRepository contributionErrorRepository;
+  @Autowired
+  ContributionService contributionService;
+  @MockBean
+  InstanceStorageClient instanceStorageClient;
+  @Autowired
+  JdbcTemplate jdbcTemplate;
 
   @Test
   void testInvalidInstanceId() {
@@ -251,8 +269,9 @@ class InitialContributionEventProcessorTest extends BaseControllerTest {
     var jobExecutionStatus = jobExecutionStatusRepository.findById(job1.getId()).get();
     assertEquals(ContributionStatus.FAILED, jobExecutionStatus.getStatus());
     assertEquals(11, jobExecutionStatus.getRetryAttempts());
-    assertEquals(1, contributionErrorRepository.findAll().stream().filter(err -> err.getRecordId().equals(instanceId1))
-      .count());
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      assertEquals(1, contributionErrorRepository.findAll().stream().filter(err -> err.getRecordId().equals(instanceId1))
+        .count()));
 
 
     jobId = UUID.randomUUID();
@@ -272,8 +291,9 @@ class InitialContributionEventProcessorTest extends BaseControllerTest {
     jobExecutionStatus = jobExecutionStatusRepository.findById(job2.getId()).get();
     assertEquals(ContributionStatus.FAILED, jobExecutionStatus.getStatus());
     assertEquals(11, jobExecutionStatus.getRetryAttempts());
-    assertEquals(1, contributionErrorRepository.findAll().stream().filter(err -> err.getRecordId().equals(instanceId2))
-      .count());
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      assertEquals(1, contributionErrorRepository.findAll().stream().filter(err -> err.getRecordId().equals(instanceId2))
+        .count()));
   }
 
   @Test
@@ -351,6 +371,106 @@ class InitialContributionEventProcessorTest extends BaseControllerTest {
   }
 
 
+  @Test
+  @Sql(scripts = "classpath:db/contribution/clear-job-execution-status-table.sql", executionPhase = AFTER_TEST_METHOD)
+  void testResumedContributionContributesEveryInstanceOnce() {
+    UUID interruptedJobId = UUID.randomUUID();
+    var contribution = createMockContribution(interruptedJobId);
+    contribution.setStatus(Contribution.Status.CANCELLED);
+    contributionRepository.save(contribution);
+
+    var processedInstanceId = UUID.randomUUID();
+    var inProgressInstanceId = UUID.randomUUID();
+    var readyInstanceId = UUID.randomUUID();
+    saveJobExecution(interruptedJobId, processedInstanceId, ContributionStatus.PROCESSED);
+    var inProgressJob = saveJobExecution(interruptedJobId, inProgressInstanceId, ContributionStatus.IN_PROGRESS);
+    saveJobExecution(interruptedJobId, readyInstanceId, ContributionStatus.READY);
+    // the instance was being contributed by a node that stopped before the contribution was cancelled
+    jdbcTemplate.update("update job_execution_status set lease_owner = 'stopped-node', " +
+      "lease_expires_at = current_timestamp - interval '1 minute' where id = ?", inProgressJob.getId());
+
+    var interruptedJob = createJobResponse();
+    interruptedJob.setStatus(JobResponse.JobStatus.CANCELLED);
+    var failedResumeJob = createJobResponse();
+    var resumeJob = createJobResponse();
+    when(instanceStorageClient.getJobById(interruptedJobId)).thenReturn(interruptedJob);
+    when(instanceStorageClient.startInstanceIteration(any())).thenReturn(failedResumeJob, resumeJob);
+    when(instanceStorageClient.getJobById(failedResumeJob.getId())).thenReturn(completed(failedResumeJob));
+    when(instanceStorageClient.getJobById(resumeJob.getId())).thenReturn(completed(resumeJob));
+    when(validationService.getItemTypeMappingStatus(CENTRAL_SERVER_ID)).thenReturn(MappingValidationStatusDTO.VALID);
+    when(validationService.getLocationMappingStatus(CENTRAL_SERVER_ID)).thenReturn(MappingValidationStatusDTO.VALID);
+    when(validationService.isEligibleForContribution(eq(CENTRAL_SERVER_ID), any(Instance.class))).thenReturn(true);
+    when(inventoryViewService.getInstance(any())).thenAnswer(invocation -> createMockInstance(invocation.getArgument(0)));
+
+    doThrow(new IllegalStateException("Connection is closed")).doCallRealMethod()
+      .when(contributionRepository).save(any(Contribution.class));
+    assertThrows(IllegalStateException.class, () -> contributionService.resumeInitialContribution(CENTRAL_SERVER_ID));
+    contributionService.resumeInitialContribution(CENTRAL_SERVER_ID);
+
+    var resumed = contributionRepository.findById(contribution.getId()).get();
+    assertEquals(Contribution.Status.IN_PROGRESS, resumed.getStatus());
+    assertEquals(resumeJob.getId(), resumed.getJobId());
+
+    var claimedJobs = jobExecutionStatusRepository.updateAndFetchJobExecutionRecordsByStatus(50, 1, "test-node", 300);
+    claimedJobs.forEach(eventProcessor::processInitialContributionEvents);
+
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() -> {
+      verify(recordContributionService).contributeInstanceWithoutRetry(eq(CENTRAL_SERVER_ID), argThat(withId(inProgressInstanceId)));
+      verify(recordContributionService).contributeInstanceWithoutRetry(eq(CENTRAL_SERVER_ID), argThat(withId(readyInstanceId)));
+    });
+    // contributed instances wait for the item pause before their items are contributed
+    assertTrue(jobExecutionStatusRepository.updateAndFetchJobExecutionRecordsByStatus(50, 1, "test-node", 300).isEmpty());
+    verify(recordContributionService, never()).contributeInstanceWithoutRetry(any(), argThat(withId(processedInstanceId)));
+    assertEquals(3, jdbcTemplate.queryForObject("select count(*) from job_execution_status where job_id = ?",
+      Integer.class, resumeJob.getId()));
+  }
+
+  @Test
+  @Sql(scripts = "classpath:db/contribution/clear-job-execution-status-table.sql", executionPhase = AFTER_TEST_METHOD)
+  void testResumedContributionKeepsProgressOfInstancesPublishedAgain() {
+    UUID interruptedJobId = UUID.randomUUID();
+    var contribution = createMockContribution(interruptedJobId);
+    contribution.setStatus(Contribution.Status.CANCELLED);
+    contributionRepository.save(contribution);
+
+    var processedInstanceId = UUID.randomUUID();
+    var readyInstanceId = UUID.randomUUID();
+    var newInstanceId = UUID.randomUUID();
+    saveJobExecution(interruptedJobId, processedInstanceId, ContributionStatus.PROCESSED);
+    saveJobExecution(interruptedJobId, readyInstanceId, ContributionStatus.READY);
+
+    var interruptedJob = createJobResponse();
+    interruptedJob.setStatus(JobResponse.JobStatus.CANCELLED);
+    var resumeJob = createJobResponse();
+    when(instanceStorageClient.getJobById(interruptedJobId)).thenReturn(interruptedJob);
+    when(instanceStorageClient.startInstanceIteration(any())).thenReturn(resumeJob);
+    // the new iteration publishes every instance again before it is reported as completed
+    when(instanceStorageClient.getJobById(resumeJob.getId())).thenAnswer(invocation -> {
+      List.of(processedInstanceId, readyInstanceId, newInstanceId)
+        .forEach(instanceId -> saveJobExecution(resumeJob.getId(), instanceId, ContributionStatus.READY));
+      return completed(resumeJob);
+    });
+    when(validationService.getItemTypeMappingStatus(CENTRAL_SERVER_ID)).thenReturn(MappingValidationStatusDTO.VALID);
+    when(validationService.getLocationMappingStatus(CENTRAL_SERVER_ID)).thenReturn(MappingValidationStatusDTO.VALID);
+    when(validationService.isEligibleForContribution(eq(CENTRAL_SERVER_ID), any(Instance.class))).thenReturn(true);
+    when(inventoryViewService.getInstance(any())).thenAnswer(invocation -> createMockInstance(invocation.getArgument(0)));
+
+    contributionService.resumeInitialContribution(CENTRAL_SERVER_ID);
+
+    assertEquals(resumeJob.getId(), contributionRepository.findById(contribution.getId()).get().getJobId());
+    assertEquals(3, jdbcTemplate.queryForObject("select count(*) from job_execution_status where job_id = ?",
+      Integer.class, resumeJob.getId()));
+
+    var claimedJobs = jobExecutionStatusRepository.updateAndFetchJobExecutionRecordsByStatus(50, 1, "test-node", 300);
+    claimedJobs.forEach(eventProcessor::processInitialContributionEvents);
+
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() -> {
+      verify(recordContributionService).contributeInstanceWithoutRetry(eq(CENTRAL_SERVER_ID), argThat(withId(readyInstanceId)));
+      verify(recordContributionService).contributeInstanceWithoutRetry(eq(CENTRAL_SERVER_ID), argThat(withId(newInstanceId)));
+    });
+    verify(recordContributionService, never()).contributeInstanceWithoutRetry(any(), argThat(withId(processedInstanceId)));
+  }
+
   private Instance createMockInstance(UUID instanceId) {
     var instance = new Instance();
     instance.setSource("MARC");
@@ -392,4 +512,20 @@ class InitialContributionEventProcessorTest extends BaseControllerTest {
     jobExecutionStatus.setInstanceContributed(isInstanceContributed);
     return jobExecutionStatus;
   }
+
+  private JobExecutionStatus saveJobExecution(UUID jobId, UUID instanceId, ContributionStatus status) {
+    var job = createMockJobExecution(jobId, instanceId, false);
+    job.setStatus(status);
+    return jobExecutionStatusRepository.save(job);
+  }
+
+  private static JobResponse completed(JobResponse iterationJob) {
+    var completedJob = updateJobResponse();
+    completedJob.setId(iterationJob.getId());
+    return completedJob;
+  }
+
+  private static ArgumentMatcher<Instance> withId(UUID instanceId) {
+    return instance -> instance != null && instanceId.equals(instance.getId());
+  }
 }
@@ -0,0 +1,166 @@
+package org.folio.innreach.batch.contribution.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import static org.folio.innreach.external.dto.InnReachResponse.okResponse;
+import static org.folio.innreach.fixture.ContributionFixture.createInstance;
+import static org.folio.innreach.fixture.TestUtil.createNoRetryTemplate;
+import static org.folio.innreach.fixture.TestUtil.deserializeFromJsonFile;
+
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.marc4j.MarcStreamReader;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.folio.innreach.batch.contribution.listener.ContributionExceptionListener;
+import org.folio.innreach.client.CirculationClient;
+import org.folio.innreach.client.InstanceStorageClient;
+import org.folio.innreach.client.SourceRecordStorageClient;
+import org.folio.innreach.converter.marc.TransformedMARCRecordConverter;
+import org.folio.innreach.domain.dto.folio.sourcerecord.RecordFieldDTO;
+import org.folio.innreach.domain.dto.folio.sourcerecord.SourceRecordDTO;
+import org.folio.innreach.domain.service.ContributedRecordService;
+import org.folio.innreach.domain.service.ContributionMappingsService;
+import org.folio.innreach.domain.service.ContributionValidationService;
+import org.folio.innreach.domain.service.HoldingsService;
+import org.folio.innreach.domain.service.MARCTransformationOptionsSettingsService;
+import org.folio.innreach.domain.service.impl.FolioLocationService;
+import org.folio.innreach.domain.service.impl.MARCRecordTransformationServiceImpl;
+import org.folio.innreach.domain.service.impl.RecordContributionServiceImpl;
+import org.folio.innreach.domain.service.impl.RecordTransformationServiceImpl;
+import org.folio.innreach.dto.BibInfo;
+import org.folio.innreach.dto.Instance;
+import org.folio.innreach.dto.MARCTransformationOptionsSettingsDTO;
+import org.folio.innreach.external.service.InnReachContributionService;
+
+/**
+ * Contributes instances through the real transformation services, from the source record to the saved content hash.
+ */
+@ExtendWith(MockitoExtension.class)
+class InstanceContributionContentHashTest {
+
+  private static final UUID CENTRAL_SERVER_ID = UUID.randomUUID();
+
+  @Mock
+  private InstanceStorageClient instanceStorageClient;
+  @Mock
+  private SourceRecordStorageClient sourceRecordStorageClient;
+  @Mock
+  private MARCTransformationOptionsSettingsService marcTransformationSettingsService;
+  @Mock
+  private ContributionValidationService validationService;
+  @Mock
+  private HoldingsService holdingsService;
+  @Mock
+  private ContributionMappingsService mappingsService;
+  @Mock
+  private FolioLocationService folioLocationService;
+  @Mock
+  private CirculationClient circulationClient;
+  @Mock
+  private InnReachContributionService irContributionService;
+  @Mock
+  private ContributedRecordService contributedRecordService;
+  @Mock
+  private ContributionExceptionListener exceptionListener;
+
+  private RecordContributionServiceImpl contributionService;
+
+  @BeforeEach
+  void setUp() {
+    var marcService = new MARCRecordTransformationServiceImpl(instanceStorageClient, sourceRecordStorageClient,
+      marcTransformationSettingsService, new TransformedMARCRecordConverter());
+    var transformationService = new RecordTransformationServiceImpl(marcService, validationService, holdingsService,
+      mappingsService, folioLocationService, circulationClient);
+    contributionService = new RecordContributionServiceImpl(createNoRetryTemplate(), irContributionService,
+      transformationService, contributedRecordService, exceptionListener);
+
+    when(marcTransformationSettingsService.get(CENTRAL_SERVER_ID)).thenReturn(new MARCTransformationOptionsSettingsDTO()
+      .configIsActive(false)
+      .excludedMARCFields(Collections.emptyList())
+      .modifiedFieldsForContributedRecords(Collections.emptyList()));
+  }
+
+  @Test
+  void shouldSaveSameContentHashWhenOnlyLatestTransactionTimeChanges() throws SocketTimeoutException {
+    var instance = createMARCInstance();
+    when(irContributionService.contributeBib(eq(CENTRAL_SERVER_ID), any(), any())).thenReturn(okResponse());
+
+    var hash = contribute(instance, sourceRecord -> {});
+    var hashAfterReplication = contribute(instance, sourceRecord -> field(sourceRecord, "005").setValue("20240101120000.0"));
+    var hashAfterEdit = contribute(instance, sourceRecord -> field(sourceRecord, "245").getSubFields().get(0).setValue("Edited title"));
+
+    var contributedBibs = ArgumentCaptor.forClass(BibInfo.class);
+    verify(irContributionService, times(3)).contributeBib(eq(CENTRAL_SERVER_ID), eq(instance.getHrid()), contributedBibs.capture());
+    var bibs = contributedBibs.getAllValues();
+
+    assertNotEquals(bibs.get(0).getMarc21BibData(), bibs.get(1).getMarc21BibData());
+    assertEquals(hash, hashAfterReplication);
+    assertNotEquals(hash, hashAfterEdit);
+  }
+
+  @Test
+  void shouldSkipUnchangedBibWithoutParsingEncodedRecord() throws SocketTimeoutException {
+    var instance = createMARCInstance();
+    when(sourceRecordStorageClient.getRecordByInstanceId(instance.getId())).thenAnswer(invocation -> createSourceRecord());
+    when(contributedRecordService.isBibUnchanged(eq(CENTRAL_SERVER_ID), eq(instance), any())).thenReturn(true);
+
+    try (var marcReaders = mockConstruction(MarcStreamReader.class)) {
+      contributionService.contributeInstanceIfChanged(CENTRAL_SERVER_ID, instance);
+
+      assertTrue(marcReaders.constructed().isEmpty());
+    }
+
+    verify(irContributionService, never()).contributeBib(any(), any(), any());
+  }
+
+  private String contribute(Instance instance, Consumer<SourceRecordDTO> sourceRecordChange) throws SocketTimeoutException {
+    var sourceRecord = createSourceRecord();
+    sourceRecordChange.accept(sourceRecord);
+    when(sourceRecordStorageClient.getRecordByInstanceId(instance.getId())).thenReturn(sourceRecord);
+
+    contributionService.contributeInstance(CENTRAL_SERVER_ID, instance);
+
+    var contentHash = ArgumentCaptor.forClass(String.class);
+    verify(contributedRecordService, times(1)).saveBibContributed(eq(CENTRAL_SERVER_ID), eq(instance), contentHash.capture());
+    clearInvocations(contributedRecordService);
+    return contentHash.getValue();
+  }
+
+  private static Instance createMARCInstance() {
+    var instance = createInstance();
+    instance.setItems(List.of());
+    return instance;
+  }
+
+  private static SourceRecordDTO createSourceRecord() {
+    return deserializeFromJsonFile("/source-record-storage/source-record-storage-example.json", SourceRecordDTO.class);
+  }
+
+  private static RecordFieldDTO field(SourceRecordDTO sourceRecord, String code) {
+    return sourceRecord.getParsedRecord().getFields().stream()
+      .filter(field -> code.equals(field.getCode()))
+      .findFirst()
+      .orElseThrow();
+  }
+
+}
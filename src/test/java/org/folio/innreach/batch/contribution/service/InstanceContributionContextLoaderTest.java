@@ -0,0 +1,148 @@
+package org.folio.innreach.batch.contribution.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import static org.folio.innreach.fixture.ContributionFixture.createHolding;
+import static org.folio.innreach.fixture.ContributionFixture.createInstance;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.folio.innreach.client.CirculationClient;
+import org.folio.innreach.client.HoldingsStorageClient;
+import org.folio.innreach.client.SourceRecordStorageClient;
+import org.folio.innreach.domain.dto.folio.ResultList;
+import org.folio.innreach.domain.dto.folio.circulation.RequestDTO;
+import org.folio.innreach.domain.dto.folio.sourcerecord.SourceRecordDTO;
+import org.folio.innreach.dto.LoanDTO;
+
+@ExtendWith(MockitoExtension.class)
+class InstanceContributionContextLoaderTest {
+
+  @Mock
+  private HoldingsStorageClient holdingsStorageClient;
+  @Mock
+  private CirculationClient circulationClient;
+  @Mock
+  private SourceRecordStorageClient sourceRecordStorageClient;
+
+  @InjectMocks
+  private InstanceContributionContextLoader loader;
+
+  @Test
+  void shouldLoadCirculationDataOnceForAllItems() {
+    var instance = createInstance();
+    var item = instance.getItems().get(0);
+    var request = RequestDTO.builder().itemId(item.getId()).build();
+
+    when(circulationClient.queryOpenRequestsByItemIds(any(), anyInt(), eq(0)))
+      .thenReturn(ResultList.of(1, List.of(request)));
+    when(circulationClient.queryLoansByItemIdsAndStatus(any(), eq("Open"), anyInt(), eq(0)))
+      .thenReturn(ResultList.empty());
+
+    var context = loader.load(instance);
+
+    assertEquals(List.of(request), context.findOpenRequests(item.getId()).orElseThrow());
+    assertEquals(List.of(request), context.findOpenRequests(item.getId()).orElseThrow());
+    assertTrue(context.findOpenLoans(item.getId()).orElseThrow().isEmpty());
+
+    verify(circulationClient, times(1)).queryOpenRequestsByItemIds(any(), anyInt(), anyInt());
+    verify(circulationClient, times(1)).queryLoansByItemIdsAndStatus(any(), any(), anyInt(), anyInt());
+  }
+
+  @Test
+  void shouldQueryOnlyMissingHoldings() {
+    var instance = createInstance();
+    var item = instance.getItems().get(0);
+    var holding = createHolding();
+    holding.setId(item.getHoldingsRecordId());
+
+    when(holdingsStorageClient.queryHoldingsByIds(any(), eq(1))).thenReturn(ResultList.of(1, List.of(holding)));
+
+    var context = loader.load(instance);
+
+    assertEquals(holding, context.findHolding(item.getHoldingsRecordId()).orElseThrow());
+    var embeddedHolding = instance.getHoldingsRecords().get(0);
+    assertEquals(embeddedHolding, context.findHolding(embeddedHolding.getId()).orElseThrow());
+  }
+
+  @Test
+  void shouldFallBackWhenCirculationIsUnavailable() {
+    var instance = createInstance();
+    var item = instance.getItems().get(0);
+
+    when(circulationClient.queryOpenRequestsByItemIds(any(), anyInt(), anyInt()))
+      .thenThrow(new IllegalStateException("test"));
+
+    var context = loader.load(instance);
+
+    assertTrue(context.findOpenRequests(item.getId()).isEmpty());
+  }
+
+  @Test
+  void shouldNotLoadAnythingUntilAccessed() {
+    loader.load(createInstance());
+
+    verifyNoInteractions(holdingsStorageClient, circulationClient, sourceRecordStorageClient);
+  }
+
+  @Test
+  void shouldLoadSourceRecordsByChunks() {
+    var instanceIds = Stream.generate(UUID::randomUUID).limit(120).toList();
+    when(sourceRecordStorageClient.getRecordsByInstanceIds(anyList())).thenAnswer(invocation -> {
+      List<UUID> chunk = invocation.getArgument(0);
+      return ResultList.asSinglePage(chunk.stream().map(InstanceContributionContextLoaderTest::createSourceRecord).toList());
+    });
+
+    var sourceRecords = loader.loadSourceRecords(instanceIds);
+
+    assertEquals(new HashSet<>(instanceIds), sourceRecords.keySet());
+    verify(sourceRecordStorageClient, times(3)).getRecordsByInstanceIds(anyList());
+  }
+
+  @Test
+  void shouldSkipChunkWhenSourceRecordStorageIsUnavailable() {
+    var instanceIds = Stream.generate(UUID::randomUUID).limit(60).toList();
+    when(sourceRecordStorageClient.getRecordsByInstanceIds(anyList()))
+      .thenThrow(new IllegalStateException("test"))
+      .thenReturn(ResultList.asSinglePage(createSourceRecord(instanceIds.get(55))));
+
+    var sourceRecords = loader.loadSourceRecords(instanceIds);
+
+    assertEquals(Set.of(instanceIds.get(55)), sourceRecords.keySet());
+  }
+
+  @Test
+  void shouldHandOutPrefetchedSourceRecordOnce() {
+    var instance = createInstance();
+    var sourceRecord = createSourceRecord(instance.getId());
+
+    var context = loader.load(instance, sourceRecord);
+
+    assertEquals(sourceRecord, context.takeSourceRecord(instance.getId()).orElseThrow());
+    assertTrue(context.takeSourceRecord(instance.getId()).isEmpty());
+  }
+
+  private static SourceRecordDTO createSourceRecord(UUID instanceId) {
+    return SourceRecordDTO.builder().id(UUID.randomUUID()).instanceId(instanceId).build();
+  }
+
+}
@@ -5,10 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import static org.folio.innreach.external.dto.InnReachResponse.errorResponse;
 import static org.folio.innreach.external.dto.InnReachResponse.okResponse;
 import static org.folio.innreach.fixture.ContributionFixture.createContributionJobContext;
 import static org.folio.innreach.fixture.ContributionFixture.createInstance;
@@ -16,6 +16,7 @@ import static org.folio.innreach.fixture.TestUtil.createNoRetryTemplate;
 
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
+import java.util.Optional;
 import java.util.UUID;
 
 import io.swagger.models.auth.In;
@@ -33,6 +34,8 @@ import org.springframework.retry.support.RetryTemplate;
 
 import org.folio.innreach.batch.contribution.ContributionJobContext;
 import org.folio.innreach.batch.contribution.ContributionJobContextManager;
+import org.folio.innreach.domain.dto.ContributionBib;
+import org.folio.innreach.domain.service.ContributedRecordService;
 import org.folio.innreach.domain.service.RecordTransformationService;
 import org.folio.innreach.domain.service.impl.RecordContributionServiceImpl;
 import org.folio.innreach.dto.BibInfo;
@@ -43,6 +46,7 @@ class InstanceContributorTest {
 
   private static final ContributionJobContext JOB_CONTEXT = createContributionJobContext();
   private static final UUID CENTRAL_SERVER_ID = JOB_CONTEXT.getCentralServerId();
+  private static final String CONTENT_HASH = "hash";
 
   @Mock
   private InnReachContributionService irContributionService;
@@ -50,6 +54,8 @@ class InstanceContributorTest {
   private RecordTransformationService instanceTransformationService;
   @Mock
   private InnReachResponse response;
+  @Mock
+  private ContributedRecordService contributedRecordService;
   @Spy
   private RetryTemplate retryTemplate = createNoRetryTemplate();
 
@@ -67,29 +73,58 @@ class InstanceContributorTest {
   }
 
   @Test
-  void shouldContributeAndLookUp() throws SocketTimeoutException {
-    when(instanceTransformationService.getBibInfo(any(), any())).thenReturn(new BibInfo());
+  void shouldContributeAndSaveContributedBib() throws SocketTimeoutException {
+    var instance = createInstance();
+    var bib = new BibInfo();
+    when(instanceTransformationService.getContributionBib(any(), any())).thenReturn(new ContributionBib(bib, CONTENT_HASH));
     when(irContributionService.contributeBib(any(), any(), any())).thenReturn(response);
-    when(irContributionService.lookUpBib(any(),any())).thenReturn(response);
+    when(response.isOk()).thenReturn(true);
+
+    instanceContributor.contributeInstance(CENTRAL_SERVER_ID, instance);
 
+    verify(irContributionService).contributeBib(eq(CENTRAL_SERVER_ID), any(), any());
+    verify(irContributionService, never()).lookUpBib(any(), any());
+    verify(contributedRecordService).saveBibContributed(CENTRAL_SERVER_ID, instance, CONTENT_HASH);
+  }
+
+  @Test
+  void shouldContributeChangedBib() throws SocketTimeoutException {
+    var instance = createInstance();
+    var bib = new BibInfo();
+    when(instanceTransformationService.getContributionBib(any(), any())).thenReturn(new ContributionBib(bib, CONTENT_HASH));
+    when(contributedRecordService.isBibUnchanged(CENTRAL_SERVER_ID, instance, CONTENT_HASH)).thenReturn(false);
+    when(irContributionService.contributeBib(any(), any(), any())).thenReturn(response);
     when(response.isOk()).thenReturn(true);
-    when(irContributionService.lookUpBib(any(), any())).thenReturn(okResponse());
 
-    instanceContributor.contributeInstance(CENTRAL_SERVER_ID, createInstance());
+    assertTrue(instanceContributor.contributeInstanceIfChanged(CENTRAL_SERVER_ID, instance));
 
     verify(irContributionService).contributeBib(eq(CENTRAL_SERVER_ID), any(), any());
-    verify(irContributionService).lookUpBib(eq(CENTRAL_SERVER_ID), any());
+    verify(contributedRecordService).saveBibContributed(CENTRAL_SERVER_ID, instance, CONTENT_HASH);
+  }
+
+  @Test
+  void shouldSkipUnchangedBib() throws SocketTimeoutException {
+    var instance = createInstance();
+    var bib = new BibInfo();
+    when(instanceTransformationService.getContributionBib(any(), any())).thenReturn(new ContributionBib(bib, CONTENT_HASH));
+    when(contributedRecordService.isBibUnchanged(CENTRAL_SERVER_ID, instance, CONTENT_HASH)).thenReturn(true);
+
+    assertFalse(instanceContributor.contributeInstanceIfChanged(CENTRAL_SERVER_ID, instance));
+
+    verify(irContributionService, never()).contributeBib(any(), any(), any());
+    verify(contributedRecordService, never()).saveBibContributed(any(), any(), any());
   }
 
   @Test
   void testContributeInstanceWithoutRetry() {
-    when(instanceTransformationService.getBibInfo(any(), any())).thenReturn(new BibInfo());
+    when(instanceTransformationService.getContributionBib(any(), any())).thenReturn(new ContributionBib(new BibInfo(), CONTENT_HASH));
     when(irContributionService.contributeBib(any(), any(), any())).thenReturn(response);
     when(response.isOk()).thenReturn(true);
 
     instanceContributor.contributeInstanceWithoutRetry(CENTRAL_SERVER_ID, createInstance());
     verify(irContributionService).contributeBib(eq(CENTRAL_SERVER_ID), any(), any());
-    verify(instanceTransformationService).getBibInfo(eq(CENTRAL_SERVER_ID), any());
+    verify(instanceTransformationService).getContributionBib(eq(CENTRAL_SERVER_ID), any());
+    verify(contributedRecordService).saveBibContributed(eq(CENTRAL_SERVER_ID), any(), eq(CONTENT_HASH));
 
   }
 
@@ -97,7 +132,7 @@ class InstanceContributorTest {
   void shouldFailContribution() {
     var instance = createInstance();
 
-    when(instanceTransformationService.getBibInfo(any(), any())).thenReturn(new BibInfo());
+    when(instanceTransformationService.getContributionBib(any(), any())).thenReturn(new ContributionBib(new BibInfo(), CONTENT_HASH));
     when(irContributionService.contributeBib(any(), any(), any())).thenReturn(response);
     when(response.getErrors()).thenReturn(new ArrayList<>());
     when(response.isOk()).thenReturn(false);
@@ -108,18 +143,23 @@ class InstanceContributorTest {
   }
 
   @Test
-  void shouldFailVerification() {
+  void shouldNotLookUpBibSavedAsContributed() {
     var instance = createInstance();
+    when(contributedRecordService.findBibContributed(CENTRAL_SERVER_ID, instance)).thenReturn(Optional.of(true));
 
-    when(instanceTransformationService.getBibInfo(any(), any())).thenReturn(new BibInfo());
-    when(irContributionService.contributeBib(any(), any(), any())).thenReturn(response);
-    when(response.getErrors()).thenReturn(new ArrayList<>());
-    when(response.isOk()).thenReturn(true);
-    when(irContributionService.lookUpBib(any(), any())).thenReturn(errorResponse());
+    assertTrue(instanceContributor.isContributed(CENTRAL_SERVER_ID, instance));
 
-    assertThatThrownBy(() -> instanceContributor.contributeInstance(CENTRAL_SERVER_ID, instance))
-      .isInstanceOf(IllegalArgumentException.class)
-      .hasMessageContaining("Unexpected verification response:");
+    verify(irContributionService, never()).lookUpBib(any(), any());
+  }
+
+  @Test
+  void shouldSaveBibFoundByLookUp() {
+    var instance = createInstance();
+    when(irContributionService.lookUpBib(any(), any())).thenReturn(okResponse());
+
+    assertTrue(instanceContributor.isContributed(CENTRAL_SERVER_ID, instance));
+
+    verify(contributedRecordService).saveBibFound(CENTRAL_SERVER_ID, instance);
   }
 
   @Test
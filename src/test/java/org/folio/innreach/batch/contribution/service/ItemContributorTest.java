@@ -2,10 +2,12 @@ package org.folio.innreach.batch.contribution.service;
 
 import static com.google.common.collect.ImmutableList.of;
 import static org.folio.innreach.fixture.ContributionFixture.createInstance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,6 +20,8 @@ import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.folio.innreach.external.dto.InnReachResponse;
 import org.folio.innreach.external.exception.InnReachConnectionException;
@@ -36,9 +40,11 @@ import org.springframework.retry.support.RetryTemplate;
 import org.folio.innreach.batch.contribution.ContributionJobContext;
 import org.folio.innreach.batch.contribution.ContributionJobContextManager;
 import org.folio.innreach.batch.contribution.listener.ContributionExceptionListener;
+import org.folio.innreach.domain.service.ContributedRecordService;
 import org.folio.innreach.domain.service.RecordTransformationService;
 import org.folio.innreach.domain.service.impl.RecordContributionServiceImpl;
 import org.folio.innreach.external.dto.BibItem;
+import org.folio.innreach.external.dto.BibItemsInfo;
 import org.folio.innreach.external.service.InnReachContributionService;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +60,8 @@ class ItemContributorTest {
   private RecordTransformationService recordTransformationService;
   @Mock
   private ContributionExceptionListener exceptionListener;
+  @Mock
+  private ContributedRecordService contributedRecordService;
 
   @Mock
   private InnReachResponse response;
@@ -160,5 +168,46 @@ class ItemContributorTest {
 
     verify(irContributionService).deContributeBibItem(any(),any());
     verify(irContributionService).contributeBibItems(eq(JOB_CONTEXT.getCentralServerId()), any(), any());
+    verify(contributedRecordService).saveItemDeContributed(eq(JOB_CONTEXT.getCentralServerId()), any());
+    verify(contributedRecordService).saveItemsContributed(eq(JOB_CONTEXT.getCentralServerId()), eq("test"), any(), any());
+  }
+
+  @Test
+  void shouldContributeChangedItemsOnly() throws SocketTimeoutException {
+    var unchangedItem = createItem();
+    var changedItem = createItem();
+    var unchangedBibItem = BibItem.builder().itemId(unchangedItem.getHrid()).build();
+    var changedBibItem = BibItem.builder().itemId(changedItem.getHrid()).build();
+
+    when(recordTransformationService.getBibItems(any(), any(), any())).thenReturn(List.of(unchangedBibItem, changedBibItem));
+    when(recordTransformationService.getContentHash(unchangedBibItem)).thenReturn("hash1");
+    when(recordTransformationService.getContentHash(changedBibItem)).thenReturn("hash2");
+    when(contributedRecordService.findUnchangedItems(any(), eq("test"), any())).thenReturn(Set.of(unchangedItem.getId()));
+    when(irContributionService.contributeBibItems(any(), any(), any())).thenReturn(response);
+    when(response.isOk()).thenReturn(true);
+
+    var contributed = service.contributeItemsIfChanged(JOB_CONTEXT.getCentralServerId(), "test", of(unchangedItem, changedItem));
+
+    assertEquals(1, contributed);
+    verify(irContributionService).contributeBibItems(eq(JOB_CONTEXT.getCentralServerId()), eq("test"),
+      eq(BibItemsInfo.of(List.of(changedBibItem))));
+    verify(contributedRecordService).saveItemsContributed(JOB_CONTEXT.getCentralServerId(), "test",
+      of(unchangedItem, changedItem), Map.of(changedItem.getId(), "hash2"));
+  }
+
+  @Test
+  void shouldSkipUnchangedItems() throws SocketTimeoutException {
+    var item = createItem();
+    var bibItem = BibItem.builder().itemId(item.getHrid()).build();
+
+    when(recordTransformationService.getBibItems(any(), any(), any())).thenReturn(List.of(bibItem));
+    when(recordTransformationService.getContentHash(bibItem)).thenReturn("hash");
+    when(contributedRecordService.findUnchangedItems(any(), eq("test"), any())).thenReturn(Set.of(item.getId()));
+
+    var contributed = service.contributeItemsIfChanged(JOB_CONTEXT.getCentralServerId(), "test", of(item));
+
+    assertEquals(0, contributed);
+    verify(irContributionService, never()).contributeBibItems(any(), any(), any());
+    verify(contributedRecordService, never()).saveItemsContributed(any(), any(), any(), any());
   }
 }
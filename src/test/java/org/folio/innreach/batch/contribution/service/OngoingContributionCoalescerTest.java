@@ -0,0 +1,124 @@
+package org.folio.innreach.batch.contribution.service;
+
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static org.folio.innreach.domain.entity.OngoingContributionStatus.EventName.INSTANCE;
+import static org.folio.innreach.domain.entity.OngoingContributionStatus.EventName.ITEM;
+import static org.folio.innreach.domain.event.DomainEventType.CREATED;
+import static org.folio.innreach.domain.event.DomainEventType.DELETED;
+import static org.folio.innreach.domain.event.DomainEventType.UPDATED;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import org.folio.innreach.batch.contribution.OngoingContributionBatch;
+import org.folio.innreach.domain.entity.OngoingContributionStatus;
+import org.folio.innreach.domain.event.DomainEventType;
+import org.folio.innreach.dto.Instance;
+import org.folio.innreach.dto.Item;
+import org.folio.innreach.util.JsonHelper;
+
+class OngoingContributionCoalescerTest {
+
+  private static final UUID CENTRAL_SERVER_ID = randomUUID();
+  private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+  private final JsonHelper jsonHelper = new JsonHelper(new ObjectMapper().findAndRegisterModules());
+  private final OngoingContributionCoalescer coalescer = new OngoingContributionCoalescer(jsonHelper);
+  private int eventCount;
+
+  @Test
+  void shouldMergeItemUpdatesOfHoldingIntoOneBatch() {
+    var holdingId = randomUUID();
+    var item1 = new Item().id(randomUUID()).holdingsRecordId(holdingId);
+    var item2 = new Item().id(randomUUID()).holdingsRecordId(holdingId);
+    var otherItem = new Item().id(randomUUID()).holdingsRecordId(randomUUID());
+    var events = List.of(
+      itemEvent(UPDATED, item1, item1),
+      itemEvent(CREATED, item2, null),
+      itemEvent(UPDATED, item1, item1),
+      itemEvent(UPDATED, otherItem, otherItem));
+
+    var batches = coalescer.coalesce(events);
+
+    assertEquals(2, batches.size());
+    var holdingBatch = batches.get(0);
+    assertEquals(List.of(events.get(1), events.get(2)), holdingBatch.getEvents());
+    assertEquals(List.of(events.get(0)), holdingBatch.getSupersededEvents());
+    assertEquals(List.of(events.get(3)), batches.get(1).getEvents());
+  }
+
+  @Test
+  void shouldKeepLatestInstanceEvent() {
+    var instance = new Instance().id(randomUUID());
+    var events = List.of(
+      instanceEvent(UPDATED, instance),
+      instanceEvent(UPDATED, instance),
+      instanceEvent(UPDATED, new Instance().id(randomUUID())));
+
+    var batches = coalescer.coalesce(events);
+
+    assertEquals(2, batches.size());
+    assertEquals(List.of(events.get(1)), batches.get(0).getEvents());
+    assertEquals(List.of(events.get(0)), batches.get(0).getSupersededEvents());
+    assertEquals(List.of(events.get(1).getId(), events.get(0).getId()), batches.get(0).getIds());
+  }
+
+  @Test
+  void shouldProcessDeletionsAndMovesSeparately() {
+    var holdingId = randomUUID();
+    var item = new Item().id(randomUUID()).holdingsRecordId(holdingId);
+    var movedItem = new Item().id(randomUUID()).holdingsRecordId(holdingId);
+    var events = List.of(
+      itemEvent(DELETED, null, item),
+      itemEvent(UPDATED, movedItem, new Item().id(movedItem.getId()).holdingsRecordId(randomUUID())),
+      itemEvent(UPDATED, new Item().id(randomUUID()).holdingsRecordId(holdingId), null));
+
+    var batches = coalescer.coalesce(events);
+
+    assertEquals(3, batches.size());
+    assertEquals(List.of(1, 1, 1), batches.stream().map(batch -> batch.getEvents().size()).toList());
+    assertEquals(0, batches.stream().mapToInt(batch -> batch.getSupersededEvents().size()).sum());
+  }
+
+  @Test
+  void shouldNotMergeEventsOfDifferentCentralServers() {
+    var item = new Item().id(randomUUID()).holdingsRecordId(randomUUID());
+    var events = List.of(itemEvent(UPDATED, item, item), itemEvent(UPDATED, item, item));
+    events.get(1).setCentralServerId(randomUUID());
+
+    var batches = coalescer.coalesce(events);
+
+    assertEquals(List.of(List.of(events.get(0)), List.of(events.get(1))),
+      batches.stream().map(OngoingContributionBatch::getEvents).toList());
+  }
+
+  private OngoingContributionStatus itemEvent(DomainEventType type, Item newItem, Item oldItem) {
+    var event = event(ITEM, type);
+    event.setNewEntity(jsonHelper.toJson(newItem));
+    event.setOldEntity(jsonHelper.toJson(oldItem));
+    return event;
+  }
+
+  private OngoingContributionStatus instanceEvent(DomainEventType type, Instance instance) {
+    var event = event(INSTANCE, type);
+    event.setNewEntity(jsonHelper.toJson(instance));
+    return event;
+  }
+
+  private OngoingContributionStatus event(OngoingContributionStatus.EventName name, DomainEventType type) {
+    var event = new OngoingContributionStatus();
+    event.setId(randomUUID());
+    event.setDomainEventName(name);
+    event.setDomainEventType(type);
+    event.setCentralServerId(CENTRAL_SERVER_ID);
+    event.setTenant("test_tenant");
+    event.setCreatedDate(NOW.plusSeconds(eventCount++));
+    return event;
+  }
+}
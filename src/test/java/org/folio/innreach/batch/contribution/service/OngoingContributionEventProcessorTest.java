@@ -1,5 +1,6 @@
 package org.folio.innreach.batch.contribution.service;
 
+import org.folio.innreach.batch.contribution.OngoingContributionBatch;
 import org.folio.innreach.client.InstanceStorageClient;
 import org.folio.innreach.client.InventoryViewClient;
 import org.folio.innreach.controller.base.BaseControllerTest;
@@ -26,6 +27,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import java.net.SocketTimeoutException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,6 +36,7 @@ import static org.awaitility.Awaitility.await;
 import static org.folio.innreach.domain.entity.ContributionStatus.DE_CONTRIBUTED;
 import static org.folio.innreach.domain.entity.ContributionStatus.FAILED;
 import static org.folio.innreach.domain.entity.ContributionStatus.PROCESSED;
+import static org.folio.innreach.domain.entity.ContributionStatus.READY;
 import static org.folio.innreach.domain.entity.ContributionStatus.RETRY;
 import static org.folio.innreach.fixture.ContributionFixture.createHolding;
 import static org.folio.innreach.fixture.ContributionFixture.createInstance;
@@ -42,15 +45,19 @@ import static org.folio.innreach.util.InnReachConstants.INVALID_CENTRAL_SERVER_I
 import static org.folio.innreach.util.InnReachConstants.MARC_ERROR_MSG;
 import static org.folio.innreach.util.InnReachConstants.RETRY_LIMIT_MESSAGE;
 import static org.folio.innreach.util.InnReachConstants.SKIPPING_INELIGIBLE_MSG;
+import static org.folio.innreach.util.InnReachConstants.SUPERSEDED_EVENT_MSG;
 import static org.folio.innreach.util.InnReachConstants.UNKNOWN_TYPE_MESSAGE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class OngoingContributionEventProcessorTest extends BaseControllerTest {
@@ -110,9 +117,9 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
       .thenReturn(ResultList.of(1, List.of(instanceView)));
     when(inventoryViewClient.getInstanceById(holdings.getInstanceId()))
       .thenReturn(ResultList.of(1, List.of(instanceView)));
-    when(validationService.getItemTypeMappingStatus(CENTRAL_SERVER_ID))
+    when(validationService.validateItemTypeMappings(CENTRAL_SERVER_ID))
       .thenReturn(MappingValidationStatusDTO.VALID);
-    when(validationService.getLocationMappingStatus(CENTRAL_SERVER_ID))
+    when(validationService.validateLocationMappings(CENTRAL_SERVER_ID))
       .thenReturn(MappingValidationStatusDTO.VALID);
   }
 
@@ -175,8 +182,8 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
         verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService).deContributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeItems(any(), any(), any());
+    verify(recordContributionService, never()).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, never()).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService, never()).deContributeItem(any(), any());
     assertEquals(DE_CONTRIBUTED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -194,14 +201,14 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
       .thenReturn(true);
     when(recordContributionService.isContributed(any(UUID.class), any(Instance.class), any(Item.class)))
       .thenReturn(true);
-    doNothing().when(recordContributionService).contributeInstance(any(), any());
-    when(recordContributionService.contributeItems(any(), any(), any())).thenReturn(1);
+    when(recordContributionService.contributeInstanceIfChanged(any(), any())).thenReturn(true);
+    when(recordContributionService.contributeItemsIfChanged(any(), any(), any())).thenReturn(1);
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
         verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService, never()).deContributeInstance(any(), any());
-    verify(recordContributionService).contributeInstance(any(), any());
-    verify(recordContributionService).contributeItems(any(), any(), any());
+    verify(recordContributionService).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService, never()).deContributeItem(any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -219,14 +226,14 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
       .thenReturn(true);
     when(recordContributionService.isContributed(any(UUID.class), any(Instance.class), any(Item.class)))
       .thenReturn(true);
-    doNothing().when(recordContributionService).contributeInstance(any(), any());
+    when(recordContributionService.contributeInstanceIfChanged(any(), any())).thenReturn(true);
     doNothing().when(recordContributionService).deContributeItem(any(), any());
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
         verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService, never()).deContributeInstance(any(), any());
-    verify(recordContributionService).contributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeItems(any(), any(), any());
+    verify(recordContributionService).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, never()).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService).deContributeItem(any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -274,8 +281,8 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
-    verify(recordContributionService, never()).contributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeItems(any(), any(), any());
+    verify(recordContributionService, never()).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, never()).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService, never()).deContributeItem(any(), any());
     verify(recordContributionService).deContributeInstance(any(), any());
     assertEquals(DE_CONTRIBUTED, ongoingContributionStatus.getStatus());
@@ -296,8 +303,8 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
         verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService, never()).deContributeInstance(any(), any());
-    verify(recordContributionService).contributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeItems(any(), any(), any());
+    verify(recordContributionService).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, never()).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService).deContributeItem(any(), any());
     verify(recordContributionService, never()).deContributeInstance(any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
@@ -366,8 +373,8 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService).deContributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeItems(any(), any(), any());
+    verify(recordContributionService, never()).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, never()).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService, never()).deContributeItem(any(), any());
     assertEquals(DE_CONTRIBUTED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -386,14 +393,14 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
       .thenReturn(true);
     when(recordContributionService.isContributed(any(UUID.class), any(Instance.class), any(Item.class)))
       .thenReturn(true);
-    doNothing().when(recordContributionService).contributeInstance(any(), any());
-    when(recordContributionService.contributeItems(any(), any(), any())).thenReturn(1);
+    when(recordContributionService.contributeInstanceIfChanged(any(), any())).thenReturn(true);
+    when(recordContributionService.contributeItemsIfChanged(any(), any(), any())).thenReturn(1);
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService, never()).deContributeInstance(any(), any());
-    verify(recordContributionService).contributeInstance(any(), any());
-    verify(recordContributionService).contributeItems(any(), any(), any());
+    verify(recordContributionService).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService, never()).deContributeItem(any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -412,14 +419,14 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
       .thenReturn(true);
     when(recordContributionService.isContributed(any(UUID.class), any(Instance.class), any(Item.class)))
       .thenReturn(true);
-    doNothing().when(recordContributionService).contributeInstance(any(), any());
+    when(recordContributionService.contributeInstanceIfChanged(any(), any())).thenReturn(true);
     doNothing().when(recordContributionService).deContributeItem(any(), any());
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService, never()).deContributeInstance(any(), any());
-    verify(recordContributionService).contributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeItems(any(), any(), any());
+    verify(recordContributionService).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, never()).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService).deContributeItem(any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -474,7 +481,7 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService).deContributeItem(any(), any());
-    verify(recordContributionService, times(2)).contributeInstance(any(), any());
+    verify(recordContributionService, times(2)).contributeInstanceIfChanged(any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
   }
@@ -502,8 +509,8 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService).deContributeItem(any(), any());
-    verify(recordContributionService, times(2)).contributeInstance(any(), any());
-    verify(recordContributionService, times(1)).contributeItems(any(), any(), any());
+    verify(recordContributionService, times(2)).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, times(1)).contributeItemsIfChanged(any(), any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
   }
@@ -531,8 +538,8 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService).deContributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeItems(any(), any(), any());
+    verify(recordContributionService, never()).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, never()).contributeItemsIfChanged(any(), any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
   }
@@ -661,8 +668,8 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(3)).save(any()));
     verify(recordContributionService).deContributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeItems(any(), any(), any());
+    verify(recordContributionService, never()).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, never()).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService, never()).deContributeItem(any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -686,8 +693,8 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
       .thenReturn(true);
     when(recordContributionService.isContributed(any(UUID.class), any(Instance.class), any(Item.class)))
       .thenReturn(true);
-    doNothing().when(recordContributionService).contributeInstance(any(), any());
-    when(recordContributionService.contributeItems(any(), any(), any())).thenReturn(1);
+    when(recordContributionService.contributeInstanceIfChanged(any(), any())).thenReturn(true);
+    when(recordContributionService.contributeItemsIfChanged(any(), any(), any())).thenReturn(1);
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     /*
      In this test, there are 2 items under a holding so item contribution is called twice and for every
@@ -697,8 +704,8 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(4)).save(any()));
     verify(recordContributionService, never()).deContributeInstance(any(), any());
-    verify(recordContributionService, times(2)).contributeInstance(any(), any());
-    verify(recordContributionService, times(2)).contributeItems(any(), any(), any());
+    verify(recordContributionService, times(2)).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, times(2)).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService, never()).deContributeItem(any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -720,14 +727,14 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
       .thenReturn(true);
     when(recordContributionService.isContributed(any(UUID.class), any(Instance.class), any(Item.class)))
       .thenReturn(true);
-    doNothing().when(recordContributionService).contributeInstance(any(), any());
+    when(recordContributionService.contributeInstanceIfChanged(any(), any())).thenReturn(true);
     doNothing().when(recordContributionService).deContributeItem(any(), any());
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(3)).save(any()));
     verify(recordContributionService, never()).deContributeInstance(any(), any());
-    verify(recordContributionService).contributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeItems(any(), any(), any());
+    verify(recordContributionService).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, never()).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService).deContributeItem(any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -783,8 +790,8 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(3)).save(any()));
-    verify(recordContributionService, never()).contributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeItems(any(), any(), any());
+    verify(recordContributionService, never()).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, never()).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService, never()).deContributeItem(any(), any());
     verify(recordContributionService).deContributeInstance(any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
@@ -817,8 +824,8 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(4)).save(any()));
     verify(recordContributionService, never()).deContributeInstance(any(), any());
-    verify(recordContributionService, times(2)).contributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeItems(any(), any(), any());
+    verify(recordContributionService, times(2)).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService, never()).contributeItemsIfChanged(any(), any(), any());
     verify(recordContributionService, times(2)).deContributeItem(any(), any());
     verify(recordContributionService, never()).deContributeInstance(any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
@@ -897,7 +904,7 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
-    verify(recordContributionService).contributeInstance(any(), any());
+    verify(recordContributionService).contributeInstanceIfChanged(any(), any());
     verify(recordContributionService).contributeItemsWithoutRetry(any(), any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -917,7 +924,7 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
-    verify(recordContributionService).contributeInstance(any(), any());
+    verify(recordContributionService).contributeInstanceIfChanged(any(), any());
     verify(recordContributionService, never()).contributeItemsWithoutRetry(any(), any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -937,7 +944,7 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
-    verify(recordContributionService).contributeInstance(any(), any());
+    verify(recordContributionService).contributeInstanceIfChanged(any(), any());
     verify(recordContributionService, never()).contributeItemsWithoutRetry(any(), any(), any());
     assertEquals(PROCESSED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -958,7 +965,7 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService).deContributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeInstance(any(), any());
+    verify(recordContributionService, never()).contributeInstanceIfChanged(any(), any());
     verify(recordContributionService, never()).contributeItemsWithoutRetry(any(), any(), any());
     assertEquals(DE_CONTRIBUTED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -976,7 +983,7 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     when(validationService.isEligibleForContribution(any(), any(Instance.class)))
       .thenReturn(true);
     doThrow(SocketTimeoutException.class).when(recordContributionService)
-      .contributeInstance(any(), any());
+      .contributeInstanceIfChanged(any(), any());
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
@@ -1010,7 +1017,7 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService).deContributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeInstance(any(), any());
+    verify(recordContributionService, never()).contributeInstanceIfChanged(any(), any());
     verify(recordContributionService, never()).contributeItemsWithoutRetry(any(), any(), any());
     assertEquals(DE_CONTRIBUTED, ongoingContributionStatus.getStatus());
     assertNull(ongoingContributionStatus.getError());
@@ -1030,7 +1037,7 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     eventProcessor.processOngoingContribution(ongoingContributionStatus);
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
-    verify(recordContributionService, never()).contributeInstance(any(), any());
+    verify(recordContributionService, never()).contributeInstanceIfChanged(any(), any());
     verify(recordContributionService, never()).contributeItemsWithoutRetry(any(), any(), any());
     verify(recordContributionService).deContributeInstance(any(), any());
     assertEquals(RETRY, ongoingContributionStatus.getStatus());
@@ -1050,7 +1057,7 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService, never()).deContributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeInstance(any(), any());
+    verify(recordContributionService, never()).contributeInstanceIfChanged(any(), any());
     verify(recordContributionService, never()).contributeItemsWithoutRetry(any(), any(), any());
     assertEquals(FAILED, ongoingContributionStatus.getStatus());
     assertEquals(SKIPPING_INELIGIBLE_MSG, ongoingContributionStatus.getError());
@@ -1065,12 +1072,94 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
     await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
       verify(ongoingContributionStatusRepository, times(2)).save(any()));
     verify(recordContributionService, never()).deContributeInstance(any(), any());
-    verify(recordContributionService, never()).contributeInstance(any(), any());
+    verify(recordContributionService, never()).contributeInstanceIfChanged(any(), any());
     verify(recordContributionService, never()).contributeItemsWithoutRetry(any(), any(), any());
     assertEquals(FAILED, ongoingContributionStatus.getStatus());
     assertEquals(UNKNOWN_TYPE_MESSAGE, ongoingContributionStatus.getError());
   }
 
+  @Test
+  void testItemUpdateBatchFailsOnlyEventOverRetryLimit() throws SocketTimeoutException {
+    var events = saveItemUpdateEvents(3, CENTRAL_SERVER_ID);
+    var staleEvent = events.get(1);
+    staleEvent.setRetryAttempts(2);
+    when(validationService.isEligibleForContribution(any(UUID.class), any(Item.class)))
+      .thenReturn(true);
+    when(validationService.isEligibleForContribution(any(UUID.class), any(Instance.class)))
+      .thenReturn(true);
+    when(recordContributionService.isContributed(any(UUID.class), any(Instance.class), any(Item.class)))
+      .thenReturn(false);
+    when(recordContributionService.contributeInstanceIfChanged(any(), any())).thenReturn(true);
+    when(recordContributionService.contributeItemsIfChanged(any(), any(), any())).thenReturn(2);
+    eventProcessor.processOngoingContributionBatch(new OngoingContributionBatch(events, List.of()));
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      assertTrue(events.stream().allMatch(event -> event.getStatus() != READY)));
+    assertEquals(FAILED, staleEvent.getStatus());
+    assertEquals(RETRY_LIMIT_MESSAGE, staleEvent.getError());
+    assertEquals(PROCESSED, events.get(0).getStatus());
+    assertEquals(PROCESSED, events.get(2).getStatus());
+    verify(recordContributionService).contributeInstanceIfChanged(any(), any());
+    verify(recordContributionService).contributeItemsIfChanged(any(), any(), argThat(items -> items.size() == 2));
+  }
+
+  @Test
+  void testItemUpdateBatchWithNonMarcRecord() {
+    instance.setSource("Non marc");
+    var events = saveItemUpdateEvents(2, CENTRAL_SERVER_ID);
+    eventProcessor.processOngoingContributionBatch(new OngoingContributionBatch(events, List.of()));
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      assertTrue(events.stream().allMatch(event -> event.getStatus() == FAILED)));
+    events.forEach(event -> assertEquals(MARC_ERROR_MSG, event.getError()));
+    verifyNoInteractions(recordContributionService);
+  }
+
+  @Test
+  void testItemUpdateBatchWithInvalidCentralServerId() {
+    var events = saveItemUpdateEvents(2, UUID.randomUUID());
+    eventProcessor.processOngoingContributionBatch(new OngoingContributionBatch(events, List.of()));
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      assertTrue(events.stream().allMatch(event -> event.getStatus() == FAILED)));
+    events.forEach(event -> assertEquals(INVALID_CENTRAL_SERVER_ID, event.getError()));
+    verifyNoInteractions(recordContributionService);
+  }
+
+  @Test
+  void testItemUpdateBatchRetriesAllEventsOnConnectionError() throws SocketTimeoutException {
+    var events = saveItemUpdateEvents(2, CENTRAL_SERVER_ID);
+    when(validationService.isEligibleForContribution(any(UUID.class), any(Item.class)))
+      .thenReturn(true);
+    when(validationService.isEligibleForContribution(any(UUID.class), any(Instance.class)))
+      .thenReturn(true);
+    when(recordContributionService.isContributed(any(UUID.class), any(Instance.class), any(Item.class)))
+      .thenReturn(false);
+    when(recordContributionService.contributeInstanceIfChanged(any(), any())).thenThrow(InnReachConnectionException.class);
+    eventProcessor.processOngoingContributionBatch(new OngoingContributionBatch(events, List.of()));
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      assertTrue(events.stream().allMatch(event -> event.getStatus() == RETRY)));
+    events.forEach(event -> assertEquals(1, event.getRetryAttempts()));
+  }
+
+  @Test
+  void testSupersededItemUpdateEventIsCompletedWithoutContribution() throws SocketTimeoutException {
+    var events = saveItemUpdateEvents(2, CENTRAL_SERVER_ID);
+    var supersededEvent = events.get(0);
+    var latestEvent = events.get(1);
+    when(validationService.isEligibleForContribution(any(UUID.class), any(Item.class)))
+      .thenReturn(true);
+    when(validationService.isEligibleForContribution(any(UUID.class), any(Instance.class)))
+      .thenReturn(true);
+    when(recordContributionService.isContributed(any(UUID.class), any(Instance.class), any(Item.class)))
+      .thenReturn(false);
+    when(recordContributionService.contributeInstanceIfChanged(any(), any())).thenReturn(true);
+    when(recordContributionService.contributeItemsIfChanged(any(), any(), any())).thenReturn(1);
+    eventProcessor.processOngoingContributionBatch(new OngoingContributionBatch(List.of(latestEvent), List.of(supersededEvent)));
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      assertEquals(PROCESSED, latestEvent.getStatus()));
+    assertEquals(PROCESSED, supersededEvent.getStatus());
+    assertEquals(SUPERSEDED_EVENT_MSG, supersededEvent.getError());
+    verify(recordContributionService).contributeItemsIfChanged(any(), any(), argThat(items -> items.size() == 1));
+  }
+
   private DomainEvent<Item> createItemDomainEvent(UUID itemId, DomainEventType eventType) {
     var oldItem = createItem().id(itemId);
     var newItem = createItem().id(itemId);
@@ -1107,6 +1196,18 @@ class OngoingContributionEventProcessorTest extends BaseControllerTest {
       .build();
   }
 
+  private List<OngoingContributionStatus> saveItemUpdateEvents(int count, UUID centralServerId) {
+    when(holdingsService.find(holdingId)).thenReturn(Optional.of(holdings));
+    var events = new ArrayList<OngoingContributionStatus>();
+    for (int i = 0; i < count; i++) {
+      var event = createItemDomainEvent(UUID.randomUUID(), DomainEventType.UPDATED);
+      event.getData().getOldEntity().setHoldingsRecordId(holdingId);
+      event.getData().getNewEntity().setHoldingsRecordId(holdingId);
+      events.add(saveOngoingContributionStatus(ongoingContributionStatusMapper.convertItemToEntity(event), centralServerId));
+    }
+    return events;
+  }
+
   private OngoingContributionStatus saveOngoingContributionStatus(OngoingContributionStatus ongoingContributionStatus, UUID centralServerId) {
     ongoingContributionStatus.setTenant(TENANT);
     ongoingContributionStatus.setCentralServerId(centralServerId);
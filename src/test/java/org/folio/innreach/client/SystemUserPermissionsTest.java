@@ -0,0 +1,67 @@
+package org.folio.innreach.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.folio.innreach.fixture.TestUtil.readFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Batch lookups made on behalf of the system user silently fall back to single record lookups when
+ * Okapi rejects them, so the permissions they need are checked against the system user definitions here.
+ */
+class SystemUserPermissionsTest {
+
+  private static final String MODULE_DESCRIPTOR_PATH = "descriptors/ModuleDescriptor-template.json";
+  private static final String SYSTEM_USER_PERMISSIONS_PATH = "permissions/mod-innreach.csv";
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    // HoldingsStorageClient#queryHoldingsByIds
+    "inventory-storage.holdings.collection.get",
+    // CirculationClient#queryOpenRequestsByItemIds
+    "circulation.requests.collection.get",
+    // CirculationClient#queryLoansByItemIdsAndStatus
+    "circulation.loans.collection.get",
+    // SourceRecordStorageClient#getRecordsByInstanceIds
+    "source-storage.sourceRecords.get"
+  })
+  void systemUserIsGrantedPermissionsOfBatchLookups(String permission) throws IOException {
+    assertTrue(getSystemUserPermissions().contains(permission), permission + " is missing in " + SYSTEM_USER_PERMISSIONS_PATH);
+    assertTrue(getModuleDescriptorUserPermissions().contains(permission), permission + " is missing in " + MODULE_DESCRIPTOR_PATH);
+  }
+
+  @Test
+  void systemUserPermissionsMatchModuleDescriptor() throws IOException {
+    assertEquals(getModuleDescriptorUserPermissions(), getSystemUserPermissions());
+  }
+
+  private static Set<String> getSystemUserPermissions() {
+    var permissions = new HashSet<String>();
+    readFile(SYSTEM_USER_PERMISSIONS_PATH).lines()
+      .map(String::trim)
+      .filter(StringUtils::isNotEmpty)
+      .forEach(permissions::add);
+    return permissions;
+  }
+
+  private static Set<String> getModuleDescriptorUserPermissions() throws IOException {
+    var descriptor = new ObjectMapper().readTree(Files.readString(Path.of(MODULE_DESCRIPTOR_PATH)));
+    var permissions = new HashSet<String>();
+    descriptor.path("metadata").path("user").path("permissions")
+      .forEach(permission -> permissions.add(permission.asText()));
+    return permissions;
+  }
+
+}
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
@@ -32,6 +33,8 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlMergeMode;
@@ -53,6 +56,7 @@ import org.folio.spring.data.OffsetRequest;
 
 @Sql(
   scripts = {
+    "classpath:db/contribution/clear-job-execution-status-table.sql",
     "classpath:db/contribution/clear-contribution-tables.sql",
     "classpath:db/mtype-mapping/clear-material-type-mapping-table.sql",
     "classpath:db/inn-reach-location/clear-inn-reach-location-tables.sql",
@@ -66,6 +70,15 @@ class ContributionControllerTest extends BaseControllerTest {
   private static final UUID PRE_POPULATED_CENTRAL_SERVER_ID = UUID.fromString("edab6baf-c696-42b1-89bb-1bbb8759b0d2");
   private static final UUID PRE_POPULATED_CONTRIBUTION_ID = UUID.fromString("ae274737-c398-4cf6-8dd3-d228e5b1f608");
   private static final UUID PRE_POPULATED_ITERATION_JOB_ID = UUID.fromString("a193f510-b178-4ce6-ab70-d8e09f646a2d");
+  private static final String INSERT_JOB_RECORDS = """
+    insert into job_execution_status (id, instance_id, job_id, type, tenant, status, created_date)
+    select md5(random()::text || n)::uuid, md5(random()::text || n)::uuid, ?, 'INITIAL', 'test_tenant', ?, current_timestamp
+    from generate_series(1, ?) n
+    """;
+  private static final String COUNT_CLAIMABLE_RECORDS = """
+    select count(*) from job_execution_status t inner join contribution c on c.job_id = t.job_id
+    where c.status = 0 and t.status in ('READY', 'RETRY')
+    """;
 
   @MockBean
   private InstanceStorageClient instanceStorageClient;
@@ -76,6 +89,8 @@ class ContributionControllerTest extends BaseControllerTest {
   private ContributionRepository repository;
   @Autowired
   private ContributionMapper mapper;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
   @MockBean
   private MaterialTypesClient materialTypesClient;
   @MockBean
@@ -330,6 +345,114 @@ class ContributionControllerTest extends BaseControllerTest {
     assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
   }
 
+  @Test
+  @Sql(scripts = {
+    "classpath:db/central-server/pre-populate-central-server.sql",
+    "classpath:db/contribution/pre-populate-contribution.sql",
+    "classpath:db/mtype-mapping/pre-populate-material-type-mapping.sql",
+    "classpath:db/inn-reach-location/pre-populate-inn-reach-location-code.sql",
+    "classpath:db/lib-mapping/pre-populate-another-library-mapping.sql",
+  })
+  void return204HttpCode_whenCancelledContributionResumed() {
+    var iterationJob = updateJobResponse();
+    iterationJob.setId(PRE_POPULATED_ITERATION_JOB_ID);
+    when(instanceStorageClient.getJobById(PRE_POPULATED_ITERATION_JOB_ID)).thenReturn(iterationJob);
+    when(materialTypesClient.getMaterialTypes(anyString(), anyInt())).thenReturn(createMaterialTypes());
+    when(irLocationService.getAllLocations(any())).thenReturn(createIrLocations());
+    insertJobRecords(PRE_POPULATED_ITERATION_JOB_ID, "PROCESSED", 3);
+    insertJobRecords(PRE_POPULATED_ITERATION_JOB_ID, "FAILED", 1);
+    insertJobRecords(PRE_POPULATED_ITERATION_JOB_ID, "READY", 2);
+
+    makeCurrentContributionLatest();
+    cancelCurrentContribution();
+    assertEquals(0, countClaimableRecords());
+
+    var responseEntity = resumeContribution();
+
+    assertEquals(HttpStatus.NO_CONTENT, responseEntity.getStatusCode());
+    verify(instanceStorageClient, never()).startInstanceIteration(any(InstanceIterationRequest.class));
+
+    var resumed = repository.findById(PRE_POPULATED_CONTRIBUTION_ID).get();
+    assertEquals(Contribution.Status.IN_PROGRESS, resumed.getStatus());
+    assertEquals(PRE_POPULATED_ITERATION_JOB_ID, resumed.getJobId());
+    assertEquals(2, countClaimableRecords());
+  }
+
+  @Test
+  @Sql(scripts = {
+    "classpath:db/central-server/pre-populate-central-server.sql",
+    "classpath:db/contribution/pre-populate-contribution.sql",
+    "classpath:db/mtype-mapping/pre-populate-material-type-mapping.sql",
+    "classpath:db/inn-reach-location/pre-populate-inn-reach-location-code.sql",
+    "classpath:db/lib-mapping/pre-populate-another-library-mapping.sql",
+  })
+  void return204HttpCode_whenContributionResumedWithInterruptedIteration() {
+    var interruptedJob = createJobResponse();
+    interruptedJob.setId(PRE_POPULATED_ITERATION_JOB_ID);
+    interruptedJob.setStatus(JobResponse.JobStatus.CANCELLED);
+    var newJob = createJobResponse();
+    var completedNewJob = updateJobResponse();
+    completedNewJob.setId(newJob.getId());
+    when(instanceStorageClient.getJobById(PRE_POPULATED_ITERATION_JOB_ID)).thenReturn(interruptedJob);
+    when(instanceStorageClient.startInstanceIteration(any(InstanceIterationRequest.class))).thenReturn(newJob);
+    when(instanceStorageClient.getJobById(newJob.getId())).thenReturn(completedNewJob);
+    when(materialTypesClient.getMaterialTypes(anyString(), anyInt())).thenReturn(createMaterialTypes());
+    when(irLocationService.getAllLocations(any())).thenReturn(createIrLocations());
+    insertJobRecords(PRE_POPULATED_ITERATION_JOB_ID, "PROCESSED", 3);
+    insertJobRecords(PRE_POPULATED_ITERATION_JOB_ID, "READY", 2);
+
+    makeCurrentContributionLatest();
+    cancelCurrentContribution();
+    var responseEntity = resumeContribution();
+
+    assertEquals(HttpStatus.NO_CONTENT, responseEntity.getStatusCode());
+
+    var resumed = repository.findById(PRE_POPULATED_CONTRIBUTION_ID).get();
+    assertEquals(Contribution.Status.IN_PROGRESS, resumed.getStatus());
+    assertEquals(newJob.getId(), resumed.getJobId());
+    assertEquals(completedNewJob.getNumberOfRecordsPublished().longValue(), resumed.getRecordsTotal());
+    assertEquals(5, jdbcTemplate.queryForObject("select count(*) from job_execution_status where job_id = ?",
+      Integer.class, newJob.getId()));
+    assertEquals(2, countClaimableRecords());
+  }
+
+  @Test
+  @Sql(scripts = {
+    "classpath:db/central-server/pre-populate-central-server.sql",
+    "classpath:db/contribution/pre-populate-contribution.sql"
+  })
+  void return400HttpCode_whenResumingContributionInProgress() {
+    var responseEntity = resumeContribution();
+
+    assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+  }
+
+  private ResponseEntity<Void> resumeContribution() {
+    return testRestTemplate.postForEntity(
+      "/inn-reach/central-servers/{centralServerId}/contributions/resume", HttpEntity.EMPTY, Void.class,
+      PRE_POPULATED_CENTRAL_SERVER_ID);
+  }
+
+  private void makeCurrentContributionLatest() {
+    jdbcTemplate.update("update contribution set created_date = created_date - interval '1 day' where id <> ?",
+      PRE_POPULATED_CONTRIBUTION_ID);
+  }
+
+  private void cancelCurrentContribution() {
+    var responseEntity = testRestTemplate.exchange(
+      "/inn-reach/central-servers/{centralServerId}/contributions/current", HttpMethod.DELETE, HttpEntity.EMPTY, Void.class,
+      PRE_POPULATED_CENTRAL_SERVER_ID);
+    assertEquals(HttpStatus.NO_CONTENT, responseEntity.getStatusCode());
+  }
+
+  private int countClaimableRecords() {
+    return jdbcTemplate.queryForObject(COUNT_CLAIMABLE_RECORDS, Integer.class);
+  }
+
+  private void insertJobRecords(UUID jobId, String status, int count) {
+    jdbcTemplate.update(INSERT_JOB_RECORDS, jobId, status, count);
+  }
+
   @Test
   void shouldDeserializeJsonJobResponse() {
     var jobResponse = deserializeFromJsonFile("/contribution/job-response.json", JobResponse.class);
@@ -64,6 +64,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -311,6 +312,69 @@ class InnReachTransactionControllerTest extends BaseControllerTest {
     assertEquals(1, transactions.size());
   }
 
+  @Test
+  @Sql(scripts = {
+    "classpath:db/central-server/pre-populate-central-server.sql",
+    "classpath:db/inn-reach-transaction/pre-populate-inn-reach-transaction.sql"
+  })
+  void return200HttpCode_and_pagesOfTransactions_when_getAllTransactionsWithCursor() {
+    var firstPage = testRestTemplate.getForEntity(
+      "/inn-reach/transactions?cursor=*&limit=2", InnReachTransactionsDTO.class
+    );
+
+    assertEquals(HttpStatus.OK, firstPage.getStatusCode());
+    assertNotNull(firstPage.getBody());
+    assertEquals(3, firstPage.getBody().getTotalRecords());
+    assertEquals(2, firstPage.getBody().getTransactions().size());
+    assertNotNull(firstPage.getBody().getNextCursor());
+
+    var lastPage = testRestTemplate.getForEntity(
+      "/inn-reach/transactions?cursor={cursor}&limit=2&countTotal=false", InnReachTransactionsDTO.class,
+      firstPage.getBody().getNextCursor()
+    );
+
+    assertEquals(HttpStatus.OK, lastPage.getStatusCode());
+    assertNotNull(lastPage.getBody());
+    assertNull(lastPage.getBody().getTotalRecords());
+    assertNull(lastPage.getBody().getNextCursor());
+    assertEquals(1, lastPage.getBody().getTransactions().size());
+
+    var transactionIds = Stream.concat(firstPage.getBody().getTransactions().stream(),
+        lastPage.getBody().getTransactions().stream())
+      .map(InnReachTransactionDTO::getId).collect(Collectors.toSet());
+    assertEquals(Set.of(PRE_POPULATED_PATRON_HOLD_TRANSACTION_ID, PRE_POPULATED_ITEM_HOLD_TRANSACTION_ID,
+      PRE_POPULATED_LOCAL_HOLD_TRANSACTION_ID), transactionIds);
+  }
+
+  @Test
+  void return400HttpCode_when_getAllTransactionsWithInvalidCursor() {
+    var responseEntity = testRestTemplate.getForEntity(
+      "/inn-reach/transactions?cursor=invalid", Error.class
+    );
+
+    assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+  }
+
+  @Test
+  @Sql(scripts = {
+    "classpath:db/central-server/pre-populate-central-server.sql",
+    "classpath:db/inn-reach-transaction/pre-populate-inn-reach-transaction.sql"
+  })
+  void return200HttpCode_and_transactionsWithoutHolds_when_getAllTransactionsWithoutHoldAndTotal() {
+    var responseEntity = testRestTemplate.getForEntity(
+      "/inn-reach/transactions?includeHold=false&countTotal=false&state=PATRON_HOLD", InnReachTransactionsDTO.class
+    );
+
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertNotNull(responseEntity.getBody());
+    assertNull(responseEntity.getBody().getTotalRecords());
+
+    var transactions = responseEntity.getBody().getTransactions();
+    assertEquals(1, transactions.size());
+    assertEquals(PRE_POPULATED_PATRON_HOLD_TRANSACTION_ID, transactions.get(0).getId());
+    assertNull(transactions.get(0).getHold());
+  }
+
   @Test
   @Sql(scripts = {
     "classpath:db/central-server/pre-populate-central-server.sql",
@@ -1800,7 +1864,7 @@ class InnReachTransactionControllerTest extends BaseControllerTest {
       cancelRequest.getCancellationAdditionalInformation());
 
     verify(actionNotifier).reportCancelItemHold(any());
-    verify(innReachClient).postInnReachApi(any(), anyString(), anyString(), anyString());
+    await().untilAsserted(() -> verify(innReachClient).postInnReachApi(any(), anyString(), anyString(), anyString()));
   }
 
   @ParameterizedTest
@@ -1831,7 +1895,7 @@ class InnReachTransactionControllerTest extends BaseControllerTest {
 
     verify(circulationClient, never()).updateRequest(eq(PRE_POPULATED_PATRON_HOLD_REQUEST_ID), any());
     verify(actionNotifier).reportCancelItemHold(any());
-    verify(innReachClient).postInnReachApi(any(), anyString(), anyString(), anyString());
+    await().untilAsserted(() -> verify(innReachClient).postInnReachApi(any(), anyString(), anyString(), anyString()));
   }
 
   @ParameterizedTest
@@ -1862,7 +1926,7 @@ class InnReachTransactionControllerTest extends BaseControllerTest {
 
     verify(circulationClient, never()).updateRequest(eq(PRE_POPULATED_PATRON_HOLD_REQUEST_ID), any());
     verify(actionNotifier).reportCancelItemHold(any());
-    verify(innReachClient).postInnReachApi(any(), anyString(), anyString(), anyString());
+    await().untilAsserted(() -> verify(innReachClient).postInnReachApi(any(), anyString(), anyString(), anyString()));
   }
 
   @ParameterizedTest
@@ -1890,7 +1954,7 @@ class InnReachTransactionControllerTest extends BaseControllerTest {
 
     verify(circulationClient, never()).updateRequest(eq(PRE_POPULATED_PATRON_HOLD_REQUEST_ID), any());
     verify(actionNotifier).reportReturnUncirculated(any());
-    verify(innReachClient).postInnReachApi(any(), anyString(), anyString(), anyString());
+    await().untilAsserted(() -> verify(innReachClient).postInnReachApi(any(), anyString(), anyString(), anyString()));
   }
 
   @Test
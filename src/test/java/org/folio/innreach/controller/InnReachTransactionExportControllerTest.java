@@ -0,0 +1,117 @@
+package org.folio.innreach.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+import static org.springframework.test.context.jdbc.SqlMergeMode.MergeMode.MERGE;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlMergeMode;
+
+import org.folio.innreach.controller.base.BaseControllerTest;
+import org.folio.innreach.dto.InnReachTransactionDTO;
+
+@Sql(
+  scripts = {"classpath:db/inn-reach-transaction/clear-inn-reach-transaction-tables.sql",
+    "classpath:db/central-server/clear-central-server-tables.sql"
+  },
+  executionPhase = AFTER_TEST_METHOD
+)
+@SqlMergeMode(MERGE)
+class InnReachTransactionExportControllerTest extends BaseControllerTest {
+
+  private static final String EXPORT_ENDPOINT = "/inn-reach/transactions/export";
+  private static final String CSV_HEADER = "id,trackingId,centralServerCode,type,state,createdDate,updatedDate," +
+    "patronId,patronName,patronAgencyCode,itemId,itemAgencyCode,title,author,folioPatronBarcode,folioItemBarcode,dueDateTime";
+
+  private static final UUID PRE_POPULATED_PATRON_HOLD_TRANSACTION_ID = UUID.fromString("0aab1720-14b4-4210-9a19-0d0bf1cd64d3");
+  private static final UUID PRE_POPULATED_ITEM_HOLD_TRANSACTION_ID = UUID.fromString("ab2393a1-acc4-4849-82ac-8cc0c37339e1");
+  private static final UUID PRE_POPULATED_LOCAL_HOLD_TRANSACTION_ID = UUID.fromString("79b0a1fb-55be-4e55-9d84-01303aaec1ce");
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  @Sql(scripts = {
+    "classpath:db/central-server/pre-populate-central-server.sql",
+    "classpath:db/inn-reach-transaction/pre-populate-inn-reach-transaction.sql"
+  })
+  void return200HttpCode_and_csvExport_when_noFormatGiven() {
+    var responseEntity = testRestTemplate.getForEntity(EXPORT_ENDPOINT, String.class);
+
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertTrue(responseEntity.getHeaders().getContentType().toString().startsWith("text/csv"));
+    assertTrue(responseEntity.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("inn-reach-transactions.csv"));
+    assertNotNull(responseEntity.getBody());
+
+    var lines = responseEntity.getBody().lines().toList();
+    assertEquals(4, lines.size());
+    assertEquals(CSV_HEADER, lines.get(0));
+    assertTrue(lines.stream().anyMatch(line -> line.startsWith(PRE_POPULATED_PATRON_HOLD_TRANSACTION_ID + ",tracking1,d2ir,PATRON,")));
+  }
+
+  @Test
+  @Sql(scripts = {
+    "classpath:db/central-server/pre-populate-central-server.sql",
+    "classpath:db/inn-reach-transaction/pre-populate-inn-reach-transaction.sql"
+  })
+  void return200HttpCode_and_ndjsonExport_when_ndjsonFormatGiven() {
+    var responseEntity = testRestTemplate.getForEntity(EXPORT_ENDPOINT + "?format=ndjson", String.class);
+
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertTrue(responseEntity.getHeaders().getContentType().toString().startsWith("application/x-ndjson"));
+    assertNotNull(responseEntity.getBody());
+
+    var transactions = responseEntity.getBody().lines().map(this::readTransaction).toList();
+    assertEquals(Set.of(PRE_POPULATED_PATRON_HOLD_TRANSACTION_ID, PRE_POPULATED_ITEM_HOLD_TRANSACTION_ID,
+        PRE_POPULATED_LOCAL_HOLD_TRANSACTION_ID),
+      transactions.stream().map(InnReachTransactionDTO::getId).collect(Collectors.toSet()));
+    assertTrue(transactions.stream().allMatch(transaction -> transaction.getHold() != null));
+  }
+
+  @Test
+  @Sql(scripts = {
+    "classpath:db/central-server/pre-populate-central-server.sql",
+    "classpath:db/inn-reach-transaction/pre-populate-inn-reach-transaction.sql"
+  })
+  void return200HttpCode_and_filteredExport_when_filtersGiven() {
+    var responseEntity = testRestTemplate.getForEntity(EXPORT_ENDPOINT + "?format=ndjson&state=PATRON_HOLD", String.class);
+
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertNotNull(responseEntity.getBody());
+
+    var transactions = responseEntity.getBody().lines().map(this::readTransaction).toList();
+    assertEquals(1, transactions.size());
+    assertEquals(PRE_POPULATED_PATRON_HOLD_TRANSACTION_ID, transactions.get(0).getId());
+  }
+
+  @Test
+  void return400HttpCode_when_formatIsNotSupported() {
+    var responseEntity = testRestTemplate.getForEntity(EXPORT_ENDPOINT + "?format=xml", String.class);
+
+    assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+  }
+
+  private InnReachTransactionDTO readTransaction(String line) {
+    try {
+      return objectMapper.readValue(line, InnReachTransactionDTO.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
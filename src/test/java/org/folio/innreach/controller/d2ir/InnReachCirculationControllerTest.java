@@ -1,6 +1,5 @@
 package org.folio.innreach.controller.d2ir;
 
-import static org.awaitility.Awaitility.await;
 import static org.folio.innreach.domain.entity.InnReachTransaction.TransactionState.BORROWER_RENEW;
 import static org.folio.innreach.domain.entity.InnReachTransaction.TransactionState.BORROWING_SITE_CANCEL;
 import static org.folio.innreach.domain.entity.InnReachTransaction.TransactionState.CANCEL_REQUEST;
@@ -35,6 +34,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -73,6 +73,7 @@ import org.folio.innreach.external.dto.InnReachResponse;
 import org.folio.innreach.external.service.InnReachExternalService;
 import org.folio.innreach.mapper.InnReachTransactionHoldMapper;
 import org.folio.innreach.repository.InnReachTransactionRepository;
+import org.folio.innreach.repository.VirtualRecordDeletionRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -90,7 +91,6 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 import org.springframework.test.context.jdbc.SqlMergeMode;
 
-import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
@@ -144,7 +144,6 @@ class InnReachCirculationControllerTest extends BaseControllerTest {
   private static final String PRE_POPULATED_ANOTHER_LOCAL_AGENCY_CODE1 = "g91ub";
   private static final Integer PRE_POPULATED_CENTRAL_PATRON_TYPE = 1;
   private static final String CENTRAL_PATRON_NAME = "Atreides, Paul";
-  private static final Duration ASYNC_AWAIT_TIMEOUT = Duration.ofSeconds(15);
 
   @Autowired
   private TestRestTemplate testRestTemplate;
@@ -181,6 +180,8 @@ class InnReachCirculationControllerTest extends BaseControllerTest {
   private InnReachTransactionRepository transactionRepository;
   @Autowired
   private InnReachTransactionHoldMapper transactionHoldMapper;
+  @Autowired
+  private VirtualRecordDeletionRepository virtualRecordDeletionRepository;
 
   @MockBean
   IterationEventReaderFactory iterationEventReaderFactory;
@@ -1186,12 +1187,19 @@ class InnReachCirculationControllerTest extends BaseControllerTest {
             new HttpEntity<>(transactionHoldDTO, headers), InnReachResponseDTO.class,
             PRE_POPULATED_TRACKING1_ID, PRE_POPULATED_CENTRAL_CODE);
 
-    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() -> {
-      var transactionAfter = fetchPrePopulatedTransaction();
-      assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
-      assertEquals(FINAL_CHECKIN, transactionAfter.getState());
-      assertPatronHoldFieldsAreNull((TransactionPatronHold) transactionAfter.getHold());
-    });
+    var transactionAfter = fetchPrePopulatedTransaction();
+    assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+    assertEquals(FINAL_CHECKIN, transactionAfter.getState());
+    assertPatronHoldFieldsAreNull((TransactionPatronHold) transactionAfter.getHold());
+
+    var deletions = virtualRecordDeletionRepository.findAll();
+    assertEquals(1, deletions.size());
+    var hold = transactionBefore.getHold();
+    assertEquals(hold.getFolioItemId(), deletions.get(0).getFolioItemId());
+    assertEquals(hold.getFolioHoldingId(), deletions.get(0).getFolioHoldingId());
+    assertEquals(hold.getFolioInstanceId(), deletions.get(0).getFolioInstanceId());
+    assertEquals(hold.getFolioLoanId(), deletions.get(0).getFolioLoanId());
+    verify(virtualRecordService, never()).deleteVirtualRecords(any(), any(), any(), any());
   }
 
   private void assertPatronHoldFieldsAreNull(TransactionPatronHold hold) {
@@ -0,0 +1,165 @@
+package org.folio.innreach.converter.marc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import static org.folio.innreach.fixture.TestUtil.deserializeFromJsonFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.Test;
+import org.marc4j.MarcStreamReader;
+import org.marc4j.MarcStreamWriter;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+import org.marc4j.marc.impl.SubfieldImpl;
+
+import org.folio.innreach.domain.dto.folio.sourcerecord.SourceRecordDTO;
+
+class TransformedMARCRecordConverterTest {
+
+  private static final int LARGE_RECORD_REPEATS = 20;
+  private static final int ITERATIONS = 200;
+  private static final MarcFactory MARC_FACTORY = MarcFactory.newInstance();
+
+  private final TransformedMARCRecordConverter converter = new TransformedMARCRecordConverter();
+
+  @Test
+  void shouldEncodeSameRawContentAsByteArrayEncoding() {
+    var sourceRecord = createLargeSourceRecord();
+
+    var expected = encodeThroughByteArray(sourceRecord);
+
+    assertEquals(expected, converter.toEncodedRecord(sourceRecord).base64rawContent());
+    assertEquals(expected, converter.toTransformedRecord(sourceRecord).getBase64rawContent());
+    // the pooled buffer is reused without leftovers of the previous record
+    assertEquals(expected, converter.toEncodedRecord(sourceRecord).base64rawContent());
+  }
+
+  @Test
+  void shouldHashContentIgnoringLatestTransactionTime() {
+    var sourceRecord = createLargeSourceRecord();
+    var contentHash = converter.toEncodedRecord(sourceRecord).contentHash();
+
+    sourceRecord.getParsedRecord().getFields().stream()
+      .filter(field -> "005".equals(field.getCode()))
+      .forEach(field -> field.setValue("20240101120000.0"));
+    assertEquals(contentHash, converter.toEncodedRecord(sourceRecord).contentHash());
+
+    sourceRecord.getParsedRecord().getFields().stream()
+      .filter(field -> "245".equals(field.getCode()))
+      .forEach(field -> field.setInd2('4'));
+    assertNotEquals(contentHash, converter.toEncodedRecord(sourceRecord).contentHash());
+  }
+
+  @Test
+  void shouldAllocateLessPerRecordThanByteArrayEncoding() {
+    var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+    var sourceRecord = createLargeSourceRecord();
+
+    long before = allocatedBytesPerRecord(threadMXBean, () -> encodeThroughByteArray(sourceRecord));
+    long after = allocatedBytesPerRecord(threadMXBean, () -> converter.toEncodedRecord(sourceRecord).base64rawContent());
+
+    assertTrue(after * 4 < before * 3,
+      String.format("Streaming encoding allocates %d bytes per record, byte array encoding %d bytes", after, before));
+  }
+
+  @Test
+  void shouldAllocateLessPerHashThanParsingEncodedRecord() {
+    var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+    var sourceRecord = createLargeSourceRecord();
+    var base64RawContent = encodeThroughByteArray(sourceRecord);
+    var marcRecord = converter.toMARCRecord(sourceRecord);
+
+    long before = allocatedBytesPerRecord(threadMXBean, () -> hashParsedContent(base64RawContent));
+    long after = allocatedBytesPerRecord(threadMXBean, () -> converter.hashContent(marcRecord));
+
+    assertTrue(after * 4 < before * 3,
+      String.format("In-memory hashing allocates %d bytes per record, parsing encoded record %d bytes", after, before));
+  }
+
+  private static long allocatedBytesPerRecord(com.sun.management.ThreadMXBean threadMXBean, Supplier<String> encoding) {
+    var threadId = Thread.currentThread().getId();
+    for (int i = 0; i < ITERATIONS; i++) {
+      encoding.get();
+    }
+    long start = threadMXBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < ITERATIONS; i++) {
+      encoding.get();
+    }
+    return (threadMXBean.getThreadAllocatedBytes(threadId) - start) / ITERATIONS;
+  }
+
+  private static SourceRecordDTO createLargeSourceRecord() {
+    var sourceRecord = deserializeFromJsonFile("/source-record-storage/source-record-storage-example.json", SourceRecordDTO.class);
+    var fields = sourceRecord.getParsedRecord().getFields();
+    var largeRecordFields = new ArrayList<>(fields);
+    for (int i = 1; i < LARGE_RECORD_REPEATS; i++) {
+      fields.stream()
+        .filter(field -> field.getSubFields() != null && !field.getSubFields().isEmpty())
+        .forEach(largeRecordFields::add);
+    }
+    sourceRecord.getParsedRecord().setFields(largeRecordFields);
+    return sourceRecord;
+  }
+
+  /**
+   * The encoding used before streaming: formats the record content, writes ISO 2709 into a byte array
+   * and encodes the array.
+   */
+  private static String encodeThroughByteArray(SourceRecordDTO sourceRecord) {
+    var parsedRecord = sourceRecord.getParsedRecord();
+    var marcRecord = MARC_FACTORY.newRecord();
+    parsedRecord.getFields().forEach(field -> {
+      if (field.getCode().matches("^(00)[1-9]$")) {
+        marcRecord.addVariableField(MARC_FACTORY.newControlField(field.getCode(), field.getValue()));
+      } else {
+        var dataField = MARC_FACTORY.newDataField(field.getCode(), field.getInd1(), field.getInd2());
+        field.getSubFields().forEach(subField -> dataField.addSubfield(new SubfieldImpl(subField.getCode(), subField.getValue())));
+        marcRecord.addVariableField(dataField);
+      }
+    });
+    var leader = MARC_FACTORY.newLeader(parsedRecord.getLeader().replace(Constants.BLANK_REPLACEMENT, " "));
+    leader.setRecordLength(calculateRecordLength(marcRecord));
+    marcRecord.setLeader(leader);
+
+    var baos = new ByteArrayOutputStream();
+    new MarcStreamWriter(baos, StandardCharsets.UTF_8.name()).write(marcRecord);
+    var base64RawContent = new String(Base64.getEncoder().encode(baos.toByteArray()));
+    assertTrue(marcRecord.toString().length() > 0);
+    return base64RawContent;
+  }
+
+  /**
+   * The content hash used before hashing the in-memory record: decodes and parses the encoded record again and hashes
+   * its formatted content.
+   */
+  private static String hashParsedContent(String base64RawContent) {
+    var reader = new MarcStreamReader(new ByteArrayInputStream(Base64.getMimeDecoder().decode(base64RawContent)),
+      StandardCharsets.UTF_8.name());
+    var marcRecord = reader.next();
+    marcRecord.getVariableFields("005").forEach(marcRecord::removeVariableField);
+    return Hashing.sha256().hashString(marcRecord.toString(), StandardCharsets.UTF_8).toString();
+  }
+
+  private static int calculateRecordLength(Record marcRecord) {
+    int controlFieldsLength = marcRecord.getControlFields().stream()
+      .mapToInt(controlField -> controlField.getData().length() + 1)
+      .sum();
+    int dataFieldsLength = marcRecord.getDataFields().stream()
+      .mapToInt(dataField -> dataField.toString().length() - 3)
+      .sum();
+    return 24 + marcRecord.getVariableFields().size() * 12 + controlFieldsLength + dataFieldsLength + 1;
+  }
+}
@@ -232,7 +232,8 @@ class KafkaCirculationEventListenerApiTest extends BaseKafkaApiTest {
     listener.handleLoanEvents(asSingleConsumerRecord(CIRC_LOAN_TOPIC, PRE_POPULATED_LOCAL_LOAN_ID, event));
 
     verify(eventProcessor).process(anyList(), any(Consumer.class));
-    verify(innReachExternalService).postInnReachApi(any(), any(), any());
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      verify(innReachExternalService).postInnReachApi(any(), any(), any()));
     var updatedTransaction = transactionRepository.fetchOneById(PRE_POPULATED_LOCAL_TRANSACTION_ID).orElseThrow();
     assertEquals(LOCAL_CHECKOUT, updatedTransaction.getState());
 
@@ -255,7 +256,8 @@ class KafkaCirculationEventListenerApiTest extends BaseKafkaApiTest {
     listener.handleLoanEvents(asSingleConsumerRecord(CIRC_LOAN_TOPIC, folioLoanId, event));
 
     verify(eventProcessor).process(anyList(), any(Consumer.class));
-    verify(innReachExternalService).postInnReachApi(any(), any());
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      verify(innReachExternalService).postInnReachApi(any(), any()));
 
     var updatedTransaction = transactionRepository.fetchOneById(PRE_POPULATED_PATRON_TRANSACTION_ID).orElseThrow();
     assertEquals(ITEM_IN_TRANSIT, updatedTransaction.getState());
@@ -304,7 +306,8 @@ class KafkaCirculationEventListenerApiTest extends BaseKafkaApiTest {
     ArgumentCaptor<Map<Object, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
 
     verify(eventProcessor).process(anyList(), any(Consumer.class));
-    verify(innReachExternalService).postInnReachApi(any(), any(), payloadCaptor.capture());
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      verify(innReachExternalService).postInnReachApi(any(), any(), payloadCaptor.capture()));
 
     var payload = payloadCaptor.getValue();
     var updatedTransaction = transactionRepository.fetchOneById(PRE_POPULATED_PATRON_TRANSACTION_ID).orElseThrow();
@@ -359,7 +362,8 @@ class KafkaCirculationEventListenerApiTest extends BaseKafkaApiTest {
     listener.handleRequestEvents(asSingleConsumerRecord(CIRC_REQUEST_TOPIC, REQUEST_ID, event));
 
     verify(eventProcessor).process(anyList(), any(Consumer.class));
-    verify(innReachExternalService, times(1)).postInnReachApi(any(), any(), any());
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      verify(innReachExternalService, times(1)).postInnReachApi(any(), any(), any()));
 
     var updatedTransaction = transactionRepository.fetchActiveByRequestId(REQUEST_ID).orElse(null);
     var updatedHold = updatedTransaction.getHold();
@@ -434,8 +438,10 @@ class KafkaCirculationEventListenerApiTest extends BaseKafkaApiTest {
 
     verify(eventProcessor).process(anyList(), any(Consumer.class));
     verify(inventoryClient, times(1)).findInstance(any());
-    verify(innReachExternalService, times(1)).postInnReachApi(any(), any(), eq(payload));
-    verify(innReachExternalService, times(1)).postInnReachApi(any(), any(), any());
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      verify(innReachExternalService, times(1)).postInnReachApi(any(), any(), eq(payload)));
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      verify(innReachExternalService, times(1)).postInnReachApi(any(), any(), any()));
     Mockito.verifyNoMoreInteractions(inventoryClient);
 
     var updatedTransaction = transactionRepository.fetchOneById(PRE_POPULATED_ITEM_TRANSACTION_ID).orElse(null);
@@ -464,7 +470,8 @@ class KafkaCirculationEventListenerApiTest extends BaseKafkaApiTest {
     listener.handleRequestEvents(asSingleConsumerRecord(CIRC_REQUEST_TOPIC, PRE_POPULATED_PATRON_TRANSACTION_REQUEST_ID, event));
 
     verify(eventProcessor).process(anyList(), any(Consumer.class));
-    verify(innReachExternalService, times(1)).postInnReachApi(any(), any());
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      verify(innReachExternalService, times(1)).postInnReachApi(any(), any()));
     verify(inventoryClient, times(2)).findItem(any());
     verify(inventoryClient).updateItem(eq(ITEM_ID), argThat(i -> i.getBarcode() == null));
 
@@ -544,7 +551,8 @@ class KafkaCirculationEventListenerApiTest extends BaseKafkaApiTest {
     listener.handleCheckInEvents(asSingleConsumerRecord(CIRC_CHECKIN_TOPIC, CHECKIN_ID, event));
 
     verify(eventProcessor).process(anyList(), any(Consumer.class));
-    verify(innReachExternalService).postInnReachApi(any(), any());
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      verify(innReachExternalService).postInnReachApi(any(), any()));
 
     var updatedTransaction = transactionRepository.fetchOneById(PRE_POPULATED_PATRON_TRANSACTION_ID).orElseThrow();
     assertEquals(RETURN_UNCIRCULATED, updatedTransaction.getState());
@@ -566,12 +574,13 @@ class KafkaCirculationEventListenerApiTest extends BaseKafkaApiTest {
     ArgumentCaptor<Map<Object, Object>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
 
     verify(eventProcessor).process(anyList(), any(Consumer.class));
-    verify(innReachExternalService).postInnReachApi(any(), any(), payloadCaptor.capture());
+    await().atMost(ASYNC_AWAIT_TIMEOUT).untilAsserted(() ->
+      verify(innReachExternalService).postInnReachApi(any(), any(), payloadCaptor.capture()));
 
     var payload = payloadCaptor.getValue();
     var updatedTransaction = transactionRepository.fetchOneById(PRE_POPULATED_ITEM_TRANSACTION_ID).orElseThrow();
     assertEquals(RECALL, updatedTransaction.getState());
-    assertEquals((long) toEpochSec(loan.getDueDate()), payload.get("dueDateTime"));
+    assertEquals((long) toEpochSec(loan.getDueDate()), ((Number) payload.get("dueDateTime")).longValue());
   }
 
   private static DomainEvent<StorageLoanDTO> createLoanDomainEvent(DomainEventType eventType) {
@@ -6,9 +6,12 @@ import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.folio.innreach.domain.dto.folio.inventorystorage.InstanceIterationEvent;
 import org.folio.innreach.domain.listener.base.BaseKafkaApiTest;
+import org.folio.innreach.repository.JobExecutionStatusBulkRepository;
 import org.folio.innreach.repository.JobExecutionStatusRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.TestPropertySource;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -18,12 +21,20 @@ import java.util.UUID;
 import static org.awaitility.Awaitility.await;
 import static org.folio.innreach.domain.listener.KafkaInitialContributionEventListener.ITERATION_JOB_ID_HEADER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 
 @Log4j2
+@TestPropertySource(properties = {"kafka.backoff.interval=100", "kafka.backoff.max_failure=1"})
 class KafkaInitialContributionEventListenerTest extends BaseKafkaApiTest {
 
   @SpyBean
   private JobExecutionStatusRepository jobExecutionStatusRepository;
+  @SpyBean
+  private JobExecutionStatusBulkRepository jobExecutionStatusBulkRepository;
 
   @Test
   void testInitialContributionEvent() {
@@ -39,4 +50,39 @@ class KafkaInitialContributionEventListenerTest extends BaseKafkaApiTest {
     });
   }
 
+  @Test
+  void skipInstanceAlreadyReceivedForJob() {
+    var event = InstanceIterationEvent.of(null, "iterate", "test", null);
+    UUID jobId = UUID.randomUUID();
+    UUID instanceId = UUID.randomUUID();
+    UUID lastInstanceId = UUID.randomUUID();
+    List<Header> headers = List.of(new RecordHeader(ITERATION_JOB_ID_HEADER, jobId.toString().getBytes()));
+    // the records are sent to one partition, so the last one is consumed after the duplicate
+    kafkaTemplate.send(new ProducerRecord(INITIAL_CONTRIBUTION_TOPIC, 0, instanceId.toString(), event, headers));
+    kafkaTemplate.send(new ProducerRecord(INITIAL_CONTRIBUTION_TOPIC, 0, instanceId.toString(), event, headers));
+    kafkaTemplate.send(new ProducerRecord(INITIAL_CONTRIBUTION_TOPIC, 0, lastInstanceId.toString(), event, headers));
+    await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+      assertTrue(jobExecutionStatusRepository.existsByJobIdAndInstanceId(jobId, lastInstanceId)));
+
+    var jobExecutionStatus = jobExecutionStatusRepository.findAll().stream()
+      .filter(status -> status.getJobId().equals(jobId))
+      .toList();
+    assertEquals(2, jobExecutionStatus.size());
+  }
+
+  @Test
+  void redeliverEventsWhenSavingFails() {
+    doThrow(new DataAccessResourceFailureException("Connection is closed")).doCallRealMethod()
+      .when(jobExecutionStatusBulkRepository).saveAll(any());
+    var event = InstanceIterationEvent.of(null, "iterate", "test", null);
+    UUID jobId = UUID.randomUUID();
+    UUID instanceId = UUID.randomUUID();
+    List<Header> headers = List.of(new RecordHeader(ITERATION_JOB_ID_HEADER, jobId.toString().getBytes()));
+    kafkaTemplate.send(new ProducerRecord(INITIAL_CONTRIBUTION_TOPIC, null, instanceId.toString(), event, headers));
+
+    await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+      assertTrue(jobExecutionStatusRepository.existsByJobIdAndInstanceId(jobId, instanceId)));
+    verify(jobExecutionStatusBulkRepository, atLeast(2)).saveAll(any());
+  }
+
 }
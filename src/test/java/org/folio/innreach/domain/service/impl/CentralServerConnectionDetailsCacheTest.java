@@ -0,0 +1,91 @@
+package org.folio.innreach.domain.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import static org.folio.innreach.fixture.CentralServerFixture.createCentralServerConnectionDetailsDTO;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.folio.innreach.domain.dto.CentralServerConnectionDetailsDTO;
+import org.folio.innreach.domain.event.CentralServerChangedEvent;
+import org.folio.innreach.domain.exception.EntityNotFoundException;
+import org.folio.spring.FolioExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class CentralServerConnectionDetailsCacheTest {
+
+  @Mock
+  private FolioExecutionContext folioContext;
+
+  private CentralServerConnectionDetailsCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new CentralServerConnectionDetailsCache(folioContext, 60);
+    when(folioContext.getTenantId()).thenReturn("test_tenant");
+  }
+
+  @Test
+  void shouldLoadConnectionDetailsOnce() {
+    var connectionDetails = createCentralServerConnectionDetailsDTO();
+    var loads = new AtomicInteger();
+
+    var first = cache.getById(connectionDetails.getId(), () -> load(connectionDetails, loads));
+    var second = cache.getById(connectionDetails.getId(), () -> load(connectionDetails, loads));
+    var byCode = cache.getByCentralCode(connectionDetails.getCentralCode(), () -> load(connectionDetails, loads));
+    var byCodeCached = cache.getByCentralCode(connectionDetails.getCentralCode(), () -> load(connectionDetails, loads));
+
+    assertSame(connectionDetails, first);
+    assertSame(connectionDetails, second);
+    assertSame(connectionDetails, byCode);
+    assertSame(connectionDetails, byCodeCached);
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void shouldReloadConnectionDetails_when_centralServerIsChanged() {
+    var connectionDetails = createCentralServerConnectionDetailsDTO();
+    var otherConnectionDetails = createCentralServerConnectionDetailsDTO();
+    var loads = new AtomicInteger();
+
+    cache.getById(connectionDetails.getId(), () -> load(connectionDetails, loads));
+    cache.getByCentralCode(connectionDetails.getCentralCode(), () -> load(connectionDetails, loads));
+    cache.getById(otherConnectionDetails.getId(), () -> load(otherConnectionDetails, loads));
+
+    cache.handleCentralServerChanged(CentralServerChangedEvent.of(connectionDetails.getId()));
+
+    cache.getById(connectionDetails.getId(), () -> load(connectionDetails, loads));
+    cache.getByCentralCode(connectionDetails.getCentralCode(), () -> load(connectionDetails, loads));
+    cache.getById(otherConnectionDetails.getId(), () -> load(otherConnectionDetails, loads));
+
+    assertEquals(5, loads.get());
+  }
+
+  @Test
+  void shouldNotCacheMissingCentralServer() {
+    var centralServerId = UUID.randomUUID();
+
+    assertThrows(EntityNotFoundException.class, () -> cache.getById(centralServerId, () -> {
+      throw new EntityNotFoundException("Central server with ID: " + centralServerId + " not found");
+    }));
+
+    var connectionDetails = createCentralServerConnectionDetailsDTO();
+    assertSame(connectionDetails, cache.getById(centralServerId, () -> connectionDetails));
+  }
+
+  private static CentralServerConnectionDetailsDTO load(CentralServerConnectionDetailsDTO connectionDetails,
+                                                        AtomicInteger loads) {
+    loads.incrementAndGet();
+    return connectionDetails;
+  }
+}
@@ -22,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -52,6 +53,12 @@ class CentralServerServiceImplTest {
   @Mock
   private LocalAgencyRepository localAgencyRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private CentralServerConnectionDetailsCache connectionDetailsCache;
+
   @InjectMocks
   private CentralServerServiceImpl centralServerService;
 
@@ -0,0 +1,106 @@
+package org.folio.innreach.domain.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import static org.folio.innreach.dto.MappingValidationStatusDTO.INVALID;
+import static org.folio.innreach.dto.MappingValidationStatusDTO.VALID;
+
+import java.util.UUID;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.folio.innreach.domain.event.ContributionMappingsChangedEvent;
+import org.folio.innreach.domain.service.ContributionValidationService;
+import org.folio.spring.FolioExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class CentralServerValidityServiceImplTest {
+
+  private static final UUID CENTRAL_SERVER_ID = UUID.randomUUID();
+  private static final String CACHE_METRIC_NAME = "innreach.central-server-validity.cache";
+
+  @Mock
+  private ContributionValidationService validationService;
+  @Mock
+  private FolioExecutionContext folioContext;
+
+  private SimpleMeterRegistry meterRegistry;
+  private CentralServerValidityServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    service = new CentralServerValidityServiceImpl(validationService, folioContext, meterRegistry, 60);
+    when(folioContext.getTenantId()).thenReturn("test_tenant");
+  }
+
+  @Test
+  void shouldValidateCentralServerOnce() {
+    when(validationService.validateItemTypeMappings(CENTRAL_SERVER_ID)).thenReturn(VALID);
+    when(validationService.validateLocationMappings(CENTRAL_SERVER_ID)).thenReturn(VALID);
+
+    assertTrue(service.isValid(CENTRAL_SERVER_ID));
+    assertTrue(service.isValid(CENTRAL_SERVER_ID));
+
+    verify(validationService, times(1)).validateItemTypeMappings(CENTRAL_SERVER_ID);
+    verify(validationService, times(1)).validateLocationMappings(CENTRAL_SERVER_ID);
+    assertEquals(1, meterRegistry.counter(CACHE_METRIC_NAME, "result", "hit").count());
+    assertEquals(1, meterRegistry.counter(CACHE_METRIC_NAME, "result", "miss").count());
+  }
+
+  @Test
+  void shouldCacheInvalidStatus() {
+    when(validationService.validateItemTypeMappings(CENTRAL_SERVER_ID)).thenReturn(INVALID);
+
+    assertFalse(service.isValid(CENTRAL_SERVER_ID));
+    assertFalse(service.isValid(CENTRAL_SERVER_ID));
+
+    verify(validationService, times(1)).validateItemTypeMappings(CENTRAL_SERVER_ID);
+  }
+
+  @Test
+  void shouldNotCacheFailedValidation() {
+    when(validationService.validateItemTypeMappings(CENTRAL_SERVER_ID))
+      .thenThrow(new IllegalStateException("Inventory is not available"))
+      .thenReturn(VALID);
+    when(validationService.validateLocationMappings(CENTRAL_SERVER_ID)).thenReturn(VALID);
+
+    assertFalse(service.isValid(CENTRAL_SERVER_ID));
+    assertTrue(service.isValid(CENTRAL_SERVER_ID));
+    assertTrue(service.isValid(CENTRAL_SERVER_ID));
+
+    verify(validationService, times(2)).validateItemTypeMappings(CENTRAL_SERVER_ID);
+    verify(validationService, times(1)).validateLocationMappings(CENTRAL_SERVER_ID);
+  }
+
+  @Test
+  void shouldRevalidateWhenMappingsChanged() {
+    when(validationService.validateItemTypeMappings(CENTRAL_SERVER_ID)).thenReturn(INVALID, VALID);
+    when(validationService.validateLocationMappings(CENTRAL_SERVER_ID)).thenReturn(VALID);
+
+    assertFalse(service.isValid(CENTRAL_SERVER_ID));
+    service.handleMappingsChanged(ContributionMappingsChangedEvent.of(CENTRAL_SERVER_ID));
+    assertTrue(service.isValid(CENTRAL_SERVER_ID));
+  }
+
+  @Test
+  void shouldRevalidateWhenMappingsOfAllCentralServersChanged() {
+    when(validationService.validateItemTypeMappings(CENTRAL_SERVER_ID)).thenReturn(INVALID, VALID);
+    when(validationService.validateLocationMappings(CENTRAL_SERVER_ID)).thenReturn(VALID);
+
+    assertFalse(service.isValid(CENTRAL_SERVER_ID));
+    service.handleMappingsChanged(ContributionMappingsChangedEvent.ofAllCentralServers());
+    assertTrue(service.isValid(CENTRAL_SERVER_ID));
+  }
+
+}
@@ -0,0 +1,231 @@
+package org.folio.innreach.domain.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import org.folio.innreach.config.props.CirculationNotificationProperties;
+import org.folio.innreach.domain.entity.CirculationNotification;
+import org.folio.innreach.external.exception.InnReachException;
+import org.folio.innreach.external.exception.InnReachGatewayException;
+import org.folio.innreach.external.service.InnReachExternalService;
+import org.folio.innreach.repository.CirculationNotificationRepository;
+import org.folio.innreach.repository.TenantInfoRepository;
+import org.folio.innreach.util.JsonHelper;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+
+@ExtendWith(MockitoExtension.class)
+class CirculationNotificationDispatcherTest {
+
+  private static final String CENTRAL_CODE = "d2ir";
+  private static final String REQUEST_PATH = "/circ/itemshipped/abc/d2ir";
+  private static final String TENANT = "test_tenant";
+
+  @Mock
+  private CirculationNotificationRepository repository;
+  @Mock
+  private InnReachExternalService innReachExternalService;
+  @Mock
+  private TenantScopedExecutionService executionService;
+  @Mock
+  private TenantInfoRepository tenantRepository;
+  @Mock
+  private JsonHelper jsonHelper;
+  @Mock
+  private FolioExecutionContext folioContext;
+
+  private final CirculationNotificationProperties properties = new CirculationNotificationProperties();
+  private final List<Runnable> notificationTasks = new ArrayList<>();
+
+  private FolioExecutionContextSetter contextSetter;
+  private CirculationNotificationDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    contextSetter = new FolioExecutionContextSetter(folioContext);
+    dispatcher = new CirculationNotificationDispatcher(repository, innReachExternalService,
+      new QueuedTaskProcessor(executionService, tenantRepository), jsonHelper, properties, folioContext,
+      notificationTasks::add);
+  }
+
+  @AfterEach
+  void tearDown() {
+    contextSetter.close();
+  }
+
+  @Test
+  void deleteNotification_when_sent() {
+    var notification = createNotification(0);
+    when(repository.claimDueNotifications(anyInt(), anyLong())).thenReturn(List.of(notification), List.of());
+
+    dispatcher.dispatchPending();
+
+    verify(innReachExternalService).postInnReachApi(CENTRAL_CODE, REQUEST_PATH);
+    verify(repository).deleteById(notification.getId());
+  }
+
+  @Test
+  void scheduleRetry_when_sendingFails() {
+    var notification = createNotification(2);
+    when(repository.claimDueNotifications(anyInt(), anyLong())).thenReturn(List.of(notification), List.of());
+    doThrow(new InnReachException("Connection refused"))
+      .when(innReachExternalService).postInnReachApi(CENTRAL_CODE, REQUEST_PATH);
+
+    dispatcher.dispatchPending();
+
+    verify(repository).scheduleRetry(notification.getId(), 3, "Connection refused", 40);
+    verify(repository, never()).deleteById(any());
+    verify(repository, never()).deadLetter(any(), anyInt(), anyString());
+  }
+
+  @Test
+  void moveToDeadLetters_when_maxAttemptsReached() {
+    var notification = createNotification(properties.getMaxAttempts() - 1);
+    when(repository.claimDueNotifications(anyInt(), anyLong())).thenReturn(List.of(notification), List.of());
+    doThrow(new InnReachException("Connection refused"))
+      .when(innReachExternalService).postInnReachApi(CENTRAL_CODE, REQUEST_PATH);
+
+    dispatcher.dispatchPending();
+
+    verify(repository).deadLetter(notification.getId(), properties.getMaxAttempts(), "Connection refused");
+    verify(repository, never()).scheduleRetry(any(), anyInt(), anyString(), anyLong());
+  }
+
+  @Test
+  void moveToDeadLetters_when_rejectedByCentralServer() {
+    var notification = createNotification(0);
+    when(repository.claimDueNotifications(anyInt(), anyLong())).thenReturn(List.of(notification), List.of());
+    doThrow(new InnReachException("Bad request", HttpStatus.BAD_REQUEST))
+      .when(innReachExternalService).postInnReachApi(CENTRAL_CODE, REQUEST_PATH);
+
+    dispatcher.dispatchPending();
+
+    verify(repository).deadLetter(notification.getId(), 1, "Bad request");
+    verify(repository, never()).scheduleRetry(any(), anyInt(), anyString(), anyLong());
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = HttpStatus.class, names = {"REQUEST_TIMEOUT", "TOO_MANY_REQUESTS", "INTERNAL_SERVER_ERROR",
+    "SERVICE_UNAVAILABLE"})
+  void scheduleRetry_when_centralServerFailsTemporarily(HttpStatus status) {
+    var notification = createNotification(0);
+    when(repository.claimDueNotifications(anyInt(), anyLong())).thenReturn(List.of(notification), List.of());
+    doThrow(new InnReachException("Try again later", status))
+      .when(innReachExternalService).postInnReachApi(CENTRAL_CODE, REQUEST_PATH);
+
+    dispatcher.dispatchPending();
+
+    verify(repository).scheduleRetry(notification.getId(), 1, "Try again later", 10);
+    verify(repository, never()).deadLetter(any(), anyInt(), anyString());
+  }
+
+  @Test
+  void scheduleRetry_when_gatewayFails() {
+    var notification = createNotification(0);
+    when(repository.claimDueNotifications(anyInt(), anyLong())).thenReturn(List.of(notification), List.of());
+    doThrow(new InnReachGatewayException("Gateway timeout"))
+      .when(innReachExternalService).postInnReachApi(CENTRAL_CODE, REQUEST_PATH);
+
+    dispatcher.dispatchPending();
+
+    verify(repository).scheduleRetry(notification.getId(), 1, "Gateway timeout", 10);
+    verify(repository, never()).deadLetter(any(), anyInt(), anyString());
+  }
+
+  @Test
+  void runOneSweep_when_wokenUpRepeatedly() {
+    when(folioContext.getTenantId()).thenReturn(TENANT);
+    when(repository.claimDueNotifications(anyInt(), anyLong())).thenReturn(List.of());
+
+    dispatcher.dispatchPendingAsync();
+    dispatcher.dispatchPendingAsync();
+    dispatcher.dispatchPendingAsync();
+
+    assertEquals(1, notificationTasks.size());
+    notificationTasks.get(0).run();
+
+    // the wake-ups received before the sweep started are handled by one pass
+    verify(repository, times(1)).claimDueNotifications(anyInt(), anyLong());
+  }
+
+  @Test
+  void sweepAgain_when_wokenUpDuringSweep() {
+    when(folioContext.getTenantId()).thenReturn(TENANT);
+    when(repository.claimDueNotifications(anyInt(), anyLong()))
+      .thenAnswer(invocation -> {
+        dispatcher.dispatchPendingAsync();
+        return List.of();
+      })
+      .thenReturn(List.of());
+
+    dispatcher.dispatchPendingAsync();
+    notificationTasks.get(0).run();
+
+    assertEquals(1, notificationTasks.size());
+    verify(repository, times(2)).claimDueNotifications(anyInt(), anyLong());
+
+    dispatcher.dispatchPendingAsync();
+    assertEquals(2, notificationTasks.size());
+  }
+
+  @Test
+  void scheduleSweep_when_previousSweepRejected() {
+    when(folioContext.getTenantId()).thenReturn(TENANT);
+    var rejectingDispatcher = new CirculationNotificationDispatcher(repository, innReachExternalService,
+      new QueuedTaskProcessor(executionService, tenantRepository), jsonHelper, properties, folioContext, task -> {
+        notificationTasks.add(task);
+        if (notificationTasks.size() == 1) {
+          throw new RejectedExecutionException("Notification executor is shut down");
+        }
+      });
+
+    rejectingDispatcher.dispatchPendingAsync();
+    rejectingDispatcher.dispatchPendingAsync();
+
+    assertEquals(2, notificationTasks.size());
+  }
+
+  @Test
+  void limitBackoffByMaxBackoff() {
+    assertEquals(Duration.ofSeconds(10), dispatcher.getBackoff(1));
+    assertEquals(Duration.ofSeconds(80), dispatcher.getBackoff(4));
+    assertEquals(Duration.ofHours(1), dispatcher.getBackoff(20));
+    assertEquals(Duration.ofHours(1), dispatcher.getBackoff(100));
+  }
+
+  private static CirculationNotification createNotification(int attempts) {
+    var notification = new CirculationNotification();
+    notification.setId(UUID.randomUUID());
+    notification.setTransactionId(UUID.randomUUID());
+    notification.setCentralServerCode(CENTRAL_CODE);
+    notification.setRequestPath(REQUEST_PATH);
+    notification.setStatus(CirculationNotification.Status.PENDING);
+    notification.setAttempts(attempts);
+    return notification;
+  }
+
+}
@@ -11,8 +11,6 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import static org.folio.innreach.dto.MappingValidationStatusDTO.INVALID;
-import static org.folio.innreach.dto.MappingValidationStatusDTO.VALID;
 import static org.folio.innreach.fixture.ContributionFixture.createInstance;
 
 import java.util.List;
@@ -33,7 +31,7 @@ import org.folio.innreach.batch.contribution.service.ContributionJobRunner;
 import org.folio.innreach.client.InstanceStorageClient;
 import org.folio.innreach.client.ItemStorageClient;
 import org.folio.innreach.domain.dto.folio.circulation.RequestDTO;
-import org.folio.innreach.domain.service.ContributionValidationService;
+import org.folio.innreach.domain.service.CentralServerValidityService;
 import org.folio.innreach.domain.service.HoldingsService;
 import org.folio.innreach.domain.service.InventoryViewService;
 import org.folio.innreach.dto.StorageLoanDTO;
@@ -56,7 +54,7 @@ class ContributionActionServiceImplTest {
   @Mock
   private HoldingsService holdingsService;
   @Mock
-  private ContributionValidationService validationService;
+  private CentralServerValidityService validityService;
   @InjectMocks
   private ContributionActionServiceImpl service;
   @Mock
@@ -75,8 +73,7 @@ class ContributionActionServiceImplTest {
     when(itemStorageClient.getItemById(any())).thenReturn(Optional.of(item));
     when(inventoryViewService.getInstance(any())).thenReturn(instance);
     when(holdingsService.find(any())).thenReturn(Optional.of(holding));
-    when(validationService.getItemTypeMappingStatus(any())).thenReturn(VALID);
-    when(validationService.getLocationMappingStatus(any())).thenReturn(VALID);
+    when(validityService.isValid(any())).thenReturn(true);
 
     service.handleLoanCreation(loan);
 
@@ -94,8 +91,7 @@ class ContributionActionServiceImplTest {
     when(itemStorageClient.getItemById(any())).thenReturn(Optional.of(item));
     when(inventoryViewService.getInstance(any())).thenReturn(instance);
     when(holdingsService.find(any())).thenReturn(Optional.of(holding));
-    when(validationService.getItemTypeMappingStatus(any())).thenReturn(VALID);
-    when(validationService.getLocationMappingStatus(any())).thenReturn(VALID);
+    when(validityService.isValid(any())).thenReturn(true);
 
     service.handleLoanUpdate(loan);
 
@@ -113,8 +109,7 @@ class ContributionActionServiceImplTest {
     when(itemStorageClient.getItemById(any())).thenReturn(Optional.of(item));
     when(inventoryViewService.getInstance(any())).thenReturn(instance);
     when(holdingsService.find(any())).thenReturn(Optional.of(holding));
-    when(validationService.getItemTypeMappingStatus(any())).thenReturn(VALID);
-    when(validationService.getLocationMappingStatus(any())).thenReturn(VALID);
+    when(validityService.isValid(any())).thenReturn(true);
 
     service.handleRequestChange(request);
 
@@ -146,8 +141,7 @@ class ContributionActionServiceImplTest {
     ongoingJob.setCentralServerId(centralServerId);
     when(holdingsService.find(item.getHoldingsRecordId())).thenReturn(Optional.of(holding));
     when(inventoryViewService.getInstance(holding.getInstanceId())).thenReturn(instance);
-    when(validationService.getItemTypeMappingStatus(centralServerId)).thenReturn(VALID);
-    when(validationService.getLocationMappingStatus(centralServerId)).thenReturn(INVALID);
+    when(validityService.isValid(centralServerId)).thenReturn(false);
 
     service.handleItemCreation(item, ongoingJob);
 
@@ -164,8 +158,7 @@ class ContributionActionServiceImplTest {
     ongoingJob.setCentralServerId(centralServerId);
     when(holdingsService.find(item.getHoldingsRecordId())).thenReturn(Optional.of(holding));
     when(inventoryViewService.getInstance(holding.getInstanceId())).thenReturn(instance);
-    when(validationService.getItemTypeMappingStatus(centralServerId)).thenReturn(VALID);
-    when(validationService.getLocationMappingStatus(centralServerId)).thenReturn(VALID);
+    when(validityService.isValid(centralServerId)).thenReturn(true);
 
     service.handleItemCreation(item, ongoingJob);
 
@@ -199,8 +192,7 @@ class ContributionActionServiceImplTest {
     ongoingJob.setCentralServerId(centralServerId);
     when(holdingsService.find(item.getHoldingsRecordId())).thenReturn(Optional.of(holding));
     when(inventoryViewService.getInstance(holding.getInstanceId())).thenReturn(instance);
-    when(validationService.getItemTypeMappingStatus(centralServerId)).thenReturn(VALID);
-    when(validationService.getLocationMappingStatus(centralServerId)).thenReturn(INVALID);
+    when(validityService.isValid(centralServerId)).thenReturn(false);
 
     service.handleItemUpdate(item, item, ongoingJob);
 
@@ -217,8 +209,7 @@ class ContributionActionServiceImplTest {
     ongoingJob.setCentralServerId(centralServerId);
     when(holdingsService.find(item.getHoldingsRecordId())).thenReturn(Optional.of(holding));
     when(inventoryViewService.getInstance(holding.getInstanceId())).thenReturn(instance);
-    when(validationService.getItemTypeMappingStatus(centralServerId)).thenReturn(VALID);
-    when(validationService.getLocationMappingStatus(centralServerId)).thenReturn(VALID);
+    when(validityService.isValid(centralServerId)).thenReturn(true);
 
     service.handleItemUpdate(item, item, ongoingJob);
 
@@ -243,8 +234,7 @@ class ContributionActionServiceImplTest {
     when(inventoryViewService.getInstance(holding.getInstanceId())).thenReturn(instance);
     when(holdingsService.find(newItem.getHoldingsRecordId())).thenReturn(Optional.of(newHolding));
     when(inventoryViewService.getInstance(newHolding.getInstanceId())).thenReturn(newInstance);
-    when(validationService.getItemTypeMappingStatus(centralServerId)).thenReturn(VALID);
-    when(validationService.getLocationMappingStatus(centralServerId)).thenReturn(VALID);
+    when(validityService.isValid(centralServerId)).thenReturn(true);
 
     service.handleItemUpdate(newItem, item, ongoingJob);
 
@@ -310,7 +300,7 @@ class ContributionActionServiceImplTest {
     var ongoingJob = new OngoingContributionStatus();
     ongoingJob.setCentralServerId(CENTRAL_SERVER_ID);
     when(inventoryViewService.getInstance(any())).thenReturn(instance);
-    when(validationService.getItemTypeMappingStatus(any())).thenReturn(INVALID);
+    when(validityService.isValid(any())).thenReturn(false);
 
     service.handleHoldingUpdate(holding, ongoingJob);
 
@@ -328,8 +318,7 @@ class ContributionActionServiceImplTest {
     var ongoingJob = new OngoingContributionStatus();
     ongoingJob.setCentralServerId(CENTRAL_SERVER_ID);
     when(inventoryViewService.getInstance(any())).thenReturn(instance);
-    when(validationService.getItemTypeMappingStatus(any())).thenReturn(VALID);
-    when(validationService.getLocationMappingStatus(any())).thenReturn(VALID);
+    when(validityService.isValid(any())).thenReturn(true);
 
     service.handleHoldingUpdate(holding, ongoingJob);
 
@@ -376,8 +365,7 @@ class ContributionActionServiceImplTest {
     ongoingJob.setCentralServerId(CENTRAL_SERVER_ID);
 
     when(inventoryViewService.getInstance(any())).thenReturn(instance);
-    when(validationService.getItemTypeMappingStatus(any())).thenReturn(VALID);
-    when(validationService.getLocationMappingStatus(any())).thenReturn(VALID);
+    when(validityService.isValid(any())).thenReturn(true);
 
     service.handleInstanceCreation(instance, ongoingJob);
 
@@ -391,7 +379,7 @@ class ContributionActionServiceImplTest {
     ongoingJob.setCentralServerId(CENTRAL_SERVER_ID);
 
     when(inventoryViewService.getInstance(any())).thenReturn(instance);
-    when(validationService.getItemTypeMappingStatus(any())).thenReturn(INVALID);
+    when(validityService.isValid(any())).thenReturn(false);
 
     service.handleInstanceCreation(instance, ongoingJob);
 
@@ -0,0 +1,134 @@
+package org.folio.innreach.domain.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.folio.innreach.domain.event.ContributionMappingsChangedEvent;
+import org.folio.innreach.domain.service.CentralServerService;
+import org.folio.innreach.domain.service.InnReachLocationService;
+import org.folio.innreach.domain.service.LibraryMappingService;
+import org.folio.innreach.domain.service.LocationMappingService;
+import org.folio.innreach.domain.service.MaterialTypeMappingService;
+import org.folio.innreach.dto.CentralServerDTO;
+import org.folio.innreach.dto.InnReachLocationDTO;
+import org.folio.innreach.dto.InnReachLocationsDTO;
+import org.folio.innreach.dto.LibraryMappingDTO;
+import org.folio.innreach.dto.LibraryMappingsDTO;
+import org.folio.innreach.dto.LocalAgencyDTO;
+import org.folio.innreach.dto.LocationMappingDTO;
+import org.folio.innreach.dto.LocationMappingsDTO;
+import org.folio.innreach.dto.MaterialTypeMappingDTO;
+import org.folio.innreach.dto.MaterialTypeMappingsDTO;
+import org.folio.innreach.repository.CentralServerRepository;
+import org.folio.spring.FolioExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class ContributionMappingsServiceImplTest {
+
+  private static final UUID CENTRAL_SERVER_ID = UUID.randomUUID();
+  private static final UUID LIBRARY_ID = UUID.randomUUID();
+  private static final UUID FOLIO_LOC_ID = UUID.randomUUID();
+  private static final UUID MATERIAL_TYPE_ID = UUID.randomUUID();
+  private static final UUID INN_REACH_LOCATION_ID = UUID.randomUUID();
+  private static final String INN_REACH_LOCATION_CODE = "fl2g2";
+  private static final Integer CENTRAL_ITEM_TYPE = 211;
+  private static final String LOCAL_SERVER_CODE = "test1";
+
+  @Mock
+  private MaterialTypeMappingService typeMappingService;
+  @Mock
+  private LibraryMappingService libraryMappingService;
+  @Mock
+  private InnReachLocationService irLocationService;
+  @Mock
+  private CentralServerService centralServerService;
+  @Mock
+  private LocationMappingService locationMappingService;
+  @Mock
+  private CentralServerRepository centralServerRepository;
+  @Mock
+  private FolioExecutionContext folioContext;
+
+  @InjectMocks
+  private ContributionMappingsServiceImpl service;
+
+  @Test
+  void shouldResolveMappings() {
+    mockMappings();
+    when(centralServerRepository.findMappingsVersion(CENTRAL_SERVER_ID)).thenReturn(Optional.of(3L));
+
+    var mappings = service.getMappings(CENTRAL_SERVER_ID);
+
+    assertEquals(3L, mappings.getVersion());
+    assertEquals(CENTRAL_ITEM_TYPE, mappings.getCentralType(MATERIAL_TYPE_ID));
+    assertEquals(LOCAL_SERVER_CODE, mappings.getAgencyCode(LIBRARY_ID));
+    assertEquals(INN_REACH_LOCATION_CODE, mappings.getLocationKey(FOLIO_LOC_ID, LIBRARY_ID));
+    assertEquals(INN_REACH_LOCATION_CODE, mappings.getLocationKey(UUID.randomUUID(), LIBRARY_ID));
+  }
+
+  @Test
+  void shouldReuseSnapshotWhileVersionIsUnchanged() {
+    mockMappings();
+    when(centralServerRepository.findMappingsVersion(CENTRAL_SERVER_ID)).thenReturn(Optional.of(1L));
+
+    var first = service.getMappings(CENTRAL_SERVER_ID);
+    var second = service.getMappings(CENTRAL_SERVER_ID);
+
+    assertSame(first, second);
+    verify(typeMappingService, times(1)).getAllMappings(any(), anyInt(), anyInt());
+    verify(locationMappingService, times(1)).getMappingsByLibraryId(any(), any(), anyInt(), anyInt());
+  }
+
+  @Test
+  void shouldRebuildSnapshotWhenVersionChanged() {
+    mockMappings();
+    when(centralServerRepository.findMappingsVersion(CENTRAL_SERVER_ID)).thenReturn(Optional.of(1L), Optional.of(2L));
+
+    var first = service.getMappings(CENTRAL_SERVER_ID);
+    var second = service.getMappings(CENTRAL_SERVER_ID);
+
+    assertNotSame(first, second);
+    assertEquals(2L, second.getVersion());
+    verify(typeMappingService, times(2)).getAllMappings(any(), anyInt(), anyInt());
+  }
+
+  @Test
+  void shouldIncrementMappingsVersionOnChange() {
+    service.handleMappingsChanged(ContributionMappingsChangedEvent.of(CENTRAL_SERVER_ID));
+    service.handleMappingsChanged(ContributionMappingsChangedEvent.ofAllCentralServers());
+
+    verify(centralServerRepository).incrementMappingsVersion(CENTRAL_SERVER_ID);
+    verify(centralServerRepository).incrementAllMappingsVersions();
+  }
+
+  private void mockMappings() {
+    var irLocations = new InnReachLocationsDTO().addLocationsItem(new InnReachLocationDTO().id(INN_REACH_LOCATION_ID).code(INN_REACH_LOCATION_CODE));
+    var materialTypeMappings = new MaterialTypeMappingsDTO().addMaterialTypeMappingsItem(new MaterialTypeMappingDTO().materialTypeId(MATERIAL_TYPE_ID).centralItemType(CENTRAL_ITEM_TYPE));
+    var libraryMappings = new LibraryMappingsDTO().addLibraryMappingsItem(new LibraryMappingDTO().libraryId(LIBRARY_ID).innReachLocationId(INN_REACH_LOCATION_ID));
+    var locationMappings = new LocationMappingsDTO().addLocationMappingsItem(new LocationMappingDTO().innReachLocationId(INN_REACH_LOCATION_ID).locationId(FOLIO_LOC_ID));
+    var centralServer = new CentralServerDTO().id(CENTRAL_SERVER_ID).addLocalAgenciesItem(new LocalAgencyDTO().id(UUID.randomUUID()).addFolioLibraryIdsItem(LIBRARY_ID).code(LOCAL_SERVER_CODE));
+
+    when(folioContext.getTenantId()).thenReturn("test_tenant");
+    when(centralServerService.getCentralServer(any())).thenReturn(centralServer);
+    when(irLocationService.getAllInnReachLocations(any(), any())).thenReturn(irLocations);
+    when(typeMappingService.getAllMappings(any(), anyInt(), anyInt())).thenReturn(materialTypeMappings);
+    when(libraryMappingService.getAllMappings(any(), anyInt(), anyInt())).thenReturn(libraryMappings);
+    when(locationMappingService.getMappingsByLibraryId(any(), any(), anyInt(), anyInt())).thenReturn(locationMappings);
+  }
+
+}
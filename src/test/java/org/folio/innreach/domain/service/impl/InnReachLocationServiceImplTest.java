@@ -21,6 +21,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 
 import org.folio.innreach.domain.entity.InnReachLocation;
@@ -40,6 +41,9 @@ class InnReachLocationServiceImplTest {
   @Spy
   private final InnReachLocationMapper innReachLocationMapper = new InnReachLocationMapperImpl(new MappingMethods());
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private InnReachLocationServiceImpl innReachLocationService;
 
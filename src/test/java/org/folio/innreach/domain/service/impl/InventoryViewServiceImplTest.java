@@ -1,8 +1,12 @@
 package org.folio.innreach.domain.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,6 +14,7 @@ import static org.folio.innreach.domain.dto.folio.ResultList.asSinglePage;
 import static org.folio.innreach.fixture.ContributionFixture.createInstanceView;
 
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +44,18 @@ class InventoryViewServiceImplTest {
     verify(inventoryViewClient).getInstanceById(any(UUID.class));
   }
 
+  @Test
+  void shouldGetInstancesByIdsInChunks() {
+    var instanceIds = Stream.generate(UUID::randomUUID).limit(120).toList();
+    when(inventoryViewClient.queryInstancesByIds(anyString(), anyInt()))
+      .thenAnswer(invocation -> asSinglePage(createInstanceView()));
+
+    var instances = service.getInstancesByIds(instanceIds);
+
+    assertEquals(3, instances.size());
+    verify(inventoryViewClient, times(3)).queryInstancesByIds(anyString(), anyInt());
+  }
+
   @Test
   void getInstanceByHrid() {
     when(inventoryViewClient.getInstanceByHrid(any(String.class))).thenReturn(asSinglePage(createInstanceView()));
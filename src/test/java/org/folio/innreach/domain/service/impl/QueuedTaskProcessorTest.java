@@ -0,0 +1,98 @@
+package org.folio.innreach.domain.service.impl;
+
+import static org.apache.commons.lang3.StringUtils.repeat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.folio.innreach.domain.entity.TenantInfo;
+import org.folio.innreach.domain.entity.VirtualRecordDeletion;
+import org.folio.innreach.repository.TenantInfoRepository;
+
+@ExtendWith(MockitoExtension.class)
+class QueuedTaskProcessorTest {
+
+  @Mock
+  private TenantScopedExecutionService executionService;
+  @Mock
+  private TenantInfoRepository tenantRepository;
+
+  private QueuedTaskProcessor taskProcessor;
+
+  @BeforeEach
+  void setUp() {
+    taskProcessor = new QueuedTaskProcessor(executionService, tenantRepository);
+  }
+
+  @Test
+  void runJobForEveryTenant_when_jobFailsForOneTenant() {
+    var job = mock(Runnable.class);
+    when(tenantRepository.findAll()).thenReturn(List.of(tenant("a"), tenant("b"), tenant("a")));
+    doThrow(new IllegalStateException("Tenant is disabled")).when(executionService).runTenantScoped("a", job);
+
+    taskProcessor.runForAllTenants("test", job);
+
+    verify(executionService).runTenantScoped("a", job);
+    verify(executionService).runTenantScoped("b", job);
+  }
+
+  @Test
+  void processClaimedTasks_until_noneIsDue() {
+    var first = createTask(0);
+    var second = createTask(0);
+    var processed = new ArrayList<VirtualRecordDeletion>();
+
+    taskProcessor.processDue(iterate(List.of(first), List.of(second), List.of()), processed::add, (task, attempts, error, cause) -> {
+      throw new AssertionError("Unexpected failure of task " + task.getId());
+    });
+
+    assertEquals(List.of(first, second), processed);
+  }
+
+  @Test
+  void passAttemptsAndAbbreviatedError_when_taskFails() {
+    var task = createTask(2);
+    var failure = new IllegalStateException(repeat('x', 2000));
+    @SuppressWarnings("unchecked")
+    QueuedTaskProcessor.FailureHandler<VirtualRecordDeletion> failureHandler = mock(QueuedTaskProcessor.FailureHandler.class);
+
+    taskProcessor.processDue(iterate(List.of(task), List.of()), t -> {
+      throw failure;
+    }, failureHandler);
+
+    verify(failureHandler).handle(task, 3, repeat('x', 997) + "...", failure);
+  }
+
+  @SafeVarargs
+  private static <T> Supplier<List<T>> iterate(List<T>... batches) {
+    var iterator = List.of(batches).iterator();
+    return iterator::next;
+  }
+
+  private static TenantInfo tenant(String tenantId) {
+    var tenant = new TenantInfo();
+    tenant.setTenantId(tenantId);
+    return tenant;
+  }
+
+  private static VirtualRecordDeletion createTask(int attempts) {
+    var task = new VirtualRecordDeletion();
+    task.setId(UUID.randomUUID());
+    task.setAttempts(attempts);
+    return task;
+  }
+
+}
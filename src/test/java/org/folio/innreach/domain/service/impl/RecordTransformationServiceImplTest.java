@@ -2,9 +2,9 @@ package org.folio.innreach.domain.service.impl;
 
 import static com.google.common.collect.ImmutableList.of;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
@@ -24,31 +24,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.folio.innreach.client.CirculationClient;
+import org.folio.innreach.converter.marc.EncodedMARCRecord;
+import org.folio.innreach.domain.dto.ContributionMappings;
 import org.folio.innreach.domain.dto.folio.ResultList;
 import org.folio.innreach.domain.dto.folio.circulation.RequestDTO;
 import org.folio.innreach.domain.dto.folio.circulation.RequestDTO.RequestStatus;
-import org.folio.innreach.domain.service.CentralServerService;
+import org.folio.innreach.domain.service.ContributionMappingsService;
 import org.folio.innreach.domain.service.ContributionValidationService;
 import org.folio.innreach.domain.service.HoldingsService;
-import org.folio.innreach.domain.service.InnReachLocationService;
-import org.folio.innreach.domain.service.LibraryMappingService;
-import org.folio.innreach.domain.service.LocationMappingService;
 import org.folio.innreach.domain.service.MARCRecordTransformationService;
-import org.folio.innreach.domain.service.MaterialTypeMappingService;
-import org.folio.innreach.dto.CentralServerDTO;
-import org.folio.innreach.dto.InnReachLocationDTO;
-import org.folio.innreach.dto.InnReachLocationsDTO;
 import org.folio.innreach.dto.Instance;
 import org.folio.innreach.dto.Item;
 import org.folio.innreach.dto.ItemEffectiveCallNumberComponents;
-import org.folio.innreach.dto.LibraryMappingDTO;
-import org.folio.innreach.dto.LibraryMappingsDTO;
 import org.folio.innreach.dto.LoanDTO;
-import org.folio.innreach.dto.LocalAgencyDTO;
-import org.folio.innreach.dto.LocationMappingDTO;
-import org.folio.innreach.dto.LocationMappingsDTO;
-import org.folio.innreach.dto.MaterialTypeMappingDTO;
-import org.folio.innreach.dto.MaterialTypeMappingsDTO;
+import org.folio.innreach.external.dto.BibItem;
 import org.folio.innreach.util.DateHelper;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,7 +48,6 @@ class RecordTransformationServiceImplTest {
   private static final UUID FOLIO_LOC_ID = UUID.randomUUID();
   private static final UUID MATERIAL_TYPE_ID = UUID.fromString("615b8413-82d5-4203-aa6e-e37984cb5ac3");
   private static final String CENTRAL_AGENCY_CODE = "fl2g2";
-  private static final UUID INN_REACH_LOCATION_ID = UUID.fromString("5d78803e-ca04-4b4a-aeae-2c63b924518a");
   private static final Integer CENTRAL_ITEM_TYPE = 211;
   private static final String LOCAL_SERVER_CODE = "test1";
   private static final String ITEM_CALL_NUMBER = "TEST.42";
@@ -73,15 +61,7 @@ class RecordTransformationServiceImplTest {
   @Mock
   private HoldingsService holdingsService;
   @Mock
-  private MaterialTypeMappingService typeMappingService;
-  @Mock
-  private LibraryMappingService libraryMappingService;
-  @Mock
-  private InnReachLocationService irLocationService;
-  @Mock
-  private CentralServerService centralServerService;
-  @Mock
-  private LocationMappingService locationMappingService;
+  private ContributionMappingsService mappingsService;
   @Mock
   private FolioLocationService folioLocationService;
 
@@ -95,7 +75,7 @@ class RecordTransformationServiceImplTest {
   void shouldGetBibInfo() {
     Instance instance = createInstance();
 
-    when(marcService.transformRecord(any(UUID.class), any(Instance.class))).thenReturn(createMARCRecord());
+    when(marcService.transformRecordToEncoded(any(UUID.class), any(Instance.class))).thenReturn(createEncodedMARCRecord());
     when(validationService.isEligibleForContribution(any(UUID.class), any(Item.class))).thenReturn(true);
 
     var bibInfo = service.getBibInfo(CENTRAL_SERVER_ID, instance);
@@ -110,7 +90,7 @@ class RecordTransformationServiceImplTest {
     Instance instance = createInstance();
     instance.setItems(null);
 
-    when(marcService.transformRecord(any(UUID.class), any(Instance.class))).thenReturn(createMARCRecord());
+    when(marcService.transformRecordToEncoded(any(UUID.class), any(Instance.class))).thenReturn(createEncodedMARCRecord());
 
     var bibInfo = service.getBibInfo(CENTRAL_SERVER_ID, instance);
 
@@ -123,7 +103,7 @@ class RecordTransformationServiceImplTest {
   void shouldGetBibInfo_excludeItem() {
     Instance instance = createInstance();
 
-    when(marcService.transformRecord(any(UUID.class), any(Instance.class))).thenReturn(createMARCRecord());
+    when(marcService.transformRecordToEncoded(any(UUID.class), any(Instance.class))).thenReturn(createEncodedMARCRecord());
     when(validationService.getSuppressionStatus(any(UUID.class), any())).thenReturn('n');
 
     var bibInfo = service.getBibInfo(CENTRAL_SERVER_ID, instance);
@@ -137,20 +117,17 @@ class RecordTransformationServiceImplTest {
   void shouldGetBibItem() {
     var callNumberComponents = new ItemEffectiveCallNumberComponents().callNumber("\r\n" + ITEM_CALL_NUMBER);
     var item = createItem().materialTypeId(MATERIAL_TYPE_ID).effectiveLocationId(FOLIO_LOC_ID).effectiveCallNumberComponents(callNumberComponents);
-    var irLocations = new InnReachLocationsDTO().addLocationsItem(new InnReachLocationDTO().id(INN_REACH_LOCATION_ID).code(CENTRAL_AGENCY_CODE));
-    var materialTypeMappings = new MaterialTypeMappingsDTO().addMaterialTypeMappingsItem(new MaterialTypeMappingDTO().materialTypeId(MATERIAL_TYPE_ID).centralItemType(CENTRAL_ITEM_TYPE));
-    var libraryMappings = new LibraryMappingsDTO().addLibraryMappingsItem(new LibraryMappingDTO().libraryId(LIBRARY_ID).innReachLocationId(INN_REACH_LOCATION_ID));
-    var locationMappings = new LocationMappingsDTO().addLocationMappingsItem(new LocationMappingDTO().innReachLocationId(INN_REACH_LOCATION_ID).locationId(FOLIO_LOC_ID));
-    var centralServer = new CentralServerDTO().id(CENTRAL_SERVER_ID).addLocalAgenciesItem(new LocalAgencyDTO().id(UUID.randomUUID()).addFolioLibraryIdsItem(LIBRARY_ID).code(LOCAL_SERVER_CODE));
+    var mappings = ContributionMappings.builder()
+      .materialToCentralTypes(Map.of(MATERIAL_TYPE_ID, CENTRAL_ITEM_TYPE))
+      .libIdToLocKeys(Map.of(LIBRARY_ID, CENTRAL_AGENCY_CODE))
+      .locIdToLocKeys(Map.of(FOLIO_LOC_ID, CENTRAL_AGENCY_CODE))
+      .libIdToAgencyCodes(Map.of(LIBRARY_ID, LOCAL_SERVER_CODE))
+      .build();
     var loan = new LoanDTO().dueDate(LOAN_DUE_DATE);
     var request = new RequestDTO();
     request.setStatus(RequestStatus.OPEN_AWAITING_DELIVERY);
 
-    when(centralServerService.getCentralServer(any())).thenReturn(centralServer);
-    when(irLocationService.getAllInnReachLocations(any(), any())).thenReturn(irLocations);
-    when(typeMappingService.getAllMappings(any(), anyInt(), anyInt())).thenReturn(materialTypeMappings);
-    when(libraryMappingService.getAllMappings(any(), anyInt(), anyInt())).thenReturn(libraryMappings);
-    when(locationMappingService.getMappingsByLibraryId(any(), any(), anyInt(), anyInt())).thenReturn(locationMappings);
+    when(mappingsService.getMappings(CENTRAL_SERVER_ID)).thenReturn(mappings);
     when(folioLocationService.getLocationLibraryMappings()).thenReturn(Map.of(FOLIO_LOC_ID, LIBRARY_ID));
     when(validationService.getItemCirculationStatus(any(), any())).thenReturn(ON_LOAN);
     when(circulationClient.queryRequestsByItemId(any())).thenReturn(ResultList.asSinglePage(request));
@@ -175,4 +152,38 @@ class RecordTransformationServiceImplTest {
     assertEquals(Long.valueOf(1), bibItem.getHoldCount());
   }
 
+  @Test
+  void shouldGetContributionBibContentHash() {
+    var instance = createInstance();
+    instance.setItems(null);
+
+    when(marcService.transformRecordToEncoded(any(UUID.class), any(Instance.class))).thenReturn(
+      new EncodedMARCRecord("marc", "marc-hash"),
+      new EncodedMARCRecord("updated marc", "marc-hash"),
+      new EncodedMARCRecord("marc", "updated-marc-hash"));
+
+    var bib = service.getContributionBib(CENTRAL_SERVER_ID, instance);
+    var sameBib = service.getContributionBib(CENTRAL_SERVER_ID, instance);
+    var changedBib = service.getContributionBib(CENTRAL_SERVER_ID, instance);
+
+    assertEquals("marc", bib.bibInfo().getMarc21BibData());
+    assertEquals(bib.contentHash(), sameBib.contentHash());
+    assertNotEquals(bib.contentHash(), changedBib.contentHash());
+  }
+
+  @Test
+  void shouldGetBibItemContentHash() {
+    var bibItem = BibItem.builder().itemId("it1").agencyCode(LOCAL_SERVER_CODE).holdCount(0L).build();
+    var sameBibItem = BibItem.builder().itemId("it1").agencyCode(LOCAL_SERVER_CODE).holdCount(0L).build();
+
+    assertEquals(service.getContentHash(bibItem), service.getContentHash(sameBibItem));
+
+    sameBibItem.setHoldCount(1L);
+    assertNotEquals(service.getContentHash(bibItem), service.getContentHash(sameBibItem));
+  }
+
+  private static EncodedMARCRecord createEncodedMARCRecord() {
+    return new EncodedMARCRecord(createMARCRecord().getBase64rawContent(), "marc-hash");
+  }
+
 }
@@ -0,0 +1,84 @@
+package org.folio.innreach.domain.service.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.folio.innreach.config.props.VirtualRecordDeletionProperties;
+import org.folio.innreach.domain.entity.VirtualRecordDeletion;
+import org.folio.innreach.domain.service.VirtualRecordService;
+import org.folio.innreach.repository.TenantInfoRepository;
+import org.folio.innreach.repository.VirtualRecordDeletionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class VirtualRecordDeletionWorkerTest {
+
+  @Mock
+  private VirtualRecordDeletionRepository repository;
+  @Mock
+  private VirtualRecordService virtualRecordService;
+  @Mock
+  private TenantScopedExecutionService executionService;
+  @Mock
+  private TenantInfoRepository tenantRepository;
+
+  private final VirtualRecordDeletionProperties properties = new VirtualRecordDeletionProperties();
+
+  private VirtualRecordDeletionWorker worker;
+
+  @BeforeEach
+  void setUp() {
+    worker = new VirtualRecordDeletionWorker(repository, virtualRecordService,
+      new QueuedTaskProcessor(executionService, tenantRepository), properties);
+  }
+
+  @Test
+  void removeQueuedDeletion_when_recordsDeleted() {
+    var deletion = createDeletion();
+    when(repository.claimDueDeletions(anyInt(), anyInt(), anyLong())).thenReturn(List.of(deletion), List.of());
+
+    worker.processDue();
+
+    verify(virtualRecordService).deleteVirtualRecords(deletion.getFolioItemId(), deletion.getFolioHoldingId(),
+      deletion.getFolioInstanceId(), deletion.getFolioLoanId());
+    verify(repository).deleteById(deletion.getId());
+  }
+
+  @Test
+  void scheduleRetry_when_deletionFails() {
+    var deletion = createDeletion();
+    when(repository.claimDueDeletions(anyInt(), anyInt(), anyLong())).thenReturn(List.of(deletion), List.of());
+    doThrow(new IllegalStateException("Connection refused"))
+      .when(virtualRecordService).deleteVirtualRecords(any(), any(), any(), any());
+
+    worker.processDue();
+
+    verify(repository).scheduleRetry(deletion.getId(), 1, "Connection refused",
+      properties.getRetryDelay().toSeconds());
+    verify(repository, never()).deleteById(any());
+  }
+
+  private static VirtualRecordDeletion createDeletion() {
+    var deletion = new VirtualRecordDeletion();
+    deletion.setId(UUID.randomUUID());
+    deletion.setFolioItemId(UUID.randomUUID());
+    deletion.setFolioHoldingId(UUID.randomUUID());
+    deletion.setFolioInstanceId(UUID.randomUUID());
+    deletion.setFolioLoanId(UUID.randomUUID());
+    return deletion;
+  }
+
+}
@@ -0,0 +1,116 @@
+package org.folio.innreach.external.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.folio.innreach.external.client.InnReachConnectionLimiter.Priority.CIRCULATION;
+import static org.folio.innreach.external.client.InnReachConnectionLimiter.Priority.CONTRIBUTION;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.folio.innreach.external.exception.InnReachConnectionException;
+
+class InnReachConnectionLimiterTest {
+
+  private static final UUID CENTRAL_SERVER_ID = UUID.randomUUID();
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void shouldNotExceedPermits() {
+    var limiter = new InnReachConnectionLimiter(2, 5000);
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+
+    var futures = new CompletableFuture<?>[10];
+    for (int i = 0; i < futures.length; i++) {
+      futures[i] = CompletableFuture.runAsync(() -> limiter.execute(CENTRAL_SERVER_ID, CONTRIBUTION, () -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        sleep(20);
+        return running.decrementAndGet();
+      }), executor);
+    }
+    CompletableFuture.allOf(futures).join();
+
+    assertEquals(2, maxRunning.get());
+  }
+
+  @Test
+  void shouldServeCirculationFirst() throws Exception {
+    var limiter = new InnReachConnectionLimiter(1, 5000);
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    List<String> order = new CopyOnWriteArrayList<>();
+
+    var blocking = CompletableFuture.runAsync(() -> limiter.execute(CENTRAL_SERVER_ID, CONTRIBUTION, () -> {
+      started.countDown();
+      return await(release);
+    }), executor);
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+
+    var contribution = CompletableFuture.runAsync(() -> limiter.execute(CENTRAL_SERVER_ID, CONTRIBUTION, () -> order.add("contribution")), executor);
+    sleep(50);
+    var circulation = CompletableFuture.runAsync(() -> limiter.execute(CENTRAL_SERVER_ID, CIRCULATION, () -> order.add("circulation")), executor);
+    sleep(50);
+
+    release.countDown();
+    CompletableFuture.allOf(blocking, contribution, circulation).join();
+
+    assertEquals(List.of("circulation", "contribution"), order);
+  }
+
+  @Test
+  void shouldFailIfNoPermitAvailable() throws Exception {
+    var limiter = new InnReachConnectionLimiter(1, 50);
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+
+    var blocking = CompletableFuture.runAsync(() -> limiter.execute(CENTRAL_SERVER_ID, CIRCULATION, () -> {
+      started.countDown();
+      return await(release);
+    }), executor);
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+
+    assertThrows(InnReachConnectionException.class, () -> limiter.execute(CENTRAL_SERVER_ID, CONTRIBUTION, () -> true));
+    assertEquals("other", limiter.execute(UUID.randomUUID(), CONTRIBUTION, () -> "other"));
+
+    release.countDown();
+    blocking.join();
+    assertEquals("ok", limiter.execute(CENTRAL_SERVER_ID, CONTRIBUTION, () -> "ok"));
+  }
+
+  private static boolean await(CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -23,6 +23,7 @@ import static org.apache.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
 import static org.apache.http.HttpStatus.SC_UNAUTHORIZED;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 
 @ExtendWith(MockitoExtension.class)
 class InnReachFeignErrorDecoderTest {
@@ -44,6 +45,7 @@ class InnReachFeignErrorDecoderTest {
   void testInnReachException(int status) {
     var exc = innReachFeignErrorDecoder.decode(methodKey, response(status));
     assertThat(exc, instanceOf(InnReachException.class));
+    assertThat(((InnReachException) exc).getStatus().value(), is(status));
   }
 
   @Test
@@ -1,22 +1,30 @@
 package org.folio.innreach.external.service.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import static org.folio.innreach.fixture.AccessTokenFixture.createAccessToken;
 import static org.folio.innreach.fixture.CentralServerFixture.createCentralServerConnectionDetailsDTO;
 
-import com.google.common.cache.Cache;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 
 import org.folio.innreach.external.client.feign.InnReachAuthClient;
 import org.folio.innreach.external.dto.AccessTokenDTO;
@@ -26,39 +34,93 @@ class InnReachAuthExternalServiceImplTest {
   @Mock
   private InnReachAuthClient innReachAuthClient;
 
-  @Mock
-  private Cache<String, AccessTokenDTO> accessTokenCache;
-
-  @InjectMocks
+  private SimpleMeterRegistry meterRegistry;
   private InnReachAuthExternalServiceImpl innReachAuthService;
+  private final ExecutorService executor = Executors.newFixedThreadPool(10);
 
   @BeforeEach
   public void beforeEachSetup() {
     MockitoAnnotations.initMocks(this);
+    meterRegistry = new SimpleMeterRegistry();
+    innReachAuthService = new InnReachAuthExternalServiceImpl(innReachAuthClient, meterRegistry, 500, 100, 60);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
   }
 
   @Test
   void returnAccessTokenFromCache_when_tokenIsCached() {
-    when(accessTokenCache.getIfPresent(anyString())).thenReturn(createAccessToken());
+    when(innReachAuthClient.getAccessToken(any(), any())).thenReturn(ResponseEntity.ok(createAccessToken()));
+    var connectionDetails = createCentralServerConnectionDetailsDTO();
 
-    var accessToken = innReachAuthService.getAccessToken(createCentralServerConnectionDetailsDTO());
+    var accessToken = innReachAuthService.getAccessToken(connectionDetails);
+    var cachedAccessToken = innReachAuthService.getAccessToken(connectionDetails);
 
     assertNotNull(accessToken);
+    assertSame(accessToken, cachedAccessToken);
+    verify(innReachAuthClient).getAccessToken(any(), any());
+  }
 
-    verify(accessTokenCache).getIfPresent(anyString());
-    verifyNoInteractions(innReachAuthClient);
+  @Test
+  void requestTokenOnce_when_tokenIsRequestedConcurrently() {
+    when(innReachAuthClient.getAccessToken(any(), any())).thenAnswer(invocation -> {
+      Thread.sleep(100);
+      return ResponseEntity.ok(createAccessToken());
+    });
+    var connectionDetails = createCentralServerConnectionDetailsDTO();
+
+    var futures = new CompletableFuture<?>[10];
+    for (int i = 0; i < futures.length; i++) {
+      futures[i] = CompletableFuture.supplyAsync(() -> innReachAuthService.getAccessToken(connectionDetails), executor);
+    }
+    CompletableFuture.allOf(futures).join();
+
+    verify(innReachAuthClient).getAccessToken(any(), any());
+    assertEquals(1, meterRegistry.counter("innreach.access-token.request", "type", "load").count());
+    assertEquals(10, meterRegistry.timer("innreach.access-token.wait").count());
   }
 
   @Test
-  void getNewTokenFromInnReach_cacheItAndReturn_when_cacheIsEmpty() {
-    when(accessTokenCache.getIfPresent(anyString())).thenReturn(null);
-    when(innReachAuthClient.getAccessToken(any(), any())).thenReturn(ResponseEntity.ok(createAccessToken()));
+  void refreshToken_when_tokenIsCloseToExpiry() throws InterruptedException {
+    var expiringAccessToken = new AccessTokenDTO("expiring", "Bearer", 1);
+    var newAccessToken = createAccessToken();
+    when(innReachAuthClient.getAccessToken(any(), any()))
+      .thenReturn(ResponseEntity.ok(expiringAccessToken), ResponseEntity.ok(newAccessToken));
+    var connectionDetails = createCentralServerConnectionDetailsDTO();
+
+    assertSame(expiringAccessToken, innReachAuthService.getAccessToken(connectionDetails));
+    Thread.sleep(600);
+
+    assertSame(newAccessToken, innReachAuthService.getAccessToken(connectionDetails));
+    assertSame(newAccessToken, innReachAuthService.getAccessToken(connectionDetails));
+    verify(innReachAuthClient, times(2)).getAccessToken(any(), any());
+  }
 
-    var accessToken = innReachAuthService.getAccessToken(createCentralServerConnectionDetailsDTO());
+  @Test
+  void requestNewToken_when_tokenIsInvalidated() {
+    when(innReachAuthClient.getAccessToken(any(), any()))
+      .thenReturn(ResponseEntity.ok(createAccessToken()), ResponseEntity.ok(createAccessToken()));
+    var connectionDetails = createCentralServerConnectionDetailsDTO();
 
-    assertNotNull(accessToken);
+    var accessToken = innReachAuthService.getAccessToken(connectionDetails);
+    innReachAuthService.invalidateAccessToken(connectionDetails, createAccessToken());
+    assertSame(accessToken, innReachAuthService.getAccessToken(connectionDetails));
 
-    verify(innReachAuthClient).getAccessToken(any(), any());
-    verify(accessTokenCache).put(anyString(), any(AccessTokenDTO.class));
+    innReachAuthService.invalidateAccessToken(connectionDetails, accessToken);
+    var newAccessToken = innReachAuthService.getAccessToken(connectionDetails);
+
+    assertNotSame(accessToken, newAccessToken);
+    verify(innReachAuthClient, times(2)).getAccessToken(any(), any());
+    assertEquals(1, meterRegistry.counter("innreach.access-token.request", "type", "invalidation").count());
+  }
+
+  @Test
+  void throwException_when_credentialsAreNotValid() {
+    when(innReachAuthClient.getAccessToken(any(), any())).thenThrow(new BadCredentialsException("Invalid"));
+    var connectionDetails = createCentralServerConnectionDetailsDTO();
+
+    assertThrows(BadCredentialsException.class, () -> innReachAuthService.getAccessToken(connectionDetails));
   }
 }
@@ -0,0 +1,81 @@
+package org.folio.innreach.external.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import static org.folio.innreach.external.util.AuthUtils.buildBearerAuthHeader;
+import static org.folio.innreach.fixture.AccessTokenFixture.createAccessToken;
+import static org.folio.innreach.fixture.CentralServerFixture.createCentralServerConnectionDetailsDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import org.folio.innreach.external.service.InnReachAuthExternalService;
+
+@ExtendWith(MockitoExtension.class)
+class InnReachAuthorizedRequestExecutorTest {
+
+  @Mock
+  private InnReachAuthExternalService innReachAuthExternalService;
+
+  @InjectMocks
+  private InnReachAuthorizedRequestExecutor requestExecutor;
+
+  @Test
+  void shouldExecuteRequestWithBearerAuthHeader() {
+    var connectionDetails = createCentralServerConnectionDetailsDTO();
+    var accessToken = createAccessToken();
+    when(innReachAuthExternalService.getAccessToken(connectionDetails)).thenReturn(accessToken);
+
+    var result = requestExecutor.execute(connectionDetails, authorizationHeader -> authorizationHeader);
+
+    assertEquals(buildBearerAuthHeader(accessToken.getAccessToken()), result);
+    verify(innReachAuthExternalService, never()).invalidateAccessToken(connectionDetails, accessToken);
+  }
+
+  @Test
+  void shouldRetryWithNewAccessToken_when_accessTokenIsRejected() {
+    var connectionDetails = createCentralServerConnectionDetailsDTO();
+    var rejectedAccessToken = createAccessToken();
+    var newAccessToken = createAccessToken();
+    when(innReachAuthExternalService.getAccessToken(connectionDetails)).thenReturn(rejectedAccessToken, newAccessToken);
+
+    List<String> authorizationHeaders = new ArrayList<>();
+    var result = requestExecutor.execute(connectionDetails, authorizationHeader -> {
+      authorizationHeaders.add(authorizationHeader);
+      if (authorizationHeaders.size() == 1) {
+        throw new BadCredentialsException("test");
+      }
+      return "ok";
+    });
+
+    assertEquals("ok", result);
+    assertEquals(List.of(buildBearerAuthHeader(rejectedAccessToken.getAccessToken()),
+      buildBearerAuthHeader(newAccessToken.getAccessToken())), authorizationHeaders);
+    verify(innReachAuthExternalService).invalidateAccessToken(connectionDetails, rejectedAccessToken);
+  }
+
+  @Test
+  void shouldRetryOnlyOnce_when_newAccessTokenIsRejected() {
+    var connectionDetails = createCentralServerConnectionDetailsDTO();
+    when(innReachAuthExternalService.getAccessToken(connectionDetails)).thenReturn(createAccessToken(), createAccessToken());
+
+    assertThrows(BadCredentialsException.class, () -> requestExecutor.execute(connectionDetails, authorizationHeader -> {
+      throw new BadCredentialsException("test");
+    }));
+
+    verify(innReachAuthExternalService, times(2)).getAccessToken(connectionDetails);
+  }
+
+}
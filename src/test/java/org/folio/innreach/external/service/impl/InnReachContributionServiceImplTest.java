@@ -19,13 +19,15 @@ import java.util.UUID;
 import org.folio.innreach.external.dto.InnReachResponse;
 import org.folio.innreach.external.exception.InnReachConnectionException;
 import org.folio.innreach.external.exception.ServiceSuspendedException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.folio.innreach.domain.service.CentralServerService;
+import org.folio.innreach.external.client.InnReachConnectionLimiter;
 import org.folio.innreach.dto.BibInfo;
 import org.folio.innreach.external.client.feign.InnReachContributionClient;
 import org.folio.innreach.external.dto.BibItemsInfo;
@@ -51,9 +53,17 @@ class InnReachContributionServiceImplTest {
   @Mock
   private InnReachResponse response;
 
-  @InjectMocks
+  @Spy
+  private InnReachConnectionLimiter connectionLimiter = new InnReachConnectionLimiter(5, 1000);
+
   private InnReachContributionServiceImpl service;
 
+  @BeforeEach
+  void setUp() {
+    service = new InnReachContributionServiceImpl(contributionClient,
+      new InnReachAuthorizedRequestExecutor(innReachAuthExternalService), centralServerService, connectionLimiter);
+  }
+
   @Test
   void shouldContributeBib() {
     var connectionDetails = createCentralServerConnectionDetailsDTO();
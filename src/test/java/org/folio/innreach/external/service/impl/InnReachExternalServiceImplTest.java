@@ -10,11 +10,12 @@ import static org.folio.innreach.fixture.CentralServerFixture.createCentralServe
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.MockitoAnnotations;
 
 import org.folio.innreach.domain.service.CentralServerService;
+import org.folio.innreach.external.client.InnReachConnectionLimiter;
 import org.folio.innreach.external.client.feign.InnReachClient;
 import org.folio.innreach.external.service.InnReachAuthExternalService;
 
@@ -29,12 +30,16 @@ class InnReachExternalServiceImplTest {
   @Mock
   private InnReachClient innReachClient;
 
-  @InjectMocks
+  @Spy
+  private InnReachConnectionLimiter connectionLimiter = new InnReachConnectionLimiter(5, 1000);
+
   private InnReachExternalServiceImpl innReachExternalService;
 
   @BeforeEach
   void setup() {
     MockitoAnnotations.initMocks(this);
+    innReachExternalService = new InnReachExternalServiceImpl(centralServerService,
+      new InnReachAuthorizedRequestExecutor(innReachAuthExternalService), innReachClient, connectionLimiter);
   }
 
   @Test
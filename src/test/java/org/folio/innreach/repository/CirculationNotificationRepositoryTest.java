@@ -0,0 +1,71 @@
+package org.folio.innreach.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.folio.innreach.domain.entity.CirculationNotification;
+
+class CirculationNotificationRepositoryTest extends BaseRepositoryTest {
+
+  private static final String INSERT_SQL = "INSERT INTO circulation_notification_outbox " +
+    "(id, transaction_id, central_server_code, request_path, status, next_attempt_at) " +
+    "VALUES (?, ?, 'd2ir', ?, 'PENDING', current_timestamp + (interval '1 second') * ?)";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private CirculationNotificationRepository repository;
+
+  @Test
+  void shouldClaimOldestPendingNotificationOfTransaction() {
+    var transactionId = UUID.randomUUID();
+    var otherTransactionId = UUID.randomUUID();
+    var first = insertNotification(transactionId, "/circ/itemshipped", 0);
+    insertNotification(transactionId, "/circ/itemreceived", 0);
+    var other = insertNotification(otherTransactionId, "/circ/cancelitemhold", 0);
+
+    var claimed = repository.claimDueNotifications(10, 300);
+
+    assertEquals(List.of(first, other), claimed.stream().map(CirculationNotification::getId).toList());
+    assertTrue(repository.claimDueNotifications(10, 300).isEmpty());
+  }
+
+  @Test
+  void shouldSkipNotificationsNotDue() {
+    insertNotification(UUID.randomUUID(), "/circ/itemshipped", 60);
+    var due = insertNotification(UUID.randomUUID(), "/circ/itemshipped", 0);
+
+    var claimed = repository.claimDueNotifications(10, 300);
+
+    assertEquals(List.of(due), claimed.stream().map(CirculationNotification::getId).toList());
+  }
+
+  @Test
+  void shouldClaimNextNotification_when_previousIsDeadLettered() {
+    var transactionId = UUID.randomUUID();
+    var first = insertNotification(transactionId, "/circ/itemshipped", 0);
+    var second = insertNotification(transactionId, "/circ/itemreceived", 0);
+
+    repository.deadLetter(first, 10, "Connection refused");
+    var claimed = repository.claimDueNotifications(10, 300);
+
+    assertEquals(List.of(second), claimed.stream().map(CirculationNotification::getId).toList());
+    var deadLetter = repository.findById(first).orElseThrow();
+    assertEquals(CirculationNotification.Status.DEAD, deadLetter.getStatus());
+    assertEquals(10, deadLetter.getAttempts());
+  }
+
+  private UUID insertNotification(UUID transactionId, String requestPath, int delaySeconds) {
+    var id = UUID.randomUUID();
+    jdbcTemplate.update(INSERT_SQL, id, transactionId, requestPath, delaySeconds);
+    return id;
+  }
+
+}
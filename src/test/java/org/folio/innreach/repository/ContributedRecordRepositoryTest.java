@@ -0,0 +1,86 @@
+package org.folio.innreach.repository;
+
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.folio.innreach.domain.entity.ContributedRecord.RecordType.BIB;
+import static org.folio.innreach.domain.entity.ContributedRecord.RecordType.ITEM;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql(scripts = {
+  "classpath:db/central-server/pre-populate-central-server.sql"
+})
+class ContributedRecordRepositoryTest extends BaseRepositoryTest {
+
+  private static final UUID PRE_POPULATED_CS_ID = UUID.fromString("edab6baf-c696-42b1-89bb-1bbb8759b0d2");
+  private static final String BIB_ID = "in00000001";
+  private static final String ITEM_HRID = "it00000001";
+
+  @Autowired
+  private ContributedRecordRepository repository;
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Test
+  void shouldInsertAndUpdateRecord() {
+    var instanceId = randomUUID();
+
+    repository.upsert(randomUUID(), PRE_POPULATED_CS_ID, BIB.name(), instanceId, BIB_ID, BIB_ID, true, "hash1");
+    repository.upsert(randomUUID(), PRE_POPULATED_CS_ID, BIB.name(), instanceId, BIB_ID, BIB_ID, true, null);
+    entityManager.clear();
+
+    var found = repository.findByCentralServerIdAndRecordTypeAndRecordId(PRE_POPULATED_CS_ID, BIB, instanceId).orElseThrow();
+
+    assertEquals(1, repository.count());
+    assertTrue(found.isContributed());
+    assertEquals("hash1", found.getContentHash());
+    assertNotNull(found.getContributedDate());
+    assertNotNull(found.getVerifiedDate());
+  }
+
+  @Test
+  void shouldMarkItemsOfBibDeContributed() {
+    var instanceId = randomUUID();
+    var itemId = randomUUID();
+
+    repository.upsert(randomUUID(), PRE_POPULATED_CS_ID, BIB.name(), instanceId, BIB_ID, BIB_ID, true, "hash1");
+    repository.upsert(randomUUID(), PRE_POPULATED_CS_ID, ITEM.name(), itemId, ITEM_HRID, BIB_ID, true, "hash2");
+
+    repository.markBibDeContributed(PRE_POPULATED_CS_ID, BIB_ID);
+    entityManager.clear();
+
+    var bib = repository.findByCentralServerIdAndRecordTypeAndRecordId(PRE_POPULATED_CS_ID, BIB, instanceId).orElseThrow();
+    var item = repository.findByCentralServerIdAndRecordTypeAndRecordId(PRE_POPULATED_CS_ID, ITEM, itemId).orElseThrow();
+
+    assertFalse(bib.isContributed());
+    assertFalse(item.isContributed());
+    assertNull(item.getContentHash());
+    assertEquals(BIB_ID, item.getBibId());
+  }
+
+  @Test
+  void shouldKeepBibIdOfDeContributedItem() {
+    var itemId = randomUUID();
+
+    repository.upsert(randomUUID(), PRE_POPULATED_CS_ID, ITEM.name(), itemId, ITEM_HRID, BIB_ID, true, "hash");
+    repository.upsert(randomUUID(), PRE_POPULATED_CS_ID, ITEM.name(), itemId, ITEM_HRID, null, false, null);
+    entityManager.clear();
+
+    var item = repository.findByCentralServerIdAndRecordTypeAndRecordId(PRE_POPULATED_CS_ID, ITEM, itemId).orElseThrow();
+
+    assertFalse(item.isContributed());
+    assertEquals(BIB_ID, item.getBibId());
+    assertNull(item.getContributedDate());
+  }
+
+}
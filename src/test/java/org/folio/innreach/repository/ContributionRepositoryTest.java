@@ -16,7 +16,9 @@ import java.util.UUID;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
 import org.folio.innreach.domain.entity.Contribution;
@@ -33,9 +35,19 @@ class ContributionRepositoryTest extends BaseRepositoryTest {
   private static final UUID PRE_POPULATED_CURR_CONTRIB_ID = UUID.fromString("ae274737-c398-4cf6-8dd3-d228e5b1f608");
   private static final UUID PRE_POPULATED_HISTORY_CONTRIB1_ID = UUID.fromString("b414ad15-cf4e-40ca-a6be-7e0380dbe96e");
   private static final UUID PRE_POPULATED_HISTORY_CONTRIB2_ID = UUID.fromString("9a344fb9-61bb-49ca-95bd-ad329593671d");
+  private static final UUID PRE_POPULATED_CURR_JOB_ID = UUID.fromString("a193f510-b178-4ce6-ab70-d8e09f646a2d");
+  private static final String INSERT_JOB_RECORDS = """
+    insert into job_execution_status (id, instance_id, job_id, type, tenant, status, created_date)
+    select md5(random()::text || n)::uuid, md5(random()::text || n)::uuid, ?, 'INITIAL', 'test_tenant', ?, current_timestamp
+    from generate_series(1, ?) n
+    """;
 
   @Autowired
   private ContributionRepository repository;
+  @Autowired
+  private TestEntityManager entityManager;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
 
   @Test
   void shouldFetchCurrent() {
@@ -122,6 +134,39 @@ class ContributionRepositoryTest extends BaseRepositoryTest {
       .containsExactlyInAnyOrderElementsOf(contribution.getErrors());
   }
 
+  @Test
+  void shouldIncrementStatistics() {
+    assertEquals(1, repository.incrementStatistics(PRE_POPULATED_CURR_JOB_ID, 4, 2, 1, 1));
+    entityManager.clear();
+
+    var updated = repository.getOne(PRE_POPULATED_CURR_CONTRIB_ID);
+    assertEquals(46, updated.getRecordsProcessed());
+    assertEquals(42, updated.getRecordsContributed());
+    assertEquals(1, updated.getRecordsDecontributed());
+    assertEquals(1, updated.getRecordsFailed());
+  }
+
+  @Test
+  void shouldCompleteAndReconcileStatistics_when_noRecordsLeftToProcess() {
+    insertJobRecords("PROCESSED", 3);
+    insertJobRecords("FAILED", 1);
+    insertJobRecords("READY", 1);
+
+    assertEquals(0, repository.completeAndReconcileStatistics().size());
+
+    jdbcTemplate.update("update job_execution_status set status = 'DE_CONTRIBUTED' where status = 'READY'");
+    var completed = repository.completeAndReconcileStatistics();
+    entityManager.clear();
+
+    assertEquals(1, completed.size());
+    var updated = repository.getOne(PRE_POPULATED_CURR_CONTRIB_ID);
+    assertEquals(COMPLETE, updated.getStatus());
+    assertEquals(5, updated.getRecordsProcessed());
+    assertEquals(3, updated.getRecordsContributed());
+    assertEquals(1, updated.getRecordsDecontributed());
+    assertEquals(1, updated.getRecordsFailed());
+  }
+
   @Test
   void throwExceptionWhenSavingWithoutRecordsTotal() {
     var contribution = createContribution();
@@ -139,4 +184,8 @@ class ContributionRepositoryTest extends BaseRepositoryTest {
     assertThat(ex.getMessage(), containsString("constraint [fk_contribution_cs_id]"));
   }
 
+  private void insertJobRecords(String status, int count) {
+    jdbcTemplate.update(INSERT_JOB_RECORDS, PRE_POPULATED_CURR_JOB_ID, status, count);
+  }
+
 }
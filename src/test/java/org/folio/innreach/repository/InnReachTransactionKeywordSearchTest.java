@@ -0,0 +1,152 @@
+package org.folio.innreach.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import org.folio.innreach.domain.entity.InnReachTransaction;
+import org.folio.innreach.domain.entity.InnReachTransactionFilterParameters;
+import org.folio.innreach.specification.InnReachTransactionSpecification;
+
+/**
+ * Keyword search over a large synthetic transaction set. Instead of comparing timings, which are unstable on CI,
+ * the tests check that the search plan is driven by indexes, so its cost doesn't grow with the number of rows.
+ * The plan is built for the SQL generated by Hibernate, criteria values are inlined into it so that it can be
+ * explained as is.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline")
+class InnReachTransactionKeywordSearchTest extends BaseRepositoryTest {
+
+  private static final int TRANSACTIONS_COUNT = 20_000;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private InnReachTransactionRepository repository;
+  @Autowired
+  private StatementCapture statementCapture;
+
+  private final InnReachTransactionSpecification specification = new InnReachTransactionSpecification();
+
+  @BeforeEach
+  void populateTransactions() {
+    jdbcTemplate.update("INSERT INTO transaction_pickup_location (id, pickup_loc_code, print_name, delivery_stop) " +
+      "SELECT md5('location' || i)::uuid, 'code' || i, 'print' || i, 'stop' || i " +
+      "FROM generate_series(1, ?) i", TRANSACTIONS_COUNT);
+    jdbcTemplate.update("INSERT INTO transaction_hold (id, transaction_time, pickup_location_id, patron_id, " +
+      "patron_agency_code, item_agency_code, item_id, central_item_type, title, author, folio_patron_id, folio_item_id, " +
+      "folio_request_id, folio_item_barcode, folio_patron_barcode, central_patron_type, patron_name) " +
+      "SELECT md5('hold' || i)::uuid, 0, md5('location' || i)::uuid, 'patron' || i, 'qwe12', 'asd34', 'item' || i, 1, " +
+      "'Title of book ' || i, 'Author ' || i, md5('patron' || i)::uuid, md5('item' || i)::uuid, " +
+      "md5('request' || i)::uuid, 'item-barcode-' || i, 'patron-barcode-' || i, 1, 'Patron Name ' || i " +
+      "FROM generate_series(1, ?) i", TRANSACTIONS_COUNT);
+    jdbcTemplate.update("INSERT INTO transaction_item_hold (id) " +
+      "SELECT md5('hold' || i)::uuid FROM generate_series(1, ?) i", TRANSACTIONS_COUNT);
+    jdbcTemplate.update("INSERT INTO inn_reach_transaction (id, tracking_id, central_server_code, state, type, " +
+      "transaction_hold_id) SELECT md5('transaction' || i)::uuid, 'tracking' || i, 'd2ir', 0, 0, md5('hold' || i)::uuid " +
+      "FROM generate_series(1, ?) i", TRANSACTIONS_COUNT);
+    jdbcTemplate.update("UPDATE transaction_hold SET title = 'Dune Messiah' WHERE id = md5('hold' || 12345)::uuid");
+    jdbcTemplate.execute("ANALYZE transaction_pickup_location, transaction_hold, transaction_item_hold, " +
+      "inn_reach_transaction");
+  }
+
+  @Test
+  void findTransactionsByKeyword() {
+    assertEquals(List.of("tracking12345"), search("messiah"));
+    assertEquals(List.of("tracking777"), search("tracking777"));
+    assertEquals(List.of("tracking4242"), search("item-barcode-4242"));
+    assertEquals(List.of("tracking9000"), search("patron name 9000"));
+  }
+
+  @Test
+  void useTrigramIndexesForKeywordSearch() {
+    var plan = explainSearch("messiah");
+
+    assertTrue(plan.contains("BitmapOr"), plan);
+    assertTrue(plan.contains("idx_transaction_hold_patron_name_trgm"), plan);
+    assertTrue(plan.contains("idx_transaction_hold_author_trgm"), plan);
+    assertTrue(plan.contains("idx_transaction_hold_title_trgm"), plan);
+    assertTrue(plan.contains("idx_transaction_hold_folio_item_barcode"), plan);
+  }
+
+  @Test
+  void joinMatchedHoldsToTransactionsByIndex() {
+    var plan = explainSearch("messiah");
+
+    assertTrue(plan.contains("idx_inn_reach_transaction_hold_id"), plan);
+  }
+
+  private List<String> search(String keyword) {
+    return repository.findAll(specification.filterByParameters(keywordParameters(keyword)), PageRequest.of(0, 10))
+      .stream()
+      .map(InnReachTransaction::getTrackingId)
+      .toList();
+  }
+
+  /*
+   * the search is run without paging, because the page limits are bound as parameters even with inlined values
+   */
+  private String explainSearch(String keyword) {
+    statementCapture.clear();
+    repository.findAll(specification.filterByParameters(keywordParameters(keyword)));
+    var query = statementCapture.getLastSelect();
+    return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query, String.class));
+  }
+
+  private static InnReachTransactionFilterParameters keywordParameters(String keyword) {
+    var parameters = new InnReachTransactionFilterParameters();
+    parameters.setQuery(keyword);
+    return parameters;
+  }
+
+  static class StatementCapture implements StatementInspector {
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      statements.add(sql);
+      return sql;
+    }
+
+    void clear() {
+      statements.clear();
+    }
+
+    String getLastSelect() {
+      return statements.stream()
+        .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+        .reduce((first, second) -> second)
+        .orElseThrow(() -> new AssertionError("No select statement is captured"));
+    }
+  }
+
+  @TestConfiguration
+  static class StatementCaptureConfiguration {
+
+    @Bean
+    public StatementCapture statementCapture() {
+      return new StatementCapture();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCaptureCustomizer(StatementCapture statementCapture) {
+      return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCapture);
+    }
+  }
+
+}
@@ -0,0 +1,72 @@
+package org.folio.innreach.repository;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static org.folio.innreach.domain.entity.ContributionStatus.READY;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.folio.innreach.domain.dto.folio.inventorystorage.InstanceIterationEvent;
+import org.folio.innreach.domain.entity.JobExecutionStatus;
+
+class JobExecutionStatusBulkRepositoryTest extends BaseRepositoryTest {
+
+  private static final UUID JOB_ID = UUID.randomUUID();
+  private static final String TENANT = "test_tenant";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private JobExecutionStatusRepository repository;
+
+  private JobExecutionStatusBulkRepository bulkRepository;
+
+  @BeforeEach
+  void setUp() {
+    bulkRepository = new JobExecutionStatusBulkRepository(jdbcTemplate);
+  }
+
+  @Test
+  void shouldSaveEventsAsReadyRecords() {
+    var events = createEvents(2500);
+
+    assertEquals(2500, bulkRepository.saveAll(events));
+
+    var saved = repository.findAll();
+    assertEquals(2500, saved.size());
+    assertEquals(events.stream().map(InstanceIterationEvent::getInstanceId).collect(toSet()),
+      saved.stream().map(JobExecutionStatus::getInstanceId).collect(toSet()));
+    saved.forEach(status -> {
+      assertEquals(JOB_ID, status.getJobId());
+      assertEquals(READY, status.getStatus());
+      assertEquals("iterate", status.getType());
+      assertEquals(TENANT, status.getTenant());
+    });
+  }
+
+  @Test
+  void shouldSkipAlreadySavedInstances() {
+    var events = createEvents(3);
+    bulkRepository.saveAll(events.subList(0, 1));
+
+    var redelivered = List.of(events.get(0), events.get(1), events.get(1), events.get(2));
+
+    assertEquals(2, bulkRepository.saveAll(redelivered));
+    assertEquals(3, repository.count());
+  }
+
+  private static List<InstanceIterationEvent> createEvents(int count) {
+    return IntStream.range(0, count)
+      .mapToObj(i -> InstanceIterationEvent.of(JOB_ID, "iterate", TENANT, UUID.randomUUID()))
+      .toList();
+  }
+
+}
@@ -0,0 +1,183 @@
+package org.folio.innreach.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.folio.innreach.domain.entity.ContributionStatus.IN_PROGRESS;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import org.folio.innreach.domain.entity.JobExecutionStatus;
+
+@Sql(scripts = {
+  "classpath:db/central-server/pre-populate-central-server.sql",
+  "classpath:db/contribution/pre-populate-contribution.sql"
+})
+class JobExecutionStatusRepositoryTest extends BaseRepositoryTest {
+
+  private static final UUID RUNNING_JOB_ID = UUID.fromString("a193f510-b178-4ce6-ab70-d8e09f646a2d");
+  private static final UUID COMPLETED_JOB_ID = UUID.fromString("6f844c2f-d0a6-4e32-8aec-e9d3aaed88cf");
+  private static final String LEASE_OWNER = "node-1";
+  private static final long LEASE_SECONDS = 300;
+  private static final String CLAIMABLE_INDEX = "idx_job_execution_status_claimable";
+  private static final String INSERT_RECORDS = """
+    insert into job_execution_status (id, instance_id, job_id, type, tenant, status, created_date)
+    select md5(random()::text || n)::uuid, md5(random()::text || n)::uuid, ?, 'INITIAL', 'test_tenant', ?,
+      current_timestamp - (interval '1 second') * n
+    from generate_series(1, ?) n
+    """;
+  private static final String EXPLAIN_CLAIM = """
+    explain select t.id from job_execution_status t
+    inner join contribution c on c.job_id = t.job_id where c.status = 0 and
+    ((((t.instance_contributed = true and t.updated_date < current_timestamp - (interval '1 hour') * 1)
+    or t.instance_contributed = false) and t.status in ('READY', 'RETRY'))
+    or (t.status = 'IN_PROGRESS' and t.lease_expires_at < current_timestamp))
+    order by t.created_date limit 50 for update of t skip locked
+    """;
+  private static final String EXPLAIN_COUNT_IN_PROGRESS = """
+    explain select count(*) from job_execution_status
+    where status = 'IN_PROGRESS' and lease_owner = 'node-1'
+    """;
+
+  @Autowired
+  private JobExecutionStatusRepository repository;
+  @Autowired
+  private TestEntityManager entityManager;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void shouldClaimReadyRecordsOfRunningContribution() {
+    insertRecords(RUNNING_JOB_ID, "READY", 3);
+    insertRecords(RUNNING_JOB_ID, "PROCESSED", 3);
+    insertRecords(COMPLETED_JOB_ID, "READY", 3);
+
+    var claimed = repository.updateAndFetchJobExecutionRecordsByStatus(10, 1, LEASE_OWNER, LEASE_SECONDS);
+    entityManager.clear();
+
+    assertEquals(3, claimed.size());
+    assertTrue(claimed.stream().allMatch(status -> status.getJobId().equals(RUNNING_JOB_ID)
+      && status.getStatus() == IN_PROGRESS));
+    assertEquals(3, countInProgressRecords(LEASE_OWNER));
+  }
+
+  @Test
+  void shouldReclaimRecordsWithExpiredLease() {
+    insertRecords(RUNNING_JOB_ID, "IN_PROGRESS", 2);
+    jdbcTemplate.update("update job_execution_status set lease_owner = 'node-2', " +
+      "lease_expires_at = current_timestamp - interval '1 minute'");
+
+    var claimed = repository.updateAndFetchJobExecutionRecordsByStatus(10, 1, LEASE_OWNER, LEASE_SECONDS);
+    entityManager.clear();
+
+    assertEquals(2, claimed.size());
+    assertEquals(2, countInProgressRecords(LEASE_OWNER));
+    assertEquals(0, countInProgressRecords("node-2"));
+  }
+
+  @Test
+  void shouldReturnRejectedRecordsToReady() {
+    insertRecords(RUNNING_JOB_ID, "READY", 3);
+    var claimed = repository.updateAndFetchJobExecutionRecordsByStatus(10, 1, LEASE_OWNER, LEASE_SECONDS).stream()
+      .map(JobExecutionStatus::getId).toList();
+    entityManager.clear();
+
+    assertEquals(3, repository.releaseLeases(claimed, LEASE_OWNER));
+
+    assertEquals(0, countInProgressRecords(LEASE_OWNER));
+    assertEquals(3, jdbcTemplate.queryForObject("select count(*) from job_execution_status " +
+      "where status = 'READY' and lease_owner is null and lease_expires_at is null", Integer.class));
+  }
+
+  @Test
+  void shouldClaimThroughIndex_when_tableGrows() {
+    insertRecords(RUNNING_JOB_ID, "READY", 100);
+
+    for (int processed : new int[] {10_000, 100_000}) {
+      insertRecords(RUNNING_JOB_ID, "PROCESSED", processed);
+      jdbcTemplate.execute("analyze job_execution_status");
+
+      var plan = String.join("\n", jdbcTemplate.queryForList(EXPLAIN_CLAIM, String.class));
+      assertTrue(plan.contains(CLAIMABLE_INDEX), "Claim query doesn't use the index:\n" + plan);
+    }
+
+    assertEquals(50, repository.updateAndFetchJobExecutionRecordsByStatus(50, 1, LEASE_OWNER, LEASE_SECONDS).size());
+  }
+
+  @Test
+  void shouldCountLeasedRecordsWithoutTableScan_when_tableGrows() {
+    insertRecords(RUNNING_JOB_ID, "READY", 100);
+    repository.updateAndFetchJobExecutionRecordsByStatus(50, 1, LEASE_OWNER, LEASE_SECONDS);
+
+    for (int processed : new int[] {10_000, 100_000}) {
+      insertRecords(RUNNING_JOB_ID, "PROCESSED", processed);
+      jdbcTemplate.execute("analyze job_execution_status");
+
+      var plan = String.join("\n", jdbcTemplate.queryForList(EXPLAIN_COUNT_IN_PROGRESS, String.class));
+      assertFalse(plan.contains("Seq Scan"), "In progress count scans the whole table:\n" + plan);
+    }
+
+    assertEquals(50, countInProgressRecords(LEASE_OWNER));
+  }
+
+  @Test
+  void shouldMoveRecordsToJob() {
+    var newJobId = UUID.randomUUID();
+    insertRecords(RUNNING_JOB_ID, "PROCESSED", 2);
+    insertRecords(RUNNING_JOB_ID, "READY", 1);
+    insertRecords(COMPLETED_JOB_ID, "PROCESSED", 1);
+    var instanceId = jdbcTemplate.queryForObject("select instance_id from job_execution_status " +
+      "where job_id = ? and status = 'READY'", UUID.class, RUNNING_JOB_ID);
+
+    assertEquals(3, repository.moveToJob(RUNNING_JOB_ID, newJobId));
+    entityManager.clear();
+
+    assertTrue(repository.existsByJobIdAndInstanceId(newJobId, instanceId));
+    assertFalse(repository.existsByJobIdAndInstanceId(RUNNING_JOB_ID, instanceId));
+    assertEquals(1, jdbcTemplate.queryForObject("select count(*) from job_execution_status where job_id = ?",
+      Integer.class, COMPLETED_JOB_ID));
+  }
+
+  @Test
+  void shouldKeepStatusOfMovedRecordsWhenNewJobReceivedSameInstances() {
+    var newJobId = UUID.randomUUID();
+    insertRecords(RUNNING_JOB_ID, "PROCESSED", 2);
+    insertRecords(RUNNING_JOB_ID, "READY", 1);
+    insertRecords(newJobId, "READY", 1);
+    // the new iteration publishes the instances of the interrupted one again
+    jdbcTemplate.update("insert into job_execution_status (id, instance_id, job_id, type, tenant, status, created_date) " +
+      "select md5(random()::text)::uuid, instance_id, ?, 'INITIAL', 'test_tenant', 'READY', current_timestamp " +
+      "from job_execution_status where job_id = ?", newJobId, RUNNING_JOB_ID);
+
+    assertEquals(3, repository.deleteDuplicatesOfJob(RUNNING_JOB_ID, newJobId));
+    assertEquals(3, repository.moveToJob(RUNNING_JOB_ID, newJobId));
+    entityManager.clear();
+
+    assertEquals(2, countRecords(newJobId, "PROCESSED"));
+    assertEquals(2, countRecords(newJobId, "READY"));
+    assertEquals(0, jdbcTemplate.queryForObject("select count(*) from job_execution_status where job_id = ?",
+      Integer.class, RUNNING_JOB_ID));
+  }
+
+  private int countRecords(UUID jobId, String status) {
+    return jdbcTemplate.queryForObject("select count(*) from job_execution_status where job_id = ? and status = ?",
+      Integer.class, jobId, status);
+  }
+
+  private int countInProgressRecords(String leaseOwner) {
+    return jdbcTemplate.queryForObject("select count(*) from job_execution_status " +
+      "where status = 'IN_PROGRESS' and lease_owner = ?", Integer.class, leaseOwner);
+  }
+
+  private void insertRecords(UUID jobId, String status, int count) {
+    jdbcTemplate.update(INSERT_RECORDS, jobId, status, count);
+  }
+
+}
@@ -0,0 +1,200 @@
+package org.folio.innreach.repository;
+
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.folio.innreach.domain.entity.ContributionStatus.IN_PROGRESS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.folio.innreach.domain.entity.OngoingContributionStatus;
+
+class OngoingContributionStatusRepositoryTest extends BaseRepositoryTest {
+
+  private static final UUID CENTRAL_SERVER_ID = randomUUID();
+  private static final String LEASE_OWNER = "node-1";
+  private static final long LEASE_SECONDS = 300;
+  private static final String CLAIMABLE_INDEX = "idx_ongoing_contribution_status_claimable";
+  private static final String INSERT_RECORDS = """
+    insert into ongoing_contribution_status (id, domain_event_name, domain_event_type, status, central_server_id,
+      tenant, created_date)
+    select md5(random()::text || n)::uuid, 'ITEM', 'UPDATED', ?, ?, 'test_tenant', current_timestamp - (interval '1 second') * n
+    from generate_series(1, ?) n
+    """;
+  private static final String EXPLAIN_CLAIM = """
+    explain select o.id from ongoing_contribution_status o
+    where (o.status in ('READY', 'RETRY') and o.created_date < current_timestamp - (interval '1 second') * 5)
+    or (o.status = 'IN_PROGRESS' and o.lease_expires_at < current_timestamp)
+    order by o.created_date
+    limit 50 for update skip locked
+    """;
+
+  @Autowired
+  private OngoingContributionStatusRepository repository;
+  @Autowired
+  private TestEntityManager entityManager;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void shouldClaimOldestReadyRecords() {
+    insertRecords("PROCESSED", 5);
+    insertRecords("RETRY", 1);
+    insertRecords("READY", 4);
+    var oldestReadyIds = jdbcTemplate.queryForList("select id from ongoing_contribution_status " +
+      "where status in ('READY', 'RETRY') order by created_date limit 3", UUID.class);
+
+    var claimed = repository.updateAndFetchOngoingContributionRecordsByStatus(3, 0, LEASE_OWNER, LEASE_SECONDS);
+    entityManager.clear();
+
+    assertEquals(new HashSet<>(oldestReadyIds), new HashSet<>(claimed.stream().map(OngoingContributionStatus::getId).toList()));
+    assertTrue(claimed.stream().allMatch(status -> status.getStatus() == IN_PROGRESS));
+    assertEquals(3, countInProgressRecords(LEASE_OWNER));
+  }
+
+  @Test
+  void shouldLeaveRecentRecordsForCoalescing() {
+    insertRecords("READY", 10);
+
+    var claimed = repository.updateAndFetchOngoingContributionRecordsByStatus(10, 5, LEASE_OWNER, LEASE_SECONDS);
+
+    // records are created 1..10 seconds ago, the ones younger than 5 seconds are not claimed yet
+    assertEquals(5, claimed.size());
+  }
+
+  @Test
+  void shouldReclaimRecordsWithExpiredLease() {
+    insertRecords("IN_PROGRESS", 2);
+    setLease("node-2", -10);
+    insertRecords("IN_PROGRESS", 3);
+    setLease("node-3", 10);
+
+    var claimed = repository.updateAndFetchOngoingContributionRecordsByStatus(10, 0, LEASE_OWNER, LEASE_SECONDS);
+    entityManager.clear();
+
+    assertEquals(2, claimed.size());
+    assertEquals(2, countInProgressRecords(LEASE_OWNER));
+    assertEquals(3, countInProgressRecords("node-3"));
+  }
+
+  @Test
+  void shouldRenewLeaseOfClaimedRecords() {
+    insertRecords("READY", 3);
+    var claimed = getIds(repository.updateAndFetchOngoingContributionRecordsByStatus(3, 0, LEASE_OWNER, 1));
+    entityManager.clear();
+
+    assertEquals(2, repository.renewLeases(claimed.subList(0, 2), LEASE_OWNER, LEASE_SECONDS));
+    assertEquals(0, repository.renewLeases(claimed, "node-2", LEASE_SECONDS));
+
+    var renewed = jdbcTemplate.queryForObject("select count(*) from ongoing_contribution_status " +
+      "where lease_expires_at > current_timestamp + interval '1 minute'", Integer.class);
+    assertEquals(2, renewed);
+  }
+
+  @Test
+  void shouldReturnRejectedRecordsToReady() {
+    insertRecords("READY", 3);
+    var claimed = getIds(repository.updateAndFetchOngoingContributionRecordsByStatus(3, 0, LEASE_OWNER, LEASE_SECONDS));
+    entityManager.clear();
+
+    assertEquals(0, repository.releaseLeases(claimed, "node-2"));
+    assertEquals(2, repository.releaseLeases(claimed.subList(0, 2), LEASE_OWNER));
+
+    assertEquals(1, countInProgressRecords(LEASE_OWNER));
+    var released = getIds(repository.updateAndFetchOngoingContributionRecordsByStatus(3, 0, "node-2", LEASE_SECONDS));
+    assertEquals(new HashSet<>(claimed.subList(0, 2)), new HashSet<>(released));
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void shouldSkipRecordsClaimedByConcurrentTransaction() throws Exception {
+    var transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.executeWithoutResult(status -> insertRecords("READY", 10));
+
+    try {
+      var firstClaimed = new CountDownLatch(1);
+      var release = new CountDownLatch(1);
+      var firstClaim = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+        var claimed = getIds(repository.updateAndFetchOngoingContributionRecordsByStatus(6, 0, LEASE_OWNER, LEASE_SECONDS));
+        firstClaimed.countDown();
+        await(release);
+        return claimed;
+      }));
+      assertTrue(firstClaimed.await(10, TimeUnit.SECONDS));
+
+      // the second claim doesn't wait for the first transaction to finish
+      var secondClaim = transactionTemplate.execute(status ->
+        getIds(repository.updateAndFetchOngoingContributionRecordsByStatus(6, 0, LEASE_OWNER, LEASE_SECONDS)));
+      release.countDown();
+
+      var allClaimed = new ArrayList<>(firstClaim.get(10, TimeUnit.SECONDS));
+      allClaimed.addAll(secondClaim);
+      assertEquals(6, firstClaim.get().size());
+      assertEquals(4, secondClaim.size());
+      assertEquals(10, new HashSet<>(allClaimed).size());
+    } finally {
+      transactionTemplate.executeWithoutResult(status -> repository.deleteAllInBatch());
+    }
+  }
+
+  @Test
+  void shouldClaimThroughIndex_when_tableGrows() {
+    insertRecords("READY", 100);
+
+    for (int processed : new int[] {10_000, 100_000}) {
+      insertRecords("PROCESSED", processed);
+      jdbcTemplate.execute("analyze ongoing_contribution_status");
+
+      var plan = String.join("\n", jdbcTemplate.queryForList(EXPLAIN_CLAIM, String.class));
+      assertTrue(plan.contains(CLAIMABLE_INDEX), "Claim query doesn't use the index:\n" + plan);
+    }
+
+    assertEquals(50, repository.updateAndFetchOngoingContributionRecordsByStatus(50, 0, LEASE_OWNER, LEASE_SECONDS).size());
+  }
+
+  private void insertRecords(String status, int count) {
+    jdbcTemplate.update(INSERT_RECORDS, status, CENTRAL_SERVER_ID, count);
+  }
+
+  private int countInProgressRecords(String leaseOwner) {
+    return jdbcTemplate.queryForObject("select count(*) from ongoing_contribution_status " +
+      "where status = 'IN_PROGRESS' and lease_owner = ?", Integer.class, leaseOwner);
+  }
+
+  private void setLease(String owner, int expiresInSeconds) {
+    jdbcTemplate.update("update ongoing_contribution_status set lease_owner = ?, " +
+      "lease_expires_at = current_timestamp + (interval '1 second') * ? " +
+      "where status = 'IN_PROGRESS' and lease_owner is null", owner, expiresInSeconds);
+  }
+
+  private static List<UUID> getIds(List<OngoingContributionStatus> statuses) {
+    return statuses.stream().map(OngoingContributionStatus::getId).toList();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -0,0 +1,51 @@
+package org.folio.innreach.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.folio.innreach.domain.entity.VirtualRecordDeletion;
+
+class VirtualRecordDeletionRepositoryTest extends BaseRepositoryTest {
+
+  @Autowired
+  private VirtualRecordDeletionRepository repository;
+
+  @Test
+  void shouldClaimDueDeletions() {
+    var due = schedule(0);
+    schedule(60_000);
+
+    var claimed = repository.claimDueDeletions(10, 5, 300);
+
+    assertEquals(List.of(due), claimed.stream().map(VirtualRecordDeletion::getId).toList());
+    assertTrue(repository.claimDueDeletions(10, 5, 300).isEmpty());
+  }
+
+  @Test
+  void shouldRetryDeletionUntilMaxAttempts() {
+    var id = schedule(0);
+
+    repository.scheduleRetry(id, 1, "Connection refused", 0);
+    assertEquals(1, repository.claimDueDeletions(10, 2, 300).size());
+
+    repository.scheduleRetry(id, 2, "Connection refused", 0);
+    assertTrue(repository.claimDueDeletions(10, 2, 300).isEmpty());
+
+    var deletion = repository.findById(id).orElseThrow();
+    assertEquals(2, deletion.getAttempts());
+    assertEquals("Connection refused", deletion.getLastError());
+  }
+
+  private UUID schedule(long delayMillis) {
+    var id = UUID.randomUUID();
+    repository.schedule(id, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), delayMillis);
+    return id;
+  }
+
+}
@@ -0,0 +1,188 @@
+package org.folio.innreach.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TenantFairShareDispatcherTest {
+
+  private static final String LARGE_TENANT = "large_tenant";
+  private static final String SMALL_TENANT = "small_tenant";
+  private static final List<String> TENANTS = List.of(LARGE_TENANT, SMALL_TENANT);
+
+  private final Map<String, AtomicInteger> backlog = new ConcurrentHashMap<>();
+  private final Map<String, AtomicInteger> claimed = new ConcurrentHashMap<>();
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void claimSmallTenantEventsWithinOneRound_when_largeTenantRunsInitialContribution() {
+    var dispatcher = new TenantFairShareDispatcher("test", Runnable::run, () -> 40, tenant -> 50, Duration.ZERO, Duration.ZERO);
+    addRecords(LARGE_TENANT, 100_000);
+
+    for (int round = 0; round < 100; round++) {
+      addRecords(SMALL_TENANT, 5);
+      dispatcher.dispatch(TENANTS, this::claim);
+
+      assertTrue(backlog(SMALL_TENANT) <= 5, "Small tenant events are waiting longer than one round");
+    }
+
+    assertEquals(500, claimed(SMALL_TENANT));
+    assertTrue(claimed(LARGE_TENANT) >= 100 * 25);
+  }
+
+  @Test
+  void shareCapacityInProportionToQuotas_when_allTenantsHaveBacklog() {
+    Map<String, Integer> quotas = Map.of(LARGE_TENANT, 30, SMALL_TENANT, 10);
+    var dispatcher = new TenantFairShareDispatcher("test", Runnable::run, () -> 20, quotas::get, Duration.ZERO, Duration.ZERO);
+    addRecords(LARGE_TENANT, 100_000);
+    addRecords(SMALL_TENANT, 100_000);
+
+    for (int round = 0; round < 40; round++) {
+      dispatcher.dispatch(TENANTS, this::claim);
+    }
+
+    assertEquals(600, claimed(LARGE_TENANT));
+    assertEquals(200, claimed(SMALL_TENANT));
+  }
+
+  @Test
+  void skipPolling_when_executorHasNoFreeCapacity() {
+    var dispatcher = new TenantFairShareDispatcher("test", Runnable::run, () -> 0, tenant -> 50, Duration.ZERO, Duration.ZERO);
+    addRecords(SMALL_TENANT, 5);
+
+    dispatcher.dispatch(TENANTS, this::claim);
+
+    assertEquals(0, claimed(SMALL_TENANT));
+    assertEquals(5, backlog(SMALL_TENANT));
+  }
+
+  @Test
+  void backOffPolling_when_tenantHasNoRecords() {
+    var time = new AtomicLong();
+    var polls = new AtomicInteger();
+    var dispatcher = new TenantFairShareDispatcher("test", Runnable::run, () -> 100, tenant -> 50,
+      Duration.ofSeconds(1), Duration.ofSeconds(4), time::get);
+    TenantFairShareDispatcher.TenantPoll poll = (tenant, limit) -> {
+      polls.incrementAndGet();
+      return claim(tenant, limit);
+    };
+
+    // polled after 0, 1, 3, 7 and 11 seconds without records
+    for (int second = 0; second < 12; second++) {
+      time.set(second * 1000L);
+      dispatcher.dispatch(List.of(SMALL_TENANT), poll);
+    }
+    assertEquals(5, polls.get());
+
+    // the next poll is due after 15 seconds, then polled on every run while records are claimed
+    addRecords(SMALL_TENANT, 150);
+    for (int second = 12; second < 19; second++) {
+      time.set(second * 1000L);
+      dispatcher.dispatch(List.of(SMALL_TENANT), poll);
+    }
+    assertEquals(150, claimed(SMALL_TENANT));
+    assertEquals(9, polls.get());
+  }
+
+  @Test
+  void pollOtherTenants_when_tenantPollIsSlow() throws InterruptedException {
+    var dispatcher = new TenantFairShareDispatcher("test", executor, () -> 100, tenant -> 50, Duration.ZERO, Duration.ZERO);
+    var releaseLargeTenant = new CountDownLatch(1);
+    var smallTenantPolls = new CountDownLatch(2);
+    var largeTenantPolls = new AtomicInteger();
+
+    TenantFairShareDispatcher.TenantPoll poll = (tenant, limit) -> {
+      if (LARGE_TENANT.equals(tenant)) {
+        largeTenantPolls.incrementAndGet();
+        await(releaseLargeTenant);
+        return limit;
+      }
+      smallTenantPolls.countDown();
+      return 0;
+    };
+
+    // every dispatch returns at once, the small tenant is polled again while the large tenant poll is still running
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (smallTenantPolls.getCount() > 0 && System.nanoTime() < deadline) {
+      dispatcher.dispatch(TENANTS, poll);
+      Thread.sleep(10);
+    }
+
+    assertEquals(0, smallTenantPolls.getCount());
+    assertEquals(1, largeTenantPolls.get());
+    releaseLargeTenant.countDown();
+  }
+
+  @Test
+  void pollTenantOnNextRun_when_pollExecutorRejectsPoll() {
+    var rejectNext = new AtomicBoolean(true);
+    Executor rejectingExecutor = task -> {
+      if (rejectNext.getAndSet(false)) {
+        throw new RejectedExecutionException("Poll executor is saturated");
+      }
+      task.run();
+    };
+    var dispatcher = new TenantFairShareDispatcher("test", rejectingExecutor, () -> 10, tenant -> 10, Duration.ZERO, Duration.ZERO);
+    addRecords(LARGE_TENANT, 100);
+    addRecords(SMALL_TENANT, 100);
+
+    dispatcher.dispatch(TENANTS, this::claim);
+    assertEquals(0, claimed(LARGE_TENANT) + claimed(SMALL_TENANT));
+
+    dispatcher.dispatch(TENANTS, this::claim);
+    dispatcher.dispatch(TENANTS, this::claim);
+
+    // the rejected poll doesn't hold the capacity or the tenant, both tenants are polled with the full capacity
+    assertEquals(10, claimed(LARGE_TENANT));
+    assertEquals(10, claimed(SMALL_TENANT));
+  }
+
+  private int claim(String tenant, int limit) {
+    var tenantBacklog = backlog.computeIfAbsent(tenant, t -> new AtomicInteger());
+    int count = Math.min(limit, tenantBacklog.get());
+    tenantBacklog.addAndGet(-count);
+    claimed.computeIfAbsent(tenant, t -> new AtomicInteger()).addAndGet(count);
+    return count;
+  }
+
+  private void addRecords(String tenant, int count) {
+    backlog.computeIfAbsent(tenant, t -> new AtomicInteger()).addAndGet(count);
+  }
+
+  private int backlog(String tenant) {
+    return backlog.getOrDefault(tenant, new AtomicInteger()).get();
+  }
+
+  private int claimed(String tenant) {
+    return claimed.getOrDefault(tenant, new AtomicInteger()).get();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1 @@
+DELETE FROM job_execution_status;
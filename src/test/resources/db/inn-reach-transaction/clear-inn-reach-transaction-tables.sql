@@ -1,3 +1,9 @@
+DELETE
+FROM virtual_record_deletion;
+
+DELETE
+FROM circulation_notification_outbox;
+
 DELETE
 FROM inn_reach_transaction;
 